@@ -3,11 +3,13 @@ package com.festivalmanager;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Entry point for the Festival Manager Backend application.
  */
 @SpringBootApplication
+@EnableScheduling
 public class FestivalBackendApplication {
 
     /**
@@ -0,0 +1,95 @@
+package com.festivalmanager.concurrency;
+
+import com.festivalmanager.exception.ApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ThreadLocalRandom;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Re-executes {@link RetryOnConflict} methods when they fail with an
+ * optimistic locking conflict on a {@code @Version}ed entity.
+ * <p>
+ * The aspect runs outside the transaction interceptor, so every attempt gets
+ * a fresh transaction and persistence context. When all attempts fail the
+ * caller receives a 409 CONFLICT {@link ApiException}.
+ * </p>
+ * <p>
+ * Metrics: {@code festival.optimistic.conflicts} counts every conflict,
+ * {@code festival.optimistic.retries.exhausted} counts calls that gave up,
+ * both tagged with the method name.
+ * </p>
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class OptimisticRetryAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Constructs a new {@link OptimisticRetryAspect}.
+     *
+     * @param meterRegistry the registry conflict metrics are recorded in
+     */
+    public OptimisticRetryAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Invokes the annotated method, retrying on optimistic locking conflicts.
+     *
+     * @param joinPoint the intercepted method invocation
+     * @param retryOnConflict the retry policy of the method
+     * @return the result of the first successful attempt
+     * @throws Throwable any non-conflict exception thrown by the method
+     */
+    @Around("@annotation(retryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint, RetryOnConflict retryOnConflict) throws Throwable {
+        String method = joinPoint.getSignature().toShortString();
+        int maxAttempts = Math.max(1, retryOnConflict.maxAttempts());
+
+        for (int attempt = 1;; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException ex) {
+                counter("festival.optimistic.conflicts", method).increment();
+
+                if (attempt >= maxAttempts) {
+                    counter("festival.optimistic.retries.exhausted", method).increment();
+                    throw new ApiException(
+                            "The resource was modified concurrently, please retry",
+                            HttpStatus.CONFLICT
+                    );
+                }
+                backoff(attempt, retryOnConflict.backoffMillis());
+            }
+        }
+    }
+
+    private Counter counter(String name, String method) {
+        return Counter.builder(name)
+                .tag("method", method)
+                .register(meterRegistry);
+    }
+
+    private void backoff(int attempt, long backoffMillis) {
+        if (backoffMillis <= 0) {
+            return;
+        }
+        long delay = attempt * backoffMillis + ThreadLocalRandom.current().nextLong(backoffMillis + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException("Interrupted while retrying", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.festivalmanager.concurrency;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a transactional service method that may be re-executed from scratch
+ * when its transaction fails with an optimistic locking conflict.
+ * <p>
+ * Only put this on methods whose whole effect is inside the rolled back
+ * transaction, so that running them again is safe. The retry wraps the
+ * transaction, see {@link OptimisticRetryAspect}.
+ * </p>
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+
+    /**
+     * Maximum number of attempts, including the first one.
+     *
+     * @return the maximum number of attempts
+     */
+    int maxAttempts() default 3;
+
+    /**
+     * Base backoff in milliseconds between attempts. The n-th retry waits
+     * {@code n * backoffMillis} plus a random jitter of up to the same amount.
+     *
+     * @return the base backoff in milliseconds
+     */
+    long backoffMillis() default 20;
+}
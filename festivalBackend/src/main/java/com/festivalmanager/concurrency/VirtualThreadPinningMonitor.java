@@ -0,0 +1,119 @@
+package com.festivalmanager.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports virtual threads pinned to their carrier thread.
+ * <p>
+ * Active when virtual threads are enabled ({@code spring.threads.virtual.enabled}
+ * on Java 21 or later). A virtual thread that blocks inside a
+ * {@code synchronized} block or a native frame keeps its carrier busy, so
+ * pinning in the JDBC path caps throughput at the number of carriers. The
+ * monitor streams the JVM's {@code jdk.VirtualThreadPinned} flight recorder
+ * events longer than {@code festival.threads.pinned-threshold-ms}. It
+ * attributes each event to the innermost frame outside the JDK. The first
+ * event of each frame is logged with its stack trace.
+ * </p>
+ * <p>
+ * Metrics: {@code festival.threads.pinned} counts pinning events, tagged with
+ * the {@code frame} that held the carrier.
+ * </p>
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final Duration threshold;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Set<String> logged = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    /**
+     * Constructs a new {@link VirtualThreadPinningMonitor}.
+     *
+     * @param thresholdMillis the shortest pinning reported
+     * @param meterRegistry the registry pinning metrics are recorded in
+     */
+    public VirtualThreadPinningMonitor(@Value("${festival.threads.pinned-threshold-ms:20}") long thresholdMillis,
+            MeterRegistry meterRegistry) {
+        this.threshold = Duration.ofMillis(thresholdMillis);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public synchronized void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::record);
+        stream.startAsync();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    private void record(RecordedEvent event) {
+        List<String> frames = event.getStackTrace() == null ? List.of()
+                : event.getStackTrace().getFrames().stream()
+                        .map(VirtualThreadPinningMonitor::describe)
+                        .toList();
+        String frame = culprit(frames);
+        counters.computeIfAbsent(frame, f -> Counter.builder("festival.threads.pinned")
+                .tag("frame", f)
+                .register(meterRegistry))
+                .increment();
+        if (logged.add(frame)) {
+            log.warn("Virtual thread pinned for {} ms in {}:\n\t{}", event.getDuration().toMillis(), frame,
+                    frames.stream().limit(LOGGED_FRAMES).collect(Collectors.joining("\n\t")));
+        }
+    }
+
+    /**
+     * Picks the frame a pinning is attributed to: the innermost one outside
+     * the JDK, or the innermost one if all frames belong to the JDK.
+     *
+     * @param frames the stack, innermost frame first, as {@code Class.method}
+     * @return the frame, or {@code "unknown"} for an empty stack
+     */
+    static String culprit(List<String> frames) {
+        return frames.stream()
+                .filter(f -> !f.startsWith("java.") && !f.startsWith("jdk.") && !f.startsWith("sun."))
+                .findFirst()
+                .orElse(frames.isEmpty() ? "unknown" : frames.get(0));
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+}
@@ -3,6 +3,7 @@ package com.festivalmanager.controller;
 import com.festivalmanager.dto.festival.*;
 import com.festivalmanager.dto.api.ApiResponse;
 import com.festivalmanager.exception.ApiException;
+import com.festivalmanager.service.FestivalArchiveService;
 import com.festivalmanager.service.FestivalService;
 import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,6 +25,9 @@ public class FestivalController {
     @Autowired
     private FestivalService festivalService;
 
+    @Autowired
+    private FestivalArchiveService festivalArchiveService;
+
     /**
      * Creates a new festival.
      *
@@ -98,6 +102,18 @@ public class FestivalController {
         return festivalService.viewFestival(request);
     }
 
+    /**
+     * Archives finished festivals.
+     *
+     * @param request the archive request
+     * @return an ApiResponse with the archived counts and hot table sizes
+     * @throws ApiException if the requester is not an admin
+     */
+    @PostMapping("/archive")
+    public ApiResponse<Map<String, Object>> archiveFestivals(@RequestBody FestivalArchiveRequest request) throws ApiException {
+        return festivalArchiveService.archiveFestivals(request);
+    }
+
     /**
      * Deletes a festival.
      *
@@ -158,6 +174,54 @@ public class FestivalController {
         return festivalService.startScheduleMaking(request);
     }
 
+    /**
+     * Generates the lineup of a festival automatically.
+     *
+     * @param request the schedule generation request
+     * @return an ApiResponse with scheduling statistics
+     * @throws ApiException if generating the lineup fails
+     */
+    @PostMapping("/generateschedule")
+    public ApiResponse<Map<String, Object>> generateSchedule(@RequestBody ScheduleGenerateRequest request) throws ApiException {
+        return festivalService.generateSchedule(request);
+    }
+
+    /**
+     * Returns the dashboard of a festival (organizer action).
+     *
+     * @param request the festival dashboard request
+     * @return an ApiResponse with performance counts, scores and coverage
+     * @throws ApiException if the dashboard cannot be viewed
+     */
+    @GetMapping("/dashboard")
+    public ApiResponse<Map<String, Object>> getFestivalDashboard(@RequestBody FestivalDashboardRequest request) throws ApiException {
+        return festivalService.getFestivalDashboard(request);
+    }
+
+    /**
+     * Reports double-booked band members of a festival.
+     *
+     * @param request the band member conflict request
+     * @return an ApiResponse with the conflicts found
+     * @throws ApiException if the report cannot be produced
+     */
+    @PostMapping("/bandmemberconflicts")
+    public ApiResponse<Map<String, Object>> findBandMemberConflicts(@RequestBody BandMemberConflictRequest request) throws ApiException {
+        return festivalService.findBandMemberConflicts(request);
+    }
+
+    /**
+     * Allocates rehearsal slots for a festival.
+     *
+     * @param request the rehearsal allocation request
+     * @return an ApiResponse with allocation statistics
+     * @throws ApiException if allocating rehearsals fails
+     */
+    @PostMapping("/allocaterehearsals")
+    public ApiResponse<Map<String, Object>> allocateRehearsals(@RequestBody RehearsalAllocationRequest request) throws ApiException {
+        return festivalService.allocateRehearsals(request);
+    }
+
     /**
      * Starts the final submission phase for a festival.
      *
@@ -194,4 +258,15 @@ public class FestivalController {
         return festivalService.announceFestival(request);
     }
 
+    /**
+     * Moves many festivals into the same phase.
+     *
+     * @param request the bulk festival transition request
+     * @return an ApiResponse with the outcome per festival
+     * @throws ApiException if the bulk transition fails
+     */
+    @PostMapping("/bulktransition")
+    public ApiResponse<Map<String, Object>> bulkTransitionFestivals(@RequestBody BulkFestivalTransitionRequest request) throws ApiException {
+        return festivalService.bulkTransitionFestivals(request);
+    }
 }
@@ -44,6 +44,18 @@ public class PerformanceController {
         return performanceService.updatePerformance(request);
     }
 
+    /**
+     * Adds, modifies or removes individual merchandise items, setlist songs
+     * and band members of a performance.
+     *
+     * @param request performance patch request listing the changes
+     * @return ApiResponse with operation status and performance info
+     */
+    @PatchMapping("/patch")
+    public ApiResponse<Map<String, Object>> patchPerformance(@RequestBody PerformancePatchRequest request) {
+        return performanceService.patchPerformance(request);
+    }
+
     /**
      * Adds a band member to a performance.
      *
@@ -90,6 +102,18 @@ public class PerformanceController {
         return performanceService.assignStaffToPerformance(request);
     }
 
+    /**
+     * Spreads the unassigned submitted performances of a festival across its
+     * staff (organizer action).
+     *
+     * @param request auto-assign staff request
+     * @return ApiResponse with the assignments per staff member
+     */
+    @PostMapping("/autoassignstaff")
+    public ApiResponse<Map<String, Object>> autoAssignStaff(@RequestBody AutoAssignStaffRequest request) {
+        return performanceService.autoAssignStaff(request);
+    }
+
     /**
      * Approves a performance (festival organizer action).
      *
@@ -112,6 +136,17 @@ public class PerformanceController {
         return performanceService.reviewPerformance(request);
     }
 
+    /**
+     * Reviews many performances at once (staff action).
+     *
+     * @param request bulk performance review request
+     * @return ApiResponse with the outcome per performance
+     */
+    @PostMapping("/bulkreview")
+    public ApiResponse<Map<String, Object>> bulkReviewPerformances(@RequestBody BulkPerformanceReviewRequest request) {
+        return performanceService.bulkReviewPerformances(request);
+    }
+
     /**
      * Manually rejects a performance with a reason (organizer action).
      *
@@ -145,6 +180,52 @@ public class PerformanceController {
         return performanceService.acceptPerformance(request);
     }
 
+    /**
+     * Approves, rejects or accepts many performances at once (organizer
+     * action).
+     *
+     * @param request bulk performance decision request
+     * @return ApiResponse with the outcome per performance
+     */
+    @PostMapping("/bulkdecision")
+    public ApiResponse<Map<String, Object>> bulkDecidePerformances(@RequestBody BulkPerformanceDecisionRequest request) {
+        return performanceService.bulkDecidePerformances(request);
+    }
+
+    /**
+     * Lists the best-scored performances awaiting a decision.
+     *
+     * @param request decision queue request
+     * @return ApiResponse with the ranked performances
+     */
+    @GetMapping("/decisionqueue")
+    public ApiResponse<Map<String, Object>> getDecisionQueue(@RequestBody DecisionQueueRequest request) {
+        return performanceService.getDecisionQueue(request);
+    }
+
+    /**
+     * Accepts the top N performances awaiting a decision, overall or per
+     * genre.
+     *
+     * @param request accept top performances request
+     * @return ApiResponse with the accepted and skipped performances
+     */
+    @PostMapping("/accepttop")
+    public ApiResponse<Map<String, Object>> acceptTopPerformances(@RequestBody AcceptTopPerformancesRequest request) {
+        return performanceService.acceptTopPerformances(request);
+    }
+
+    /**
+     * Lists the requester's own performances as staff or artist.
+     *
+     * @param request work queue request
+     * @return ApiResponse with one page of performances and counts per state
+     */
+    @GetMapping("/myqueue")
+    public ApiResponse<Map<String, Object>> getWorkQueue(@RequestBody WorkQueueRequest request) {
+        return performanceService.getWorkQueue(request);
+    }
+
     /**
      * Views performance details. Level of detail depends on requester role.
      *
@@ -8,6 +8,7 @@ import com.festivalmanager.dto.user.LoginRequest;
 import com.festivalmanager.dto.user.UpdatePasswordRequest;
 import com.festivalmanager.dto.user.UpdateInfoRequest;
 import com.festivalmanager.dto.user.UpdateAccountStatusRequest;
+import com.festivalmanager.dto.user.BulkUpdateAccountStatusRequest;
 import com.festivalmanager.service.UserService;
 import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -83,6 +84,18 @@ public class UserController {
         return userService.updateAccountStatus(request);
     }
 
+    /**
+     * Updates the account status of many users at once (admin action).
+     *
+     * @param request bulk account status request containing target usernames
+     * or the apply-to-all flag and the new status
+     * @return ApiResponse with counts and per-user outcomes
+     */
+    @PostMapping("/bulkupdateaccountstatus")
+    public ApiResponse<Map<String, Object>> bulkUpdateAccountStatus(@RequestBody BulkUpdateAccountStatusRequest request) {
+        return userService.bulkUpdateAccountStatus(request);
+    }
+
     /**
      * Deletes a user account. Can be executed  by an
      * admin or a user for himself.
@@ -0,0 +1,17 @@
+package com.festivalmanager.dashboard;
+
+import com.festivalmanager.model.Performance.PerformanceState;
+
+/**
+ * One group of a festival's performances sharing state, final submission,
+ * stage manager coverage and score.
+ *
+ * @param state the performance state
+ * @param finalSubmitted whether the final submission was made
+ * @param assigned whether a stage manager is assigned
+ * @param score the reviewer score, {@code null} if not reviewed
+ * @param count the number of performances in the group
+ */
+public record DashboardRow(PerformanceState state, boolean finalSubmitted, boolean assigned, Double score,
+        Long count) {
+}
@@ -0,0 +1,109 @@
+package com.festivalmanager.dashboard;
+
+import com.festivalmanager.model.Performance.PerformanceState;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summarizes the grouped performance rows of one festival.
+ * <p>
+ * Rows come from a single GROUP BY over state, final submission, stage
+ * manager presence and score. Scores are few distinct values, so the rows
+ * form a histogram from which the average and the percentiles are exact.
+ * </p>
+ */
+public final class FestivalDashboard {
+
+    private static final int[] PERCENTILES = {25, 50, 75, 90};
+
+    private FestivalDashboard() {
+    }
+
+    /**
+     * Builds the dashboard of a festival.
+     *
+     * @param rows the grouped rows
+     * @return counts per state, final submissions, score statistics and stage
+     * manager coverage
+     */
+    public static Map<String, Object> summarize(List<DashboardRow> rows) {
+        Map<String, Long> states = new LinkedHashMap<>();
+        for (PerformanceState state : PerformanceState.values()) {
+            states.put(state.name(), 0L);
+        }
+        long total = 0;
+        long finalSubmitted = 0;
+        long submitted = 0;
+        long assigned = 0;
+        List<DashboardRow> scored = new ArrayList<>();
+        for (DashboardRow row : rows) {
+            long count = row.count();
+            total += count;
+            states.merge(row.state().name(), count, Long::sum);
+            if (row.finalSubmitted()) {
+                finalSubmitted += count;
+            }
+            // Coverage counts every performance past CREATED
+            if (row.state() != PerformanceState.CREATED) {
+                submitted += count;
+                if (row.assigned()) {
+                    assigned += count;
+                }
+            }
+            if (row.score() != null) {
+                scored.add(row);
+            }
+        }
+
+        Map<String, Object> coverage = new LinkedHashMap<>();
+        coverage.put("submitted", submitted);
+        coverage.put("assigned", assigned);
+        coverage.put("ratio", submitted == 0 ? null : assigned / (double) submitted);
+
+        Map<String, Object> dashboard = new LinkedHashMap<>();
+        dashboard.put("total", total);
+        dashboard.put("states", states);
+        dashboard.put("finalSubmitted", finalSubmitted);
+        dashboard.put("scores", scores(scored));
+        dashboard.put("staffCoverage", coverage);
+        return dashboard;
+    }
+
+    private static Map<String, Object> scores(List<DashboardRow> scored) {
+        scored.sort(Comparator.comparing(DashboardRow::score));
+        long count = 0;
+        double sum = 0;
+        for (DashboardRow row : scored) {
+            count += row.count();
+            sum += row.score() * row.count();
+        }
+
+        Map<String, Object> scores = new LinkedHashMap<>();
+        scores.put("count", count);
+        scores.put("average", count == 0 ? null : sum / count);
+        scores.put("min", scored.isEmpty() ? null : scored.get(0).score());
+        scores.put("max", scored.isEmpty() ? null : scored.get(scored.size() - 1).score());
+        for (int p : PERCENTILES) {
+            scores.put("p" + p, count == 0 ? null : percentile(scored, count, p));
+        }
+        return scores;
+    }
+
+    /**
+     * Nearest-rank percentile over a sorted histogram.
+     */
+    private static Double percentile(List<DashboardRow> sorted, long count, int p) {
+        long rank = Math.max(1, (long) Math.ceil(p / 100.0 * count));
+        long seen = 0;
+        for (DashboardRow row : sorted) {
+            seen += row.count();
+            if (seen >= rank) {
+                return row.score();
+            }
+        }
+        return sorted.get(sorted.size() - 1).score();
+    }
+}
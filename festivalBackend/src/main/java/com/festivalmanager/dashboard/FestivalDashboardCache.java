@@ -0,0 +1,158 @@
+package com.festivalmanager.dashboard;
+
+import com.festivalmanager.events.DomainEvent;
+import com.festivalmanager.events.DomainEventListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches festival dashboards until the festival's performances change.
+ * <p>
+ * The cache listens to committed domain events and drops the dashboard of
+ * every festival whose performances changed state, score, stage manager or
+ * final submission. Events arrive asynchronously, so every entry also
+ * expires after {@code festival.dashboard.ttl-seconds}. A dashboard computed
+ * while an invalidation arrived is never stored: each request and each
+ * invalidation takes a stamp from one counter, and an entry is only served if
+ * its request was stamped after the festival's last invalidation.
+ * </p>
+ * <p>
+ * Callers take the stamp with {@link #stamp()} before their transaction
+ * reads anything. The loader then sees a snapshot at least as new as the
+ * stamp, including when earlier reads of the same REPEATABLE READ
+ * transaction, such as the requester checks, fixed the snapshot before the
+ * cache was consulted. Loaders must therefore read from the primary: a
+ * replica may not have caught up with the stamp.
+ * </p>
+ * <p>
+ * Metrics: {@code festival.dashboard.cache} counts lookups, tagged
+ * {@code result=hit} or {@code miss}.
+ * </p>
+ */
+@Component
+public class FestivalDashboardCache implements DomainEventListener<DomainEvent> {
+
+    private record Entry(Map<String, Object> dashboard, long stamp, long loadedAtNanos) {
+    }
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Long, Long> invalidatedAt = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final long ttlNanos;
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * Constructs a new {@link FestivalDashboardCache}.
+     *
+     * @param ttlSeconds how long a dashboard is served at most
+     * @param meterRegistry the registry cache metrics are recorded in
+     */
+    public FestivalDashboardCache(@Value("${festival.dashboard.ttl-seconds:60}") long ttlSeconds,
+            MeterRegistry meterRegistry) {
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.hits = Counter.builder("festival.dashboard.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("festival.dashboard.cache").tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * Takes a stamp for a later {@link #get}. Take it before the calling
+     * transaction reads anything.
+     *
+     * @return the stamp
+     */
+    public long stamp() {
+        return clock.incrementAndGet();
+    }
+
+    /**
+     * Returns the cached dashboard of a festival, computing it if absent,
+     * outdated or expired.
+     *
+     * @param festivalId the festival
+     * @param stamp the stamp taken before the caller's transaction read
+     * anything, see {@link #stamp()}
+     * @param loader computes the dashboard
+     * @return the dashboard
+     */
+    public Map<String, Object> get(Long festivalId, long stamp, Supplier<Map<String, Object>> loader) {
+        Entry entry = entries.get(festivalId);
+        long now = System.nanoTime();
+        if (entry != null && entry.stamp() > invalidatedAt.getOrDefault(festivalId, 0L)
+                && now - entry.loadedAtNanos() < ttlNanos) {
+            hits.increment();
+            return entry.dashboard();
+        }
+        misses.increment();
+        Map<String, Object> dashboard = loader.get();
+        if (stamp > invalidatedAt.getOrDefault(festivalId, 0L)) {
+            entries.merge(festivalId, new Entry(dashboard, stamp, now),
+                    (old, fresh) -> old.stamp() > fresh.stamp() ? old : fresh);
+        }
+        return dashboard;
+    }
+
+    /**
+     * Drops the dashboard of a festival.
+     *
+     * @param festivalId the festival
+     */
+    public void invalidate(Long festivalId) {
+        invalidatedAt.put(festivalId, clock.incrementAndGet());
+        entries.remove(festivalId);
+    }
+
+    /**
+     * Drops every dashboard.
+     */
+    public void invalidateAll() {
+        entries.keySet().forEach(this::invalidate);
+    }
+
+    @Override
+    public Class<DomainEvent> eventType() {
+        return DomainEvent.class;
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            if (event instanceof DomainEvent.UserDeleted e) {
+                // Deleting a user removes their performances and stage manager assignments
+                e.festivalIds().forEach(this::invalidate);
+            } else {
+                Long festivalId = affectedFestival(event);
+                if (festivalId != null) {
+                    invalidate(festivalId);
+                }
+            }
+        }
+    }
+
+    private static Long affectedFestival(DomainEvent event) {
+        if (event instanceof DomainEvent.PerformanceUpdated e) {
+            return e.festivalId();
+        } else if (event instanceof DomainEvent.PerformanceStateChanged e) {
+            return e.festivalId();
+        } else if (event instanceof DomainEvent.PerformanceReviewed e) {
+            return e.festivalId();
+        } else if (event instanceof DomainEvent.PerformanceDeleted e) {
+            return e.festivalId();
+        } else if (event instanceof DomainEvent.FestivalStateChanged e) {
+            return e.festivalId();
+        } else if (event instanceof DomainEvent.FestivalDeleted e) {
+            return e.festivalId();
+        } else if (event instanceof DomainEvent.FestivalArchived e) {
+            return e.festivalId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,127 @@
+package com.festivalmanager.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+/**
+ * Sends read-only transactions to read replicas.
+ * <p>
+ * Active when {@code festival.datasource.replica-urls} lists one or more
+ * replica JDBC URLs, separated by commas. The primary keeps the
+ * {@code spring.datasource.*} settings and the replicas share its credentials.
+ * Without replica URLs the application uses the single auto-configured data
+ * source as before.
+ * </p>
+ * <p>
+ * Read-only transactions do not put entries into the second-level and query
+ * caches, so results read from a lagging replica are never served to later
+ * transactions, see {@link ReplicaReadJpaDialect}.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "festival.datasource.replica-urls")
+public class DataSourceRoutingConfiguration {
+
+    /**
+     * Creates the routing data source over one pool per database. Every pool
+     * takes the {@code spring.datasource.hikari.*} settings, such as
+     * {@code maximum-pool-size}, like the single auto-configured pool does.
+     *
+     * @param properties the {@code spring.datasource.*} settings of the primary
+     * @param replicaUrls the JDBC URLs of the replicas
+     * @param healthCheckIntervalMillis the delay between two replica checks
+     * @param readYourWritesMillis how long a requester reads from the primary
+     * after writing, 0 to disable
+     * @param meterRegistry the registry routing metrics are recorded in
+     * @param environment the environment the pool settings are read from
+     * @return the routing data source
+     */
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties properties,
+            @Value("${festival.datasource.replica-urls}") List<String> replicaUrls,
+            @Value("${festival.datasource.health-check-interval-ms:5000}") long healthCheckIntervalMillis,
+            @Value("${festival.datasource.read-your-writes-ms:0}") long readYourWritesMillis,
+            MeterRegistry meterRegistry, Environment environment) {
+        Binder binder = Binder.get(environment);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : replicaUrls) {
+            if (!url.isBlank()) {
+                String name = "replica-" + replicas.size();
+                replicas.put(name, pool(properties, binder, url.trim(), name));
+            }
+        }
+        DataSource primary = pool(properties, binder, properties.determineUrl(), ReplicaRoutingDataSource.PRIMARY);
+        return new ReplicaRoutingDataSource(primary, replicas, Duration.ofMillis(healthCheckIntervalMillis),
+                Duration.ofMillis(readYourWritesMillis), meterRegistry);
+    }
+
+    /**
+     * Exposes the routing data source to JPA, Flyway and the transaction
+     * manager. Connections are fetched on the first statement, once the
+     * transaction's read-only flag is known.
+     *
+     * @param routingDataSource the routing data source
+     * @return the data source used by the application
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * Installs the {@link ReplicaReadJpaDialect} on the entity manager
+     * factory, and through it on the JPA transaction manager.
+     *
+     * @return the post-processor
+     */
+    @Bean
+    public static BeanPostProcessor replicaReadJpaDialect() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof LocalContainerEntityManagerFactoryBean factory) {
+                    factory.setJpaDialect(new ReplicaReadJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Creates the pool of one database.
+     *
+     * @param properties the {@code spring.datasource.*} settings
+     * @param binder the binder the {@code spring.datasource.hikari.*} settings are read with
+     * @param url the JDBC URL of the database
+     * @param name the pool name
+     * @return the pool
+     */
+    static HikariDataSource pool(DataSourceProperties properties, Binder binder, String url, String name) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setJdbcUrl(url);
+        dataSource.setPoolName(name);
+        return dataSource;
+    }
+}
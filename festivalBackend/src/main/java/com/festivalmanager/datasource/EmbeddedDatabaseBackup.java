@@ -0,0 +1,130 @@
+package com.festivalmanager.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes snapshots of the embedded database.
+ * <p>
+ * Active with the {@code embedded} profile, which stores all data in an H2
+ * file under {@code festival.embedded.directory} instead of MySQL. H2 appends
+ * every commit to that file and checkpoints it in the background; this
+ * component adds consistent copies on the {@code festival.embedded.backup-cron}
+ * schedule, taken online with {@code BACKUP TO}. Snapshots are written to
+ * {@code festival.embedded.directory}/backups and only the newest
+ * {@code festival.embedded.backup-retain} are kept. To restore, stop the
+ * application and unzip a snapshot over the database file.
+ * </p>
+ * <p>
+ * Metrics: {@code festival.embedded.backup} times snapshots;
+ * {@code festival.embedded.backup.failures} counts failed ones.
+ * </p>
+ */
+@Component
+@Profile("embedded")
+public class EmbeddedDatabaseBackup {
+
+    private static final Logger log = LoggerFactory.getLogger(EmbeddedDatabaseBackup.class);
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmssSSS");
+    private static final String PREFIX = "festivaldb-";
+
+    private final DataSource dataSource;
+    private final Path directory;
+    private final int retain;
+    private final Timer backups;
+    private final Counter failures;
+
+    /**
+     * Constructs a new {@link EmbeddedDatabaseBackup}.
+     *
+     * @param dataSource the embedded database
+     * @param directory the directory of the database file
+     * @param retain how many snapshots are kept
+     * @param meterRegistry the registry backup metrics are recorded in
+     */
+    public EmbeddedDatabaseBackup(DataSource dataSource,
+            @Value("${festival.embedded.directory:./data}") Path directory,
+            @Value("${festival.embedded.backup-retain:24}") int retain,
+            MeterRegistry meterRegistry) {
+        this.dataSource = dataSource;
+        this.directory = directory.resolve("backups");
+        this.retain = retain;
+        this.backups = Timer.builder("festival.embedded.backup").register(meterRegistry);
+        this.failures = Counter.builder("festival.embedded.backup.failures").register(meterRegistry);
+    }
+
+    /**
+     * Writes a snapshot on the configured schedule. A failure is logged and
+     * counted; the next run tries again.
+     */
+    @Scheduled(cron = "${festival.embedded.backup-cron:-}")
+    public void scheduledBackup() {
+        try {
+            backup();
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.error("Embedded database backup failed", e);
+        }
+    }
+
+    /**
+     * Writes a snapshot of the database now and removes the oldest ones
+     * beyond the retained count.
+     *
+     * @return the snapshot file
+     */
+    public Path backup() {
+        Path target = directory.resolve(PREFIX + LocalDateTime.now().format(FILE_TIMESTAMP) + ".zip");
+        long start = System.nanoTime();
+        try {
+            Files.createDirectories(directory);
+            try (Connection connection = dataSource.getConnection();
+                    Statement statement = connection.createStatement()) {
+                statement.execute("BACKUP TO '" + target.toAbsolutePath().toString().replace("'", "''") + "'");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot write " + target, e);
+        }
+        backups.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        prune();
+        log.info("Embedded database snapshot written to {}", target);
+        return target;
+    }
+
+    private void prune() {
+        // Timestamped names sort chronologically
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> snapshots = files
+                    .filter(f -> f.getFileName().toString().startsWith(PREFIX))
+                    .sorted()
+                    .toList();
+            for (Path old : snapshots.subList(0, Math.max(0, snapshots.size() - retain))) {
+                Files.deleteIfExists(old);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.festivalmanager.datasource;
+
+import java.util.function.Supplier;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs reads that must see the primary, such as token checks and cached
+ * dashboards, from any transaction.
+ * <p>
+ * A read that joins a transaction reading from a replica would miss recent
+ * changes, such as a token issued or deactivated a moment ago. Such a read
+ * runs in a read-write transaction of its own instead, which is routed to the
+ * primary. That second connection comes from the primary pool while the
+ * caller holds a replica connection, so a full pool cannot deadlock on it.
+ * Anywhere else, including without replicas, the caller is on the primary
+ * already and the read joins its transaction.
+ * </p>
+ */
+@Component
+public class PrimaryReads {
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final TransactionTemplate primaryTransaction;
+
+    /**
+     * Constructs a new {@link PrimaryReads}.
+     *
+     * @param routingDataSource the routing data source, if replicas are
+     * configured
+     * @param transactionManager the transaction manager
+     */
+    public PrimaryReads(ObjectProvider<ReplicaRoutingDataSource> routingDataSource,
+            PlatformTransactionManager transactionManager) {
+        this.routingDataSource = routingDataSource.getIfAvailable();
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        primaryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Runs a read on the primary.
+     *
+     * @param read the read
+     * @param <T> the result type
+     * @return the result of the read
+     */
+    public <T> T read(Supplier<T> read) {
+        if (routingDataSource == null || !routingDataSource.routesToReplica()) {
+            return read.get();
+        }
+        return primaryTransaction.execute(status -> read.get());
+    }
+}
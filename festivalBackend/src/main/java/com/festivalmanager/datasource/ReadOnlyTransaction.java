@@ -0,0 +1,27 @@
+package com.festivalmanager.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Marks a service method that only reads, running it in a read-only
+ * transaction.
+ * <p>
+ * Read-only transactions are served by a read replica when replicas are
+ * configured, see {@link ReplicaRoutingDataSource}, and Hibernate skips dirty
+ * checking and flushing for them. With replicas they read the second-level
+ * and query caches but never fill them, see {@link ReplicaReadJpaDialect}.
+ * Only put this on methods that never write: changes made inside are
+ * silently discarded.
+ * </p>
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Transactional(readOnly = true)
+public @interface ReadOnlyTransaction {
+}
@@ -0,0 +1,54 @@
+package com.festivalmanager.datasource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import java.sql.SQLException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+
+/**
+ * Keeps read-only transactions from writing to the second-level and query
+ * caches.
+ * <p>
+ * With replicas configured, read-only transactions read from a replica that
+ * may lag behind the primary. Results cached from there, such as a
+ * cacheable query result, would be served to every later transaction, read-write
+ * ones included, until the entry expires. Read-only transactions therefore
+ * run with {@link CacheMode#GET}: they still use cached data, but only
+ * transactions on the primary put entries. Hibernate honours that mode for
+ * entities and collections; {@link ReadOnlyAwareRegionFactory} does so for
+ * query results. The session's previous cache mode is restored when the
+ * transaction ends, as the session may outlive it.
+ * </p>
+ */
+public class ReplicaReadJpaDialect extends HibernateJpaDialect {
+
+    private record ReadOnlyTransactionData(Object transactionData, Session session, CacheMode previous) {
+    }
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException, TransactionException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly()) {
+            return transactionData;
+        }
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previous = session.getCacheMode();
+        session.setCacheMode(CacheMode.GET);
+        return new ReadOnlyTransactionData(transactionData, session, previous);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReadOnlyTransactionData data) {
+            data.session().setCacheMode(data.previous());
+            super.cleanupTransaction(data.transactionData());
+        } else {
+            super.cleanupTransaction(transactionData);
+        }
+    }
+}
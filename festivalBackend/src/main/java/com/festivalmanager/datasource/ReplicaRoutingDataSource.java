@@ -0,0 +1,292 @@
+package com.festivalmanager.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes connections between the primary database and its read replicas.
+ * <p>
+ * Connections requested inside a read-only transaction, see
+ * {@link ReadOnlyTransaction}, come from the next healthy replica in round
+ * robin order. Everything else, including work outside a transaction such as
+ * migrations, goes to the primary. The decision needs the transaction's
+ * read-only flag, which is only known once the transaction has begun, so this
+ * data source must be wrapped in a {@link LazyConnectionDataSourceProxy}.
+ * </p>
+ * <p>
+ * Replicas are validated every health check interval. A replica whose check
+ * or connection attempt fails leaves the rotation until a later check
+ * succeeds; with no healthy replica, reads fall back to the primary. With a
+ * read-your-writes window, a requester (see {@link RequesterContext}) whose
+ * transaction wrote to the primary reads from the primary until the window
+ * has passed since the commit, so replication lag never hides their own
+ * change. A transaction counts as writing once it prepares a statement that
+ * is not a query, or creates a plain statement whose SQL is not known.
+ * </p>
+ * <p>
+ * Metrics: {@code festival.datasource.connections} counts connections, tagged
+ * with the target ({@code primary} or the replica name);
+ * {@code festival.datasource.fallbacks} counts reads served by the primary
+ * because no replica was available; {@code festival.datasource.replica.healthy}
+ * is 1 for each replica in rotation, 0 otherwise.
+ * </p>
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    /** Name of the primary in metric tags. */
+    public static final String PRIMARY = "primary";
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long readYourWritesNanos;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter primaryConnections;
+    private final Counter fallbacks;
+    private final ScheduledExecutorService healthChecker;
+
+    /**
+     * Constructs a new {@link ReplicaRoutingDataSource} and starts the replica
+     * health checks.
+     *
+     * @param primary the primary database
+     * @param replicas the read replicas by name, possibly none
+     * @param healthCheckInterval the delay between two replica checks
+     * @param readYourWritesWindow how long a requester reads from the primary
+     * after writing; zero disables the window
+     * @param meterRegistry the registry routing metrics are recorded in
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+            Duration healthCheckInterval, Duration readYourWritesWindow, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.readYourWritesNanos = readYourWritesWindow.toNanos();
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource, meterRegistry)));
+        this.primaryConnections = Counter.builder("festival.datasource.connections")
+                .tag("target", PRIMARY)
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder("festival.datasource.fallbacks").register(meterRegistry);
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = healthCheckInterval.toMillis();
+        healthChecker.scheduleWithFixedDelay(this::checkReplicas, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns a connection to a replica inside a read-only transaction, and to
+     * the primary otherwise.
+     *
+     * @return the connection
+     * @throws SQLException if the primary cannot be reached
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !readsOwnWrite()) {
+            Connection connection = replicaConnection();
+            if (connection != null) {
+                return connection;
+            }
+        }
+        primaryConnections.increment();
+        return trackWrites(primary.getConnection());
+    }
+
+    /**
+     * Returns a connection to the primary with explicit credentials.
+     *
+     * @param username the database user
+     * @param password the password
+     * @return the connection
+     * @throws SQLException if the primary cannot be reached
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        primaryConnections.increment();
+        return trackWrites(primary.getConnection(username, password));
+    }
+
+    /**
+     * Tells whether a connection requested now would come from a replica:
+     * inside a read-only transaction, outside the requester's read-your-writes
+     * window, with a replica in rotation.
+     *
+     * @return true if the current transaction reads from a replica
+     */
+    public boolean routesToReplica() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !readsOwnWrite()
+                && replicas.stream().anyMatch(replica -> replica.healthy);
+    }
+
+    /**
+     * Validates every replica, putting it in or out of rotation, and forgets
+     * writes older than the read-your-writes window.
+     */
+    void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                replica.healthy = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            } catch (SQLException | RuntimeException e) {
+                replica.healthy = false;
+            }
+        }
+        long now = System.nanoTime();
+        lastWrites.values().removeIf(writtenAt -> now - writtenAt >= readYourWritesNanos);
+    }
+
+    /**
+     * Stops the health checks and closes the primary and replica pools.
+     */
+    @Override
+    public void close() throws Exception {
+        healthChecker.shutdownNow();
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection replicaConnection() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get(Math.floorMod(next.getAndIncrement(), size));
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replica.connections.increment();
+                return connection;
+            } catch (SQLException e) {
+                replica.healthy = false;
+            }
+        }
+        fallbacks.increment();
+        return null;
+    }
+
+    private boolean readsOwnWrite() {
+        String requester = RequesterContext.current();
+        if (readYourWritesNanos <= 0 || requester == null) {
+            return false;
+        }
+        Long writtenAt = lastWrites.get(requester);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt < readYourWritesNanos) {
+            return true;
+        }
+        lastWrites.remove(requester, writtenAt);
+        return false;
+    }
+
+    /**
+     * Wraps a primary connection of a read-write transaction so that the
+     * requester's write is recorded when the transaction commits.
+     */
+    private Connection trackWrites(Connection connection) {
+        if (readYourWritesNanos <= 0 || replicas.isEmpty()
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return connection;
+        }
+        WriteTracker tracker = new WriteTracker();
+        TransactionSynchronizationManager.registerSynchronization(tracker);
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "prepareStatement", "prepareCall":
+                            if (!isQuery((String) args[0])) {
+                                tracker.wrote = true;
+                            }
+                            break;
+                        case "createStatement":
+                            // The SQL of a plain statement is not known yet
+                            tracker.wrote = true;
+                            break;
+                        default:
+                            break;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    private static boolean isQuery(String sql) {
+        String statement = sql.stripLeading();
+        return statement.regionMatches(true, 0, "select", 0, 6) || statement.regionMatches(true, 0, "with", 0, 4);
+    }
+
+    /**
+     * Records the requester's write once the transaction commits.
+     */
+    private final class WriteTracker implements TransactionSynchronization {
+
+        private boolean wrote;
+
+        @Override
+        public void afterCommit() {
+            String requester = RequesterContext.current();
+            if (wrote && requester != null) {
+                lastWrites.put(requester, System.nanoTime());
+            }
+        }
+    }
+
+    /**
+     * A replica and its health.
+     */
+    private static final class Replica {
+
+        private final DataSource dataSource;
+        private final Counter connections;
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource, MeterRegistry meterRegistry) {
+            this.dataSource = dataSource;
+            this.connections = Counter.builder("festival.datasource.connections")
+                    .tag("target", name)
+                    .register(meterRegistry);
+            Gauge.builder("festival.datasource.replica.healthy", this, replica -> replica.healthy ? 1 : 0)
+                    .tag("replica", name)
+                    .register(meterRegistry);
+        }
+    }
+}
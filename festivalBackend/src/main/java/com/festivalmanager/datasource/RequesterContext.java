@@ -0,0 +1,45 @@
+package com.festivalmanager.datasource;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Remembers which user the current HTTP request acts for.
+ * <p>
+ * The name is kept as a request attribute, so it is dropped with the request.
+ * It is only a routing hint for {@link ReplicaRoutingDataSource}: it is bound
+ * before the requester's token is checked and must not be used for
+ * authorization.
+ * </p>
+ */
+public final class RequesterContext {
+
+    private static final String ATTRIBUTE = RequesterContext.class.getName() + ".username";
+
+    private RequesterContext() {
+    }
+
+    /**
+     * Binds the requester of the current request. Does nothing outside a
+     * request.
+     *
+     * @param username the username the request claims to act for
+     */
+    public static void bind(String username) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null && username != null) {
+            attributes.setAttribute(ATTRIBUTE, username, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * Returns the requester of the current request.
+     *
+     * @return the username, or {@code null} outside a request or before one
+     * is bound
+     */
+    public static String current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes == null ? null : (String) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+}
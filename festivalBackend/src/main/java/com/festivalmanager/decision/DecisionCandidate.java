@@ -0,0 +1,25 @@
+package com.festivalmanager.decision;
+
+import com.festivalmanager.model.Performance.PerformanceState;
+import java.util.Comparator;
+
+/**
+ * Narrow view of a performance awaiting the organizer's decision.
+ *
+ * @param id the performance ID
+ * @param name the performance name
+ * @param genre the performance genre
+ * @param score the reviewer score; {@code null} if not scored
+ * @param state the current performance state
+ */
+public record DecisionCandidate(Long id, String name, String genre, Double score, PerformanceState state) {
+
+    /**
+     * Best first: highest score, unscored last, then lowest ID for a stable
+     * order. Matches the ORDER BY of the decision queue query, which merges
+     * its per-state results with it.
+     */
+    public static final Comparator<DecisionCandidate> RANKING = Comparator
+            .comparing(DecisionCandidate::score, Comparator.nullsLast(Comparator.<Double>reverseOrder()))
+            .thenComparing(DecisionCandidate::id);
+}
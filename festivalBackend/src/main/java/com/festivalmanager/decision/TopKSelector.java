@@ -0,0 +1,59 @@
+package com.festivalmanager.decision;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Bounded-heap top-K selection.
+ * <p>
+ * Each group keeps a heap of at most {@code k} items with the worst kept item
+ * on top, so a new item either replaces it or is dropped. Selecting from
+ * {@code n} items costs O(n log k) time and O(k) memory per group, instead of
+ * sorting everything.
+ * </p>
+ */
+public final class TopKSelector {
+
+    private TopKSelector() {
+    }
+
+    /**
+     * Selects the best {@code k} items of every group.
+     *
+     * @param items the items, in any order
+     * @param groupBy the group key of an item
+     * @param ranking orders items best first
+     * @param k the number of items to keep per group
+     * @param <T> the item type
+     * @param <G> the group key type
+     * @return the selected items of each group, best first, groups in key order
+     */
+    public static <T, G extends Comparable<G>> Map<G, List<T>> topPerGroup(Iterable<T> items,
+            Function<T, G> groupBy, Comparator<T> ranking, int k) {
+        Map<G, PriorityQueue<T>> heaps = new HashMap<>();
+        for (T item : items) {
+            PriorityQueue<T> heap = heaps.computeIfAbsent(groupBy.apply(item),
+                    g -> new PriorityQueue<>(k + 1, ranking.reversed()));
+            if (heap.size() < k) {
+                heap.add(item);
+            } else if (k > 0 && ranking.compare(item, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(item);
+            }
+        }
+
+        Map<G, List<T>> selected = new TreeMap<>();
+        heaps.forEach((group, heap) -> {
+            List<T> best = new ArrayList<>(heap);
+            best.sort(ranking);
+            selected.put(group, best);
+        });
+        return selected;
+    }
+}
@@ -0,0 +1,26 @@
+package com.festivalmanager.dto.festival;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object (DTO) for reporting double-booked band members of a
+ * festival.
+ * 
+ * <p>This request object lists every band member of the festival's approved
+ * and scheduled performances who is booked elsewhere at the same time,
+ * including authentication details of the requester.</p>
+ */
+@Getter
+@Setter
+public class BandMemberConflictRequest {
+
+    /** The username of the organizer or staff member requesting the report. */
+    private String requesterUsername;
+
+    /** The authentication token of the requester. */
+    private String token;
+
+    /** The ID of the festival to check. */
+    private Long festivalId;
+}
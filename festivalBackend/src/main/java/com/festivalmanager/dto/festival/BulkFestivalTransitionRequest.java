@@ -0,0 +1,30 @@
+package com.festivalmanager.dto.festival;
+
+import com.festivalmanager.model.Festival.FestivalState;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object (DTO) for moving many festivals into the same phase.
+ * 
+ * <p>This request object applies the same transition as the individual
+ * start endpoints (e.g. startReview) to every listed festival the requester
+ * organizes, including authentication details of the requester.</p>
+ */
+@Getter
+@Setter
+public class BulkFestivalTransitionRequest {
+
+    /** The username of the organizer requesting the transition. */
+    private String requesterUsername;
+
+    /** The authentication token of the requester. */
+    private String token;
+
+    /** The IDs of the festivals to transition. */
+    private List<Long> festivalIds;
+
+    /** The state the festivals are moved into. */
+    private FestivalState targetState;
+}
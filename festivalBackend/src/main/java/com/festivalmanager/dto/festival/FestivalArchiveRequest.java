@@ -0,0 +1,21 @@
+package com.festivalmanager.dto.festival;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object (DTO) for archiving finished festivals.
+ * 
+ * <p>This request object carries the authentication details of the
+ * administrator starting an archive run.</p>
+ */
+@Getter
+@Setter
+public class FestivalArchiveRequest {
+
+    /** The username of the administrator making the request. */
+    private String requesterUsername;
+
+    /** The authentication token of the requester. */
+    private String token;
+}
@@ -0,0 +1,24 @@
+package com.festivalmanager.dto.festival;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object (DTO) for viewing the dashboard of a festival.
+ *
+ * <p>The dashboard aggregates the festival's performances: counts per state,
+ * final submissions, review score statistics and stage manager coverage.</p>
+ */
+@Getter
+@Setter
+public class FestivalDashboardRequest {
+
+    /** The username of the organizer requesting the dashboard. */
+    private String requesterUsername;
+
+    /** The authentication token of the requester. */
+    private String token;
+
+    /** The ID of the festival. */
+    private Long festivalId;
+}
@@ -0,0 +1,13 @@
+package com.festivalmanager.dto.festival;
+
+import java.time.LocalDate;
+import java.util.SortedSet;
+
+/**
+ * A festival and the dates it takes place on.
+ *
+ * @param festivalId the festival
+ * @param dates the dates of the festival
+ */
+public record FestivalDates(Long festivalId, SortedSet<LocalDate> dates) {
+}
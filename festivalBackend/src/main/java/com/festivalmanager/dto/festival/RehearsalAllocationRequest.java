@@ -0,0 +1,31 @@
+package com.festivalmanager.dto.festival;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object (DTO) for allocating rehearsal slots of a festival.
+ * 
+ * <p>This request object triggers the allocation of rehearsal slots for the
+ * approved and scheduled performances of a festival, including authentication
+ * details of the requester.</p>
+ */
+@Getter
+@Setter
+public class RehearsalAllocationRequest {
+
+    /** The username of the organizer or staff member requesting the allocation. */
+    private String requesterUsername;
+
+    /** The authentication token of the requester. */
+    private String token;
+
+    /** The ID of the festival whose rehearsals are allocated. */
+    private Long festivalId;
+
+    /**
+     * If {@code true}, all existing rehearsal allocations are discarded and
+     * re-planned; otherwise only performances without a rehearsal are placed.
+     */
+    private Boolean replanAll;
+}
@@ -0,0 +1,25 @@
+package com.festivalmanager.dto.festival;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object (DTO) for generating the lineup of a festival.
+ * 
+ * <p>This request object triggers the automatic scheduling of all approved
+ * performances of a festival onto its stages and dates, including
+ * authentication details of the requester.</p>
+ */
+@Getter
+@Setter
+public class ScheduleGenerateRequest {
+
+    /** The username of the organizer requesting the lineup generation. */
+    private String requesterUsername;
+
+    /** The authentication token of the requester. */
+    private String token;
+
+    /** The ID of the festival whose lineup is generated. */
+    private Long festivalId;
+}
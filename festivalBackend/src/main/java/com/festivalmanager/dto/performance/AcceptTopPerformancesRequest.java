@@ -0,0 +1,47 @@
+package com.festivalmanager.dto.performance;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Request DTO used by a festival organizer to accept the best-scored
+ * performances awaiting a decision in one operation.
+ * <p>
+ * The performances accepted are those the decision queue would return for the
+ * same parameters.
+ * </p>
+ */
+@Getter
+@Setter
+public class AcceptTopPerformancesRequest {
+
+    /**
+     * The username of the requester, an organizer of the festival.
+     */
+    private String requesterUsername;
+
+    /**
+     * Authentication token of the requester used to validate the operation.
+     */
+    private String token;
+
+    /**
+     * The ID of the festival whose performances are accepted.
+     */
+    private Long festivalId;
+
+    /**
+     * Number of performances to accept (per genre when {@code perGenre}).
+     */
+    private Integer topN;
+
+    /**
+     * Optional genre filter.
+     */
+    private String genre;
+
+    /**
+     * Whether to accept the top performances of every genre.
+     */
+    private boolean perGenre;
+}
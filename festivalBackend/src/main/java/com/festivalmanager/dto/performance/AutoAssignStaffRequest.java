@@ -0,0 +1,39 @@
+package com.festivalmanager.dto.performance;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Request DTO used by a festival organizer to spread all unassigned SUBMITTED
+ * performances of a festival across its STAFF members.
+ * <p>
+ * Performances go to the least loaded staff member. A positive
+ * {@code genreAffinityWeight} favours staff who managed many performances of
+ * the same genre before: a weight of 2 lets a specialist take up to two more
+ * performances of their genre than others.
+ * </p>
+ */
+@Getter
+@Setter
+public class AutoAssignStaffRequest {
+
+    /**
+     * The username of the requester, an organizer of the festival.
+     */
+    private String requesterUsername;
+
+    /**
+     * Authentication token of the requester used to validate the operation.
+     */
+    private String token;
+
+    /**
+     * The ID of the festival whose performances are assigned.
+     */
+    private Long festivalId;
+
+    /**
+     * Optional weight of genre affinity, zero by default.
+     */
+    private Double genreAffinityWeight;
+}
@@ -0,0 +1,63 @@
+package com.festivalmanager.dto.performance;
+
+import com.festivalmanager.model.Performance.PerformanceState;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Request DTO used by a festival organizer to approve, reject or accept many
+ * performances at once.
+ * <p>
+ * Performances are selected either by an explicit list of IDs or, when
+ * {@code performanceIds} is empty, by a filter on one festival: the
+ * performances in {@code states} scored at least {@code minScore} (e.g. all
+ * REVIEWED performances with a score of 7 or more). Performances of festivals
+ * the requester does not organize are reported and left unchanged.
+ * </p>
+ */
+@Getter
+@Setter
+public class BulkPerformanceDecisionRequest {
+
+    /**
+     * The username of the requester, an organizer of the festivals.
+     */
+    private String requesterUsername;
+
+    /**
+     * Authentication token of the requester used to validate the operation.
+     */
+    private String token;
+
+    /**
+     * The decision: APPROVED, REJECTED or SCHEDULED (accepted).
+     */
+    private PerformanceState targetState;
+
+    /**
+     * The IDs of the performances to decide on.
+     */
+    private List<Long> performanceIds;
+
+    /**
+     * Filter mode: the festival whose performances are decided on.
+     */
+    private Long festivalId;
+
+    /**
+     * Filter mode: the states to match; defaults to every state the decision
+     * can be made from.
+     */
+    private List<PerformanceState> states;
+
+    /**
+     * Filter mode: the lowest reviewer score to match, any score if absent.
+     */
+    private Double minScore;
+
+    /**
+     * The rejection reason, required when rejecting.
+     */
+    private String rejectionReason;
+}
@@ -0,0 +1,38 @@
+package com.festivalmanager.dto.performance;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Request DTO used by a staff member to review many performances at once.
+ * <p>
+ * Every review is checked like a single review. By default the valid reviews
+ * are saved and the others reported; with {@code allOrNothing} a single
+ * invalid review rejects the whole request and nothing is saved.
+ * </p>
+ */
+@Getter
+@Setter
+public class BulkPerformanceReviewRequest {
+
+    /**
+     * The username of the staff member performing the reviews.
+     */
+    private String requesterUsername;
+
+    /**
+     * Authentication token of the requester used to validate the operation.
+     */
+    private String token;
+
+    /**
+     * The reviews, at most one per performance.
+     */
+    private List<PerformanceReviewItem> reviews;
+
+    /**
+     * If {@code true}, the reviews are saved only if all of them are valid.
+     */
+    private Boolean allOrNothing;
+}
@@ -0,0 +1,47 @@
+package com.festivalmanager.dto.performance;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Request DTO used by a festival organizer to list the best-scored
+ * performances awaiting a decision.
+ * <p>
+ * Performances are ranked by reviewer score. The queue can be limited to one
+ * genre, or hold the top entries of every genre.
+ * </p>
+ */
+@Getter
+@Setter
+public class DecisionQueueRequest {
+
+    /**
+     * The username of the requester, an organizer of the festival.
+     */
+    private String requesterUsername;
+
+    /**
+     * Authentication token of the requester used to validate the operation.
+     */
+    private String token;
+
+    /**
+     * The ID of the festival whose performances are ranked.
+     */
+    private Long festivalId;
+
+    /**
+     * Number of performances to return (per genre when {@code perGenre}).
+     */
+    private Integer limit;
+
+    /**
+     * Optional genre filter.
+     */
+    private String genre;
+
+    /**
+     * Whether to return the top performances of every genre.
+     */
+    private boolean perGenre;
+}
@@ -0,0 +1,67 @@
+package com.festivalmanager.dto.performance;
+
+import lombok.Getter;
+import lombok.Setter;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Request DTO used by an artist to change individual merchandise items,
+ * setlist songs and band members of a performance.
+ * <p>
+ * Unlike {@link PerformanceUpdateRequest}, which replaces these collections,
+ * every entry names one element to add, modify or remove; elements not
+ * mentioned are left untouched. Merchandise items are identified by name,
+ * band members by username. Omitted lists mean no change.
+ * </p>
+ */
+@Getter
+@Setter
+public class PerformancePatchRequest {
+
+    /**
+     * The username of the artist requesting the change.
+     */
+    private String requesterUsername;
+
+    /**
+     * Authentication token of the requester used to validate the operation.
+     */
+    private String token;
+
+    /**
+     * The ID of the performance to change.
+     */
+    private Long performanceId;
+
+    /**
+     * Merchandise items to add, or to modify when an item with the same name
+     * exists. Null fields of an existing item are left unchanged.
+     */
+    private List<MerchandiseItemDTO> upsertMerchandiseItems;
+
+    /**
+     * Names of the merchandise items to remove.
+     */
+    private Set<String> removeMerchandiseItems;
+
+    /**
+     * Songs to add to the setlist.
+     */
+    private Set<String> addSongs;
+
+    /**
+     * Songs to remove from the setlist.
+     */
+    private Set<String> removeSongs;
+
+    /**
+     * Usernames of the band members to add.
+     */
+    private Set<String> addBandMembers;
+
+    /**
+     * Usernames of the band members to remove.
+     */
+    private Set<String> removeBandMembers;
+}
@@ -0,0 +1,10 @@
+package com.festivalmanager.dto.performance;
+
+/**
+ * A performance and the festival it belongs to.
+ *
+ * @param performanceId the performance
+ * @param festivalId the festival of the performance
+ */
+public record PerformanceRef(Long performanceId, Long festivalId) {
+}
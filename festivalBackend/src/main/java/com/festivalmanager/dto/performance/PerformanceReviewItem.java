@@ -0,0 +1,27 @@
+package com.festivalmanager.dto.performance;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * One review of a {@link BulkPerformanceReviewRequest}.
+ */
+@Getter
+@Setter
+public class PerformanceReviewItem {
+
+    /**
+     * The ID of the performance being reviewed.
+     */
+    private Long performanceId;
+
+    /**
+     * The numerical score assigned to the performance.
+     */
+    private Double score;
+
+    /**
+     * Detailed comments provided by the reviewer.
+     */
+    private String reviewerComments;
+}
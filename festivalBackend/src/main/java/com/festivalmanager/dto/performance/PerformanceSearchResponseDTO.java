@@ -1,5 +1,6 @@
 package com.festivalmanager.dto.performance;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Set;
@@ -53,6 +54,24 @@ public class PerformanceSearchResponseDTO {
     /** The preferred performance slots; optional. */
     private Set<LocalTime> preferredPerformanceSlots;
 
+    /** The stage assigned by the lineup scheduler; optional. */
+    private String scheduledStage;
+
+    /** The day assigned by the lineup scheduler; optional. */
+    private LocalDate scheduledDate;
+
+    /** The start time assigned by the lineup scheduler; optional. */
+    private LocalTime scheduledStartTime;
+
+    /** The stage allocated for the rehearsal; optional. */
+    private String rehearsalStage;
+
+    /** The day allocated for the rehearsal; optional. */
+    private LocalDate rehearsalDate;
+
+    /** The start time allocated for the rehearsal; optional. */
+    private LocalTime rehearsalStartTime;
+
     /** The username of the stage manager; optional. */
     private String stageManager;
 
@@ -0,0 +1,12 @@
+package com.festivalmanager.dto.performance;
+
+import com.festivalmanager.model.Performance.PerformanceState;
+
+/**
+ * Number of performances in one state.
+ *
+ * @param state the performance state
+ * @param count the number of performances
+ */
+public record StateCount(PerformanceState state, Long count) {
+}
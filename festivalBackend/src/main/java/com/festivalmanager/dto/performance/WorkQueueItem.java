@@ -0,0 +1,21 @@
+package com.festivalmanager.dto.performance;
+
+import com.festivalmanager.model.Festival.FestivalState;
+import com.festivalmanager.model.Performance.PerformanceState;
+
+/**
+ * One entry of a personal work queue.
+ *
+ * @param performanceId the performance
+ * @param name the performance name
+ * @param genre the performance genre
+ * @param state the performance state
+ * @param score the reviewer score, {@code null} if not reviewed
+ * @param finalSubmitted whether the final submission was made
+ * @param festivalId the festival
+ * @param festivalName the festival name
+ * @param festivalState the festival phase
+ */
+public record WorkQueueItem(Long performanceId, String name, String genre, PerformanceState state, Double score,
+        boolean finalSubmitted, Long festivalId, String festivalName, FestivalState festivalState) {
+}
@@ -0,0 +1,52 @@
+package com.festivalmanager.dto.performance;
+
+import com.festivalmanager.enums.FestivalRoleType;
+import com.festivalmanager.model.Performance.PerformanceState;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Request DTO used to page through the requester's own performances.
+ * <p>
+ * As STAFF the queue lists the performances the requester is stage manager
+ * of (e.g. those still SUBMITTED and waiting for a review); as ARTIST it lists
+ * the performances the requester created or plays in. Pages are ordered by
+ * performance ID: pass the {@code nextAfterId} of a response as
+ * {@code afterId} to get the following page.
+ * </p>
+ */
+@Getter
+@Setter
+public class WorkQueueRequest {
+
+    /**
+     * The username of the requester.
+     */
+    private String requesterUsername;
+
+    /**
+     * Authentication token of the requester used to validate the operation.
+     */
+    private String token;
+
+    /**
+     * The queue to list: STAFF or ARTIST.
+     */
+    private FestivalRoleType role;
+
+    /**
+     * Optional state filter; all states if absent.
+     */
+    private List<PerformanceState> states;
+
+    /**
+     * Optional cursor: only performances with a larger ID are returned.
+     */
+    private Long afterId;
+
+    /**
+     * Optional page size.
+     */
+    private Integer limit;
+}
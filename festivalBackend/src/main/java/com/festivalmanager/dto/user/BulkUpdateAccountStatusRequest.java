@@ -0,0 +1,49 @@
+package com.festivalmanager.dto.user;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Request DTO used by an administrator to activate or deactivate many user
+ * accounts at once.
+ * <p>
+ * Targets are selected either by an explicit list of usernames or, when
+ * {@code applyToAll} is {@code true}, as every pending registration (e.g.
+ * after a registration wave): USER accounts that were never activated.
+ * {@code applyToAll} requires {@code newActive} to be {@code true}. The
+ * requester is never affected.
+ * </p>
+ */
+@Getter
+@Setter
+public class BulkUpdateAccountStatusRequest {
+
+    /**
+     * The username of the administrator executing the request.
+     */
+    private String requesterUsername;
+
+    /**
+     * Authentication token of the requester used to validate the operation.
+     */
+    private String token;
+
+    /**
+     * The usernames of the target users.
+     * Ignored when {@code applyToAll} is {@code true}.
+     */
+    private List<String> targetUsernames;
+
+    /**
+     * If {@code true}, every pending registration is activated. Admins and
+     * accounts that were active before are never selected.
+     */
+    private Boolean applyToAll;
+
+    /**
+     * The new active status of the accounts.
+     * {@code true} = activate the accounts, {@code false} = deactivate them.
+     */
+    private Boolean newActive;
+}
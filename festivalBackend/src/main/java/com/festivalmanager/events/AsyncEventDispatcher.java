@@ -0,0 +1,237 @@
+package com.festivalmanager.events;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Delivers committed domain events to listeners off the request thread.
+ * <p>
+ * Each {@link DomainEventListener} owns a bounded queue drained by its own
+ * daemon worker, so a slow listener delays only itself. Workers take the
+ * oldest event and whatever else is queued, up to the listener's batch size,
+ * in one call. When a queue is full the publishing thread waits at most
+ * {@code festival.events.offer-timeout-ms} for space and then drops the event
+ * for that listener: commits are never blocked indefinitely by a side effect.
+ * With {@code spring.threads.virtual.enabled} on Java 21 or later the workers
+ * are virtual threads. Workers are created on {@link #start()}, so the
+ * dispatcher can be started again after {@link #stop()}.
+ * </p>
+ * <p>
+ * A listener that throws loses the batch. The failure is logged with the
+ * listener name, at most once per minute per listener together with the
+ * number of failures suppressed since the previous report.
+ * </p>
+ * <p>
+ * Metrics, tagged with the listener class: {@code festival.events.queue.depth}
+ * (gauge), {@code festival.events.lag} (time from commit to delivery),
+ * {@code festival.events.delivered}, {@code festival.events.dropped} and
+ * {@code festival.events.failed}.
+ * </p>
+ */
+@Component
+public class AsyncEventDispatcher implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncEventDispatcher.class);
+    private static final long FAILURE_LOG_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final List<Channel> channels = new ArrayList<>();
+    private final ThreadFactory workerFactory;
+    private final long offerTimeoutMillis;
+    private volatile boolean running;
+
+    /**
+     * Constructs a new {@link AsyncEventDispatcher}.
+     *
+     * @param listeners the listener beans, possibly none
+     * @param meterRegistry the registry delivery metrics are recorded in
+     * @param queueCapacity the maximum number of pending events per listener
+     * @param offerTimeoutMillis how long a publisher waits for queue space
+     * @param virtualThreads whether workers are virtual threads, where the
+     * JVM supports them
+     */
+    public AsyncEventDispatcher(ObjectProvider<DomainEventListener<?>> listeners,
+            MeterRegistry meterRegistry,
+            @Value("${festival.events.queue-capacity:10000}") int queueCapacity,
+            @Value("${festival.events.offer-timeout-ms:20}") long offerTimeoutMillis,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.workerFactory = virtualThreads && JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE)
+                ? new VirtualThreadTaskExecutor().getVirtualThreadFactory()
+                : task -> {
+                    Thread thread = new Thread(task);
+                    thread.setDaemon(true);
+                    return thread;
+                };
+        listeners.orderedStream()
+                .forEach(listener -> channels.add(new Channel(listener, queueCapacity, meterRegistry)));
+    }
+
+    /**
+     * Enqueues events for every listener interested in them.
+     *
+     * @param events the committed events, in commit order
+     */
+    public void dispatch(List<? extends DomainEvent> events) {
+        long now = System.nanoTime();
+        for (DomainEvent event : events) {
+            for (Channel channel : channels) {
+                if (channel.listener.eventType().isInstance(event)) {
+                    channel.offer(new Envelope(event, now), offerTimeoutMillis);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        channels.forEach(Channel::start);
+    }
+
+    /**
+     * Stops the workers after they deliver what is already queued.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        for (Channel channel : channels) {
+            try {
+                channel.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private record Envelope(DomainEvent event, long enqueuedNanos) {
+    }
+
+    /**
+     * Queue and worker of one listener.
+     */
+    private final class Channel {
+
+        private final DomainEventListener<?> listener;
+        private final BlockingQueue<Envelope> queue;
+        private final String name;
+        private final Timer lag;
+        private final Counter delivered;
+        private final Counter dropped;
+        private final Counter failed;
+        private volatile Thread worker;
+        // Only touched by the worker
+        private long lastFailureLogNanos;
+        private int suppressedFailures;
+
+        private Channel(DomainEventListener<?> listener, int capacity, MeterRegistry meterRegistry) {
+            this.listener = listener;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.name = listener.getClass().getSimpleName();
+            this.lag = Timer.builder("festival.events.lag").tag("listener", name).register(meterRegistry);
+            this.delivered = Counter.builder("festival.events.delivered").tag("listener", name).register(meterRegistry);
+            this.dropped = Counter.builder("festival.events.dropped").tag("listener", name).register(meterRegistry);
+            this.failed = Counter.builder("festival.events.failed").tag("listener", name).register(meterRegistry);
+            Gauge.builder("festival.events.queue.depth", queue, BlockingQueue::size)
+                    .tag("listener", name)
+                    .register(meterRegistry);
+        }
+
+        private synchronized void start() {
+            if (worker == null || !worker.isAlive()) {
+                worker = workerFactory.newThread(this::run);
+                worker.setName("domain-events-" + name);
+                worker.start();
+            }
+        }
+
+        private void join(long millis) throws InterruptedException {
+            Thread current = worker;
+            if (current != null) {
+                current.join(millis);
+            }
+        }
+
+        private void offer(Envelope envelope, long timeoutMillis) {
+            try {
+                if (!queue.offer(envelope, timeoutMillis, TimeUnit.MILLISECONDS)) {
+                    dropped.increment();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                dropped.increment();
+            }
+        }
+
+        private void run() {
+            int batchSize = Math.max(1, listener.batchSize());
+            List<Envelope> batch = new ArrayList<>(batchSize);
+            while (running || !queue.isEmpty()) {
+                try {
+                    Envelope first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    deliver(batch);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private void deliver(List<Envelope> batch) {
+            long now = System.nanoTime();
+            List events = new ArrayList<>(batch.size());
+            for (Envelope envelope : batch) {
+                lag.record(now - envelope.enqueuedNanos(), TimeUnit.NANOSECONDS);
+                events.add(envelope.event());
+            }
+            try {
+                ((DomainEventListener) listener).onEvents(events);
+                delivered.increment(events.size());
+            } catch (RuntimeException e) {
+                failed.increment(events.size());
+                logFailure(events.size(), e);
+            }
+        }
+
+        private void logFailure(int events, RuntimeException e) {
+            long now = System.nanoTime();
+            if (lastFailureLogNanos != 0 && now - lastFailureLogNanos < FAILURE_LOG_INTERVAL_NANOS) {
+                suppressedFailures++;
+                return;
+            }
+            log.error("Domain event listener {} failed on {} events ({} failures suppressed since the last report)",
+                    name, events, suppressedFailures, e);
+            lastFailureLogNanos = now;
+            suppressedFailures = 0;
+        }
+    }
+}
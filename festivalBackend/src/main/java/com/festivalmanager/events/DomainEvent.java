@@ -0,0 +1,205 @@
+package com.festivalmanager.events;
+
+import com.festivalmanager.enums.FestivalRoleType;
+import com.festivalmanager.model.Festival.FestivalState;
+import com.festivalmanager.model.Performance.PerformanceState;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Domain events published by the services after a transaction commits.
+ * <p>
+ * Events carry identifiers and the facts that changed, never entities, so
+ * listeners running on other threads do not touch a closed persistence
+ * context. See {@link DomainEventPublisher} and {@link AsyncEventDispatcher}.
+ * </p>
+ */
+public sealed interface DomainEvent {
+
+    /**
+     * Returns when the change happened.
+     *
+     * @return the time of the change
+     */
+    Instant occurredAt();
+
+    /**
+     * A festival was created or its information was updated.
+     *
+     * @param festivalId the festival
+     * @param occurredAt when the change happened
+     */
+    record FestivalUpdated(Long festivalId, Instant occurredAt) implements DomainEvent {
+
+        public FestivalUpdated(Long festivalId) {
+            this(festivalId, Instant.now());
+        }
+    }
+
+    /**
+     * A festival moved to another phase.
+     *
+     * @param festivalId the festival
+     * @param from the previous state
+     * @param to the new state
+     * @param occurredAt when the change happened
+     */
+    record FestivalStateChanged(Long festivalId, FestivalState from, FestivalState to, Instant occurredAt)
+            implements DomainEvent {
+
+        public FestivalStateChanged(Long festivalId, FestivalState from, FestivalState to) {
+            this(festivalId, from, to, Instant.now());
+        }
+    }
+
+    /**
+     * Users were granted a role in a festival.
+     *
+     * @param festivalId the festival
+     * @param role the role granted
+     * @param userIds the users
+     * @param occurredAt when the change happened
+     */
+    record FestivalRolesChanged(Long festivalId, FestivalRoleType role, List<Long> userIds, Instant occurredAt)
+            implements DomainEvent {
+
+        public FestivalRolesChanged(Long festivalId, FestivalRoleType role, Collection<Long> userIds) {
+            this(festivalId, role, List.copyOf(userIds), Instant.now());
+        }
+    }
+
+    /**
+     * The lineup or rehearsal plan of a festival was regenerated.
+     *
+     * @param festivalId the festival
+     * @param occurredAt when the change happened
+     */
+    record LineupChanged(Long festivalId, Instant occurredAt) implements DomainEvent {
+
+        public LineupChanged(Long festivalId) {
+            this(festivalId, Instant.now());
+        }
+    }
+
+    /**
+     * A festival and everything it owns were deleted.
+     *
+     * @param festivalId the festival
+     * @param occurredAt when the change happened
+     */
+    record FestivalDeleted(Long festivalId, Instant occurredAt) implements DomainEvent {
+
+        public FestivalDeleted(Long festivalId) {
+            this(festivalId, Instant.now());
+        }
+    }
+
+    /**
+     * A finished festival and its performances were moved to the archive
+     * tier and removed from the hot tables.
+     *
+     * @param festivalId the festival
+     * @param occurredAt when the change happened
+     */
+    record FestivalArchived(Long festivalId, Instant occurredAt) implements DomainEvent {
+
+        public FestivalArchived(Long festivalId) {
+            this(festivalId, Instant.now());
+        }
+    }
+
+    /**
+     * A performance was created or its details were updated.
+     *
+     * @param performanceId the performance
+     * @param festivalId the festival of the performance
+     * @param occurredAt when the change happened
+     */
+    record PerformanceUpdated(Long performanceId, Long festivalId, Instant occurredAt) implements DomainEvent {
+
+        public PerformanceUpdated(Long performanceId, Long festivalId) {
+            this(performanceId, festivalId, Instant.now());
+        }
+    }
+
+    /**
+     * A performance moved to another workflow state.
+     *
+     * @param performanceId the performance
+     * @param festivalId the festival of the performance
+     * @param from the previous state
+     * @param to the new state
+     * @param occurredAt when the change happened
+     */
+    record PerformanceStateChanged(Long performanceId, Long festivalId, PerformanceState from, PerformanceState to,
+            Instant occurredAt) implements DomainEvent {
+
+        public PerformanceStateChanged(Long performanceId, Long festivalId, PerformanceState from,
+                PerformanceState to) {
+            this(performanceId, festivalId, from, to, Instant.now());
+        }
+    }
+
+    /**
+     * A performance was scored by its stage manager.
+     *
+     * @param performanceId the performance
+     * @param festivalId the festival of the performance
+     * @param score the reviewer score
+     * @param occurredAt when the change happened
+     */
+    record PerformanceReviewed(Long performanceId, Long festivalId, Double score, Instant occurredAt)
+            implements DomainEvent {
+
+        public PerformanceReviewed(Long performanceId, Long festivalId, Double score) {
+            this(performanceId, festivalId, score, Instant.now());
+        }
+    }
+
+    /**
+     * A performance was withdrawn and deleted.
+     *
+     * @param performanceId the performance
+     * @param festivalId the festival of the performance
+     * @param occurredAt when the change happened
+     */
+    record PerformanceDeleted(Long performanceId, Long festivalId, Instant occurredAt) implements DomainEvent {
+
+        public PerformanceDeleted(Long performanceId, Long festivalId) {
+            this(performanceId, festivalId, Instant.now());
+        }
+    }
+
+    /**
+     * User accounts were activated or deactivated.
+     *
+     * @param usernames the affected users
+     * @param active the new status
+     * @param occurredAt when the change happened
+     */
+    record UserAccountStatusChanged(List<String> usernames, boolean active, Instant occurredAt)
+            implements DomainEvent {
+
+        public UserAccountStatusChanged(Collection<String> usernames, boolean active) {
+            this(List.copyOf(usernames), active, Instant.now());
+        }
+    }
+
+    /**
+     * A user account and its references were deleted.
+     *
+     * @param userId the user
+     * @param username the username
+     * @param festivalIds the festivals in which the user held a role, or
+     * created, managed or played in a performance
+     * @param occurredAt when the change happened
+     */
+    record UserDeleted(Long userId, String username, List<Long> festivalIds, Instant occurredAt)
+            implements DomainEvent {
+
+        public UserDeleted(Long userId, String username, Collection<Long> festivalIds) {
+            this(userId, username, List.copyOf(festivalIds), Instant.now());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.festivalmanager.events;
+
+import java.util.List;
+
+/**
+ * Consumer of committed domain events.
+ * <p>
+ * Every listener bean gets its own bounded queue and worker thread in
+ * {@link AsyncEventDispatcher}; events are delivered in commit order, in
+ * batches of up to {@link #batchSize()}, never on the request thread. A
+ * listener that throws loses only the failed batch.
+ * </p>
+ *
+ * @param <E> the event type the listener receives; use {@link DomainEvent}
+ * to receive all events
+ */
+public interface DomainEventListener<E extends DomainEvent> {
+
+    /**
+     * Returns the event type the listener receives, including subtypes.
+     *
+     * @return the event type
+     */
+    Class<E> eventType();
+
+    /**
+     * Handles a batch of events.
+     *
+     * @param events the events, oldest first
+     */
+    void onEvents(List<E> events);
+
+    /**
+     * Returns the maximum number of events delivered in one call.
+     *
+     * @return the batch size
+     */
+    default int batchSize() {
+        return 100;
+    }
+}
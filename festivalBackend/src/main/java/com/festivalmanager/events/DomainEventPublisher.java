@@ -0,0 +1,62 @@
+package com.festivalmanager.events;
+
+import java.util.List;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Publishes domain events once the surrounding transaction has committed.
+ * <p>
+ * Inside a transaction the event is held until commit and dropped on
+ * rollback, so listeners never see changes that did not happen, and a
+ * {@code @RetryOnConflict} attempt that failed publishes nothing. Outside a
+ * transaction the event is handed over immediately. Hand-over only enqueues;
+ * see {@link AsyncEventDispatcher}.
+ * </p>
+ */
+@Component
+public class DomainEventPublisher {
+
+    private final AsyncEventDispatcher dispatcher;
+
+    /**
+     * Constructs a new {@link DomainEventPublisher}.
+     *
+     * @param dispatcher the dispatcher delivering events to listeners
+     */
+    public DomainEventPublisher(AsyncEventDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Publishes an event after the current transaction commits.
+     *
+     * @param event the event
+     */
+    public void publish(DomainEvent event) {
+        publishAll(List.of(event));
+    }
+
+    /**
+     * Publishes events after the current transaction commits, with a single
+     * synchronization for bulk operations.
+     *
+     * @param events the events, in order
+     */
+    public void publishAll(List<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatcher.dispatch(events);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatcher.dispatch(events);
+            }
+        });
+    }
+}
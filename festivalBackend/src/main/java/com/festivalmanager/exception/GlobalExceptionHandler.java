@@ -1,6 +1,9 @@
 package com.festivalmanager.exception;
 
 import com.festivalmanager.dto.api.ApiResponse;
+import com.festivalmanager.service.TokenService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -13,6 +16,39 @@ import java.time.LocalDateTime;
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    private final TokenService tokenService;
+
+    /**
+     * Constructs a new {@link GlobalExceptionHandler}.
+     *
+     * @param tokenService the service applying token rejections
+     */
+    public GlobalExceptionHandler(TokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    /**
+     * Handles a token rejection: the service transaction it was thrown in
+     * has rolled back, so the token and account deactivations are applied
+     * here, then the rejection is answered like any ApiException. With the
+     * entity manager kept open for the request, this reuses the request's
+     * connection instead of waiting for a second one.
+     *
+     * @param ex the TokenRejectedException thrown
+     * @return a ResponseEntity containing the ApiResponse
+     */
+    @ExceptionHandler(TokenRejectedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTokenRejected(TokenRejectedException ex) {
+        try {
+            tokenService.applyRejection(ex);
+        } catch (RuntimeException e) {
+            log.error("Cannot apply token rejection for token {} and users {}", ex.getTokenId(), ex.getUserIds(), e);
+        }
+        return handleApiException(ex);
+    }
+
     /**
      * Handles ApiException and builds a structured API response.
      *
@@ -0,0 +1,56 @@
+package com.festivalmanager.exception;
+
+import java.util.List;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Rejection of a request token that also deactivates the token or accounts.
+ * <p>
+ * Token validation runs inside the service transaction, which rolls back
+ * when this is thrown. The deactivation is therefore applied afterwards, in a
+ * transaction of its own, by {@link GlobalExceptionHandler}.
+ */
+public class TokenRejectedException extends ApiException {
+
+    /**
+     * ID of the token to deactivate, or null.
+     */
+    private final Long tokenId;
+
+    /**
+     * IDs of the accounts to deactivate.
+     */
+    private final List<Long> userIds;
+
+    /**
+     * Constructs a new TokenRejectedException.
+     *
+     * @param message the error message
+     * @param status  the HTTP status code
+     * @param tokenId the ID of the token to deactivate, or null
+     * @param userIds the IDs of the accounts to deactivate
+     */
+    public TokenRejectedException(String message, HttpStatus status, Long tokenId, List<Long> userIds) {
+        super(message, status);
+        this.tokenId = tokenId;
+        this.userIds = List.copyOf(userIds);
+    }
+
+    /**
+     * Gets the ID of the token to deactivate.
+     *
+     * @return the token ID, or null
+     */
+    public Long getTokenId() {
+        return tokenId;
+    }
+
+    /**
+     * Gets the IDs of the accounts to deactivate.
+     *
+     * @return the user IDs
+     */
+    public List<Long> getUserIds() {
+        return userIds;
+    }
+}
@@ -0,0 +1,66 @@
+package com.festivalmanager.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.SortedSet;
+
+/**
+ * Entity representing a finished festival moved to the archive tier.
+ * <p>
+ * The festival keeps its ID. Its organizer view, including organizers,
+ * staff, venue layout, budget and vendor management, is stored as one JSON
+ * snapshot, so archived festivals are read with a single row lookup and
+ * never touch the hot tables. Access checks use the stored organizer IDs,
+ * as usernames in the snapshot can be taken by new accounts once the
+ * original users are deleted.
+ * </p>
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "archived_festivals")
+public class ArchivedFestival {
+
+    /** ID the festival had in the hot tables. */
+    @Id
+    private Long id;
+
+    /** Name of the festival. */
+    @Column(nullable = false)
+    private String name;
+
+    /** Last date on which the festival took place. */
+    @Column(nullable = false)
+    private LocalDate lastDate;
+
+    /** Timestamp when the festival was archived. */
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    /** Organizer view of the festival, as JSON. */
+    @Lob
+    @Column(nullable = false)
+    private String snapshot;
+
+    /** IDs of the festival's organizers when it was archived. */
+    @Convert(converter = IdSetConverter.class)
+    @Column(name = "organizer_ids", length = IdSetConverter.MAX_LENGTH)
+    @Setter(AccessLevel.NONE)
+    private SortedSet<Long> organizerIds = Collections.emptySortedSet();
+
+    /**
+     * Replaces the organizer IDs of the archived festival.
+     *
+     * @param organizerIds the new organizer IDs
+     */
+    public void setOrganizerIds(Collection<Long> organizerIds) {
+        this.organizerIds = IdSetConverter.normalize(organizerIds);
+    }
+}
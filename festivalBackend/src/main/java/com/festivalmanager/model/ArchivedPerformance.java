@@ -0,0 +1,70 @@
+package com.festivalmanager.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.SortedSet;
+
+/**
+ * Entity representing a performance of an archived festival.
+ * <p>
+ * The performance keeps its ID. Its full view, including band members,
+ * setlist, merchandise, slots and review, is stored as one JSON snapshot.
+ * The IDs of its creator, band members and stage manager are kept beside it
+ * for access checks.
+ * </p>
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "archived_performances", indexes = {
+    @Index(name = "idx_archived_performances_festival", columnList = "festival_id")
+})
+public class ArchivedPerformance {
+
+    /** ID the performance had in the hot tables. */
+    @Id
+    private Long id;
+
+    /** ID of the archived festival of the performance. */
+    @Column(name = "festival_id", nullable = false)
+    private Long festivalId;
+
+    /** Name of the performance. */
+    @Column(nullable = false)
+    private String name;
+
+    /** State of the performance when it was archived. */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Performance.PerformanceState state;
+
+    /** Timestamp when the performance was archived. */
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    /** Full view of the performance, as JSON. */
+    @Lob
+    @Column(nullable = false)
+    private String snapshot;
+
+    /** IDs of the creator, band members and stage manager when it was archived. */
+    @Convert(converter = IdSetConverter.class)
+    @Column(name = "member_ids", length = IdSetConverter.MAX_LENGTH)
+    @Setter(AccessLevel.NONE)
+    private SortedSet<Long> memberIds = Collections.emptySortedSet();
+
+    /**
+     * Replaces the member IDs of the archived performance.
+     *
+     * @param memberIds the new member IDs
+     */
+    public void setMemberIds(Collection<Long> memberIds) {
+        this.memberIds = IdSetConverter.normalize(memberIds);
+    }
+}
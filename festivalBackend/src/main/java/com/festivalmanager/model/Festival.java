@@ -1,13 +1,19 @@
 package com.festivalmanager.model;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.SortedSet;
 
 /**
  * Entity representing a festival.
@@ -16,10 +22,18 @@ import java.util.Set;
  * a set of scheduled dates, and various nested entities such as venue layout, budget,
  * vendor management, user roles, and performances.
  * </p>
+ * <p>
+ * Festivals and their user roles are cached as READ_WRITE:
+ * phase changes must be seen at once by every request, and the optimistic
+ * {@code version} is still checked against the database on update.
+ * Performances change too often to be worth caching.
+ * </p>
  */
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "festivals")
 public class Festival {
 
@@ -41,11 +55,11 @@ public class Festival {
     @Column(nullable = false, length = 1000)
     private String description;
 
-    /** Dates on which the festival takes place. */
-    @ElementCollection
-    @CollectionTable(name = "festival_dates", joinColumns = @JoinColumn(name = "festival_id"))
-    @Column(name = "date", nullable = false)
-    private Set<LocalDate> dates = new HashSet<>();
+    /** Dates on which the festival takes place, stored inline as day ranges. */
+    @Convert(converter = LocalDateRangesConverter.class)
+    @Column(name = "dates", length = LocalDateRangesConverter.MAX_LENGTH)
+    @Setter(AccessLevel.NONE)
+    private SortedSet<LocalDate> dates = Collections.emptySortedSet();
 
     /** Venue where the festival takes place. */
     @Column(nullable = false)
@@ -56,6 +70,11 @@ public class Festival {
     @Column(nullable = false)
     private FestivalState state = FestivalState.CREATED;
 
+    /** Version used for optimistic locking of concurrent festival updates. */
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     // ---------------- Nested entities ----------------
 
     /** Layout of the festival venue. */
@@ -72,12 +91,22 @@ public class Festival {
 
     /** Festival-specific user roles (ORGANIZER, STAFF, etc.). */
     @OneToMany(mappedBy = "festival", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private Set<FestivalUserRole> userRoles = new HashSet<>();
 
     /** Performances associated with this festival. */
     @OneToMany(mappedBy = "festival", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<Performance> performances = new HashSet<>();
 
+    /**
+     * Replaces the dates of the festival.
+     *
+     * @param dates the new dates
+     */
+    public void setDates(Collection<LocalDate> dates) {
+        this.dates = LocalDateRangesConverter.normalize(dates);
+    }
+
     /**
      * Enumeration representing possible states of a festival.
      */
@@ -4,6 +4,9 @@ import com.festivalmanager.enums.FestivalRoleType;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 
 /**
  * Entity representing the role of a user within a specific festival.
@@ -11,14 +14,25 @@ import lombok.Setter;
  * Each user can have a specific role in a festival, such as ARTIST, ORGANIZER,
  * or STAFF. The combination of festival, user, and role must be unique.
  * </p>
+ * <p>
+ * Roles are only ever added or removed, never modified. The entity is
+ * immutable, so Hibernate never writes updates for it, and cached as
+ * READ_ONLY, the cheapest strategy.
+ * </p>
  */
 @Getter
 @Setter
 @Entity
+@Immutable
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
 @Table(
     name = "festival_user_roles",
     uniqueConstraints = {
         @UniqueConstraint(columnNames = {"festival_id", "user_id", "role"})
+    },
+    indexes = {
+        @Index(name = "idx_festival_user_roles_user_role", columnList = "user_id, role")
     }
 )
 public class FestivalUserRole {
@@ -0,0 +1,69 @@
+package com.festivalmanager.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.hibernate.annotations.Mutability;
+import org.hibernate.type.descriptor.java.Immutability;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Stores a set of entity IDs in a single column as a comma-separated list,
+ * e.g. {@code 3,17,42}. An empty set is stored as {@code NULL}.
+ * <p>
+ * The sets are immutable: entities replace them through their setters, which
+ * is what Hibernate's dirty checking compares.
+ * </p>
+ */
+@Converter
+@Mutability(Immutability.class)
+public class IdSetConverter implements AttributeConverter<SortedSet<Long>, String> {
+
+    /** Maximum length of the encoded column. */
+    public static final int MAX_LENGTH = 4000;
+
+    private static final String SEPARATOR = ",";
+
+    /**
+     * Returns the immutable copy of a set of IDs that entities hold.
+     *
+     * @param ids the IDs, possibly null
+     * @return the sorted IDs
+     */
+    public static SortedSet<Long> normalize(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Collections.emptySortedSet();
+        }
+        return Collections.unmodifiableSortedSet(new TreeSet<>(ids));
+    }
+
+    @Override
+    public String convertToDatabaseColumn(SortedSet<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return null;
+        }
+        StringBuilder column = new StringBuilder();
+        for (Long id : ids) {
+            if (column.length() > 0) {
+                column.append(SEPARATOR);
+            }
+            column.append(id);
+        }
+        return column.toString();
+    }
+
+    @Override
+    public SortedSet<Long> convertToEntityAttribute(String column) {
+        if (column == null || column.isEmpty()) {
+            return Collections.emptySortedSet();
+        }
+        TreeSet<Long> ids = new TreeSet<>();
+        for (String id : column.split(SEPARATOR)) {
+            ids.add(Long.valueOf(id));
+        }
+        return Collections.unmodifiableSortedSet(ids);
+    }
+}
@@ -0,0 +1,103 @@
+package com.festivalmanager.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.hibernate.annotations.Mutability;
+import org.hibernate.type.descriptor.java.Immutability;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Stores a set of dates in a single column as a list of day ranges.
+ * <p>
+ * Consecutive dates collapse into one {@code first..last} range and ranges
+ * are separated by commas, e.g. {@code 2025-07-10..2025-07-13,2025-07-20}.
+ * A festival's dates are usually one or two runs of days, so the column
+ * stays a few dozen characters and is loaded with the festival row instead
+ * of through a collection table. An empty set is stored as {@code NULL}.
+ * </p>
+ * <p>
+ * The sets are immutable: entities replace them through their setters, which
+ * is what Hibernate's dirty checking compares.
+ * </p>
+ */
+@Converter
+@Mutability(Immutability.class)
+public class LocalDateRangesConverter implements AttributeConverter<SortedSet<LocalDate>, String> {
+
+    /** Maximum length of the encoded column. */
+    public static final int MAX_LENGTH = 2000;
+
+    private static final String RANGE = "..";
+    private static final String SEPARATOR = ",";
+
+    /**
+     * Returns the immutable copy of a set of dates that entities hold.
+     *
+     * @param dates the dates, possibly null
+     * @return the sorted dates
+     */
+    public static SortedSet<LocalDate> normalize(Collection<LocalDate> dates) {
+        if (dates == null || dates.isEmpty()) {
+            return Collections.emptySortedSet();
+        }
+        return Collections.unmodifiableSortedSet(new TreeSet<>(dates));
+    }
+
+    @Override
+    public String convertToDatabaseColumn(SortedSet<LocalDate> dates) {
+        if (dates == null || dates.isEmpty()) {
+            return null;
+        }
+        StringBuilder column = new StringBuilder();
+        Iterator<LocalDate> iterator = dates.iterator();
+        LocalDate first = iterator.next();
+        LocalDate last = first;
+        while (iterator.hasNext()) {
+            LocalDate date = iterator.next();
+            if (!date.equals(last.plusDays(1))) {
+                appendRange(column, first, last);
+                first = date;
+            }
+            last = date;
+        }
+        appendRange(column, first, last);
+        return column.toString();
+    }
+
+    @Override
+    public SortedSet<LocalDate> convertToEntityAttribute(String column) {
+        if (column == null || column.isEmpty()) {
+            return Collections.emptySortedSet();
+        }
+        TreeSet<LocalDate> dates = new TreeSet<>();
+        for (String range : column.split(SEPARATOR)) {
+            int split = range.indexOf(RANGE);
+            if (split < 0) {
+                dates.add(LocalDate.parse(range));
+                continue;
+            }
+            LocalDate last = LocalDate.parse(range.substring(split + RANGE.length()));
+            for (LocalDate date = LocalDate.parse(range.substring(0, split)); !date.isAfter(last);
+                    date = date.plusDays(1)) {
+                dates.add(date);
+            }
+        }
+        return Collections.unmodifiableSortedSet(dates);
+    }
+
+    private static void appendRange(StringBuilder column, LocalDate first, LocalDate last) {
+        if (column.length() > 0) {
+            column.append(SEPARATOR);
+        }
+        column.append(first);
+        if (!last.equals(first)) {
+            column.append(RANGE).append(last);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.festivalmanager.model;
+
+import com.festivalmanager.scheduling.MinuteBitmap;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.hibernate.annotations.Mutability;
+import org.hibernate.type.descriptor.java.Immutability;
+
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Stores a set of times of day in a single column as a {@link MinuteBitmap}.
+ * <p>
+ * Each time sets the bit of its minute, so a set takes at most 180 bytes and
+ * is read and written together with its row instead of through a collection
+ * table. Seconds are dropped; an empty set is stored as {@code NULL}.
+ * </p>
+ * <p>
+ * The sets are immutable: entities replace them through their setters, which
+ * is what Hibernate's dirty checking compares.
+ * </p>
+ */
+@Converter
+@Mutability(Immutability.class)
+public class MinuteOfDaySetConverter implements AttributeConverter<SortedSet<LocalTime>, byte[]> {
+
+    /**
+     * Returns the immutable, minute-precision copy of a set of times that
+     * entities hold.
+     *
+     * @param times the times, possibly null
+     * @return the sorted times truncated to the minute
+     */
+    public static SortedSet<LocalTime> normalize(Collection<LocalTime> times) {
+        if (times == null || times.isEmpty()) {
+            return Collections.emptySortedSet();
+        }
+        TreeSet<LocalTime> truncated = new TreeSet<>();
+        for (LocalTime time : times) {
+            truncated.add(time.truncatedTo(ChronoUnit.MINUTES));
+        }
+        return Collections.unmodifiableSortedSet(truncated);
+    }
+
+    @Override
+    public byte[] convertToDatabaseColumn(SortedSet<LocalTime> times) {
+        if (times == null || times.isEmpty()) {
+            return null;
+        }
+        MinuteBitmap bitmap = new MinuteBitmap();
+        for (LocalTime time : times) {
+            int minute = MinuteBitmap.minuteOf(time);
+            bitmap.set(minute, minute + 1);
+        }
+        return bitmap.toBytes();
+    }
+
+    @Override
+    public SortedSet<LocalTime> convertToEntityAttribute(byte[] column) {
+        if (column == null || column.length == 0) {
+            return Collections.emptySortedSet();
+        }
+        MinuteBitmap bitmap = MinuteBitmap.fromBytes(column);
+        TreeSet<LocalTime> times = new TreeSet<>();
+        for (int minute = bitmap.nextSetBit(0); minute >= 0; minute = bitmap.nextSetBit(minute + 1)) {
+            times.add(LocalTime.of(minute / 60, minute % 60));
+        }
+        return Collections.unmodifiableSortedSet(times);
+    }
+}
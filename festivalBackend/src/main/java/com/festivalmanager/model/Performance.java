@@ -1,13 +1,17 @@
 package com.festivalmanager.model;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.SortedSet;
 
 /**
  * Entity representing a performance at a festival.
@@ -21,7 +25,11 @@ import java.util.Set;
 @Getter
 @Setter
 @Entity
-@Table(name = "performances")
+@Table(name = "performances", indexes = {
+    @Index(name = "idx_performances_stage_manager_state", columnList = "stage_manager_id, state"),
+    @Index(name = "idx_performances_creator_state", columnList = "creator_id, state"),
+    @Index(name = "idx_performances_festival_state_ranking", columnList = "festival_id, state, score DESC, id")
+})
 public class Performance {
 
     /**
@@ -74,7 +82,8 @@ public class Performance {
     @JoinTable(
             name = "performance_band_members",
             joinColumns = @JoinColumn(name = "performance_id"),
-            inverseJoinColumns = @JoinColumn(name = "user_id")
+            inverseJoinColumns = @JoinColumn(name = "user_id"),
+            indexes = @Index(name = "idx_performance_band_members_user", columnList = "user_id")
     )
     private Set<User> bandMembers = new HashSet<>();
 
@@ -99,20 +108,44 @@ public class Performance {
     private Set<MerchandiseItem> merchandiseItems = new HashSet<>();
 
     /**
-     * Optional preferred rehearsal times.
+     * Optional preferred rehearsal times, stored inline as a minute-of-day bitmap.
      */
-    @ElementCollection
-    @CollectionTable(name = "performance_rehearsal_times", joinColumns = @JoinColumn(name = "performance_id"))
-    @Column(name = "rehearsal_time")
-    private Set<LocalTime> preferredRehearsalTimes = new HashSet<>();
+    @Convert(converter = MinuteOfDaySetConverter.class)
+    @Column(name = "rehearsal_minutes", length = 180)
+    @Setter(AccessLevel.NONE)
+    private SortedSet<LocalTime> preferredRehearsalTimes = Collections.emptySortedSet();
 
     /**
-     * Optional preferred performance slots.
+     * Optional preferred performance slots, stored inline as a minute-of-day bitmap.
      */
-    @ElementCollection
-    @CollectionTable(name = "performance_slots", joinColumns = @JoinColumn(name = "performance_id"))
-    @Column(name = "performance_slot")
-    private Set<LocalTime> preferredPerformanceSlots = new HashSet<>();
+    @Convert(converter = MinuteOfDaySetConverter.class)
+    @Column(name = "performance_slot_minutes", length = 180)
+    @Setter(AccessLevel.NONE)
+    private SortedSet<LocalTime> preferredPerformanceSlots = Collections.emptySortedSet();
+
+    /**
+     * Stage, day and time assigned by the lineup scheduler; optional.
+     */
+    @Embedded
+    @AttributeOverrides({
+        @AttributeOverride(name = "stage", column = @Column(name = "scheduled_stage")),
+        @AttributeOverride(name = "date", column = @Column(name = "scheduled_date")),
+        @AttributeOverride(name = "startTime", column = @Column(name = "scheduled_start_time")),
+        @AttributeOverride(name = "endTime", column = @Column(name = "scheduled_end_time"))
+    })
+    private StageSlot scheduledSlot;
+
+    /**
+     * Stage, day and time allocated for the rehearsal; optional.
+     */
+    @Embedded
+    @AttributeOverrides({
+        @AttributeOverride(name = "stage", column = @Column(name = "rehearsal_stage")),
+        @AttributeOverride(name = "date", column = @Column(name = "rehearsal_date")),
+        @AttributeOverride(name = "startTime", column = @Column(name = "rehearsal_start_time")),
+        @AttributeOverride(name = "endTime", column = @Column(name = "rehearsal_end_time"))
+    })
+    private StageSlot rehearsalSlot;
 
     /**
      * Stage manager responsible for this performance (must be festival staff).
@@ -146,6 +179,13 @@ public class Performance {
     @Column(nullable = false)
     private PerformanceState state = PerformanceState.CREATED;
 
+    /**
+     * Version used for optimistic locking of concurrent performance updates.
+     */
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     /**
      * Festival to which this performance belongs.
      */
@@ -153,6 +193,24 @@ public class Performance {
     @JoinColumn(name = "festival_id")
     private Festival festival;
 
+    /**
+     * Replaces the preferred rehearsal times; seconds are dropped.
+     *
+     * @param times the new times
+     */
+    public void setPreferredRehearsalTimes(Collection<LocalTime> times) {
+        this.preferredRehearsalTimes = MinuteOfDaySetConverter.normalize(times);
+    }
+
+    /**
+     * Replaces the preferred performance slots; seconds are dropped.
+     *
+     * @param slots the new slots
+     */
+    public void setPreferredPerformanceSlots(Collection<LocalTime> slots) {
+        this.preferredPerformanceSlots = MinuteOfDaySetConverter.normalize(slots);
+    }
+
     /**
      * Enumeration representing the possible states of a performance.
      */
@@ -0,0 +1,54 @@
+package com.festivalmanager.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Embeddable value describing a time slot on a festival stage.
+ * <p>
+ * Used to persist the stage, day and time range assigned to a performance by
+ * the scheduling engines.
+ * </p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Embeddable
+public class StageSlot {
+
+    /** Name of the stage, as listed in the festival venue layout. */
+    @Column(name = "stage")
+    private String stage;
+
+    /** Festival day of the slot. */
+    @Column(name = "slot_date")
+    private LocalDate date;
+
+    /** Start time of the slot. */
+    @Column(name = "start_time")
+    private LocalTime startTime;
+
+    /** End time of the slot. */
+    @Column(name = "end_time")
+    private LocalTime endTime;
+
+    /**
+     * Constructs a fully populated stage slot.
+     *
+     * @param stage the stage name
+     * @param date the festival day
+     * @param startTime the start time
+     * @param endTime the end time
+     */
+    public StageSlot(String stage, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        this.stage = stage;
+        this.date = date;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+}
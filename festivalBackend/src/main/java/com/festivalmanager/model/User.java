@@ -2,8 +2,11 @@ package com.festivalmanager.model;
 
 import com.festivalmanager.enums.PermanentRoleType;
 import jakarta.persistence.*;
+import java.time.LocalDateTime;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Entity representing a user in the festival management system.
@@ -11,10 +14,17 @@ import lombok.Setter;
  * A user may have a permanent system role (e.g., ADMIN, USER_MANAGER) 
  * and may participate in festivals as an artist, organizer, or staff member.
  * </p>
+ * <p>
+ * Users are read on every request and cached in the second-level cache as
+ * READ_WRITE: logins, password and status changes update them, and a
+ * deactivated user must never be served from a stale entry.
+ * </p>
  */
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "users")
 public class User {
 
@@ -68,4 +78,11 @@ public class User {
      * Used for security measures.
      */
     private int failedPasswordUpdates;
+
+    /**
+     * When the account was first activated; {@code null} while the
+     * registration is still pending. Kept when the account is deactivated,
+     * so locked and banned accounts are never mistaken for pending ones.
+     */
+    private LocalDateTime activatedAt;
 }
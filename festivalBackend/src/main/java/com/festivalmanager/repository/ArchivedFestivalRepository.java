@@ -0,0 +1,10 @@
+package com.festivalmanager.repository;
+
+import com.festivalmanager.model.ArchivedFestival;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Repository for archived festivals.
+ */
+public interface ArchivedFestivalRepository extends JpaRepository<ArchivedFestival, Long> {
+}
@@ -0,0 +1,10 @@
+package com.festivalmanager.repository;
+
+import com.festivalmanager.model.ArchivedPerformance;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Repository for performances of archived festivals.
+ */
+public interface ArchivedPerformanceRepository extends JpaRepository<ArchivedPerformance, Long> {
+}
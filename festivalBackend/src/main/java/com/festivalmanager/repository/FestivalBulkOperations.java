@@ -0,0 +1,24 @@
+package com.festivalmanager.repository;
+
+/**
+ * Set-based bulk operations on festivals and their child rows.
+ * <p>
+ * Implemented by {@link FestivalBulkOperationsImpl} and exposed through
+ * {@link FestivalRepository}.
+ * </p>
+ */
+public interface FestivalBulkOperations {
+
+    /**
+     * Deletes a festival together with its dates, venue layout, budget, vendor
+     * management and user roles, one statement per table.
+     * <p>
+     * Performances must already have been removed, see
+     * {@link PerformanceBulkOperations#bulkDeleteFestivalPerformances(Long)}.
+     * </p>
+     *
+     * @param festivalId the ID of the festival to delete
+     * @return the number of festival rows deleted (0 or 1)
+     */
+    int bulkDeleteFestival(Long festivalId);
+}
@@ -0,0 +1,53 @@
+package com.festivalmanager.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.List;
+
+/**
+ * Native SQL implementation of {@link FestivalBulkOperations}.
+ * <p>
+ * Statements run in foreign key dependency order: element collections of the
+ * one-to-one children first, then the children themselves, then user roles
+ * and finally the festival row.
+ * </p>
+ */
+public class FestivalBulkOperationsImpl implements FestivalBulkOperations {
+
+    /**
+     * Statements deleting every row owned by a festival, in deletion order.
+     * Each one takes the festival ID as the {@code :id} parameter.
+     */
+    static final List<String> FESTIVAL_DELETE_STATEMENTS = List.of(
+            "DELETE FROM venue_stages WHERE venue_layout_id IN "
+            + "(SELECT l.id FROM festival_venue_layouts l WHERE l.festival_id = :id)",
+            "DELETE FROM venue_vendor_areas WHERE venue_layout_id IN "
+            + "(SELECT l.id FROM festival_venue_layouts l WHERE l.festival_id = :id)",
+            "DELETE FROM venue_facilities WHERE venue_layout_id IN "
+            + "(SELECT l.id FROM festival_venue_layouts l WHERE l.festival_id = :id)",
+            "DELETE FROM festival_venue_layouts WHERE festival_id = :id",
+            "DELETE FROM festival_budgets WHERE festival_id = :id",
+            "DELETE FROM vendor_food_stalls WHERE vendor_management_id IN "
+            + "(SELECT v.id FROM festival_vendor_managements v WHERE v.festival_id = :id)",
+            "DELETE FROM vendor_merch_booths WHERE vendor_management_id IN "
+            + "(SELECT v.id FROM festival_vendor_managements v WHERE v.festival_id = :id)",
+            "DELETE FROM festival_vendor_managements WHERE festival_id = :id",
+            "DELETE FROM festival_user_roles WHERE festival_id = :id"
+    );
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int bulkDeleteFestival(Long festivalId) {
+        entityManager.flush();
+
+        for (String statement : FESTIVAL_DELETE_STATEMENTS) {
+            NativeStatements.execute(entityManager, statement, festivalId);
+        }
+        int deleted = NativeStatements.execute(entityManager, "DELETE FROM festivals WHERE id = :id", festivalId);
+
+        entityManager.clear();
+        return deleted;
+    }
+}
@@ -1,13 +1,32 @@
 package com.festivalmanager.repository;
 
+import com.festivalmanager.dto.festival.FestivalDates;
 import com.festivalmanager.model.Festival;
 import com.festivalmanager.model.Festival.FestivalState;
+import jakarta.persistence.QueryHint;
 import java.util.List;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import java.util.Optional;
 
-public interface FestivalRepository extends JpaRepository<Festival, Long> {
+public interface FestivalRepository extends JpaRepository<Festival, Long>, FestivalBulkOperations {
     Optional<Festival> findByName(String name);
     boolean existsByName(String name);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Festival> findAllByState(FestivalState state);
+
+    /**
+     * Lists the dates of the festivals in a state, without loading the
+     * festivals.
+     *
+     * @param state the festival state
+     * @return one row per festival
+     */
+    @Query("SELECT new com.festivalmanager.dto.festival.FestivalDates(f.id, f.dates) "
+            + "FROM Festival f WHERE f.state = :state")
+    List<FestivalDates> findDatesByState(@Param("state") FestivalState state);
 }
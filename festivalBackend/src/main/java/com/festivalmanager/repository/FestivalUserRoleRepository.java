@@ -5,7 +5,10 @@ import com.festivalmanager.model.FestivalUserRole;
 import com.festivalmanager.model.Festival;
 import com.festivalmanager.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,4 +21,28 @@ public interface FestivalUserRoleRepository extends JpaRepository<FestivalUserRo
     Optional<FestivalUserRole> findByFestivalAndUser(Festival festival, User user);
 
     boolean existsByFestivalAndUserAndRole(Festival festival, User user, FestivalRoleType role);
+
+    @Query("SELECT r.user FROM FestivalUserRole r WHERE r.festival = :festival AND r.role = :role ORDER BY r.user.id")
+    List<User> findUsersByFestivalAndRole(@Param("festival") Festival festival, @Param("role") FestivalRoleType role);
+
+    @Query("SELECT DISTINCT r.festival.id FROM FestivalUserRole r WHERE r.user = :user")
+    List<Long> findFestivalIdsByUser(@Param("user") User user);
+
+    /**
+     * Lists the festivals in which a user holds a role and nobody else does.
+     *
+     * @param user the user
+     * @param role the role, normally ORGANIZER
+     * @return the festival IDs
+     */
+    @Query("SELECT r.festival.id FROM FestivalUserRole r WHERE r.user = :user AND r.role = :role "
+            + "AND NOT EXISTS (SELECT o.id FROM FestivalUserRole o "
+            + "WHERE o.festival = r.festival AND o.role = :role AND o.user <> :user)")
+    List<Long> findFestivalIdsWithSoleRoleHolder(@Param("user") User user, @Param("role") FestivalRoleType role);
+
+    @Query("SELECT r.festival.id FROM FestivalUserRole r "
+            + "WHERE r.user = :user AND r.role = :role AND r.festival.id IN :festivalIds")
+    List<Long> findFestivalIdsByUserAndRole(@Param("user") User user,
+            @Param("role") FestivalRoleType role,
+            @Param("festivalIds") Collection<Long> festivalIds);
 }
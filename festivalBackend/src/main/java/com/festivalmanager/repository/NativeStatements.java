@@ -0,0 +1,51 @@
+package com.festivalmanager.repository;
+
+import jakarta.persistence.EntityManager;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.hibernate.query.NativeQuery;
+
+/**
+ * Runs the native statements of the bulk repository fragments.
+ * <p>
+ * Hibernate cannot tell which tables a native statement writes, so by default
+ * it evicts the whole second-level cache after each one. Every statement here
+ * declares the table it modifies, so only the cache regions mapped to that
+ * table are evicted.
+ * </p>
+ */
+final class NativeStatements {
+
+    private static final Pattern TARGET_TABLE = Pattern.compile("^(?:DELETE FROM|UPDATE)\\s+(\\w+)",
+            Pattern.CASE_INSENSITIVE);
+
+    private NativeStatements() {
+    }
+
+    /**
+     * Executes a {@code DELETE FROM <table>} or {@code UPDATE <table>}
+     * statement taking a single {@code :id} parameter.
+     *
+     * @param entityManager the entity manager
+     * @param sql the statement
+     * @param id the value of {@code :id}
+     * @return the number of rows affected
+     * @throws IllegalArgumentException if the statement is neither a DELETE
+     * nor an UPDATE
+     */
+    static int execute(EntityManager entityManager, String sql, Long id) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(targetTable(sql))
+                .setParameter("id", id)
+                .executeUpdate();
+    }
+
+    static String targetTable(String sql) {
+        Matcher matcher = TARGET_TABLE.matcher(sql.trim());
+        if (!matcher.find()) {
+            throw new IllegalArgumentException("Not a DELETE or UPDATE statement: " + sql);
+        }
+        return matcher.group(1);
+    }
+}
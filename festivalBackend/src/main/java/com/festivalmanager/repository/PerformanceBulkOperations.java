@@ -0,0 +1,31 @@
+package com.festivalmanager.repository;
+
+/**
+ * Set-based bulk operations on performances and their child rows.
+ * <p>
+ * Implemented by {@link PerformanceBulkOperationsImpl} and exposed through
+ * {@link PerformanceRepository}. Every operation issues one statement per
+ * table, in foreign key dependency order, instead of loading and removing
+ * entities one by one through JPA cascades.
+ * </p>
+ */
+public interface PerformanceBulkOperations {
+
+    /**
+     * Deletes a single performance together with its band members, setlist,
+     * rehearsal times, slots, merchandise items and technical requirement file.
+     *
+     * @param performanceId the ID of the performance to delete
+     * @return the number of performance rows deleted (0 or 1)
+     */
+    int bulkDeletePerformance(Long performanceId);
+
+    /**
+     * Deletes every performance of a festival together with all of their
+     * child rows.
+     *
+     * @param festivalId the ID of the festival whose performances are deleted
+     * @return the number of performance rows deleted
+     */
+    int bulkDeleteFestivalPerformances(Long festivalId);
+}
@@ -0,0 +1,59 @@
+package com.festivalmanager.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.List;
+
+/**
+ * Native SQL implementation of {@link PerformanceBulkOperations}.
+ * <p>
+ * The persistence context is flushed before and cleared after each operation
+ * so that no managed entity refers to a row that no longer exists.
+ * </p>
+ */
+public class PerformanceBulkOperationsImpl implements PerformanceBulkOperations {
+
+    /**
+     * Tables holding rows that reference {@code performances.id} through a
+     * {@code performance_id} column, in deletion order.
+     */
+    static final List<String> PERFORMANCE_CHILD_TABLES = List.of(
+            "performance_band_members",
+            "performance_setlist",
+            "performance_merchandise_items",
+            "performance_technical_requirement_files"
+    );
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int bulkDeletePerformance(Long performanceId) {
+        entityManager.flush();
+
+        for (String table : PERFORMANCE_CHILD_TABLES) {
+            NativeStatements.execute(entityManager, "DELETE FROM " + table + " WHERE performance_id = :id",
+                    performanceId);
+        }
+        int deleted = NativeStatements.execute(entityManager, "DELETE FROM performances WHERE id = :id",
+                performanceId);
+
+        entityManager.clear();
+        return deleted;
+    }
+
+    @Override
+    public int bulkDeleteFestivalPerformances(Long festivalId) {
+        entityManager.flush();
+
+        for (String table : PERFORMANCE_CHILD_TABLES) {
+            NativeStatements.execute(entityManager, "DELETE FROM " + table + " WHERE performance_id IN "
+                    + "(SELECT p.id FROM performances p WHERE p.festival_id = :id)", festivalId);
+        }
+        int deleted = NativeStatements.execute(entityManager, "DELETE FROM performances WHERE festival_id = :id",
+                festivalId);
+
+        entityManager.clear();
+        return deleted;
+    }
+}
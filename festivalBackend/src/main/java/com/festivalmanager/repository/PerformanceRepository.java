@@ -1,20 +1,56 @@
 package com.festivalmanager.repository;
 
+import com.festivalmanager.dashboard.DashboardRow;
+import com.festivalmanager.decision.DecisionCandidate;
+import com.festivalmanager.dto.performance.PerformanceRef;
+import com.festivalmanager.dto.performance.StateCount;
+import com.festivalmanager.dto.performance.WorkQueueItem;
 import com.festivalmanager.model.Festival;
 import com.festivalmanager.model.Performance;
+import com.festivalmanager.model.Performance.PerformanceState;
 import com.festivalmanager.model.User;
+import com.festivalmanager.scheduling.AssignmentCandidate;
+import com.festivalmanager.scheduling.BandMemberSlot;
+import com.festivalmanager.scheduling.StaffGenreCount;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface PerformanceRepository extends JpaRepository<Performance, Long> {
+public interface PerformanceRepository extends JpaRepository<Performance, Long>, PerformanceBulkOperations {
 
     boolean existsByName(String name);
 
     boolean existsByIdAndCreator(Long performanceId, User creator);
 
+    boolean existsByCreatorAndStateNot(User creator, PerformanceState state);
+
+    /**
+     * Lists the performances a user created, with their festivals.
+     *
+     * @param user the creator
+     * @return one row per performance
+     */
+    @Query("SELECT new com.festivalmanager.dto.performance.PerformanceRef(p.id, p.festival.id) "
+            + "FROM Performance p WHERE p.creator = :user")
+    List<PerformanceRef> findRefsByCreator(@Param("user") User user);
+
+    /**
+     * Lists the festivals in which a user manages or plays in a performance.
+     *
+     * @param user the user
+     * @return the festival IDs, without duplicates
+     */
+    @Query("SELECT DISTINCT p.festival.id FROM Performance p LEFT JOIN p.bandMembers m "
+            + "WHERE p.stageManager = :user OR m = :user")
+    List<Long> findFestivalIdsByStageManagerOrBandMember(@Param("user") User user);
+
     @Query("SELECT CASE WHEN COUNT(p) > 0 THEN true ELSE false END "
             + "FROM Performance p "
             + "WHERE p.festival = :festival AND LOWER(p.name) = LOWER(:name) AND p.id <> :excludeId")
@@ -22,4 +58,340 @@ public interface PerformanceRepository extends JpaRepository<Performance, Long>
             @Param("name") String name,
             @Param("excludeId") Long excludeId);
 
+    @EntityGraph(attributePaths = "preferredPerformanceSlots")
+    List<Performance> findAllByFestivalAndState(Festival festival, PerformanceState state);
+
+    @EntityGraph(attributePaths = "preferredRehearsalTimes")
+    List<Performance> findAllByFestivalAndStateIn(Festival festival, Collection<PerformanceState> states);
+
+    /**
+     * Loads performances together with the associations checked by bulk
+     * operations, in one query instead of one select per association.
+     *
+     * @param ids the performance IDs
+     * @return the performances found, in no particular order
+     */
+    @EntityGraph(attributePaths = {"festival", "stageManager", "creator", "technicalRequirement"})
+    List<Performance> findAllByIdIn(Collection<Long> ids);
+
+    /**
+     * Loads the performances of a festival with the people and files an
+     * archive snapshot shows. The setlists and merchandise are fetched by
+     * {@link #findSetlistsByFestivalId} and {@link #findMerchandiseByFestivalId}
+     * into the same persistence context; one query fetching all three
+     * collections would return their cross product.
+     *
+     * @param festivalId the festival
+     * @return the performances, in no particular order
+     */
+    @EntityGraph(attributePaths = {"creator", "stageManager", "technicalRequirement", "bandMembers"})
+    List<Performance> findAllByFestivalId(Long festivalId);
+
+    /**
+     * Loads the performances of a festival with their setlists.
+     *
+     * @param festivalId the festival
+     * @return the performances, in no particular order
+     */
+    @EntityGraph(attributePaths = "setlist")
+    List<Performance> findSetlistsByFestivalId(Long festivalId);
+
+    /**
+     * Loads the performances of a festival with their merchandise.
+     *
+     * @param festivalId the festival
+     * @return the performances, in no particular order
+     */
+    @EntityGraph(attributePaths = "merchandiseItems")
+    List<Performance> findMerchandiseByFestivalId(Long festivalId);
+
+    /**
+     * Lists finally submitted performances of a festival in one state, best
+     * reviewer score first, unscored last. The rows are read in the order of
+     * the (festival, state, score descending, ID) index, so with a paged
+     * {@link Pageable} the database stops once enough rows pass the final
+     * submission and genre filters. Unscored performances come last because
+     * MySQL and H2 sort NULL below every score.
+     *
+     * @param festivalId the festival
+     * @param state the state awaiting a decision
+     * @param genre optional genre filter, {@code null} for all genres
+     * @param pageable the number of rows to return, or unpaged
+     * @return the ranked candidates
+     */
+    @Query("SELECT new com.festivalmanager.decision.DecisionCandidate(p.id, p.name, p.genre, p.score, p.state) "
+            + "FROM Performance p "
+            + "WHERE p.festival.id = :festivalId AND p.state = :state AND p.final_submitted = true "
+            + "AND (:genre IS NULL OR p.genre = :genre) "
+            + "ORDER BY p.score DESC, p.id")
+    List<DecisionCandidate> findDecisionCandidates(@Param("festivalId") Long festivalId,
+            @Param("state") PerformanceState state,
+            @Param("genre") String genre,
+            Pageable pageable);
+
+    /**
+     * Loads the bookings, with scheduled slots, of every performance in the
+     * given states that shares a performer with a performance of the given
+     * festival. Performers are the band members and the creator (main
+     * artist). Used to build the double-booking index of a festival.
+     *
+     * @param festivalId the festival
+     * @param states the performance states that commit performers
+     * @return one row per band membership or creator
+     */
+    @Query("SELECT new com.festivalmanager.scheduling.BandMemberSlot(m.id, m.username, p.id, p.festival.id, "
+            + "p.scheduledSlot.date, p.scheduledSlot.startTime, p.scheduledSlot.endTime) "
+            + "FROM Performance p JOIN p.bandMembers m "
+            + "WHERE p.state IN :states AND m.id IN ("
+            + "SELECT fm.id FROM Performance fp JOIN fp.bandMembers fm "
+            + "WHERE fp.festival.id = :festivalId AND fp.state IN :states "
+            + "UNION SELECT fp.creator.id FROM Performance fp "
+            + "WHERE fp.festival.id = :festivalId AND fp.state IN :states) "
+            + "UNION "
+            + "SELECT new com.festivalmanager.scheduling.BandMemberSlot(c.id, c.username, p.id, p.festival.id, "
+            + "p.scheduledSlot.date, p.scheduledSlot.startTime, p.scheduledSlot.endTime) "
+            + "FROM Performance p JOIN p.creator c "
+            + "WHERE p.state IN :states AND c.id IN ("
+            + "SELECT fm.id FROM Performance fp JOIN fp.bandMembers fm "
+            + "WHERE fp.festival.id = :festivalId AND fp.state IN :states "
+            + "UNION SELECT fp.creator.id FROM Performance fp "
+            + "WHERE fp.festival.id = :festivalId AND fp.state IN :states)")
+    List<BandMemberSlot> findBandMemberSlotsRelatedToFestival(@Param("festivalId") Long festivalId,
+            @Param("states") Collection<PerformanceState> states);
+
+    /**
+     * Loads the bookings, with scheduled slots, of the given users as band
+     * members or creators of performances in the given states, except one
+     * performance.
+     *
+     * @param userIds the performers
+     * @param states the performance states that commit performers
+     * @param excludeId the performance being checked
+     * @return one row per band membership or creator
+     */
+    @Query("SELECT new com.festivalmanager.scheduling.BandMemberSlot(m.id, m.username, p.id, p.festival.id, "
+            + "p.scheduledSlot.date, p.scheduledSlot.startTime, p.scheduledSlot.endTime) "
+            + "FROM Performance p JOIN p.bandMembers m "
+            + "WHERE m.id IN :userIds AND p.state IN :states AND p.id <> :excludeId "
+            + "UNION "
+            + "SELECT new com.festivalmanager.scheduling.BandMemberSlot(c.id, c.username, p.id, p.festival.id, "
+            + "p.scheduledSlot.date, p.scheduledSlot.startTime, p.scheduledSlot.endTime) "
+            + "FROM Performance p JOIN p.creator c "
+            + "WHERE c.id IN :userIds AND p.state IN :states AND p.id <> :excludeId")
+    List<BandMemberSlot> findBandMemberSlotsOfUsers(@Param("userIds") Collection<Long> userIds,
+            @Param("states") Collection<PerformanceState> states,
+            @Param("excludeId") Long excludeId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Performance p SET p.scheduledSlot.stage = NULL, p.scheduledSlot.date = NULL, "
+            + "p.scheduledSlot.startTime = NULL, p.scheduledSlot.endTime = NULL, p.version = p.version + 1 "
+            + "WHERE p.festival.id = :festivalId AND p.scheduledSlot.stage IS NOT NULL")
+    int clearScheduledSlots(@Param("festivalId") Long festivalId);
+
+    /**
+     * Moves every performance of a festival that was not finally submitted to
+     * the given state in a single bulk UPDATE, storing the given comment.
+     *
+     * @param festivalId the festival whose performances are affected
+     * @param state the new state (normally REJECTED)
+     * @param comments the reviewer comment stored on each affected performance
+     * @return the number of performances updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Performance p SET p.state = :state, p.reviewerComments = :comments, "
+            + "p.version = p.version + 1 "
+            + "WHERE p.festival.id = :festivalId AND p.final_submitted = false")
+    int updateStateOfNonFinalSubmitted(@Param("festivalId") Long festivalId,
+            @Param("state") PerformanceState state,
+            @Param("comments") String comments);
+
+    /**
+     * Lists the IDs of the performances of a festival in the given states,
+     * optionally only those scored at least {@code minScore}, in ID order.
+     *
+     * @param festivalId the festival
+     * @param states the states to match
+     * @param minScore the lowest reviewer score, {@code null} for any
+     * @param pageable the page of IDs to return
+     * @return the matching performance IDs
+     */
+    @Query("SELECT p.id FROM Performance p "
+            + "WHERE p.festival.id = :festivalId AND p.state IN :states "
+            + "AND (:minScore IS NULL OR p.score >= :minScore) "
+            + "ORDER BY p.id")
+    List<Long> findIdsForBulkDecision(@Param("festivalId") Long festivalId,
+            @Param("states") Collection<PerformanceState> states,
+            @Param("minScore") Double minScore,
+            Pageable pageable);
+
+    /**
+     * Moves the given performances into a new state with one statement,
+     * bumping their version. Rows no longer in one of {@code sources} are left
+     * untouched, so a result below {@code ids.size()} reveals a concurrent
+     * change.
+     *
+     * @param ids the performances
+     * @param sources the states the performances are expected to be in
+     * @param state the new state
+     * @param comments reviewer comment to store, {@code null} to keep the
+     * current one
+     * @return the number of performances updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Performance p SET p.state = :state, "
+            + "p.reviewerComments = COALESCE(:comments, p.reviewerComments), p.version = p.version + 1 "
+            + "WHERE p.id IN :ids AND p.state IN :sources")
+    int updateStateByIds(@Param("ids") Collection<Long> ids,
+            @Param("sources") Collection<PerformanceState> sources,
+            @Param("state") PerformanceState state,
+            @Param("comments") String comments);
+
+    /**
+     * Lists the performances of a festival in a state that have no stage
+     * manager yet, by ID.
+     *
+     * @param festivalId the festival
+     * @param state the state
+     * @return the performances waiting for a stage manager
+     */
+    @Query("SELECT new com.festivalmanager.scheduling.AssignmentCandidate(p.id, p.genre) "
+            + "FROM Performance p "
+            + "WHERE p.festival.id = :festivalId AND p.state = :state AND p.stageManager IS NULL "
+            + "ORDER BY p.id")
+    List<AssignmentCandidate> findAssignmentCandidates(@Param("festivalId") Long festivalId,
+            @Param("state") PerformanceState state);
+
+    /**
+     * Counts the performances managed by each of the given staff members per
+     * genre, in one festival or across all festivals.
+     *
+     * @param staffIds the staff members
+     * @param festivalId the festival, {@code null} for all festivals
+     * @return one row per staff member and genre
+     */
+    @Query("SELECT new com.festivalmanager.scheduling.StaffGenreCount(p.stageManager.id, p.genre, COUNT(p)) "
+            + "FROM Performance p "
+            + "WHERE p.stageManager.id IN :staffIds AND (:festivalId IS NULL OR p.festival.id = :festivalId) "
+            + "GROUP BY p.stageManager.id, p.genre")
+    List<StaffGenreCount> countByStageManagerAndGenre(@Param("staffIds") Collection<Long> staffIds,
+            @Param("festivalId") Long festivalId);
+
+    /**
+     * Makes a staff member the stage manager of the given performances with
+     * one statement, bumping their version. Performances that meanwhile got
+     * a stage manager or left {@code state} are left untouched.
+     *
+     * @param stageManager the staff member
+     * @param ids the performances
+     * @param state the state the performances are expected to be in
+     * @return the number of performances updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Performance p SET p.stageManager = :stageManager, p.version = p.version + 1 "
+            + "WHERE p.id IN :ids AND p.stageManager IS NULL AND p.state = :state")
+    int assignStageManager(@Param("stageManager") User stageManager,
+            @Param("ids") Collection<Long> ids,
+            @Param("state") PerformanceState state);
+
+    /**
+     * Lists the performances a staff member manages, in the given states,
+     * after a keyset cursor. Served by the (stage_manager_id, state) index.
+     *
+     * @param user the stage manager
+     * @param states the states to include
+     * @param afterId only performances with a larger ID are returned
+     * @param pageable the number of rows to return
+     * @return the queue entries, by ID
+     */
+    @Query("SELECT new com.festivalmanager.dto.performance.WorkQueueItem(p.id, p.name, p.genre, p.state, p.score, "
+            + "p.final_submitted, f.id, f.name, f.state) "
+            + "FROM Performance p JOIN p.festival f "
+            + "WHERE p.stageManager = :user AND p.state IN :states AND p.id > :afterId ORDER BY p.id")
+    List<WorkQueueItem> findQueueByStageManager(@Param("user") User user,
+            @Param("states") Collection<PerformanceState> states,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    /**
+     * Lists the performances an artist created, in the given states, after a
+     * keyset cursor. Served by the (creator_id, state) index.
+     *
+     * @param user the artist
+     * @param states the states to include
+     * @param afterId only performances with a larger ID are returned
+     * @param pageable the number of rows to return
+     * @return the queue entries, by ID
+     */
+    @Query("SELECT new com.festivalmanager.dto.performance.WorkQueueItem(p.id, p.name, p.genre, p.state, p.score, "
+            + "p.final_submitted, f.id, f.name, f.state) "
+            + "FROM Performance p JOIN p.festival f "
+            + "WHERE p.creator = :user AND p.state IN :states AND p.id > :afterId ORDER BY p.id")
+    List<WorkQueueItem> findQueueByCreator(@Param("user") User user,
+            @Param("states") Collection<PerformanceState> states,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    /**
+     * Lists the performances an artist plays in without having created them,
+     * in the given states, after a keyset cursor. Served by the band member
+     * user_id index.
+     *
+     * @param user the artist
+     * @param states the states to include
+     * @param afterId only performances with a larger ID are returned
+     * @param pageable the number of rows to return
+     * @return the queue entries, by ID
+     */
+    @Query("SELECT new com.festivalmanager.dto.performance.WorkQueueItem(p.id, p.name, p.genre, p.state, p.score, "
+            + "p.final_submitted, f.id, f.name, f.state) "
+            + "FROM Performance p JOIN p.festival f JOIN p.bandMembers m "
+            + "WHERE m = :user AND p.creator <> :user AND p.state IN :states AND p.id > :afterId ORDER BY p.id")
+    List<WorkQueueItem> findQueueByBandMember(@Param("user") User user,
+            @Param("states") Collection<PerformanceState> states,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    /**
+     * Counts the performances managed by a staff member, per state.
+     *
+     * @param user the user
+     * @return one row per state that occurs
+     */
+    @Query("SELECT new com.festivalmanager.dto.performance.StateCount(p.state, COUNT(p)) "
+            + "FROM Performance p WHERE p.stageManager = :user GROUP BY p.state")
+    List<StateCount> countStatesByStageManager(@Param("user") User user);
+
+    /**
+     * Counts the performances created by an artist, per state.
+     *
+     * @param user the user
+     * @return one row per state that occurs
+     */
+    @Query("SELECT new com.festivalmanager.dto.performance.StateCount(p.state, COUNT(p)) "
+            + "FROM Performance p WHERE p.creator = :user GROUP BY p.state")
+    List<StateCount> countStatesByCreator(@Param("user") User user);
+
+    /**
+     * Counts the performances an artist plays in without having created them, per state.
+     *
+     * @param user the user
+     * @return one row per state that occurs
+     */
+    @Query("SELECT new com.festivalmanager.dto.performance.StateCount(p.state, COUNT(p)) "
+            + "FROM Performance p JOIN p.bandMembers m WHERE m = :user AND p.creator <> :user GROUP BY p.state")
+    List<StateCount> countStatesByBandMember(@Param("user") User user);
+
+    /**
+     * Groups the performances of a festival by state, final submission,
+     * stage manager presence and score in a single statement.
+     *
+     * @param festivalId the festival
+     * @return one row per group
+     */
+    @Query("SELECT new com.festivalmanager.dashboard.DashboardRow(p.state, p.final_submitted, "
+            + "CASE WHEN p.stageManager IS NULL THEN false ELSE true END, p.score, COUNT(p)) "
+            + "FROM Performance p WHERE p.festival.id = :festivalId "
+            + "GROUP BY p.state, p.final_submitted, CASE WHEN p.stageManager IS NULL THEN false ELSE true END, p.score")
+    List<DashboardRow> findDashboardRows(@Param("festivalId") Long festivalId);
+
 }
@@ -2,8 +2,12 @@ package com.festivalmanager.repository;
 
 import com.festivalmanager.model.Token;
 import com.festivalmanager.model.User;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -14,4 +18,9 @@ public interface TokenRepository extends JpaRepository<Token, Long> {
     List<Token> findAllByUser(User user);
     Optional<Token> findByValue(String value);
     void deleteByUser(User user);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Token t SET t.active = false WHERE t.active = true "
+            + "AND t.user.id IN (SELECT u.id FROM User u WHERE u.username IN :usernames)")
+    int deactivateAllByUsernames(@Param("usernames") Collection<String> usernames);
 }
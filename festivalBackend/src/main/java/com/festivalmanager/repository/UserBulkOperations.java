@@ -0,0 +1,23 @@
+package com.festivalmanager.repository;
+
+/**
+ * Set-based bulk operations on users and the rows that reference them.
+ * <p>
+ * Implemented by {@link UserBulkOperationsImpl} and exposed through
+ * {@link UserRepository}.
+ * </p>
+ */
+public interface UserBulkOperations {
+
+    /**
+     * Deletes a user and cleans up every reference to it with one statement
+     * per table: performances created by the user (and their child rows) are
+     * deleted, band memberships and festival roles are removed, stage manager
+     * assignments are set to {@code null} and tokens are deleted. Callers
+     * check beforehand that losing these rows is acceptable.
+     *
+     * @param userId the ID of the user to delete
+     * @return the number of user rows deleted (0 or 1)
+     */
+    int bulkDeleteUser(Long userId);
+}
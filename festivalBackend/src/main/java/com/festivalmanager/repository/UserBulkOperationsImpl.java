@@ -0,0 +1,45 @@
+package com.festivalmanager.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Native SQL implementation of {@link UserBulkOperations}.
+ * <p>
+ * The persistence context is flushed before and cleared after the operation
+ * so that no managed entity refers to a row that no longer exists.
+ * </p>
+ */
+public class UserBulkOperationsImpl implements UserBulkOperations {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int bulkDeleteUser(Long userId) {
+        entityManager.flush();
+
+        // Performances created by the user cannot outlive it (creator_id is mandatory);
+        // UserService only deletes users whose performances are all still CREATED
+        for (String table : PerformanceBulkOperationsImpl.PERFORMANCE_CHILD_TABLES) {
+            execute("DELETE FROM " + table + " WHERE performance_id IN "
+                    + "(SELECT p.id FROM performances p WHERE p.creator_id = :id)", userId);
+        }
+        execute("DELETE FROM performances WHERE creator_id = :id", userId);
+
+        // References held by other users' performances and festivals
+        execute("DELETE FROM performance_band_members WHERE user_id = :id", userId);
+        execute("UPDATE performances SET stage_manager_id = NULL WHERE stage_manager_id = :id", userId);
+        execute("DELETE FROM festival_user_roles WHERE user_id = :id", userId);
+        execute("DELETE FROM tokens WHERE user_id = :id", userId);
+
+        int deleted = execute("DELETE FROM users WHERE id = :id", userId);
+
+        entityManager.clear();
+        return deleted;
+    }
+
+    private int execute(String sql, Long userId) {
+        return NativeStatements.execute(entityManager, sql, userId);
+    }
+}
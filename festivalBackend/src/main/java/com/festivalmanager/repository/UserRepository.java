@@ -1,13 +1,65 @@
 package com.festivalmanager.repository;
 
+import com.festivalmanager.enums.PermanentRoleType;
 import com.festivalmanager.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserBulkOperations {
     boolean existsByUsername(String username);
+
+    /**
+     * Finds a user by username. The result is kept in the query cache until
+     * the users table changes; the user itself comes from the entity cache.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByUsername(String username);
+
+    @Query("SELECT u.username FROM User u WHERE u.username IN :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    @Query("SELECT u.username FROM User u WHERE u.username IN :usernames AND u.active <> :active")
+    List<String> findUsernamesWithActiveNot(@Param("usernames") Collection<String> usernames,
+            @Param("active") boolean active);
+
+    /**
+     * Finds the pending registrations: inactive accounts of the given role
+     * that were never activated.
+     */
+    @Query("SELECT u.username FROM User u WHERE u.active = false AND u.activatedAt IS NULL "
+            + "AND u.permanentRole = :role")
+    List<String> findPendingUsernames(@Param("role") PermanentRoleType role);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.active = false WHERE u.username IN :usernames")
+    int deactivateByUsernames(@Param("usernames") Collection<String> usernames);
+
+    /**
+     * Activates the given accounts, recording the first activation of
+     * pending ones.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.active = true, u.activatedAt = COALESCE(u.activatedAt, :now) "
+            + "WHERE u.username IN :usernames")
+    int activateByUsernames(@Param("usernames") Collection<String> usernames, @Param("now") LocalDateTime now);
+
+    /**
+     * Activates every pending registration of the given role.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.active = true, u.activatedAt = :now WHERE u.active = false "
+            + "AND u.activatedAt IS NULL AND u.permanentRole = :role")
+    int activatePending(@Param("role") PermanentRoleType role, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,10 @@
+package com.festivalmanager.scheduling;
+
+/**
+ * A performance waiting for a stage manager.
+ *
+ * @param performanceId the performance
+ * @param genre the genre of the performance
+ */
+public record AssignmentCandidate(Long performanceId, String genre) {
+}
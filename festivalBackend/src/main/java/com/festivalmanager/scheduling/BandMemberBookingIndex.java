@@ -0,0 +1,233 @@
+package com.festivalmanager.scheduling;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+/**
+ * Interval index from band member to the time ranges they are booked for.
+ * <p>
+ * Bookings of each member are kept sorted by start, together with the running
+ * maximum end and the booking that reaches it. A range {@code [start, end)}
+ * overlaps an existing booking exactly when the running maximum end of the
+ * last booking starting before {@code end} is after {@code start}, so a single
+ * binary search answers an overlap check in O(log n) regardless of how many
+ * festivals the member plays. Times are absolute minutes, see
+ * {@link #minuteOf(LocalDate, LocalTime)}. The index is immutable; it is
+ * built once per check from the bookings of the members involved, in
+ * O(n log n), so the cost of a check is dominated by loading them.
+ * </p>
+ */
+public final class BandMemberBookingIndex {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    /**
+     * A time range a band member is committed to.
+     *
+     * @param userId the band member
+     * @param performanceId the performance the member plays in
+     * @param festivalId the festival of the performance
+     * @param start first minute, inclusive
+     * @param end last minute, exclusive
+     * @param tentative {@code true} when the performance has no slot yet and
+     * the range covers the festival days instead
+     */
+    public record Booking(long userId, long performanceId, long festivalId, long start, long end,
+            boolean tentative) {
+    }
+
+    /**
+     * Two overlapping bookings of the same band member.
+     *
+     * @param first the booking starting first
+     * @param second the overlapping booking
+     */
+    public record Conflict(Booking first, Booking second) {
+    }
+
+    private final Map<Long, Timeline> timelines;
+
+    private BandMemberBookingIndex(Map<Long, Timeline> timelines) {
+        this.timelines = timelines;
+    }
+
+    /**
+     * Builds an index over the given bookings.
+     *
+     * @param bookings the bookings, in any order
+     * @return the index
+     */
+    public static BandMemberBookingIndex of(Collection<Booking> bookings) {
+        Map<Long, List<Booking>> byUser = new HashMap<>();
+        for (Booking booking : bookings) {
+            byUser.computeIfAbsent(booking.userId(), id -> new ArrayList<>()).add(booking);
+        }
+        Map<Long, Timeline> timelines = new HashMap<>(byUser.size() * 2);
+        byUser.forEach((userId, list) -> timelines.put(userId, new Timeline(list)));
+        return new BandMemberBookingIndex(timelines);
+    }
+
+    /**
+     * Returns the absolute minute of a date and time.
+     *
+     * @param date the day
+     * @param time the time of day
+     * @return minutes since the epoch day 0
+     */
+    public static long minuteOf(LocalDate date, LocalTime time) {
+        return date.toEpochDay() * MINUTES_PER_DAY + time.getHour() * 60 + time.getMinute();
+    }
+
+    /**
+     * Returns the booking of a performance slot. A slot ending at or before
+     * its start time ends on the next day.
+     *
+     * @param userId the band member
+     * @param performanceId the performance
+     * @param festivalId the festival of the performance
+     * @param date the slot day
+     * @param startTime the slot start
+     * @param endTime the slot end
+     * @return the booking
+     */
+    public static Booking slot(long userId, long performanceId, long festivalId,
+            LocalDate date, LocalTime startTime, LocalTime endTime) {
+        long start = minuteOf(date, startTime);
+        long end = minuteOf(date, endTime);
+        if (end <= start) {
+            end += MINUTES_PER_DAY;
+        }
+        return new Booking(userId, performanceId, festivalId, start, end, false);
+    }
+
+    /**
+     * Returns tentative bookings covering the given festival days, one per run
+     * of consecutive days.
+     *
+     * @param userId the band member
+     * @param performanceId the performance
+     * @param festivalId the festival of the performance
+     * @param days the festival days, in any order
+     * @return the bookings
+     */
+    public static List<Booking> festivalDays(long userId, long performanceId, long festivalId,
+            Collection<LocalDate> days) {
+        long[] epochDays = days.stream().mapToLong(LocalDate::toEpochDay).sorted().distinct().toArray();
+        List<Booking> bookings = new ArrayList<>();
+        int i = 0;
+        while (i < epochDays.length) {
+            int j = i;
+            while (j + 1 < epochDays.length && epochDays[j + 1] == epochDays[j] + 1) {
+                j++;
+            }
+            bookings.add(new Booking(userId, performanceId, festivalId,
+                    epochDays[i] * MINUTES_PER_DAY, (epochDays[j] + 1) * MINUTES_PER_DAY, true));
+            i = j + 1;
+        }
+        return bookings;
+    }
+
+    /**
+     * Finds a booking of the member overlapping {@code [start, end)}.
+     *
+     * @param userId the band member
+     * @param start first minute, inclusive
+     * @param end last minute, exclusive
+     * @return an overlapping booking, or empty if the member is free
+     */
+    public Optional<Booking> findOverlap(long userId, long start, long end) {
+        Timeline timeline = timelines.get(userId);
+        return timeline == null ? Optional.empty() : Optional.ofNullable(timeline.overlap(start, end));
+    }
+
+    /**
+     * Reports every pair of overlapping bookings where at least one side
+     * matches {@code involving}. Overlaps between two bookings of the same
+     * festival are only reported when both have a slot; the scheduler decides
+     * where unslotted acts go.
+     *
+     * @param involving selects the bookings of interest, e.g. those of one
+     * festival
+     * @return the conflicts, grouped by member and ordered by start
+     */
+    public List<Conflict> conflicts(Predicate<Booking> involving) {
+        List<Conflict> conflicts = new ArrayList<>();
+        PriorityQueue<Booking> active = new PriorityQueue<>(Comparator.comparingLong(Booking::end));
+        for (Timeline timeline : timelines.values()) {
+            active.clear();
+            for (Booking booking : timeline.bookings) {
+                while (!active.isEmpty() && active.peek().end() <= booking.start()) {
+                    active.poll();
+                }
+                for (Booking other : active) {
+                    if (conflicting(other, booking) && (involving.test(other) || involving.test(booking))) {
+                        conflicts.add(new Conflict(other, booking));
+                    }
+                }
+                active.add(booking);
+            }
+        }
+        return conflicts;
+    }
+
+    private static boolean conflicting(Booking a, Booking b) {
+        if (a.performanceId() == b.performanceId()) {
+            return false;
+        }
+        return a.festivalId() != b.festivalId() || !(a.tentative() || b.tentative());
+    }
+
+    /**
+     * Bookings of one member sorted by start, with prefix maxima of the end.
+     */
+    private static final class Timeline {
+
+        private final Booking[] bookings;
+        private final long[] starts;
+        private final int[] maxEndIndex;
+
+        private Timeline(List<Booking> list) {
+            bookings = list.toArray(new Booking[0]);
+            Arrays.sort(bookings, Comparator.comparingLong(Booking::start).thenComparingLong(Booking::end));
+            starts = new long[bookings.length];
+            maxEndIndex = new int[bookings.length];
+            for (int i = 0; i < bookings.length; i++) {
+                starts[i] = bookings[i].start();
+                maxEndIndex[i] = i > 0 && bookings[maxEndIndex[i - 1]].end() >= bookings[i].end()
+                        ? maxEndIndex[i - 1]
+                        : i;
+            }
+        }
+
+        private Booking overlap(long start, long end) {
+            // Last booking starting before the end of the range
+            int low = 0;
+            int high = starts.length - 1;
+            int last = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (starts[mid] < end) {
+                    last = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            if (last < 0) {
+                return null;
+            }
+            Booking candidate = bookings[maxEndIndex[last]];
+            return candidate.end() > start ? candidate : null;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.festivalmanager.scheduling;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Band membership of a performance together with the performance's scheduled
+ * slot, as loaded for double-booking checks. The slot fields are {@code null}
+ * while the performance is not scheduled.
+ *
+ * @param userId the band member
+ * @param username the band member's username
+ * @param performanceId the performance
+ * @param festivalId the festival of the performance
+ * @param date the scheduled day
+ * @param startTime the scheduled start
+ * @param endTime the scheduled end
+ */
+public record BandMemberSlot(Long userId, String username, Long performanceId, Long festivalId,
+        LocalDate date, LocalTime startTime, LocalTime endTime) {
+}
@@ -0,0 +1,224 @@
+package com.festivalmanager.scheduling;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduling engine producing a conflict-free stage/day/time assignment for
+ * the approved performances of a festival.
+ * <p>
+ * Every stage-day is modelled as a minute-granularity {@link BitSet} over the
+ * configured daily window, so free-slot checks are word-level bit scans. The
+ * engine runs in two greedy phases:
+ * <ol>
+ * <li>acts are placed on one of their preferred start times, most constrained
+ * acts (fewest preferences, then longest) first, on the least loaded
+ * stage-day that is free at that time;</li>
+ * <li>acts that could not get a preferred start are placed in the earliest gap
+ * of the least loaded stage-day that can hold them.</li>
+ * </ol>
+ * Placing all preference-satisfying acts before any fallback placement keeps
+ * fallback acts from taking preferred slots. A changeover gap is kept after
+ * every act on the same stage.
+ * </p>
+ */
+@Component
+public class LineupScheduler {
+
+    private final LocalTime dayStart;
+    private final int windowMinutes;
+    private final int changeoverMinutes;
+
+    /**
+     * Constructs a new {@link LineupScheduler}.
+     *
+     * @param dayStart time the stages open each festival day
+     * @param dayEnd time the stages close; a value not after {@code dayStart}
+     * means the next calendar day
+     * @param changeoverMinutes minimum gap between two acts on the same stage
+     */
+    public LineupScheduler(
+            @Value("${festival.scheduling.day-start:12:00}") LocalTime dayStart,
+            @Value("${festival.scheduling.day-end:23:59}") LocalTime dayEnd,
+            @Value("${festival.scheduling.changeover-minutes:15}") int changeoverMinutes) {
+        this.dayStart = dayStart;
+        int window = minuteOfDay(dayEnd) - minuteOfDay(dayStart);
+        this.windowMinutes = window > 0 ? window : window + 24 * 60;
+        this.changeoverMinutes = changeoverMinutes;
+    }
+
+    /**
+     * An act to be scheduled.
+     *
+     * @param id the performance ID
+     * @param durationMinutes the performance duration in minutes
+     * @param preferredStarts the preferred start times, possibly empty
+     */
+    public record Act(Long id, int durationMinutes, List<LocalTime> preferredStarts) {
+    }
+
+    /**
+     * The slot assigned to an act.
+     *
+     * @param actId the performance ID
+     * @param stage the stage name
+     * @param date the festival day
+     * @param start the start time
+     * @param end the end time
+     * @param preferred whether the start time is one of the act's preferences
+     */
+    public record Placement(Long actId, String stage, LocalDate date, LocalTime start, LocalTime end,
+            boolean preferred) {
+    }
+
+    /**
+     * Outcome of a scheduling run.
+     *
+     * @param placements the assigned slots
+     * @param unscheduled IDs of the acts that did not fit anywhere
+     */
+    public record Result(List<Placement> placements, List<Long> unscheduled) {
+
+        /**
+         * Returns the number of acts placed on one of their preferred starts.
+         *
+         * @return the number of satisfied preferences
+         */
+        public long satisfiedPreferences() {
+            return placements.stream().filter(Placement::preferred).count();
+        }
+    }
+
+    /**
+     * Computes a conflict-free lineup.
+     *
+     * @param stages the stage names of the venue layout
+     * @param dates the festival days
+     * @param acts the acts to schedule
+     * @return the placements and the acts left unscheduled
+     */
+    public Result schedule(List<String> stages, List<LocalDate> dates, List<Act> acts) {
+        List<LocalDate> days = dates.stream().sorted().toList();
+        int stageDays = stages.size() * days.size();
+        BitSet[] occupied = new BitSet[stageDays];
+        int[] load = new int[stageDays];
+        for (int i = 0; i < stageDays; i++) {
+            occupied[i] = new BitSet(windowMinutes);
+        }
+
+        List<Act> ordered = acts.stream()
+                .sorted(Comparator.comparingInt((Act a) -> a.preferredStarts().size())
+                        .thenComparing(Comparator.comparingInt(Act::durationMinutes).reversed())
+                        .thenComparing(Act::id))
+                .toList();
+
+        List<Placement> placements = new ArrayList<>(acts.size());
+        List<Act> fallback = new ArrayList<>();
+
+        // Phase 1: preferred start times
+        for (Act act : ordered) {
+            int best = -1;
+            int bestOffset = -1;
+            for (LocalTime preferred : act.preferredStarts()) {
+                int offset = offsetOf(preferred);
+                if (offset < 0 || offset + act.durationMinutes() > windowMinutes) {
+                    continue;
+                }
+                for (int sd = 0; sd < stageDays; sd++) {
+                    if ((best < 0 || load[sd] < load[best]) && isFree(occupied[sd], offset, act.durationMinutes())) {
+                        best = sd;
+                        bestOffset = offset;
+                    }
+                }
+                if (best >= 0) {
+                    break;
+                }
+            }
+            if (best >= 0) {
+                placements.add(place(act, best, bestOffset, true, occupied, load, stages, days));
+            } else {
+                fallback.add(act);
+            }
+        }
+
+        // Phase 2: earliest gap on the least loaded stage-day
+        List<Long> unscheduled = new ArrayList<>();
+        for (Act act : fallback) {
+            int best = -1;
+            int bestOffset = -1;
+            for (int sd = 0; sd < stageDays; sd++) {
+                if (best >= 0 && load[sd] >= load[best]) {
+                    continue;
+                }
+                int offset = earliestGap(occupied[sd], act.durationMinutes());
+                if (offset >= 0) {
+                    best = sd;
+                    bestOffset = offset;
+                }
+            }
+            if (best >= 0) {
+                placements.add(place(act, best, bestOffset, false, occupied, load, stages, days));
+            } else {
+                unscheduled.add(act.id());
+            }
+        }
+
+        return new Result(placements, unscheduled);
+    }
+
+    private Placement place(Act act, int stageDay, int offset, boolean preferred,
+            BitSet[] occupied, int[] load, List<String> stages, List<LocalDate> days) {
+        occupied[stageDay].set(offset, blockEnd(offset, act.durationMinutes()));
+        load[stageDay] += act.durationMinutes();
+
+        LocalTime start = dayStart.plusMinutes(offset);
+        return new Placement(
+                act.id(),
+                stages.get(stageDay % stages.size()),
+                days.get(stageDay / stages.size()),
+                start,
+                start.plusMinutes(act.durationMinutes()),
+                preferred
+        );
+    }
+
+    /**
+     * Checks that an act of the given duration starting at {@code from},
+     * followed by its changeover gap, does not touch an occupied minute.
+     */
+    private boolean isFree(BitSet bits, int from, int duration) {
+        int next = bits.nextSetBit(from);
+        return next < 0 || next >= blockEnd(from, duration);
+    }
+
+    private int earliestGap(BitSet bits, int duration) {
+        int from = bits.nextClearBit(0);
+        while (from + duration <= windowMinutes) {
+            int next = bits.nextSetBit(from);
+            if (next < 0 || next >= blockEnd(from, duration)) {
+                return from;
+            }
+            from = bits.nextClearBit(next);
+        }
+        return -1;
+    }
+
+    private int blockEnd(int from, int duration) {
+        return Math.min(from + duration + changeoverMinutes, windowMinutes);
+    }
+
+    private int offsetOf(LocalTime time) {
+        int offset = minuteOfDay(time) - minuteOfDay(dayStart);
+        return offset >= 0 ? offset : offset + 24 * 60;
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+}
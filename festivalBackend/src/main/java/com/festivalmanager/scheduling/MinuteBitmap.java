@@ -0,0 +1,247 @@
+package com.festivalmanager.scheduling;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+
+/**
+ * Fixed-size bitmap with one bit per minute of a day.
+ * <p>
+ * A day fits in 23 {@code long} words, so range checks, overlap tests and
+ * free-slot searches are a handful of masked word operations instead of
+ * comparisons between interval objects. Ranges are half-open
+ * {@code [from, to)} minute offsets in {@code 0..1440}.
+ * </p>
+ */
+public final class MinuteBitmap {
+
+    /** Number of minutes (bits) in a day. */
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final int WORDS = (MINUTES_PER_DAY + 63) / 64;
+
+    private final long[] words;
+
+    /**
+     * Creates an empty bitmap.
+     */
+    public MinuteBitmap() {
+        this.words = new long[WORDS];
+    }
+
+    private MinuteBitmap(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Returns the minute of day of the given time.
+     *
+     * @param time the time
+     * @return the minute offset from midnight
+     */
+    public static int minuteOf(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    /**
+     * Marks the range {@code [from, to)} as occupied.
+     *
+     * @param from first minute, inclusive
+     * @param to last minute, exclusive
+     */
+    public void set(int from, int to) {
+        if (from < 0 || to > MINUTES_PER_DAY || from > to) {
+            throw new IndexOutOfBoundsException("Invalid minute range [" + from + ", " + to + ")");
+        }
+        if (from == to) {
+            return;
+        }
+        int first = from >>> 6;
+        int last = (to - 1) >>> 6;
+        for (int w = first; w <= last; w++) {
+            words[w] |= mask(w, first, last, from, to);
+        }
+    }
+
+    /**
+     * Checks whether a single minute is occupied.
+     *
+     * @param minute the minute offset
+     * @return true if the minute is occupied
+     */
+    public boolean get(int minute) {
+        return (words[minute >>> 6] & (1L << minute)) != 0;
+    }
+
+    /**
+     * Checks whether no minute in {@code [from, to)} is occupied.
+     *
+     * @param from first minute, inclusive
+     * @param to last minute, exclusive
+     * @return true if the whole range is free
+     */
+    public boolean isFree(int from, int to) {
+        if (from >= to) {
+            return true;
+        }
+        int first = from >>> 6;
+        int last = (to - 1) >>> 6;
+        for (int w = first; w <= last; w++) {
+            if ((words[w] & mask(w, first, last, from, to)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the earliest start {@code >= from} such that
+     * {@code [start, start + length)} is free and ends within the day.
+     *
+     * @param from earliest acceptable start minute
+     * @param length required number of free minutes
+     * @return the start minute, or -1 if there is no such range
+     */
+    public int nextFree(int from, int length) {
+        int start = nextClearBit(from);
+        while (start >= 0 && start + length <= MINUTES_PER_DAY) {
+            int occupied = nextSetBit(start);
+            if (occupied < 0 || occupied >= start + length) {
+                return start;
+            }
+            start = nextClearBit(occupied);
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first occupied minute {@code >= from}.
+     *
+     * @param from the minute to start from
+     * @return the minute, or -1 if none is occupied
+     */
+    public int nextSetBit(int from) {
+        if (from >= MINUTES_PER_DAY) {
+            return -1;
+        }
+        int w = from >>> 6;
+        long word = words[w] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                int bit = (w << 6) + Long.numberOfTrailingZeros(word);
+                return bit < MINUTES_PER_DAY ? bit : -1;
+            }
+            if (++w == WORDS) {
+                return -1;
+            }
+            word = words[w];
+        }
+    }
+
+    /**
+     * Returns the index of the first free minute {@code >= from}.
+     *
+     * @param from the minute to start from
+     * @return the minute, or -1 if none is free
+     */
+    public int nextClearBit(int from) {
+        if (from >= MINUTES_PER_DAY) {
+            return -1;
+        }
+        int w = from >>> 6;
+        long word = ~words[w] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                int bit = (w << 6) + Long.numberOfTrailingZeros(word);
+                return bit < MINUTES_PER_DAY ? bit : -1;
+            }
+            if (++w == WORDS) {
+                return -1;
+            }
+            word = ~words[w];
+        }
+    }
+
+    /**
+     * Returns the number of occupied minutes.
+     *
+     * @return the number of set bits
+     */
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Returns a copy of this bitmap.
+     *
+     * @return an independent copy
+     */
+    public MinuteBitmap copy() {
+        return new MinuteBitmap(words.clone());
+    }
+
+    /**
+     * Serializes this bitmap, minute {@code m} being bit {@code m % 8} of
+     * byte {@code m / 8}. Trailing free minutes are omitted, so the result
+     * holds at most 180 bytes and is empty for an empty bitmap.
+     *
+     * @return the serialized bitmap
+     */
+    public byte[] toBytes() {
+        int w = WORDS - 1;
+        while (w >= 0 && words[w] == 0) {
+            w--;
+        }
+        if (w < 0) {
+            return new byte[0];
+        }
+        int highest = (w << 6) + 63 - Long.numberOfLeadingZeros(words[w]);
+        byte[] bytes = new byte[(highest >>> 3) + 1];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (words[i >>> 3] >>> ((i & 7) << 3));
+        }
+        return bytes;
+    }
+
+    /**
+     * Reads a bitmap serialized by {@link #toBytes()}.
+     *
+     * @param bytes the serialized bitmap
+     * @return the bitmap
+     * @throws IllegalArgumentException if the bytes cover more than a day
+     */
+    public static MinuteBitmap fromBytes(byte[] bytes) {
+        if (bytes.length > MINUTES_PER_DAY / 8) {
+            throw new IllegalArgumentException("Minute bitmap of " + bytes.length + " bytes exceeds a day");
+        }
+        long[] words = new long[WORDS];
+        for (int i = 0; i < bytes.length; i++) {
+            words[i >>> 3] |= (bytes[i] & 0xFFL) << ((i & 7) << 3);
+        }
+        return new MinuteBitmap(words);
+    }
+
+    private static long mask(int w, int first, int last, int from, int to) {
+        long mask = -1L;
+        if (w == first) {
+            mask &= -1L << from;
+        }
+        if (w == last) {
+            mask &= -1L >>> (63 - ((to - 1) & 63));
+        }
+        return mask;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof MinuteBitmap other && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+}
@@ -0,0 +1,225 @@
+package com.festivalmanager.scheduling;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Allocates rehearsal slots on festival stages.
+ * <p>
+ * Each stage-day is a {@link MinuteBitmap}. Existing bookings (scheduled
+ * performances and rehearsals that are kept) are marked first, then every
+ * act without a rehearsal is packed, most constrained first:
+ * <ol>
+ * <li>at one of its preferred times, on its own stage-day (the stage and day
+ * it performs on) if it has one, otherwise on any stage-day;</li>
+ * <li>failing that, at the earliest free time, again trying its own
+ * stage-day first.</li>
+ * </ol>
+ * An act never rehearses while it performs: its show is blocked on every
+ * stage-day of that date, not only on its own stage.
+ * Because bookings are plain bitmaps, re-planning after a withdrawal only
+ * rebuilds the bitmaps from the remaining bookings and places the acts that
+ * are still missing a rehearsal.
+ * </p>
+ */
+@Component
+public class RehearsalAllocator {
+
+    private final int rehearsalMinutes;
+
+    /**
+     * Constructs a new {@link RehearsalAllocator}.
+     *
+     * @param rehearsalMinutes length of a rehearsal in minutes
+     */
+    public RehearsalAllocator(@Value("${festival.rehearsal.length-minutes:30}") int rehearsalMinutes) {
+        this.rehearsalMinutes = rehearsalMinutes;
+    }
+
+    /**
+     * A stage on a given festival day.
+     *
+     * @param stage the stage name
+     * @param date the festival day
+     */
+    public record StageDay(String stage, LocalDate date) {
+    }
+
+    /**
+     * An already occupied range on a stage-day.
+     *
+     * @param stageDay the stage-day
+     * @param start the start time
+     * @param end the end time
+     */
+    public record Booking(StageDay stageDay, LocalTime start, LocalTime end) {
+    }
+
+    /**
+     * An act that needs a rehearsal.
+     *
+     * @param id the performance ID
+     * @param show the act's scheduled show, or {@code null}
+     * @param preferredTimes the preferred rehearsal start times
+     */
+    public record Act(Long id, Booking show, List<LocalTime> preferredTimes) {
+
+        /**
+         * Gets the stage-day the act performs on.
+         *
+         * @return the stage-day of the show, or {@code null}
+         */
+        public StageDay home() {
+            return show == null ? null : show.stageDay();
+        }
+    }
+
+    /**
+     * A rehearsal slot assigned to an act.
+     *
+     * @param actId the performance ID
+     * @param stageDay the stage-day
+     * @param start the start time
+     * @param end the end time
+     * @param preferred whether the start time is one of the act's preferences
+     */
+    public record Allocation(Long actId, StageDay stageDay, LocalTime start, LocalTime end, boolean preferred) {
+    }
+
+    /**
+     * Outcome of an allocation run.
+     *
+     * @param allocations the allocated rehearsals
+     * @param unallocated IDs of the acts that did not fit anywhere
+     */
+    public record Result(List<Allocation> allocations, List<Long> unallocated) {
+    }
+
+    /**
+     * Allocates rehearsals for the given acts.
+     *
+     * @param stageDays all stage-days of the festival
+     * @param bookings ranges that are already occupied
+     * @param acts the acts that need a rehearsal
+     * @return the allocations and the acts left without a rehearsal
+     */
+    public Result allocate(List<StageDay> stageDays, List<Booking> bookings, List<Act> acts) {
+        Map<StageDay, MinuteBitmap> timelines = new LinkedHashMap<>();
+        for (StageDay stageDay : stageDays) {
+            timelines.put(stageDay, new MinuteBitmap());
+        }
+        for (Booking booking : bookings) {
+            MinuteBitmap timeline = timelines.get(booking.stageDay());
+            if (timeline != null) {
+                occupy(timeline, MinuteBitmap.minuteOf(booking.start()), MinuteBitmap.minuteOf(booking.end()));
+            }
+        }
+
+        List<Act> ordered = acts.stream()
+                .sorted(Comparator.comparingInt((Act a) -> a.preferredTimes().size())
+                        .thenComparing(Act::id))
+                .toList();
+
+        List<Allocation> allocations = new ArrayList<>(acts.size());
+        List<Long> unallocated = new ArrayList<>();
+
+        for (Act act : ordered) {
+            Map<StageDay, MinuteBitmap> available = available(act, candidates(act, stageDays, timelines), timelines);
+            Allocation allocation = allocatePreferred(act, available, timelines);
+            if (allocation == null) {
+                allocation = allocateEarliest(act, available, timelines);
+            }
+            if (allocation == null) {
+                unallocated.add(act.id());
+            } else {
+                allocations.add(allocation);
+            }
+        }
+
+        return new Result(allocations, unallocated);
+    }
+
+    private List<StageDay> candidates(Act act, List<StageDay> stageDays, Map<StageDay, MinuteBitmap> timelines) {
+        if (act.home() == null || !timelines.containsKey(act.home())) {
+            return stageDays;
+        }
+        List<StageDay> candidates = new ArrayList<>(stageDays.size());
+        candidates.add(act.home());
+        for (StageDay stageDay : stageDays) {
+            if (!stageDay.equals(act.home())) {
+                candidates.add(stageDay);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Maps the candidate stage-days, in order, to the minutes the act could
+     * use there: the timeline itself, or on the date of the act's show a copy
+     * with the show blocked.
+     */
+    private Map<StageDay, MinuteBitmap> available(Act act, List<StageDay> candidates,
+            Map<StageDay, MinuteBitmap> timelines) {
+        Map<StageDay, MinuteBitmap> available = new LinkedHashMap<>();
+        for (StageDay stageDay : candidates) {
+            MinuteBitmap timeline = timelines.get(stageDay);
+            if (act.show() != null && stageDay.date().equals(act.show().stageDay().date())) {
+                timeline = timeline.copy();
+                occupy(timeline, MinuteBitmap.minuteOf(act.show().start()), MinuteBitmap.minuteOf(act.show().end()));
+            }
+            available.put(stageDay, timeline);
+        }
+        return available;
+    }
+
+    private Allocation allocatePreferred(Act act, Map<StageDay, MinuteBitmap> available,
+            Map<StageDay, MinuteBitmap> timelines) {
+        for (LocalTime preferred : act.preferredTimes()) {
+            int from = MinuteBitmap.minuteOf(preferred);
+            int to = from + rehearsalMinutes;
+            if (to > MinuteBitmap.MINUTES_PER_DAY) {
+                continue;
+            }
+            for (Map.Entry<StageDay, MinuteBitmap> entry : available.entrySet()) {
+                if (entry.getValue().isFree(from, to)) {
+                    timelines.get(entry.getKey()).set(from, to);
+                    return allocation(act, entry.getKey(), from, true);
+                }
+            }
+        }
+        return null;
+    }
+
+    private Allocation allocateEarliest(Act act, Map<StageDay, MinuteBitmap> available,
+            Map<StageDay, MinuteBitmap> timelines) {
+        for (Map.Entry<StageDay, MinuteBitmap> entry : available.entrySet()) {
+            int from = entry.getValue().nextFree(0, rehearsalMinutes);
+            if (from >= 0) {
+                timelines.get(entry.getKey()).set(from, from + rehearsalMinutes);
+                return allocation(act, entry.getKey(), from, false);
+            }
+        }
+        return null;
+    }
+
+    private Allocation allocation(Act act, StageDay stageDay, int from, boolean preferred) {
+        LocalTime start = LocalTime.MIDNIGHT.plusMinutes(from);
+        return new Allocation(act.id(), stageDay, start, start.plusMinutes(rehearsalMinutes), preferred);
+    }
+
+    private void occupy(MinuteBitmap timeline, int from, int to) {
+        if (to >= from) {
+            timeline.set(from, to);
+        } else {
+            // Range runs past midnight: occupy until the end of the day
+            timeline.set(from, MinuteBitmap.MINUTES_PER_DAY);
+        }
+    }
+}
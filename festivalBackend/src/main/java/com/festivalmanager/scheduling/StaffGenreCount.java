@@ -0,0 +1,11 @@
+package com.festivalmanager.scheduling;
+
+/**
+ * Number of performances of one genre managed by a staff member.
+ *
+ * @param staffId the staff member
+ * @param genre the genre
+ * @param count the number of performances
+ */
+public record StaffGenreCount(Long staffId, String genre, Long count) {
+}
@@ -0,0 +1,119 @@
+package com.festivalmanager.scheduling;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Spreads performances across staff members by workload.
+ * <p>
+ * Every performance goes to the staff member with the lowest cost, where the
+ * cost is the member's current load minus {@code affinityWeight} times their
+ * affinity for the performance's genre (the share of their past performances
+ * in that genre). With a weight of zero this is plain least-loaded
+ * assignment; a weight of 2 lets a genre specialist carry up to two more acts
+ * of their genre than a generalist.
+ * </p>
+ * <p>
+ * Staff are kept in one min-heap per genre. Loads only grow, so an entry
+ * whose load is outdated under-estimates the member's cost: when one reaches
+ * the top it is re-pushed with the current load instead of being used, and
+ * the other heaps never have to be touched on an assignment. Each
+ * performance therefore costs O(log s) amortized for s staff members.
+ * </p>
+ */
+public final class StageManagerAssigner {
+
+    private StageManagerAssigner() {
+    }
+
+    /**
+     * A staff member that can take performances.
+     *
+     * @param id the user ID
+     * @param load the number of performances already assigned
+     * @param affinity share of past performances per genre, between 0 and 1
+     */
+    public record Staff(long id, int load, Map<String, Double> affinity) {
+    }
+
+    private record Entry(double cost, int load, int staff) implements Comparable<Entry> {
+
+        @Override
+        public int compareTo(Entry other) {
+            int byCost = Double.compare(cost, other.cost);
+            if (byCost != 0) {
+                return byCost;
+            }
+            int byLoad = Integer.compare(load, other.load);
+            return byLoad != 0 ? byLoad : Integer.compare(staff, other.staff);
+        }
+    }
+
+    /**
+     * Assigns every performance to a staff member.
+     *
+     * @param performances the performances, assigned in the given order
+     * @param staff the staff members, at least one
+     * @param affinityWeight how many extra performances genre affinity is
+     * worth; zero to balance load only
+     * @return the performance IDs assigned to each staff member ID, in staff
+     * order; members that receive nothing are omitted
+     * @throws IllegalArgumentException if there is no staff member or the
+     * weight is negative
+     */
+    public static Map<Long, List<Long>> assign(List<AssignmentCandidate> performances, List<Staff> staff,
+            double affinityWeight) {
+        if (staff.isEmpty()) {
+            throw new IllegalArgumentException("No staff to assign performances to");
+        }
+        if (affinityWeight < 0) {
+            throw new IllegalArgumentException("Affinity weight must not be negative");
+        }
+        int[] loads = new int[staff.size()];
+        for (int i = 0; i < loads.length; i++) {
+            loads[i] = staff.get(i).load();
+        }
+
+        Map<String, PriorityQueue<Entry>> heaps = new HashMap<>();
+        List<List<Long>> assigned = new ArrayList<>(staff.size());
+        staff.forEach(s -> assigned.add(new ArrayList<>()));
+
+        for (AssignmentCandidate performance : performances) {
+            String genre = affinityWeight == 0 ? "" : performance.genre();
+            PriorityQueue<Entry> heap = heaps.computeIfAbsent(genre, g -> {
+                List<Entry> entries = new ArrayList<>(staff.size());
+                for (int i = 0; i < loads.length; i++) {
+                    entries.add(entry(staff.get(i), i, loads[i], g, affinityWeight));
+                }
+                return new PriorityQueue<>(entries);
+            });
+
+            Entry best = heap.poll();
+            while (best.load() != loads[best.staff()]) {
+                heap.add(entry(staff.get(best.staff()), best.staff(), loads[best.staff()], genre, affinityWeight));
+                best = heap.poll();
+            }
+            int chosen = best.staff();
+            assigned.get(chosen).add(performance.performanceId());
+            loads[chosen]++;
+            heap.add(entry(staff.get(chosen), chosen, loads[chosen], genre, affinityWeight));
+        }
+
+        Map<Long, List<Long>> result = new LinkedHashMap<>();
+        for (int i = 0; i < staff.size(); i++) {
+            if (!assigned.get(i).isEmpty()) {
+                result.put(staff.get(i).id(), assigned.get(i));
+            }
+        }
+        return result;
+    }
+
+    private static Entry entry(Staff staff, int index, int load, String genre, double affinityWeight) {
+        double affinity = affinityWeight == 0 ? 0 : staff.affinity().getOrDefault(genre, 0.0);
+        return new Entry(load - affinityWeight * affinity, load, index);
+    }
+}
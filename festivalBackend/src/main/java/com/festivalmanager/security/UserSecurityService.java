@@ -1,5 +1,7 @@
 package com.festivalmanager.security;
 
+import com.festivalmanager.datasource.PrimaryReads;
+import com.festivalmanager.datasource.RequesterContext;
 import com.festivalmanager.exception.ApiException;
 import com.festivalmanager.model.User;
 import com.festivalmanager.repository.UserRepository;
@@ -19,21 +21,28 @@ public class UserSecurityService {
 
     private final UserRepository userRepository;
     private final TokenService tokenService;
+    private final PrimaryReads primaryReads;
 
     /**
      * Constructs a new {@link UserSecurityService} with required dependencies.
      *
      * @param userRepository the repository to access user data
      * @param tokenService   the service to validate authentication tokens
+     * @param primaryReads   runs the token check on the primary
      */
-    public UserSecurityService(UserRepository userRepository, TokenService tokenService) {
+    public UserSecurityService(UserRepository userRepository, TokenService tokenService,
+            PrimaryReads primaryReads) {
         this.userRepository = userRepository;
         this.tokenService = tokenService;
+        this.primaryReads = primaryReads;
     }
 
     /**
      * Validates a requester by checking that the user exists, is active, and
-     * that the provided token is valid.
+     * that the provided token is valid. The username is bound to the current
+     * request first, so that replica routing knows whose reads these are.
+     * The token is always checked on the primary, so a token issued or
+     * deactivated a moment ago is seen even from a read-only transaction.
      *
      * @param requesterUsername the username of the requester
      * @param token             the authentication token to validate
@@ -42,6 +51,7 @@ public class UserSecurityService {
      *                      the token is invalid
      */
     public User validateRequester(String requesterUsername, String token) {
+        RequesterContext.bind(requesterUsername);
         User requester = userRepository.findByUsername(requesterUsername)
                 .orElseThrow(() -> new ApiException("Requester not found", HttpStatus.UNAUTHORIZED));
 
@@ -49,7 +59,7 @@ public class UserSecurityService {
             throw new ApiException("Account is deactivated. Please contact admin.", HttpStatus.FORBIDDEN);
         }
 
-        tokenService.validateToken(token, requester);
+        primaryReads.read(() -> tokenService.validateToken(token, requester));
 
         return requester;
     }
@@ -0,0 +1,181 @@
+package com.festivalmanager.service;
+
+import com.festivalmanager.exception.ApiException;
+import com.festivalmanager.model.Festival;
+import com.festivalmanager.model.Performance;
+import com.festivalmanager.model.Performance.PerformanceState;
+import com.festivalmanager.model.StageSlot;
+import com.festivalmanager.model.User;
+import com.festivalmanager.repository.FestivalRepository;
+import com.festivalmanager.repository.PerformanceRepository;
+import com.festivalmanager.scheduling.BandMemberBookingIndex;
+import com.festivalmanager.scheduling.BandMemberBookingIndex.Booking;
+import com.festivalmanager.scheduling.BandMemberSlot;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service detecting band members booked in two places at once.
+ * <p>
+ * Performances in the APPROVED and SCHEDULED states commit their band
+ * members and their creator (main artist): for the scheduled slot when there
+ * is one, otherwise for the festival days.
+ * </p>
+ * <p>
+ * Each check is bound by its query: the bookings of the members involved are
+ * loaded with one projection query on every call and a
+ * {@link BandMemberBookingIndex} is built from them, in O(k log k) for k
+ * rows. Only the lookups inside that index are O(log k). The index is not
+ * kept between calls; a long-lived copy would have to follow commits of other
+ * transactions and other instances, while the query reads the committed
+ * bookings in the caller's transaction.
+ * </p>
+ */
+@Service
+public class BandMemberConflictService {
+
+    /** Performance states whose band members are considered booked. */
+    static final Set<PerformanceState> BOOKED_STATES
+            = EnumSet.of(PerformanceState.APPROVED, PerformanceState.SCHEDULED);
+
+    @Autowired
+    private PerformanceRepository performanceRepository;
+
+    @Autowired
+    private FestivalRepository festivalRepository;
+
+    // -------------------- ACCEPTANCE CHECK --------------------
+    /**
+     * Ensures neither the creator nor any band member of a performance is
+     * booked elsewhere at the time of the performance. Runs one query for the
+     * bookings of these users, plus one for festival days when unslotted
+     * bookings are found.
+     *
+     * @param performance the performance about to be accepted
+     * @throws ApiException with {@code CONFLICT} naming the first double-booked
+     * member and the other performance
+     */
+    public void checkBandMembersAvailable(Performance performance) {
+        Map<Long, User> performers = new LinkedHashMap<>();
+        if (performance.getCreator() != null) {
+            performers.put(performance.getCreator().getId(), performance.getCreator());
+        }
+        performance.getBandMembers().forEach(member -> performers.putIfAbsent(member.getId(), member));
+        if (performers.isEmpty()) {
+            return;
+        }
+        Long festivalId = performance.getFestival().getId();
+        StageSlot slot = performance.getScheduledSlot();
+        boolean tentative = slot == null;
+
+        List<Long> userIds = List.copyOf(performers.keySet());
+        List<Booking> others = toBookings(performanceRepository.findBandMemberSlotsOfUsers(
+                userIds, BOOKED_STATES, performance.getId()));
+
+        // Within the same festival only two slotted performances can collide
+        BandMemberBookingIndex index = BandMemberBookingIndex.of(others.stream()
+                .filter(b -> b.festivalId() != festivalId || !(tentative || b.tentative()))
+                .toList());
+
+        for (User member : performers.values()) {
+            List<Booking> own = tentative
+                    ? BandMemberBookingIndex.festivalDays(member.getId(), performance.getId(), festivalId,
+                            performance.getFestival().getDates())
+                    : List.of(BandMemberBookingIndex.slot(member.getId(), performance.getId(), festivalId,
+                            slot.getDate(), slot.getStartTime(), slot.getEndTime()));
+            for (Booking booking : own) {
+                Optional<Booking> overlap = index.findOverlap(member.getId(), booking.start(), booking.end());
+                if (overlap.isPresent()) {
+                    throw new ApiException("Band member " + member.getUsername()
+                            + " is already booked for performance " + overlap.get().performanceId()
+                            + " at " + toDateTime(overlap.get().start()), HttpStatus.CONFLICT);
+                }
+            }
+        }
+    }
+
+    // -------------------- FESTIVAL REPORT --------------------
+    /**
+     * Reports every double booking involving a band member or creator of the
+     * festival's APPROVED or SCHEDULED performances, across all festivals.
+     *
+     * @param festival the festival
+     * @return one entry per conflicting pair, the festival's performance first
+     */
+    public List<Map<String, Object>> findFestivalConflicts(Festival festival) {
+        List<BandMemberSlot> rows = performanceRepository.findBandMemberSlotsRelatedToFestival(
+                festival.getId(), BOOKED_STATES);
+        Map<Long, String> usernames = new HashMap<>();
+        rows.forEach(r -> usernames.putIfAbsent(r.userId(), r.username()));
+
+        long festivalId = festival.getId();
+        List<BandMemberBookingIndex.Conflict> conflicts = BandMemberBookingIndex.of(toBookings(rows))
+                .conflicts(b -> b.festivalId() == festivalId);
+
+        List<Map<String, Object>> report = new ArrayList<>(conflicts.size());
+        for (BandMemberBookingIndex.Conflict conflict : conflicts) {
+            Booking own = conflict.first().festivalId() == festivalId ? conflict.first() : conflict.second();
+            Booking other = own == conflict.first() ? conflict.second() : conflict.first();
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("member", usernames.get(own.userId()));
+            entry.put("performanceId", own.performanceId());
+            entry.put("start", toDateTime(own.start()));
+            entry.put("end", toDateTime(own.end()));
+            entry.put("conflictingPerformanceId", other.performanceId());
+            entry.put("conflictingFestivalId", other.festivalId());
+            entry.put("conflictingStart", toDateTime(other.start()));
+            entry.put("conflictingEnd", toDateTime(other.end()));
+            entry.put("tentative", own.tentative() || other.tentative());
+            report.add(entry);
+        }
+        return report;
+    }
+
+    /**
+     * Turns membership rows into bookings, falling back to the festival days
+     * for performances without a slot.
+     */
+    private List<Booking> toBookings(List<BandMemberSlot> rows) {
+        Set<Long> unslottedFestivals = rows.stream()
+                .filter(r -> r.date() == null)
+                .map(BandMemberSlot::festivalId)
+                .collect(Collectors.toSet());
+        Map<Long, Collection<LocalDate>> festivalDays = new HashMap<>();
+        if (!unslottedFestivals.isEmpty()) {
+            festivalRepository.findAllById(unslottedFestivals)
+                    .forEach(f -> festivalDays.put(f.getId(), f.getDates()));
+        }
+
+        List<Booking> bookings = new ArrayList<>(rows.size());
+        for (BandMemberSlot row : rows) {
+            if (row.date() != null) {
+                bookings.add(BandMemberBookingIndex.slot(row.userId(), row.performanceId(), row.festivalId(),
+                        row.date(), row.startTime(), row.endTime()));
+            } else {
+                bookings.addAll(BandMemberBookingIndex.festivalDays(row.userId(), row.performanceId(),
+                        row.festivalId(), festivalDays.getOrDefault(row.festivalId(), List.of())));
+            }
+        }
+        return bookings;
+    }
+
+    private static LocalDateTime toDateTime(long minute) {
+        return LocalDateTime.of(LocalDate.ofEpochDay(Math.floorDiv(minute, 24 * 60)),
+                LocalTime.ofSecondOfDay(Math.floorMod(minute, 24 * 60) * 60L));
+    }
+}
@@ -0,0 +1,182 @@
+package com.festivalmanager.service;
+
+import com.festivalmanager.dto.api.ApiResponse;
+import com.festivalmanager.dto.festival.FestivalArchiveRequest;
+import com.festivalmanager.enums.PermanentRoleType;
+import com.festivalmanager.exception.ApiException;
+import com.festivalmanager.model.User;
+import com.festivalmanager.repository.FestivalRepository;
+import com.festivalmanager.repository.PerformanceRepository;
+import com.festivalmanager.security.UserSecurityService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service running archive passes over finished festivals.
+ * <p>
+ * A pass archives every ANNOUNCED festival whose last date is more than
+ * {@code festival.archive.after-days} days ago, {@code festival.archive.batch-size}
+ * festivals per transaction, see {@link FestivalArchiver}. Passes run on the
+ * {@code festival.archive.cron} schedule and can be started by an ADMIN; only
+ * one runs at a time.
+ * </p>
+ * <p>
+ * Each pass counts the hot festival and performance rows before and after,
+ * logs both and returns them to the ADMIN. Search latency before and after
+ * is observed through the existing {@code http.server.requests} timer of
+ * {@code /api/festivals/search} and the {@code festival.sql.method.*} metrics
+ * of {@code FestivalService.searchFestivals}.
+ * </p>
+ * <p>
+ * Metrics: {@code festival.archive.festivals} and
+ * {@code festival.archive.performances} count archived rows;
+ * {@code festival.archive.hot.rows}, tagged with the table, holds the hot
+ * row count measured at the end of the last pass.
+ * </p>
+ */
+@Service
+public class FestivalArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(FestivalArchiveService.class);
+
+    private final FestivalArchiver archiver;
+    private final FestivalRepository festivalRepository;
+    private final PerformanceRepository performanceRepository;
+    private final UserSecurityService userSecurityService;
+    private final int afterDays;
+    private final int batchSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong hotFestivals = new AtomicLong();
+    private final AtomicLong hotPerformances = new AtomicLong();
+    private final Counter archivedFestivals;
+    private final Counter archivedPerformances;
+
+    /**
+     * Constructs a new {@link FestivalArchiveService}.
+     *
+     * @param archiver archives one batch of festivals
+     * @param festivalRepository counts hot festivals
+     * @param performanceRepository counts hot performances
+     * @param userSecurityService validates requesters
+     * @param afterDays days after its last date a festival is archived
+     * @param batchSize festivals archived per transaction
+     * @param meterRegistry the registry archive metrics are recorded in
+     */
+    public FestivalArchiveService(FestivalArchiver archiver, FestivalRepository festivalRepository,
+            PerformanceRepository performanceRepository, UserSecurityService userSecurityService,
+            @Value("${festival.archive.after-days:30}") int afterDays,
+            @Value("${festival.archive.batch-size:20}") int batchSize,
+            MeterRegistry meterRegistry) {
+        this.archiver = archiver;
+        this.festivalRepository = festivalRepository;
+        this.performanceRepository = performanceRepository;
+        this.userSecurityService = userSecurityService;
+        this.afterDays = afterDays;
+        this.batchSize = batchSize;
+        this.archivedFestivals = Counter.builder("festival.archive.festivals").register(meterRegistry);
+        this.archivedPerformances = Counter.builder("festival.archive.performances").register(meterRegistry);
+        Gauge.builder("festival.archive.hot.rows", hotFestivals, AtomicLong::get)
+                .tag("table", "festivals")
+                .register(meterRegistry);
+        Gauge.builder("festival.archive.hot.rows", hotPerformances, AtomicLong::get)
+                .tag("table", "performances")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Archives finished festivals on the configured schedule. A pass already
+     * running is not interrupted; the scheduled one is skipped.
+     */
+    @Scheduled(cron = "${festival.archive.cron:-}")
+    public void archiveFinishedFestivals() {
+        if (running.compareAndSet(false, true)) {
+            try {
+                runPass();
+            } finally {
+                running.set(false);
+            }
+        }
+    }
+
+    /**
+     * Archives finished festivals now. Only an ADMIN can start a pass.
+     *
+     * @param request the request with the requester's credentials
+     * @return ApiResponse with the archived counts and the hot row counts
+     * before and after
+     * @throws ApiException if the requester is not an ADMIN or a pass is
+     * already running
+     */
+    public ApiResponse<Map<String, Object>> archiveFestivals(FestivalArchiveRequest request) {
+        User requester = userSecurityService.validateRequester(
+                request.getRequesterUsername(),
+                request.getToken()
+        );
+        if (requester.getPermanentRole() != PermanentRoleType.ADMIN) {
+            throw new ApiException("Not authorized. Admin rights required.", HttpStatus.FORBIDDEN);
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new ApiException("An archive pass is already running", HttpStatus.CONFLICT);
+        }
+        try {
+            return new ApiResponse<>(
+                    LocalDateTime.now(),
+                    HttpStatus.OK.value(),
+                    "Finished festivals archived",
+                    runPass()
+            );
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private Map<String, Object> runPass() {
+        long festivalsBefore = festivalRepository.count();
+        long performancesBefore = performanceRepository.count();
+        LocalDate cutoff = LocalDate.now().minusDays(afterDays);
+
+        // The finished festivals are listed once per pass, then archived batch by batch
+        List<Long> festivalIds = archiver.findFinishedFestivalIds(cutoff);
+        int festivals = 0;
+        int performances = 0;
+        for (int from = 0; from < festivalIds.size(); from += batchSize) {
+            FestivalArchiver.ArchiveBatch batch = archiver.archiveBatch(
+                    festivalIds.subList(from, Math.min(from + batchSize, festivalIds.size())), cutoff);
+            festivals += batch.festivals();
+            performances += batch.performances();
+            archivedFestivals.increment(batch.festivals());
+            archivedPerformances.increment(batch.performances());
+        }
+
+        long festivalsAfter = festivalRepository.count();
+        long performancesAfter = performanceRepository.count();
+        hotFestivals.set(festivalsAfter);
+        hotPerformances.set(performancesAfter);
+        log.info("Archived {} festivals and {} performances before {}; hot festivals {} -> {}, hot performances {} -> {}",
+                festivals, performances, cutoff, festivalsBefore, festivalsAfter, performancesBefore, performancesAfter);
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("cutoff", cutoff);
+        data.put("archivedFestivals", festivals);
+        data.put("archivedPerformances", performances);
+        data.put("hotFestivalsBefore", festivalsBefore);
+        data.put("hotFestivalsAfter", festivalsAfter);
+        data.put("hotPerformancesBefore", performancesBefore);
+        data.put("hotPerformancesAfter", performancesAfter);
+        return data;
+    }
+}
@@ -0,0 +1,268 @@
+package com.festivalmanager.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.festivalmanager.datasource.ReadOnlyTransaction;
+import com.festivalmanager.enums.FestivalRoleType;
+import com.festivalmanager.dto.festival.FestivalDates;
+import com.festivalmanager.dto.festival.FestivalSearchResponseDTO;
+import com.festivalmanager.dto.performance.PerformanceSearchResponseDTO;
+import com.festivalmanager.events.DomainEvent;
+import com.festivalmanager.events.DomainEventPublisher;
+import com.festivalmanager.model.ArchivedFestival;
+import com.festivalmanager.model.ArchivedPerformance;
+import com.festivalmanager.model.Festival;
+import com.festivalmanager.model.Festival.FestivalState;
+import com.festivalmanager.model.Performance;
+import com.festivalmanager.model.User;
+import com.festivalmanager.repository.ArchivedFestivalRepository;
+import com.festivalmanager.repository.ArchivedPerformanceRepository;
+import com.festivalmanager.repository.FestivalRepository;
+import com.festivalmanager.repository.PerformanceRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves finished festivals to the archive tier and reads them back.
+ * <p>
+ * A festival is finished once it is ANNOUNCED and its last date is before the
+ * cutoff. Archiving stores the organizer view of the festival and the full
+ * view of each performance as JSON snapshots, keyed by their original IDs,
+ * then deletes the hot rows with the set-based bulk deletes. Reads apply the
+ * same visibility rules as the hot views: only organizers see the organizer
+ * view of a festival, and only its organizers, creator, band members and
+ * stage manager see the full view of a performance. These users are
+ * recognized by the IDs stored with the archived rows, never by the
+ * usernames in the snapshots, which new accounts can take over.
+ * </p>
+ */
+@Component
+public class FestivalArchiver {
+
+    @Autowired
+    private FestivalRepository festivalRepository;
+
+    @Autowired
+    private PerformanceRepository performanceRepository;
+
+    @Autowired
+    private ArchivedFestivalRepository archivedFestivalRepository;
+
+    @Autowired
+    private ArchivedPerformanceRepository archivedPerformanceRepository;
+
+    @Autowired
+    private DomainEventPublisher eventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Archived rows keep their IDs; persist inserts them without the merge lookup of save
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Lists the finished festivals, oldest ID first. Only the festival dates
+     * are read, not the festivals.
+     *
+     * @param cutoff festivals whose last date is before this day are finished
+     * @return the IDs of the finished festivals
+     */
+    @ReadOnlyTransaction
+    public List<Long> findFinishedFestivalIds(LocalDate cutoff) {
+        return festivalRepository.findDatesByState(FestivalState.ANNOUNCED).stream()
+                .filter(f -> isFinished(f.dates(), cutoff))
+                .map(FestivalDates::festivalId)
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * Archives the given festivals in one transaction. A festival that was
+     * deleted or is no longer finished since it was listed is skipped.
+     *
+     * @param festivalIds the festivals, see {@link #findFinishedFestivalIds}
+     * @param cutoff festivals whose last date is before this day are archived
+     * @return the number of festivals and of performances archived
+     */
+    @Transactional
+    public ArchiveBatch archiveBatch(List<Long> festivalIds, LocalDate cutoff) {
+        int festivals = 0;
+        int performances = 0;
+        for (Long festivalId : festivalIds) {
+            // The bulk deletes clear the persistence context, so each festival is loaded afresh
+            Festival festival = festivalRepository.findById(festivalId).orElse(null);
+            if (festival != null && festival.getState() == FestivalState.ANNOUNCED
+                    && isFinished(festival.getDates(), cutoff)) {
+                performances += archive(festival);
+                festivals++;
+            }
+        }
+        return new ArchiveBatch(festivals, performances);
+    }
+
+    /**
+     * Returns an archived festival, if there is one with this ID.
+     *
+     * @param festivalId the ID of the festival
+     * @return the archived festival
+     */
+    @ReadOnlyTransaction
+    public Optional<ArchivedFestival> findFestival(Long festivalId) {
+        return archivedFestivalRepository.findById(festivalId);
+    }
+
+    /**
+     * Returns an archived performance, if there is one with this ID.
+     *
+     * @param performanceId the ID of the performance
+     * @return the archived performance
+     */
+    @ReadOnlyTransaction
+    public Optional<ArchivedPerformance> findPerformance(Long performanceId) {
+        return archivedPerformanceRepository.findById(performanceId);
+    }
+
+    /**
+     * Returns the view of an archived festival the requester may see.
+     *
+     * @param archived the archived festival
+     * @param requester the requester, or null for a visitor
+     * @return the organizer view for its organizers, the public view otherwise
+     */
+    public FestivalSearchResponseDTO viewFestival(ArchivedFestival archived, User requester) {
+        FestivalSearchResponseDTO full = read(archived.getSnapshot(), FestivalSearchResponseDTO.class);
+        if (requester != null && archived.getOrganizerIds().contains(requester.getId())) {
+            return full;
+        }
+        FestivalSearchResponseDTO dto = new FestivalSearchResponseDTO();
+        dto.setId(full.getId());
+        dto.setName(full.getName());
+        dto.setDescription(full.getDescription());
+        dto.setVenue(full.getVenue());
+        dto.setDates(full.getDates());
+        return dto;
+    }
+
+    /**
+     * Returns the view of an archived performance the requester may see.
+     *
+     * @param archived the archived performance
+     * @param requester the requester, or null for a visitor
+     * @return the full view for its organizers, creator, band members and
+     * stage manager, the basic view otherwise
+     */
+    @ReadOnlyTransaction
+    public PerformanceSearchResponseDTO viewPerformance(ArchivedPerformance archived, User requester) {
+        PerformanceSearchResponseDTO full = read(archived.getSnapshot(), PerformanceSearchResponseDTO.class);
+        if (requester != null) {
+            Long requesterId = requester.getId();
+            boolean privileged = archived.getMemberIds().contains(requesterId)
+                    || archivedFestivalRepository.findById(archived.getFestivalId())
+                            .map(festival -> festival.getOrganizerIds().contains(requesterId))
+                            .orElse(false);
+            if (privileged) {
+                return full;
+            }
+        }
+        PerformanceSearchResponseDTO dto = new PerformanceSearchResponseDTO();
+        dto.setId(full.getId());
+        dto.setName(full.getName());
+        dto.setGenre(full.getGenre());
+        dto.setDuration(full.getDuration());
+        dto.setState(full.getState());
+        dto.setFestivalId(full.getFestivalId());
+        return dto;
+    }
+
+    /**
+     * Writes the snapshots of a festival and its performances, then deletes
+     * the hot rows.
+     */
+    private int archive(Festival festival) {
+        LocalDateTime now = LocalDateTime.now();
+
+        ArchivedFestival archivedFestival = new ArchivedFestival();
+        archivedFestival.setId(festival.getId());
+        archivedFestival.setName(festival.getName());
+        archivedFestival.setLastDate(festival.getDates().last());
+        archivedFestival.setArchivedAt(now);
+        archivedFestival.setSnapshot(write(FestivalService.toResponse(festival, true)));
+        archivedFestival.setOrganizerIds(festival.getUserRoles().stream()
+                .filter(r -> r.getRole() == FestivalRoleType.ORGANIZER)
+                .map(r -> r.getUser().getId())
+                .toList());
+        entityManager.persist(archivedFestival);
+
+        // A fixed number of queries, however many performances the festival has
+        int archivedPerformances = 0;
+        List<Performance> performances = performanceRepository.findAllByFestivalId(festival.getId()).stream()
+                .sorted(Comparator.comparing(Performance::getId))
+                .toList();
+        performanceRepository.findSetlistsByFestivalId(festival.getId());
+        performanceRepository.findMerchandiseByFestivalId(festival.getId());
+        for (Performance performance : performances) {
+            ArchivedPerformance archived = new ArchivedPerformance();
+            archived.setId(performance.getId());
+            archived.setFestivalId(festival.getId());
+            archived.setName(performance.getName());
+            archived.setState(performance.getState());
+            archived.setArchivedAt(now);
+            archived.setSnapshot(write(PerformanceService.toResponse(performance, true)));
+            archived.setMemberIds(Stream.concat(
+                            Stream.of(performance.getCreator(), performance.getStageManager()),
+                            performance.getBandMembers().stream())
+                    .filter(Objects::nonNull)
+                    .map(User::getId)
+                    .toList());
+            entityManager.persist(archived);
+            archivedPerformances++;
+        }
+
+        // Same set-based deletes as deleteFestival; they flush the snapshots first
+        performanceRepository.bulkDeleteFestivalPerformances(festival.getId());
+        festivalRepository.bulkDeleteFestival(festival.getId());
+        eventPublisher.publish(new DomainEvent.FestivalArchived(festival.getId()));
+        return archivedPerformances;
+    }
+
+    private static boolean isFinished(SortedSet<LocalDate> dates, LocalDate cutoff) {
+        return !dates.isEmpty() && dates.last().isBefore(cutoff);
+    }
+
+    private String write(Object view) {
+        try {
+            return objectMapper.writeValueAsString(view);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize archive snapshot", e);
+        }
+    }
+
+    private <T> T read(String snapshot, Class<T> type) {
+        try {
+            return objectMapper.readValue(snapshot, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot read archive snapshot", e);
+        }
+    }
+
+    /**
+     * Outcome of one archive batch.
+     *
+     * @param festivals the number of festivals archived
+     * @param performances the number of performances archived
+     */
+    public record ArchiveBatch(int festivals, int performances) {
+    }
+}
@@ -1,14 +1,25 @@
 package com.festivalmanager.service;
 
 import com.festivalmanager.model.VendorManagement;
+import com.festivalmanager.concurrency.RetryOnConflict;
+import com.festivalmanager.datasource.PrimaryReads;
+import com.festivalmanager.datasource.ReadOnlyTransaction;
+import com.festivalmanager.dashboard.FestivalDashboard;
+import com.festivalmanager.dashboard.FestivalDashboardCache;
 import com.festivalmanager.dto.api.ApiResponse;
 import com.festivalmanager.dto.festival.*;
 import com.festivalmanager.enums.FestivalRoleType;
+import com.festivalmanager.events.DomainEvent;
+import com.festivalmanager.events.DomainEventPublisher;
 import com.festivalmanager.exception.ApiException;
 import com.festivalmanager.model.*;
 import com.festivalmanager.model.Festival.FestivalState;
 import com.festivalmanager.repository.*;
+import com.festivalmanager.scheduling.LineupScheduler;
+import com.festivalmanager.scheduling.RehearsalAllocator;
 import com.festivalmanager.security.UserSecurityService;
+import com.festivalmanager.workflow.FestivalWorkflow;
+import com.festivalmanager.workflow.StateMachine;
 import jakarta.transaction.Transactional;
 import java.time.LocalDate;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -37,6 +48,33 @@ public class FestivalService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PerformanceRepository performanceRepository;
+
+    @Autowired
+    private LineupScheduler lineupScheduler;
+
+    @Autowired
+    private RehearsalAllocator rehearsalAllocator;
+
+    @Autowired
+    private BandMemberConflictService bandMemberConflictService;
+
+    @Autowired
+    private FestivalWorkflow festivalWorkflow;
+
+    @Autowired
+    private DomainEventPublisher eventPublisher;
+
+    @Autowired
+    private FestivalDashboardCache dashboardCache;
+
+    @Autowired
+    private FestivalArchiver festivalArchiver;
+
+    @Autowired
+    private PrimaryReads primaryReads;
+
     // -------------------- CREATE FESTIVAL --------------------
     /**
      * Creates a new festival and assigns the requester as an ORGANIZER.
@@ -99,6 +137,8 @@ public class FestivalService {
         role.setRole(FestivalRoleType.ORGANIZER);
         festivalUserRoleRepository.save(role);
 
+        eventPublisher.publish(new DomainEvent.FestivalUpdated(savedFestival.getId()));
+
         // Build response data
         Map<String, Object> data = new HashMap<>();
         data.put("id", savedFestival.getId());
@@ -128,6 +168,7 @@ public class FestivalService {
      * invalid data
      */
     @Transactional
+    @RetryOnConflict
     public ApiResponse<Map<String, Object>> updateFestival(FestivalUpdateRequest request) {
         // Validate requester
         User requester = userSecurityService.validateRequester(
@@ -171,6 +212,7 @@ public class FestivalService {
 
         // Save updated festival
         Festival updatedFestival = festivalRepository.save(festival);
+        eventPublisher.publish(new DomainEvent.FestivalUpdated(updatedFestival.getId()));
 
         // Build response
         Map<String, Object> data = new HashMap<>();
@@ -208,6 +250,7 @@ public class FestivalService {
      * not found, or a username does not exist
      */
     @Transactional
+    @RetryOnConflict
     public ApiResponse<Map<String, Object>> addOrganizers(AddOrganizersRequest request) {
         // Validate requester
         User requester = userSecurityService.validateRequester(
@@ -237,6 +280,7 @@ public class FestivalService {
                 .collect(Collectors.toMap(r -> r.getUser().getUsername(), r -> r));
 
         // Add new organizers
+        List<Long> added = new ArrayList<>();
         for (String username : request.getUsernames()) {
             if (!rolesMap.containsKey(username)) {
                 User user = userRepository.findByUsername(username)
@@ -249,11 +293,15 @@ public class FestivalService {
 
                 festivalUserRoleRepository.save(role);
                 currentRoles.add(role);
+                added.add(user.getId());
             }
             // If user is already an organizer, ignore
         }
 
         Festival updatedFestival = festivalRepository.save(festival);
+        if (!added.isEmpty()) {
+            eventPublisher.publish(new DomainEvent.FestivalRolesChanged(festival.getId(), FestivalRoleType.ORGANIZER, added));
+        }
 
         // Build response
         Map<String, Object> data = new HashMap<>();
@@ -283,6 +331,7 @@ public class FestivalService {
      * requester is not an organizer
      */
     @Transactional
+    @RetryOnConflict
     public ApiResponse<Map<String, Object>> addStaff(AddStaffRequest request) {
         // Validate requester 
         User requester = userSecurityService.validateRequester(
@@ -307,6 +356,7 @@ public class FestivalService {
                 .collect(Collectors.toMap(r -> r.getUser().getUsername(), r -> r));
 
         // Add new staff members
+        List<Long> added = new ArrayList<>();
         for (String username : request.getUsernames()) {
             if (!rolesMap.containsKey(username)) {
                 User user = userRepository.findByUsername(username)
@@ -319,11 +369,15 @@ public class FestivalService {
 
                 festivalUserRoleRepository.save(role);
                 currentRoles.add(role);
+                added.add(user.getId());
             }
             // Already staff -> ignored
         }
 
         Festival updatedFestival = festivalRepository.save(festival);
+        if (!added.isEmpty()) {
+            eventPublisher.publish(new DomainEvent.FestivalRolesChanged(festival.getId(), FestivalRoleType.STAFF, added));
+        }
 
         // Build response
         Map<String, Object> data = new HashMap<>();
@@ -350,7 +404,7 @@ public class FestivalService {
      * @param request FestivalSearchRequest containing search criteria
      * @return ApiResponse with a list of matching festivals
      */
-    @Transactional
+    @ReadOnlyTransaction
     public ApiResponse<Map<String, Object>> searchFestivals(FestivalSearchRequest request) {
 
         List<Festival> festivals = festivalRepository.findAll();
@@ -433,17 +487,22 @@ public class FestivalService {
     //-------------------- VIEW FESTIVAL --------------------
     /**
      * Searches for festival based on given festival id. Results are sorted by
-     * the earliest date, then by name.
+     * the earliest date, then by name. Archived festivals are read from their
+     * archive snapshot.
      *
      * @param request FestivalViewRequest
      * @return ApiResponse with the matching festival
      */
-    @Transactional
+    @ReadOnlyTransaction
     public ApiResponse<Map<String, Object>> viewFestival(FestivalViewRequest request) {
 
-        // Find festival
-        Festival festival = festivalRepository.findById(request.getFestivalId())
-                .orElseThrow(() -> new ApiException("Festival not found", HttpStatus.NOT_FOUND));
+        // Find festival, falling back to the archive tier
+        Festival festival = festivalRepository.findById(request.getFestivalId()).orElse(null);
+        ArchivedFestival archived = null;
+        if (festival == null) {
+            archived = festivalArchiver.findFestival(request.getFestivalId())
+                    .orElseThrow(() -> new ApiException("Festival not found", HttpStatus.NOT_FOUND));
+        }
 
         User requester = null;
 
@@ -456,10 +515,13 @@ public class FestivalService {
         }
 
         // Map to view based on role
-        FestivalSearchResponseDTO dto = mapFestival(festival, requester);
+        FestivalSearchResponseDTO dto = festival != null
+                ? mapFestival(festival, requester)
+                : festivalArchiver.viewFestival(archived, requester);
 
         Map<String, Object> data = new HashMap<>();
         data.put("festival", dto);
+        data.put("archived", festival == null);
 
         return new ApiResponse<>(
                 LocalDateTime.now(),
@@ -473,6 +535,9 @@ public class FestivalService {
     /**
      * Deletes a festival. Only organizers of the festival can delete it, and
      * only if the festival is in its initial CREATED state.
+     * <p>
+     * Performances, roles, nested entities and element collections are removed
+     * with set-based statements in dependency order instead of JPA cascades.
      *
      * @param request the festival delete request containing festival ID, token,
      * and requester username
@@ -500,8 +565,10 @@ public class FestivalService {
         // Check requester is an organizer
         isOrganizerForFestival(requester, festival);
 
-        // Delete festival
-        festivalRepository.delete(festival);
+        // Delete festival and all child rows, one statement per table
+        performanceRepository.bulkDeleteFestivalPerformances(festival.getId());
+        festivalRepository.bulkDeleteFestival(festival.getId());
+        eventPublisher.publish(new DomainEvent.FestivalDeleted(festival.getId()));
 
         // Build response
         Map<String, Object> data = new HashMap<>();
@@ -529,41 +596,10 @@ public class FestivalService {
      * is not an organizer, or festival is not in CREATED state
      */
     @Transactional
+    @RetryOnConflict
     public ApiResponse<Map<String, Object>> startSubmission(SubmissionStartRequest request) {
-        // Validate requester
-        User requester = userSecurityService.validateRequester(
-                request.getRequesterUsername(),
-                request.getToken()
-        );
-
-        // Find festival
-        Festival festival = festivalRepository.findById(request.getFestivalId())
-                .orElseThrow(() -> new ApiException("Festival not found", HttpStatus.NOT_FOUND));
-
-        // Check festival state
-        if (festival.getState() != Festival.FestivalState.CREATED) {
-            throw new ApiException("Festival is not in CREATED state", HttpStatus.FORBIDDEN);
-        }
-
-        // Check requester is an organizer
-        isOrganizerForFestival(requester, festival);
-
-        // Update festival state to SUBMISSION
-        festival.setState(Festival.FestivalState.SUBMISSION);
-        festivalRepository.save(festival);
-
-        // Build response
-        Map<String, Object> data = new HashMap<>();
-        data.put("id", festival.getId());
-        data.put("name", festival.getName());
-        data.put("state", festival.getState().name());
-
-        return new ApiResponse<>(
-                LocalDateTime.now(),
-                HttpStatus.OK.value(),
-                "Submission started successfully",
-                data
-        );
+        return transitionFestival(request.getRequesterUsername(), request.getToken(), request.getFestivalId(),
+                FestivalState.SUBMISSION);
     }
 
     //-------------------- STAGE MANAGER ASSIGNMENT START --------------------
@@ -580,59 +616,149 @@ public class FestivalService {
      * is not an organizer, or festival is not in SUBMISSION state
      */
     @Transactional
+    @RetryOnConflict
     public ApiResponse<Map<String, Object>> startStageManagerAssignment(StageManagerAssignmentStartRequest request) {
+        return transitionFestival(request.getRequesterUsername(), request.getToken(), request.getFestivalId(),
+                FestivalState.ASSIGNMENT);
+    }
+
+    //-------------------- REVIEW START --------------------
+    /**
+     * Starts the review phase for a festival.
+     * <p>
+     * Only organizers of the festival can perform this action. The festival
+     * must currently be in the ASSIGNMENT state. After executing this action,
+     * the festival state becomes REVIEW, allowing the review of submitted
+     * performances.
+     *
+     * @param request the request containing festival ID and requester info
+     * @return ApiResponse with updated festival information
+     * @throws ApiException if token is invalid, requester is not an organizer,
+     * festival not found, or festival is in the wrong state
+     */
+    @Transactional
+    @RetryOnConflict
+    public ApiResponse<Map<String, Object>> startReview(ReviewStartRequest request) {
+        return transitionFestival(request.getRequesterUsername(), request.getToken(), request.getFestivalId(),
+                FestivalState.REVIEW);
+    }
+
+    //-------------------- SCHEDULE MAKING --------------------
+    /**
+     * Starts the schedule making phase for a festival.
+     * <p>
+     * Only organizers of the festival can perform this action. The festival
+     * must currently be in the REVIEW state. After executing this action, the
+     * festival state becomes SCHEDULING, allowing approval/rejection of
+     * performances and tentative scheduling.
+     *
+     * @param request the request containing festival ID and requester info
+     * @return ApiResponse with updated festival information
+     * @throws ApiException if token is invalid, requester is not an organizer,
+     * festival not found, or festival is in the wrong state
+     */
+    @Transactional
+    @RetryOnConflict
+    public ApiResponse<Map<String, Object>> startScheduleMaking(ScheduleMakingRequest request) {
+        return transitionFestival(request.getRequesterUsername(), request.getToken(), request.getFestivalId(),
+                FestivalState.SCHEDULING);
+    }
+
+    //-------------------- LINEUP GENERATION --------------------
+    /**
+     * Generates the lineup of a festival automatically.
+     * <p>
+     * Only organizers of the festival can perform this action, and only while
+     * the festival is in SCHEDULING state. Every APPROVED performance is given
+     * a conflict-free stage, day and time using the venue layout stages, the
+     * festival dates, the performance duration and its preferred performance
+     * slots, see {@link LineupScheduler}. Previous assignments are replaced.
+     *
+     * @param request the request containing festival ID and requester info
+     * @return ApiResponse with the number of scheduled performances, satisfied
+     * preferences and unscheduled performance IDs
+     * @throws ApiException if token is invalid, requester is not an organizer,
+     * festival not found, has no stages, or is in the wrong state
+     */
+    @Transactional
+    @RetryOnConflict
+    public ApiResponse<Map<String, Object>> generateSchedule(ScheduleGenerateRequest request) {
         // Validate requester
-        User requester = userSecurityService.validateRequester(
-                request.getRequesterUsername(),
-                request.getToken()
-        );
+        User requester = userSecurityService.validateRequester(request.getRequesterUsername(), request.getToken());
 
         // Find festival
         Festival festival = festivalRepository.findById(request.getFestivalId())
                 .orElseThrow(() -> new ApiException("Festival not found", HttpStatus.NOT_FOUND));
 
         // Check festival state
-        if (festival.getState() != Festival.FestivalState.SUBMISSION) {
-            throw new ApiException("Festival is not in SUBMISSION state", HttpStatus.FORBIDDEN);
+        if (festival.getState() != Festival.FestivalState.SCHEDULING) {
+            throw new ApiException("Festival is not in SCHEDULING state", HttpStatus.FORBIDDEN);
         }
 
         // Check requester is an organizer
         isOrganizerForFestival(requester, festival);
 
-        // Update festival state to ASSIGNMENT
-        festival.setState(Festival.FestivalState.ASSIGNMENT);
-        festivalRepository.save(festival);
+        if (festival.getVenueLayout() == null || festival.getVenueLayout().getStages().isEmpty()) {
+            throw new ApiException("Venue layout must define at least one stage", HttpStatus.BAD_REQUEST);
+        }
+
+        List<String> stages = festival.getVenueLayout().getStages().stream().sorted().toList();
+        List<LocalDate> dates = new ArrayList<>(festival.getDates());
+
+        // Drop previous assignments, then load approved performances with their preferences
+        performanceRepository.clearScheduledSlots(festival.getId());
+        List<Performance> approved = performanceRepository.findAllByFestivalAndState(
+                festival, Performance.PerformanceState.APPROVED);
+
+        List<LineupScheduler.Act> acts = approved.stream()
+                .map(p -> new LineupScheduler.Act(
+                p.getId(),
+                p.getDuration(),
+                p.getPreferredPerformanceSlots().stream().sorted().toList()))
+                .toList();
+
+        LineupScheduler.Result result = lineupScheduler.schedule(stages, dates, acts);
+
+        // Persist assignments (dirty checking, flushed as batched updates on commit)
+        Map<Long, Performance> byId = approved.stream()
+                .collect(Collectors.toMap(Performance::getId, p -> p));
+        for (LineupScheduler.Placement placement : result.placements()) {
+            byId.get(placement.actId()).setScheduledSlot(new StageSlot(
+                    placement.stage(), placement.date(), placement.start(), placement.end()));
+        }
+        eventPublisher.publish(new DomainEvent.LineupChanged(festival.getId()));
 
-        // Build response
         Map<String, Object> data = new HashMap<>();
         data.put("id", festival.getId());
         data.put("name", festival.getName());
-        data.put("state", festival.getState().name());
+        data.put("scheduled", result.placements().size());
+        data.put("satisfiedPreferences", result.satisfiedPreferences());
+        data.put("unscheduled", result.unscheduled());
+        data.put("bandMemberConflicts", bandMemberConflictService.findFestivalConflicts(festival).size());
 
         return new ApiResponse<>(
                 LocalDateTime.now(),
                 HttpStatus.OK.value(),
-                "Stage manager assignment started successfully",
+                "Lineup generated successfully",
                 data
         );
     }
 
-    //-------------------- REVIEW START --------------------
+    //-------------------- BAND MEMBER CONFLICTS --------------------
     /**
-     * Starts the review phase for a festival.
+     * Reports every band member of the festival's APPROVED and SCHEDULED
+     * performances who is booked elsewhere at the same time, in this or any
+     * other festival.
      * <p>
-     * Only organizers of the festival can perform this action. The festival
-     * must currently be in the ASSIGNMENT state. After executing this action,
-     * the festival state becomes REVIEW, allowing the review of submitted
-     * performances.
+     * Organizers and staff of the festival can perform this action.
      *
      * @param request the request containing festival ID and requester info
-     * @return ApiResponse with updated festival information
-     * @throws ApiException if token is invalid, requester is not an organizer,
-     * festival not found, or festival is in the wrong state
+     * @return ApiResponse with the list of conflicts
+     * @throws ApiException if token is invalid, requester is neither organizer
+     * nor staff, or festival not found
      */
-    @Transactional
-    public ApiResponse<Map<String, Object>> startReview(ReviewStartRequest request) {
+    @ReadOnlyTransaction
+    public ApiResponse<Map<String, Object>> findBandMemberConflicts(BandMemberConflictRequest request) {
         // Validate requester
         User requester = userSecurityService.validateRequester(request.getRequesterUsername(), request.getToken());
 
@@ -640,96 +766,101 @@ public class FestivalService {
         Festival festival = festivalRepository.findById(request.getFestivalId())
                 .orElseThrow(() -> new ApiException("Festival not found", HttpStatus.NOT_FOUND));
 
-        // Check festival state
-        if (festival.getState() != Festival.FestivalState.ASSIGNMENT) {
-            throw new ApiException("Festival is not in ASSIGNMENT state", HttpStatus.FORBIDDEN);
+        // Check requester is staff or an organizer
+        if (!festivalUserRoleRepository.existsByFestivalAndUserAndRole(festival, requester, FestivalRoleType.STAFF)) {
+            isOrganizerForFestival(requester, festival);
         }
 
-        // Check requester is an organizer
-        isOrganizerForFestival(requester, festival);
-
-        // Check festival state
-        festival.setState(Festival.FestivalState.REVIEW);
-        festivalRepository.save(festival);
+        List<Map<String, Object>> conflicts = bandMemberConflictService.findFestivalConflicts(festival);
 
         Map<String, Object> data = new HashMap<>();
         data.put("id", festival.getId());
-        data.put("name", festival.getName());
-        data.put("state", festival.getState().name());
+        data.put("count", conflicts.size());
+        data.put("conflicts", conflicts);
 
         return new ApiResponse<>(
                 LocalDateTime.now(),
                 HttpStatus.OK.value(),
-                "Review started successfully",
+                conflicts.isEmpty() ? "No band member conflicts found" : "Band member conflicts found",
                 data
         );
     }
 
-    //-------------------- SCHEDULE MAKING --------------------
+    //-------------------- DASHBOARD --------------------
     /**
-     * Starts the schedule making phase for a festival.
+     * Returns the dashboard of a festival: performance counts per state,
+     * final submissions, average and percentile review scores, and stage
+     * manager coverage.
      * <p>
-     * Only organizers of the festival can perform this action. The festival
-     * must currently be in the REVIEW state. After executing this action, the
-     * festival state becomes SCHEDULING, allowing approval/rejection of
-     * performances and tentative scheduling.
+     * Only organizers of the festival can perform this action. The figures
+     * come from a single GROUP BY and are cached until a performance of the
+     * festival changes, see {@link FestivalDashboardCache}, so polling costs
+     * the requester and role checks only. A dashboard is always computed
+     * on the primary, as one read from a lagging replica would be cached
+     * under a newer stamp than its data.
      *
      * @param request the request containing festival ID and requester info
-     * @return ApiResponse with updated festival information
-     * @throws ApiException if token is invalid, requester is not an organizer,
-     * festival not found, or festival is in the wrong state
+     * @return ApiResponse with the dashboard
+     * @throws ApiException if token is invalid, festival not found, or
+     * requester is not an organizer
      */
-    @Transactional
-    public ApiResponse<Map<String, Object>> startScheduleMaking(ScheduleMakingRequest request) {
+    @ReadOnlyTransaction
+    public ApiResponse<Map<String, Object>> getFestivalDashboard(FestivalDashboardRequest request) {
+        // Stamp before the first read fixes the transaction's snapshot
+        long stamp = dashboardCache.stamp();
 
         // Validate requester
         User requester = userSecurityService.validateRequester(request.getRequesterUsername(), request.getToken());
 
-        // Find festival
-        Festival festival = festivalRepository.findById(request.getFestivalId())
-                .orElseThrow(() -> new ApiException("Festival not found", HttpStatus.NOT_FOUND));
-
-        // Check festival state
-        if (festival.getState() != Festival.FestivalState.REVIEW) {
-            throw new ApiException("Festival is not in REVIEW state", HttpStatus.FORBIDDEN);
+        // Check requester is an organizer without loading the festival
+        Long festivalId = request.getFestivalId();
+        if (festivalId == null) {
+            throw new ApiException("Festival ID must be provided", HttpStatus.BAD_REQUEST);
+        }
+        if (festivalUserRoleRepository.findFestivalIdsByUserAndRole(
+                requester, FestivalRoleType.ORGANIZER, List.of(festivalId)).isEmpty()) {
+            if (!festivalRepository.existsById(festivalId)) {
+                throw new ApiException("Festival not found", HttpStatus.NOT_FOUND);
+            }
+            throw new ApiException("Only organizers can perform this action", HttpStatus.FORBIDDEN);
         }
 
-        // Check requester is an organizer
-        isOrganizerForFestival(requester, festival);
-
-        // Check festival state
-        festival.setState(Festival.FestivalState.SCHEDULING);
-        festivalRepository.save(festival);
+        Map<String, Object> dashboard = dashboardCache.get(festivalId, stamp,
+                () -> primaryReads.read(
+                        () -> FestivalDashboard.summarize(performanceRepository.findDashboardRows(festivalId))));
 
-        Map<String, Object> data = new HashMap<>();
-        data.put("id", festival.getId());
-        data.put("name", festival.getName());
-        data.put("state", festival.getState().name());
+        Map<String, Object> data = new HashMap<>(dashboard);
+        data.put("id", festivalId);
 
         return new ApiResponse<>(
                 LocalDateTime.now(),
                 HttpStatus.OK.value(),
-                "Schedule making started successfully",
+                "Festival dashboard retrieved successfully",
                 data
         );
     }
 
-    //-------------------- FINAL SUBMITION START --------------------
+    //-------------------- REHEARSAL ALLOCATION --------------------
     /**
-     * Starts the final submission phase for a festival.
+     * Allocates rehearsal slots for the APPROVED and SCHEDULED performances of
+     * a festival.
      * <p>
-     * Only organizers of the festival can perform this action. The festival
-     * must currently be in the SCHEDULING state. After executing this action,
-     * the festival state becomes FINAL_SUBMISSION, allowing artists to submit
-     * final versions of approved performances.
+     * Organizers and staff of the festival can perform this action once the
+     * festival has reached the SCHEDULING state. Rehearsals are packed around
+     * the scheduled performance slots using each performance's preferred
+     * rehearsal times, see {@link RehearsalAllocator}. By default existing
+     * rehearsals are kept and only missing ones are allocated, which makes
+     * re-planning after a withdrawal cheap; {@code replanAll} starts over.
      *
      * @param request the request containing festival ID and requester info
-     * @return ApiResponse with updated festival information
-     * @throws ApiException if token is invalid, requester is not an organizer,
-     * festival not found, or festival is in the wrong state
+     * @return ApiResponse with the number of allocated rehearsals and the IDs
+     * of performances left without one
+     * @throws ApiException if token is invalid, requester is neither organizer
+     * nor staff, festival not found, has no stages, or is in the wrong state
      */
     @Transactional
-    public ApiResponse<Map<String, Object>> startFinalSubmission(FinalSubmissionStartRequest request) {
+    @RetryOnConflict
+    public ApiResponse<Map<String, Object>> allocateRehearsals(RehearsalAllocationRequest request) {
         // Validate requester
         User requester = userSecurityService.validateRequester(request.getRequesterUsername(), request.getToken());
 
@@ -738,38 +869,113 @@ public class FestivalService {
                 .orElseThrow(() -> new ApiException("Festival not found", HttpStatus.NOT_FOUND));
 
         // Check festival state
-        if (festival.getState() != Festival.FestivalState.SCHEDULING) {
-            throw new ApiException("Festival is not in SCHEDULING state", HttpStatus.FORBIDDEN);
+        if (festival.getState().compareTo(Festival.FestivalState.SCHEDULING) < 0) {
+            throw new ApiException("Rehearsals can only be allocated once scheduling has started", HttpStatus.FORBIDDEN);
         }
 
-        // Check requester is an organizer
-        isOrganizerForFestival(requester, festival);
+        // Check requester is staff or an organizer
+        if (!festivalUserRoleRepository.existsByFestivalAndUserAndRole(festival, requester, FestivalRoleType.STAFF)) {
+            isOrganizerForFestival(requester, festival);
+        }
 
-        // Set festival state
-        festival.setState(Festival.FestivalState.FINAL_SUBMISSION);
-        festivalRepository.save(festival);
+        if (festival.getVenueLayout() == null || festival.getVenueLayout().getStages().isEmpty()) {
+            throw new ApiException("Venue layout must define at least one stage", HttpStatus.BAD_REQUEST);
+        }
+
+        List<RehearsalAllocator.StageDay> stageDays = new ArrayList<>();
+        for (LocalDate date : festival.getDates().stream().sorted().toList()) {
+            for (String stage : festival.getVenueLayout().getStages().stream().sorted().toList()) {
+                stageDays.add(new RehearsalAllocator.StageDay(stage, date));
+            }
+        }
+
+        boolean replanAll = Boolean.TRUE.equals(request.getReplanAll());
+        List<Performance> performances = performanceRepository.findAllByFestivalAndStateIn(
+                festival, EnumSet.of(Performance.PerformanceState.APPROVED, Performance.PerformanceState.SCHEDULED));
+
+        // Scheduled performances and kept rehearsals occupy their stage-days
+        List<RehearsalAllocator.Booking> bookings = new ArrayList<>();
+        List<RehearsalAllocator.Act> acts = new ArrayList<>();
+        for (Performance p : performances) {
+            StageSlot scheduled = p.getScheduledSlot();
+            RehearsalAllocator.Booking show = null;
+            if (scheduled != null) {
+                show = new RehearsalAllocator.Booking(
+                        new RehearsalAllocator.StageDay(scheduled.getStage(), scheduled.getDate()),
+                        scheduled.getStartTime(), scheduled.getEndTime());
+                bookings.add(show);
+            }
+
+            StageSlot rehearsal = p.getRehearsalSlot();
+            if (replanAll || rehearsal == null) {
+                p.setRehearsalSlot(null);
+                acts.add(new RehearsalAllocator.Act(p.getId(), show,
+                        p.getPreferredRehearsalTimes().stream().sorted().toList()));
+            } else {
+                bookings.add(new RehearsalAllocator.Booking(
+                        new RehearsalAllocator.StageDay(rehearsal.getStage(), rehearsal.getDate()),
+                        rehearsal.getStartTime(), rehearsal.getEndTime()));
+            }
+        }
+
+        RehearsalAllocator.Result result = rehearsalAllocator.allocate(stageDays, bookings, acts);
+
+        // Persist allocations (dirty checking, flushed as batched updates on commit)
+        Map<Long, Performance> byId = performances.stream()
+                .collect(Collectors.toMap(Performance::getId, p -> p));
+        for (RehearsalAllocator.Allocation allocation : result.allocations()) {
+            byId.get(allocation.actId()).setRehearsalSlot(new StageSlot(
+                    allocation.stageDay().stage(), allocation.stageDay().date(),
+                    allocation.start(), allocation.end()));
+        }
+        eventPublisher.publish(new DomainEvent.LineupChanged(festival.getId()));
 
         Map<String, Object> data = new HashMap<>();
         data.put("id", festival.getId());
-        data.put("name", festival.getName());
-        data.put("state", festival.getState().name());
+        data.put("allocated", result.allocations().size());
+        data.put("satisfiedPreferences", result.allocations().stream()
+                .filter(RehearsalAllocator.Allocation::preferred).count());
+        data.put("kept", performances.size() - acts.size());
+        data.put("unallocated", result.unallocated());
 
         return new ApiResponse<>(
                 LocalDateTime.now(),
                 HttpStatus.OK.value(),
-                "Final submission started successfully",
+                "Rehearsals allocated successfully",
                 data
         );
     }
 
+    //-------------------- FINAL SUBMITION START --------------------
+    /**
+     * Starts the final submission phase for a festival.
+     * <p>
+     * Only organizers of the festival can perform this action. The festival
+     * must currently be in the SCHEDULING state. After executing this action,
+     * the festival state becomes FINAL_SUBMISSION, allowing artists to submit
+     * final versions of approved performances.
+     *
+     * @param request the request containing festival ID and requester info
+     * @return ApiResponse with updated festival information
+     * @throws ApiException if token is invalid, requester is not an organizer,
+     * festival not found, or festival is in the wrong state
+     */
+    @Transactional
+    @RetryOnConflict
+    public ApiResponse<Map<String, Object>> startFinalSubmission(FinalSubmissionStartRequest request) {
+        return transitionFestival(request.getRequesterUsername(), request.getToken(), request.getFestivalId(),
+                FestivalState.FINAL_SUBMISSION);
+    }
+
     //-------------------- DECISION MAKING --------------------
     /**
      * Starts the decision-making phase for a festival.
      * <p>
      * This action is permitted only if the festival is in FINAL_SUBMISSION
      * state. All performances that were not finally submitted by this point are
-     * automatically marked as REJECTED. Only organizers of the festival can
-     * perform this action.
+     * automatically marked as REJECTED with a single bulk update, and the
+     * number of rejected performances is returned. Only organizers of the
+     * festival can perform this action.
      *
      * @param request the decision-making request containing festival ID and
      * requester info
@@ -778,46 +984,10 @@ public class FestivalService {
      * unauthorized, or wrong state
      */
     @Transactional
+    @RetryOnConflict
     public ApiResponse<Map<String, Object>> startDecisionMaking(DecisionMakingRequest request) {
-        //Validate requester
-        User requester = userSecurityService.validateRequester(request.getRequesterUsername(), request.getToken());
-
-        //Find festival
-        Festival festival = festivalRepository.findById(request.getFestivalId())
-                .orElseThrow(() -> new ApiException("Festival not found", HttpStatus.NOT_FOUND));
-
-        //Check festival state
-        if (festival.getState() != Festival.FestivalState.FINAL_SUBMISSION) {
-            throw new ApiException("Festival is not in FINAL_SUBMISSION state", HttpStatus.FORBIDDEN);
-        }
-
-        //Check requester is an organizer
-        isOrganizerForFestival(requester, festival);
-
-        //Reject all performances that are not finally submitted
-        festival.getPerformances().forEach(performance -> {
-            if (!performance.isFinal_submitted()) {
-                performance.setState(Performance.PerformanceState.REJECTED);
-                performance.setReviewerComments("AUTOMATICALY REJECTED - NOT FINALLY SUBMITTED");
-            }
-        });
-
-        //Update festival state to DECISION
-        festival.setState(Festival.FestivalState.DECISION);
-        festivalRepository.save(festival);
-
-        //Build response
-        Map<String, Object> data = new HashMap<>();
-        data.put("id", festival.getId());
-        data.put("name", festival.getName());
-        data.put("state", festival.getState().name());
-
-        return new ApiResponse<>(
-                LocalDateTime.now(),
-                HttpStatus.OK.value(),
-                "Decision making started successfully",
-                data
-        );
+        return transitionFestival(request.getRequesterUsername(), request.getToken(), request.getFestivalId(),
+                FestivalState.DECISION);
     }
 
     //-------------------- FESTIVAL ANNOUNCEMENT --------------------
@@ -835,39 +1005,81 @@ public class FestivalService {
      * unauthorized, or wrong state
      */
     @Transactional
+    @RetryOnConflict
     public ApiResponse<Map<String, Object>> announceFestival(FestivalAnnouncementRequest request) {
-        //Validate requester
-        User requester = userSecurityService.validateRequester(request.getRequesterUsername(), request.getToken());
+        return transitionFestival(request.getRequesterUsername(), request.getToken(), request.getFestivalId(),
+                FestivalState.ANNOUNCED);
+    }
 
-        //Find festival
-        Festival festival = festivalRepository.findById(request.getFestivalId())
-                .orElseThrow(() -> new ApiException("Festival not found", HttpStatus.NOT_FOUND));
+    //-------------------- BULK TRANSITION --------------------
+    /**
+     * Moves many festivals into the same phase in one transaction.
+     * <p>
+     * Organizer rights are resolved for all festivals with a single query.
+     * Each festival then goes through the same transition as the single-item
+     * endpoints (state check, guards, actions); festivals that cannot move are
+     * reported and left unchanged while the others are still advanced.
+     *
+     * @param request the request containing festival IDs, target state and
+     * requester info
+     * @return ApiResponse with the number of festivals moved and the outcome
+     * per festival ID
+     * @throws ApiException if token is invalid, the ID list is empty, or no
+     * transition leads to the target state
+     */
+    @Transactional
+    @RetryOnConflict
+    public ApiResponse<Map<String, Object>> bulkTransitionFestivals(BulkFestivalTransitionRequest request) {
+        // Validate requester
+        User requester = userSecurityService.validateRequester(request.getRequesterUsername(), request.getToken());
 
-        //Check festival state
-        if (festival.getState() != Festival.FestivalState.DECISION) {
-            throw new ApiException("Festival is not in DECISION state", HttpStatus.FORBIDDEN);
+        if (request.getFestivalIds() == null || request.getFestivalIds().isEmpty()) {
+            throw new ApiException("Festival IDs list cannot be null or empty", HttpStatus.BAD_REQUEST);
+        }
+        if (request.getTargetState() == null) {
+            throw new ApiException("Target state must be provided", HttpStatus.BAD_REQUEST);
         }
 
-        // Check requester is an organizer
-        isOrganizerForFestival(requester, festival);
-
-        // Validate that all required festival information is present
-        validateFestivalCompleteness(festival);
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(request.getFestivalIds()));
+        Map<Long, Festival> festivals = festivalRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Festival::getId, f -> f));
+        Set<Long> organized = new HashSet<>(festivalUserRoleRepository.findFestivalIdsByUserAndRole(
+                requester, FestivalRoleType.ORGANIZER, festivals.keySet()));
+
+        Map<Long, String> outcomes = new LinkedHashMap<>();
+        List<Festival> eligible = new ArrayList<>();
+        for (Long id : ids) {
+            if (!festivals.containsKey(id)) {
+                outcomes.put(id, "NOT_FOUND");
+            } else if (!organized.contains(id)) {
+                outcomes.put(id, "FORBIDDEN");
+            } else {
+                eligible.add(festivals.get(id));
+            }
+        }
 
-        // Update festival state to ANNOUNCED
-        festival.setState(Festival.FestivalState.ANNOUNCED);
-        festivalRepository.save(festival);
+        List<StateMachine.Outcome<Festival>> results = festivalWorkflow.fireAll(eligible, request.getTargetState());
+        List<Festival> moved = new ArrayList<>();
+        for (StateMachine.Outcome<Festival> result : results) {
+            if (result.transitioned()) {
+                moved.add(result.entity());
+                outcomes.put(result.entity().getId(), "TRANSITIONED");
+            } else {
+                outcomes.put(result.entity().getId(), result.error());
+            }
+        }
+        // Bulk actions clear the persistence context, so merge rather than rely on dirty checking
+        festivalRepository.saveAll(moved);
 
-        //Build response
         Map<String, Object> data = new HashMap<>();
-        data.put("id", festival.getId());
-        data.put("name", festival.getName());
-        data.put("state", festival.getState().name());
+        data.put("state", request.getTargetState().name());
+        data.put("transitioned", moved.size());
+        data.put("outcomes", outcomes);
 
         return new ApiResponse<>(
                 LocalDateTime.now(),
                 HttpStatus.OK.value(),
-                "Festival announced successfully",
+                "Festivals transitioned successfully",
                 data
         );
     }
@@ -1002,6 +1214,42 @@ public class FestivalService {
         }
     }
 
+    /**
+     * Runs the common part of every festival phase change: authenticate the
+     * requester, load the festival, require an organizer, then fire the
+     * transition of {@link FestivalWorkflow}, which checks the current state
+     * and runs the transition's guards and actions.
+     */
+    private ApiResponse<Map<String, Object>> transitionFestival(String requesterUsername, String token,
+            Long festivalId, FestivalState target) {
+        // Validate requester
+        User requester = userSecurityService.validateRequester(requesterUsername, token);
+
+        // Find festival
+        Festival festival = festivalRepository.findById(festivalId)
+                .orElseThrow(() -> new ApiException("Festival not found", HttpStatus.NOT_FOUND));
+
+        // Check requester is an organizer
+        isOrganizerForFestival(requester, festival);
+
+        // Check state and apply the transition
+        Map<String, Object> effects = festivalWorkflow.fire(festival, target);
+        festivalRepository.save(festival);
+
+        // Build response
+        Map<String, Object> data = new HashMap<>(effects);
+        data.put("id", festival.getId());
+        data.put("name", festival.getName());
+        data.put("state", festival.getState().name());
+
+        return new ApiResponse<>(
+                LocalDateTime.now(),
+                HttpStatus.OK.value(),
+                festivalWorkflow.messageOf(target),
+                data
+        );
+    }
+
     private boolean isOrganizerForFestival(User user, Festival festival) {
         if (!festivalUserRoleRepository.existsByFestivalAndUserAndRole(festival, user, FestivalRoleType.ORGANIZER)) {
             throw new ApiException("Only organizers of this festival can do this", HttpStatus.FORBIDDEN);
@@ -1017,6 +1265,16 @@ public class FestivalService {
     }
 
     private FestivalSearchResponseDTO mapFestival(Festival festival, User requester) {
+        boolean isOrganizer = requester != null && festival.getUserRoles().stream()
+                .anyMatch(r -> r.getUser().equals(requester) && r.getRole() == FestivalRoleType.ORGANIZER);
+        return toResponse(festival, isOrganizer);
+    }
+
+    /**
+     * Maps a festival to its public view, or to its organizer view with
+     * organizers, staff and nested entities.
+     */
+    static FestivalSearchResponseDTO toResponse(Festival festival, boolean organizerView) {
         FestivalSearchResponseDTO dto = new FestivalSearchResponseDTO();
         dto.setId(festival.getId());
         dto.setName(festival.getName());
@@ -1024,10 +1282,7 @@ public class FestivalService {
         dto.setVenue(festival.getVenue());
         dto.setDates(festival.getDates());
 
-        boolean isOrganizer = requester != null && festival.getUserRoles().stream()
-                .anyMatch(r -> r.getUser().equals(requester) && r.getRole() == FestivalRoleType.ORGANIZER);
-
-        if (isOrganizer) {
+        if (organizerView) {
             dto.setOrganizers(festival.getUserRoles().stream()
                     .filter(r -> r.getRole() == FestivalRoleType.ORGANIZER)
                     .map(r -> r.getUser().getUsername())
@@ -1068,54 +1323,4 @@ public class FestivalService {
         }
 
         return dto;
-    }
-
-    private void validateFestivalCompleteness(Festival festival) {
-        if (festival.getName() == null || festival.getName().isBlank()) {
-            throw new ApiException("Festival name is missing", HttpStatus.BAD_REQUEST);
-        }
-        if (festival.getDescription() == null || festival.getDescription().isBlank()) {
-            throw new ApiException("Festival description is missing", HttpStatus.BAD_REQUEST);
-        }
-        if (festival.getDates() == null || festival.getDates().isEmpty()) {
-            throw new ApiException("Festival dates are missing", HttpStatus.BAD_REQUEST);
-        }
-
-        // Venue layout checks
-        if (festival.getVenueLayout() == null
-                || festival.getVenueLayout().getStages() == null || festival.getVenueLayout().getStages().isEmpty()
-                || festival.getVenueLayout().getVendorAreas() == null || festival.getVenueLayout().getVendorAreas().isEmpty()
-                || festival.getVenueLayout().getFacilities() == null || festival.getVenueLayout().getFacilities().isEmpty()) {
-            throw new ApiException("Venue layout is incomplete", HttpStatus.BAD_REQUEST);
-        }
-
-        // Budget checks
-        if (festival.getBudget() == null
-                || festival.getBudget().getCosts() == null
-                || festival.getBudget().getExpectedRevenue() == null
-                || festival.getBudget().getLogistics() == null
-                || festival.getBudget().getTracking() == null) {
-            throw new ApiException("Budget information is incomplete", HttpStatus.BAD_REQUEST);
-        }
-
-        // Vendor management checks
-        if (festival.getVendorManagement() == null
-                || festival.getVendorManagement().getFoodStalls() == null
-                || festival.getVendorManagement().getMerchandiseBooths() == null) {
-            throw new ApiException("Vendor management information is incomplete", HttpStatus.BAD_REQUEST);
-        }
-
-        // Roles checks
-        boolean hasOrganizer = festival.getUserRoles().stream()
-                .anyMatch(r -> r.getRole() == FestivalRoleType.ORGANIZER);
-        boolean hasStaff = festival.getUserRoles().stream()
-                .anyMatch(r -> r.getRole() == FestivalRoleType.STAFF);
-
-        if (!hasOrganizer) {
-            throw new ApiException("Festival must have at least one organizer", HttpStatus.BAD_REQUEST);
-        }
-        if (!hasStaff) {
-            throw new ApiException("Festival must have at least one staff member", HttpStatus.BAD_REQUEST);
-        }
-    }
-}
+    }}
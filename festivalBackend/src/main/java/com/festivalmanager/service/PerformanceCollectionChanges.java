@@ -0,0 +1,168 @@
+package com.festivalmanager.service;
+
+import com.festivalmanager.dto.performance.MerchandiseItemDTO;
+import com.festivalmanager.exception.ApiException;
+import com.festivalmanager.model.MerchandiseItem;
+import com.festivalmanager.model.Performance;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Applies changes to the merchandise items and setlist of a performance as
+ * row-level edits.
+ * <p>
+ * The managed collections are edited in place instead of being replaced, so
+ * Hibernate writes only what changed: an INSERT per added item or song, a
+ * DELETE per removed one and an UPDATE per merchandise item whose fields
+ * changed. Replacing a collection would delete and reinsert every row.
+ * Setlist changes also increment the version of the performance, which owns
+ * that collection.
+ * Merchandise items are keyed by name within their performance.
+ * </p>
+ */
+final class PerformanceCollectionChanges {
+
+    private PerformanceCollectionChanges() {
+    }
+
+    /**
+     * Makes the merchandise items of a performance match the given ones.
+     * Items are matched by name: matching items take every field of the
+     * given ones, a null description included, missing ones are added and the
+     * others removed.
+     *
+     * @param performance the performance
+     * @param items the complete list of items
+     * @throws ApiException if names repeat or an item is incomplete
+     */
+    static void replaceMerchandise(Performance performance, Collection<MerchandiseItemDTO> items) {
+        Set<String> kept = new HashSet<>();
+        for (MerchandiseItemDTO item : items) {
+            kept.add(item.getName());
+        }
+        Set<String> removed = new HashSet<>();
+        for (MerchandiseItem item : performance.getMerchandiseItems()) {
+            if (!kept.contains(item.getName())) {
+                removed.add(item.getName());
+            }
+        }
+        applyMerchandise(performance, items, removed, true);
+    }
+
+    /**
+     * Adds or modifies the given merchandise items and removes the named ones.
+     * Null fields of an item that already exists are left unchanged; unknown
+     * names to remove are ignored.
+     *
+     * @param performance the performance
+     * @param upserts items to add, or to modify when their name exists
+     * @param removedNames names of the items to remove
+     * @throws ApiException if names repeat or a new item is incomplete
+     */
+    static void patchMerchandise(Performance performance, Collection<MerchandiseItemDTO> upserts,
+            Collection<String> removedNames) {
+        applyMerchandise(performance, upserts, removedNames, false);
+    }
+
+    /**
+     * Adds or modifies the given merchandise items and removes the named ones.
+     *
+     * @param performance the performance
+     * @param upserts items to add, or to modify when their name exists
+     * @param removedNames names of the items to remove
+     * @param replace whether the items replace existing ones entirely, or
+     *                only their non-null fields
+     * @throws ApiException if names repeat or an item is incomplete
+     */
+    private static void applyMerchandise(Performance performance, Collection<MerchandiseItemDTO> upserts,
+            Collection<String> removedNames, boolean replace) {
+        Set<MerchandiseItem> items = performance.getMerchandiseItems();
+        Map<String, MerchandiseItem> byName = new HashMap<>();
+        for (MerchandiseItem item : items) {
+            // Surplus items sharing a name are left for removal
+            byName.putIfAbsent(item.getName(), item);
+        }
+
+        Set<String> seen = new HashSet<>();
+        for (MerchandiseItemDTO dto : upserts) {
+            if (dto.getName() == null || dto.getName().isBlank()) {
+                throw new ApiException("Merchandise item name must be provided", HttpStatus.BAD_REQUEST);
+            }
+            if (!seen.add(dto.getName()) || removedNames.contains(dto.getName())) {
+                throw new ApiException("Merchandise item " + dto.getName() + " is changed more than once",
+                        HttpStatus.BAD_REQUEST);
+            }
+            if ((replace || !byName.containsKey(dto.getName()))
+                    && (dto.getType() == null || dto.getPrice() == null)) {
+                throw new ApiException("Merchandise item " + dto.getName() + " needs a type and a price",
+                        HttpStatus.BAD_REQUEST);
+            }
+        }
+
+        if (!removedNames.isEmpty()) {
+            items.removeIf(item -> removedNames.contains(item.getName()));
+        }
+        items.removeIf(item -> seen.contains(item.getName()) && byName.get(item.getName()) != item);
+
+        for (MerchandiseItemDTO dto : upserts) {
+            MerchandiseItem item = byName.get(dto.getName());
+            if (item == null) {
+                item = new MerchandiseItem();
+                item.setName(dto.getName());
+                item.setPerformance(performance);
+                items.add(item);
+            }
+            // Only differing values are assigned, so unchanged items stay clean
+            if ((replace || dto.getDescription() != null)
+                    && !Objects.equals(dto.getDescription(), item.getDescription())) {
+                item.setDescription(dto.getDescription());
+            }
+            if (dto.getType() != null && !dto.getType().equals(item.getType())) {
+                item.setType(dto.getType());
+            }
+            if (dto.getPrice() != null && !Objects.equals(dto.getPrice(), item.getPrice())) {
+                item.setPrice(dto.getPrice());
+            }
+        }
+    }
+
+    /**
+     * Makes the setlist of a performance match the given songs.
+     *
+     * @param performance the performance
+     * @param songs the complete setlist
+     */
+    static void replaceSetlist(Performance performance, Collection<String> songs) {
+        Set<String> setlist = performance.getSetlist();
+        Set<String> wanted = new HashSet<>(songs);
+        setlist.retainAll(wanted);
+        setlist.addAll(wanted);
+    }
+
+    /**
+     * Adds and removes songs of the setlist of a performance.
+     *
+     * @param performance the performance
+     * @param added songs to add
+     * @param removed songs to remove
+     * @throws ApiException if a song is both added and removed
+     */
+    static void patchSetlist(Performance performance, Collection<String> added, Collection<String> removed) {
+        for (String song : added) {
+            if (song == null || song.isBlank()) {
+                throw new ApiException("Song title must be provided", HttpStatus.BAD_REQUEST);
+            }
+            if (removed.contains(song)) {
+                throw new ApiException("Song " + song + " is both added and removed", HttpStatus.BAD_REQUEST);
+            }
+        }
+        Set<String> setlist = performance.getSetlist();
+        setlist.removeAll(new HashSet<>(removed));
+        setlist.addAll(added);
+    }
+}
@@ -1,18 +1,32 @@
 package com.festivalmanager.service;
 
+import com.festivalmanager.concurrency.RetryOnConflict;
+import com.festivalmanager.datasource.ReadOnlyTransaction;
+import com.festivalmanager.decision.DecisionCandidate;
+import com.festivalmanager.decision.TopKSelector;
 import com.festivalmanager.dto.api.ApiResponse;
 import com.festivalmanager.dto.performance.*;
 import com.festivalmanager.enums.FestivalRoleType;
+import com.festivalmanager.events.DomainEvent;
+import com.festivalmanager.events.DomainEventPublisher;
 import com.festivalmanager.exception.ApiException;
 import com.festivalmanager.model.*;
 import com.festivalmanager.model.Performance.PerformanceState;
 import com.festivalmanager.repository.*;
+import com.festivalmanager.scheduling.AssignmentCandidate;
+import com.festivalmanager.scheduling.StaffGenreCount;
+import com.festivalmanager.scheduling.StageManagerAssigner;
 import com.festivalmanager.security.UserSecurityService;
+import com.festivalmanager.workflow.PerformanceWorkflow;
+import com.festivalmanager.workflow.StateMachine;
 import jakarta.transaction.Transactional;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
@@ -33,6 +47,16 @@ import org.springframework.stereotype.Service;
 @Service
 public class PerformanceService {
 
+    /** Largest number of performances ranked in one decision queue request. */
+    static final int MAX_DECISION_QUEUE_SIZE = 500;
+
+    /** Largest number of performances handled by one bulk request. */
+    static final int MAX_BULK_SIZE = 1000;
+
+    /** Default and largest page size of a work queue. */
+    static final int DEFAULT_QUEUE_PAGE_SIZE = 50;
+    static final int MAX_QUEUE_PAGE_SIZE = 200;
+
     @Autowired
     private PerformanceRepository performanceRepository;
 
@@ -48,6 +72,15 @@ public class PerformanceService {
     @Autowired
     private UserSecurityService userSecurityService;
 
+    @Autowired
+    private PerformanceWorkflow performanceWorkflow;
+
+    @Autowired
+    private DomainEventPublisher eventPublisher;
+
+    @Autowired
+    private FestivalArchiver festivalArchiver;
+
     /**
      * Creates a new performance for a given festival.
      *
@@ -154,20 +187,11 @@ public class PerformanceService {
                 continue;
             }
 
-            //add to band members list 
-            performance.getBandMembers().add(member);
-
-            //make him an artist for the main festival 
-            if (!festivalUserRoleRepository.existsByFestivalAndUserAndRole(performance.getFestival(), member, FestivalRoleType.ARTIST)) {
-                FestivalUserRole festivalRole = new FestivalUserRole();
-                festivalRole.setFestival(performance.getFestival());
-                festivalRole.setUser(member);
-                festivalRole.setRole(FestivalRoleType.ARTIST);
-                festivalUserRoleRepository.save(festivalRole);
-            }
+            addBandMember(performance, member);
         }
         //Save performance
         Performance savedPerformance = performanceRepository.save(performance);
+        eventPublisher.publish(new DomainEvent.PerformanceUpdated(savedPerformance.getId(), savedPerformance.getFestival().getId()));
 
         //Build response
         Map<String, Object> data = new HashMap<>();
@@ -193,6 +217,7 @@ public class PerformanceService {
      * @throws ApiException if requester is not an artist or validation fails
      */
     @Transactional
+    @RetryOnConflict
     public ApiResponse<Map<String, Object>> updatePerformance(PerformanceUpdateRequest request) {
         // Validate requester 
         User requester = userSecurityService.validateRequester(
@@ -248,21 +273,12 @@ public class PerformanceService {
             performance.setTechnicalRequirement(techFile);
         }
 
+        // Collections are diffed so that unchanged rows are not rewritten
         if (request.getSetlist() != null) {
-            performance.setSetlist((Set<String>) request.getSetlist());
+            PerformanceCollectionChanges.replaceSetlist(performance, request.getSetlist());
         }
         if (request.getMerchandiseItems() != null) {
-            Set<MerchandiseItem> merchItems = new HashSet<>();
-            for (MerchandiseItemDTO dto : request.getMerchandiseItems()) {
-                MerchandiseItem item = new MerchandiseItem();
-                item.setName(dto.getName());
-                item.setDescription(dto.getDescription());
-                item.setType(dto.getType());
-                item.setPrice(dto.getPrice());
-                item.setPerformance(performance);
-                merchItems.add(item);
-            }
-            performance.setMerchandiseItems(merchItems);
+            PerformanceCollectionChanges.replaceMerchandise(performance, request.getMerchandiseItems());
         }
 
         if (request.getPreferredRehearsalTimes()
@@ -275,33 +291,24 @@ public class PerformanceService {
             performance.setPreferredPerformanceSlots(request.getPreferredPerformanceSlots());
         }
 
-        //Update band members if provided
+        //Add band members if provided; current members and the creator need no checks
         if (request.getBandMemberIds() != null) {
+            Set<Long> memberIds = performance.getBandMembers().stream()
+                    .map(User::getId)
+                    .collect(Collectors.toSet());
+            memberIds.add(performance.getCreator().getId());
             for (Long memberId : request.getBandMemberIds()) {
-                User member = userRepository.findById(memberId)
-                        .orElseThrow(() -> new ApiException("Band member not found: " + memberId, HttpStatus.NOT_FOUND));
-
-                // Skip creator if included in the list
-                if (member.getId().equals(performance.getCreator().getId())) {
+                if (memberIds.contains(memberId)) {
                     continue;
                 }
-
-                // Add to performance's bandMembers set
-                performance.getBandMembers().add(member);
-
-                // Assign ARTIST role for the festival if not already assigned
-                if (!festivalUserRoleRepository.existsByFestivalAndUserAndRole(
-                        performance.getFestival(), member, FestivalRoleType.ARTIST)) {
-                    FestivalUserRole festivalRole = new FestivalUserRole();
-                    festivalRole.setFestival(performance.getFestival());
-                    festivalRole.setUser(member);
-                    festivalRole.setRole(FestivalRoleType.ARTIST);
-                    festivalUserRoleRepository.save(festivalRole);
-                }
+                User member = userRepository.findById(memberId)
+                        .orElseThrow(() -> new ApiException("Band member not found: " + memberId, HttpStatus.NOT_FOUND));
+                addBandMember(performance, member);
             }
         }
 
         Performance updated = performanceRepository.save(performance);
+        eventPublisher.publish(new DomainEvent.PerformanceUpdated(updated.getId(), updated.getFestival().getId()));
 
         //Build response
         Map<String, Object> data = new HashMap<>();
@@ -323,6 +330,95 @@ public class PerformanceService {
         );
     }
 
+    /**
+     * Adds, modifies or removes individual merchandise items, setlist songs
+     * and band members of a performance. Only the ARTIST of the performance
+     * can change it, and only before submission.
+     * <p>
+     * Each change touches one row: editing a price updates that item only,
+     * where {@link #updatePerformance} would have to be sent the whole list.
+     * </p>
+     *
+     * @param request PerformancePatchRequest listing the changes
+     * @return ApiResponse with the performance ID, name and state
+     * @throws ApiException if requester is not the artist, a user is not
+     * found, or a change is invalid
+     */
+    @Transactional
+    @RetryOnConflict
+    public ApiResponse<Map<String, Object>> patchPerformance(PerformancePatchRequest request) {
+        // Validate requester
+        User requester = userSecurityService.validateRequester(
+                request.getRequesterUsername(),
+                request.getToken()
+        );
+
+        //Find performance
+        Performance performance = performanceRepository.findById(request.getPerformanceId())
+                .orElseThrow(() -> new ApiException("Performance not found", HttpStatus.NOT_FOUND));
+
+        //Verify requester is ARTIST of this performance
+        if (!performanceRepository.existsByIdAndCreator(performance.getId(), requester)) {
+            throw new ApiException("Only ARTIST of this performance can update it", HttpStatus.FORBIDDEN);
+        }
+
+        if (performance.getState() != PerformanceState.CREATED) {
+            throw new ApiException("Cannot perform performance update once submitted", HttpStatus.FORBIDDEN);
+        }
+
+        if (request.getUpsertMerchandiseItems() != null || request.getRemoveMerchandiseItems() != null) {
+            PerformanceCollectionChanges.patchMerchandise(performance,
+                    Objects.requireNonNullElse(request.getUpsertMerchandiseItems(), List.of()),
+                    Objects.requireNonNullElse(request.getRemoveMerchandiseItems(), Set.of()));
+        }
+
+        if (request.getAddSongs() != null || request.getRemoveSongs() != null) {
+            PerformanceCollectionChanges.patchSetlist(performance,
+                    Objects.requireNonNullElse(request.getAddSongs(), Set.of()),
+                    Objects.requireNonNullElse(request.getRemoveSongs(), Set.of()));
+        }
+
+        Set<String> removedMembers = Objects.requireNonNullElse(request.getRemoveBandMembers(), Set.of());
+        Set<String> addedMembers = Objects.requireNonNullElse(request.getAddBandMembers(), Set.of());
+        for (String username : addedMembers) {
+            if (removedMembers.contains(username)) {
+                throw new ApiException("Band member " + username + " is both added and removed", HttpStatus.BAD_REQUEST);
+            }
+        }
+        if (!removedMembers.isEmpty()) {
+            performance.getBandMembers().removeIf(member -> removedMembers.contains(member.getUsername()));
+        }
+        if (!addedMembers.isEmpty()) {
+            Set<String> current = performance.getBandMembers().stream()
+                    .map(User::getUsername)
+                    .collect(Collectors.toSet());
+            current.add(performance.getCreator().getUsername());
+            for (String username : addedMembers) {
+                if (current.contains(username)) {
+                    continue;
+                }
+                User member = userRepository.findByUsername(username)
+                        .orElseThrow(() -> new ApiException("Band member not found: " + username, HttpStatus.NOT_FOUND));
+                addBandMember(performance, member);
+            }
+        }
+
+        eventPublisher.publish(new DomainEvent.PerformanceUpdated(performance.getId(), performance.getFestival().getId()));
+
+        //Build response
+        Map<String, Object> data = new HashMap<>();
+        data.put("id", performance.getId());
+        data.put("name", performance.getName());
+        data.put("state", performance.getState().name());
+
+        return new ApiResponse<>(
+                LocalDateTime.now(),
+                HttpStatus.OK.value(),
+                "Performance updated successfully",
+                data
+        );
+    }
+
     /**
      * Adds a new band member to an existing performance. Only the ARTIST of the
      * performance can add members.
@@ -333,6 +429,7 @@ public class PerformanceService {
      * @throws ApiException if requester is not artist or user not found
      */
     @Transactional
+    @RetryOnConflict
     public ApiResponse<Map<String, Object>> addBandMember(BandMemberAddRequest request) {
         // Validate requester 
         User requester = userSecurityService.validateRequester(
@@ -359,20 +456,8 @@ public class PerformanceService {
         User newMember = userRepository.findByUsername(request.getNewMemberUsername())
                 .orElseThrow(() -> new ApiException("User to add not found", HttpStatus.NOT_FOUND));
 
-        // Add to performance's bandMembers set
-        performance.getBandMembers().add(newMember);
-
-        //Ensure the user is also ARTIST of the festival
-        boolean isFestivalArtist = festivalUserRoleRepository.existsByFestivalAndUserAndRole(
-                performance.getFestival(), newMember, FestivalRoleType.ARTIST);
-
-        if (!isFestivalArtist) {
-            FestivalUserRole festivalRole = new FestivalUserRole();
-            festivalRole.setFestival(performance.getFestival());
-            festivalRole.setUser(newMember);
-            festivalRole.setRole(FestivalRoleType.ARTIST);
-            festivalUserRoleRepository.save(festivalRole);
-        }
+        addBandMember(performance, newMember);
+        eventPublisher.publish(new DomainEvent.PerformanceUpdated(performance.getId(), performance.getFestival().getId()));
 
         //Build response
         Map<String, Object> data = new HashMap<>();
@@ -387,6 +472,24 @@ public class PerformanceService {
         );
     }
 
+    /**
+     * Adds a user to the band of a performance and makes them an ARTIST of
+     * the festival if they are not one yet.
+     */
+    private void addBandMember(Performance performance, User member) {
+        performance.getBandMembers().add(member);
+
+        boolean isFestivalArtist = festivalUserRoleRepository.existsByFestivalAndUserAndRole(
+                performance.getFestival(), member, FestivalRoleType.ARTIST);
+        if (!isFestivalArtist) {
+            FestivalUserRole festivalRole = new FestivalUserRole();
+            festivalRole.setFestival(performance.getFestival());
+            festivalRole.setUser(member);
+            festivalRole.setRole(FestivalRoleType.ARTIST);
+            festivalUserRoleRepository.save(festivalRole);
+        }
+    }
+
     /**
      * Submits a performance for festival consideration. Only ARTIST can submit,
      * and festival must be in SUBMISSION state.
@@ -397,6 +500,7 @@ public class PerformanceService {
      * submissions
      */
     @Transactional
+    @RetryOnConflict
     public ApiResponse<Map<String, Object>> submitPerformance(PerformanceSubmitRequest request) {
         // Validate requester 
         User requester = userSecurityService.validateRequester(
@@ -415,26 +519,8 @@ public class PerformanceService {
             throw new ApiException("Only ARTIST of this performance can submit it", HttpStatus.FORBIDDEN);
         }
 
-        //Check if festival allows submission (example: festival must be in SUBMISSION state)
-        if (!performance.getFestival().getState().name().equals("SUBMISSION")) {
-            throw new ApiException("Festival is not accepting submissions currently", HttpStatus.BAD_REQUEST);
-        }
-
-        //Check that performance details are complete
-        if (performance.getName() == null || performance.getName().isBlank()
-                || performance.getDescription() == null || performance.getDescription().isBlank()
-                || performance.getGenre() == null || performance.getGenre().isBlank()
-                || performance.getDuration() == null
-                || performance.getTechnicalRequirement() == null
-                || performance.getSetlist() == null || performance.getSetlist().isEmpty()
-                || performance.getMerchandiseItems() == null || performance.getMerchandiseItems().isEmpty()
-                || performance.getPreferredRehearsalTimes() == null || performance.getPreferredRehearsalTimes().isEmpty()
-                || performance.getPreferredPerformanceSlots() == null || performance.getPreferredPerformanceSlots().isEmpty()) {
-            throw new ApiException("Performance is incomplete and cannot be submitted", HttpStatus.BAD_REQUEST);
-        }
-
-        //Change state to SUBMITTED
-        performance.setState(Performance.PerformanceState.SUBMITTED);
+        //Change state to SUBMITTED (festival must be in SUBMISSION, details complete)
+        performanceWorkflow.fire(performance, PerformanceState.SUBMITTED);
         Performance updated = performanceRepository.save(performance);
 
         //Build response
@@ -446,7 +532,7 @@ public class PerformanceService {
         return new ApiResponse<>(
                 java.time.LocalDateTime.now(),
                 HttpStatus.OK.value(),
-                "Performance submitted successfully",
+                performanceWorkflow.messageOf(PerformanceState.SUBMITTED),
                 data
         );
     }
@@ -484,8 +570,9 @@ public class PerformanceService {
             throw new ApiException("Performance cannot be withdrawn after submission", HttpStatus.BAD_REQUEST);
         }
 
-        //Delete performance
-        performanceRepository.delete(performance);
+        //Delete performance and its child rows, one statement per table
+        performanceRepository.bulkDeletePerformance(performance.getId());
+        eventPublisher.publish(new DomainEvent.PerformanceDeleted(performance.getId(), performance.getFestival().getId()));
 
         //Build response
         Map<String, Object> data = new HashMap<>();
@@ -511,6 +598,7 @@ public class PerformanceService {
      * ASSIGNMENT state
      */
     @Transactional
+    @RetryOnConflict
     public ApiResponse<Map<String, Object>> assignStaffToPerformance(PerformanceAssignStaffRequest request) {
         // Validate requester 
         User requester = userSecurityService.validateRequester(
@@ -555,6 +643,7 @@ public class PerformanceService {
         //Assign staff as primary handler
         performance.setStageManager(staff);
         Performance updated = performanceRepository.save(performance);
+        eventPublisher.publish(new DomainEvent.PerformanceUpdated(updated.getId(), updated.getFestival().getId()));
 
         //Build response
         Map<String, Object> data = new HashMap<>();
@@ -570,6 +659,126 @@ public class PerformanceService {
         );
     }
 
+    /**
+     * Assigns every SUBMITTED performance of a festival that has no stage
+     * manager to one of the festival's STAFF members, balancing their
+     * workload and optionally favouring genre affinity. Only an ORGANIZER can
+     * auto-assign, and festival must be in ASSIGNMENT state.
+     * <p>
+     * Performances are read as a narrow projection, distributed in memory by
+     * {@link StageManagerAssigner}, and written with one set-based update per
+     * staff member.
+     *
+     * @param request AutoAssignStaffRequest containing festival ID and the
+     * optional genre affinity weight
+     * @return ApiResponse with the number of performances assigned, the
+     * performance IDs given to each staff member and each member's new load
+     * @throws ApiException if requester not organizer, festival not in
+     * ASSIGNMENT, the festival has no STAFF, or the weight is negative
+     */
+    @Transactional
+    @RetryOnConflict
+    public ApiResponse<Map<String, Object>> autoAssignStaff(AutoAssignStaffRequest request) {
+        // Validate requester
+        User requester = userSecurityService.validateRequester(
+                request.getRequesterUsername(),
+                request.getToken()
+        );
+
+        //Find festival
+        Festival festival = festivalRepository.findById(request.getFestivalId())
+                .orElseThrow(() -> new ApiException("Festival not found", HttpStatus.NOT_FOUND));
+
+        //Ensure requester is ORGANIZER of the festival
+        if (!festivalUserRoleRepository.existsByFestivalAndUserAndRole(festival, requester, FestivalRoleType.ORGANIZER)) {
+            throw new ApiException("Only an ORGANIZER of this festival can perform this action", HttpStatus.FORBIDDEN);
+        }
+
+        //Ensure festival is in ASSIGNMENT state
+        if (festival.getState() != Festival.FestivalState.ASSIGNMENT) {
+            throw new ApiException("Staff can only be assigned during ASSIGNMENT state", HttpStatus.BAD_REQUEST);
+        }
+
+        double weight = request.getGenreAffinityWeight() != null ? request.getGenreAffinityWeight() : 0;
+        if (weight < 0) {
+            throw new ApiException("Genre affinity weight must not be negative", HttpStatus.BAD_REQUEST);
+        }
+
+        List<User> staffUsers = festivalUserRoleRepository.findUsersByFestivalAndRole(festival, FestivalRoleType.STAFF);
+        if (staffUsers.isEmpty()) {
+            throw new ApiException("Festival has no STAFF members to assign", HttpStatus.BAD_REQUEST);
+        }
+        List<Long> staffIds = staffUsers.stream().map(User::getId).toList();
+
+        //Current load in this festival and, if weighted, genre history across festivals
+        Map<Long, Integer> loads = new HashMap<>();
+        performanceRepository.countByStageManagerAndGenre(staffIds, festival.getId())
+                .forEach(c -> loads.merge(c.staffId(), c.count().intValue(), Integer::sum));
+        Map<Long, Map<String, Double>> affinities = weight > 0 ? genreAffinities(staffIds) : Map.of();
+
+        List<StageManagerAssigner.Staff> staff = staffUsers.stream()
+                .map(u -> new StageManagerAssigner.Staff(u.getId(), loads.getOrDefault(u.getId(), 0),
+                        affinities.getOrDefault(u.getId(), Map.of())))
+                .toList();
+        List<AssignmentCandidate> candidates = performanceRepository.findAssignmentCandidates(
+                festival.getId(), PerformanceState.SUBMITTED);
+        Map<Long, List<Long>> assignments = StageManagerAssigner.assign(candidates, staff, weight);
+
+        //Write one statement per staff member (and chunk of IDs)
+        Map<Long, User> usersById = staffUsers.stream().collect(Collectors.toMap(User::getId, u -> u));
+        Map<String, List<Long>> assigned = new LinkedHashMap<>();
+        List<DomainEvent> events = new ArrayList<>(candidates.size());
+        for (Map.Entry<Long, List<Long>> entry : assignments.entrySet()) {
+            User stageManager = usersById.get(entry.getKey());
+            List<Long> ids = entry.getValue();
+            for (int i = 0; i < ids.size(); i += MAX_BULK_SIZE) {
+                List<Long> chunk = ids.subList(i, Math.min(i + MAX_BULK_SIZE, ids.size()));
+                if (performanceRepository.assignStageManager(stageManager, chunk, PerformanceState.SUBMITTED) != chunk.size()) {
+                    throw new OptimisticLockingFailureException("Performances changed concurrently");
+                }
+            }
+            assigned.put(stageManager.getUsername(), ids);
+            ids.forEach(id -> events.add(new DomainEvent.PerformanceUpdated(id, festival.getId())));
+        }
+        eventPublisher.publishAll(events);
+
+        Map<String, Integer> workload = new LinkedHashMap<>();
+        for (User user : staffUsers) {
+            workload.put(user.getUsername(), loads.getOrDefault(user.getId(), 0)
+                    + assignments.getOrDefault(user.getId(), List.of()).size());
+        }
+
+        //Build response
+        Map<String, Object> data = new HashMap<>();
+        data.put("festivalId", festival.getId());
+        data.put("assigned", candidates.size());
+        data.put("assignments", assigned);
+        data.put("workload", workload);
+
+        return new ApiResponse<>(
+                java.time.LocalDateTime.now(),
+                HttpStatus.OK.value(),
+                "Staff assigned to performances successfully",
+                data
+        );
+    }
+
+    /**
+     * Returns, per staff member, the share of their managed performances in
+     * each genre across all festivals.
+     */
+    private Map<Long, Map<String, Double>> genreAffinities(List<Long> staffIds) {
+        List<StaffGenreCount> counts = performanceRepository.countByStageManagerAndGenre(staffIds, null);
+        Map<Long, Long> totals = new HashMap<>();
+        counts.forEach(c -> totals.merge(c.staffId(), c.count(), Long::sum));
+        Map<Long, Map<String, Double>> affinities = new HashMap<>();
+        for (StaffGenreCount c : counts) {
+            affinities.computeIfAbsent(c.staffId(), id -> new HashMap<>())
+                    .put(c.genre(), c.count() / (double) totals.get(c.staffId()));
+        }
+        return affinities;
+    }
+
     /**
      * Reviews a performance. Only the assigned STAFF can review, and festival
      * must be in REVIEW state.
@@ -580,6 +789,7 @@ public class PerformanceService {
      * score/comments
      */
     @Transactional
+    @RetryOnConflict
     public ApiResponse<Map<String, Object>> reviewPerformance(PerformanceReviewRequest request) {
         // Validate requester 
         User requester = userSecurityService.validateRequester(
@@ -591,29 +801,9 @@ public class PerformanceService {
         Performance performance = performanceRepository.findById(request.getPerformanceId())
                 .orElseThrow(() -> new ApiException("Performance not found", HttpStatus.NOT_FOUND));
 
-        //Ensure requester is assigned STAFF for this performance
-        if (performance.getStageManager() == null || !performance.getStageManager().getId().equals(requester.getId())) {
-            throw new ApiException("Only the assigned STAFF member can review this performance", HttpStatus.FORBIDDEN);
-        }
-
-        //Ensure festival is in REVIEW state
-        if (!performance.getFestival().getState().name().equals("REVIEW")) {
-            throw new ApiException("Performance can only be reviewed when the festival is in REVIEW state", HttpStatus.BAD_REQUEST);
-        }
-
-        //Validate score and comments
-        if (request.getScore() == null || request.getScore() < 0 || request.getScore() > 10) {
-            throw new ApiException("Score must be between 0 and 10", HttpStatus.BAD_REQUEST);
-        }
-        if (request.getReviewerComments() == null || request.getReviewerComments().isBlank()) {
-            throw new ApiException("Reviewer comments cannot be empty", HttpStatus.BAD_REQUEST);
-        }
-
-        //Update performance
-        performance.setScore(request.getScore());
-        performance.setReviewerComments(request.getReviewerComments());
-        performance.setState(Performance.PerformanceState.REVIEWED);
+        applyReview(performance, requester, request.getScore(), request.getReviewerComments());
         Performance updated = performanceRepository.save(performance);
+        eventPublisher.publish(new DomainEvent.PerformanceReviewed(updated.getId(), updated.getFestival().getId(), updated.getScore()));
 
         //Build response
         Map<String, Object> data = new HashMap<>();
@@ -626,11 +816,118 @@ public class PerformanceService {
         return new ApiResponse<>(
                 java.time.LocalDateTime.now(),
                 HttpStatus.OK.value(),
-                "Performance reviewed successfully",
+                performanceWorkflow.messageOf(PerformanceState.REVIEWED),
+                data
+        );
+    }
+
+    /**
+     * Reviews many performances in one transaction. Each review is checked
+     * like {@link #reviewPerformance}: the requester must be the assigned
+     * STAFF, the festival must be in REVIEW state and the score and comments
+     * must be valid.
+     * <p>
+     * The performances are loaded with one query and the changed rows written
+     * as a JDBC batch. By default invalid reviews are reported and the valid
+     * ones saved; with {@code allOrNothing} the first invalid review rejects
+     * the request and nothing is saved.
+     *
+     * @param request BulkPerformanceReviewRequest containing the reviews
+     * @return ApiResponse with the number of reviews saved and the outcome per
+     * performance ID (REVIEWED, NOT_FOUND or the reason it was rejected)
+     * @throws ApiException if the review list is empty, too long or contains
+     * a performance twice, or a review is invalid in all-or-nothing mode
+     */
+    @Transactional
+    @RetryOnConflict
+    public ApiResponse<Map<String, Object>> bulkReviewPerformances(BulkPerformanceReviewRequest request) {
+        // Validate requester
+        User requester = userSecurityService.validateRequester(
+                request.getRequesterUsername(),
+                request.getToken()
+        );
+
+        List<PerformanceReviewItem> reviews = request.getReviews();
+        if (reviews == null || reviews.isEmpty()) {
+            throw new ApiException("Reviews list cannot be null or empty", HttpStatus.BAD_REQUEST);
+        }
+        if (reviews.size() > MAX_BULK_SIZE) {
+            throw new ApiException("At most " + MAX_BULK_SIZE + " reviews can be submitted at once", HttpStatus.BAD_REQUEST);
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        for (PerformanceReviewItem review : reviews) {
+            if (review.getPerformanceId() == null || !ids.add(review.getPerformanceId())) {
+                throw new ApiException("Each review must name a different performance", HttpStatus.BAD_REQUEST);
+            }
+        }
+        boolean allOrNothing = Boolean.TRUE.equals(request.getAllOrNothing());
+
+        Map<Long, Performance> performances = performanceRepository.findAllByIdIn(ids).stream()
+                .collect(Collectors.toMap(Performance::getId, p -> p));
+
+        Map<Long, String> outcomes = new LinkedHashMap<>();
+        List<Performance> reviewed = new ArrayList<>();
+        for (PerformanceReviewItem review : reviews) {
+            Long id = review.getPerformanceId();
+            Performance performance = performances.get(id);
+            if (performance == null) {
+                if (allOrNothing) {
+                    throw new ApiException("Performance " + id + " not found", HttpStatus.NOT_FOUND);
+                }
+                outcomes.put(id, "NOT_FOUND");
+                continue;
+            }
+            try {
+                applyReview(performance, requester, review.getScore(), review.getReviewerComments());
+                reviewed.add(performance);
+                outcomes.put(id, "REVIEWED");
+            } catch (ApiException e) {
+                if (allOrNothing) {
+                    throw new ApiException("Review of performance " + id + " failed: " + e.getMessage(), e.getStatus());
+                }
+                outcomes.put(id, e.getMessage());
+            }
+        }
+        performanceRepository.saveAll(reviewed);
+        reviewed.forEach(p -> eventPublisher.publish(
+                new DomainEvent.PerformanceReviewed(p.getId(), p.getFestival().getId(), p.getScore())));
+
+        //Build response
+        Map<String, Object> data = new HashMap<>();
+        data.put("reviewed", reviewed.size());
+        data.put("outcomes", outcomes);
+
+        return new ApiResponse<>(
+                java.time.LocalDateTime.now(),
+                HttpStatus.OK.value(),
+                "Performances reviewed successfully",
                 data
         );
     }
 
+    /**
+     * Checks a review and applies it to the performance.
+     */
+    private void applyReview(Performance performance, User requester, Double score, String comments) {
+        //Ensure requester is assigned STAFF for this performance
+        if (performance.getStageManager() == null || !performance.getStageManager().getId().equals(requester.getId())) {
+            throw new ApiException("Only the assigned STAFF member can review this performance", HttpStatus.FORBIDDEN);
+        }
+
+        //Validate score and comments
+        if (score == null || score < 0 || score > 10) {
+            throw new ApiException("Score must be between 0 and 10", HttpStatus.BAD_REQUEST);
+        }
+        if (comments == null || comments.isBlank()) {
+            throw new ApiException("Reviewer comments cannot be empty", HttpStatus.BAD_REQUEST);
+        }
+
+        //Update performance (festival must be in REVIEW state)
+        performanceWorkflow.fire(performance, PerformanceState.REVIEWED);
+        performance.setScore(score);
+        performance.setReviewerComments(comments);
+    }
+
     /**
      * Approves a performance. Only an ORGANIZER of the festival can approve,
      * and festival must be in SCHEDULING state.
@@ -640,6 +937,7 @@ public class PerformanceService {
      * @throws ApiException if requester not organizer or invalid festival state
      */
     @Transactional
+    @RetryOnConflict
     public ApiResponse<Map<String, Object>> approvePerformance(PerformanceApprovalRequest request) {
         // Validate requester 
         User requester = userSecurityService.validateRequester(
@@ -658,13 +956,8 @@ public class PerformanceService {
             throw new ApiException("Only an organizer of the festival can approve this performance", HttpStatus.FORBIDDEN);
         }
 
-        //Ensure festival is in SCHEDULING state
-        if (!performance.getFestival().getState().name().equals("SCHEDULING")) {
-            throw new ApiException("Performances can only be approved when the festival is in SCHEDULING state", HttpStatus.BAD_REQUEST);
-        }
-
-        //Update performance state to APPROVED
-        performance.setState(Performance.PerformanceState.APPROVED);
+        //Update performance state to APPROVED (festival must be in SCHEDULING state)
+        performanceWorkflow.fire(performance, PerformanceState.APPROVED);
         Performance updated = performanceRepository.save(performance);
 
         //Build response
@@ -676,7 +969,7 @@ public class PerformanceService {
         return new ApiResponse<>(
                 java.time.LocalDateTime.now(),
                 HttpStatus.OK.value(),
-                "Performance approved successfully",
+                performanceWorkflow.messageOf(PerformanceState.APPROVED),
                 data
         );
     }
@@ -691,6 +984,7 @@ public class PerformanceService {
      * missing
      */
     @Transactional
+    @RetryOnConflict
     public ApiResponse<Map<String, Object>> rejectPerformanceManually(PerformanceRejectionRequest request) {
         // Validate requester 
         User requester = userSecurityService.validateRequester(
@@ -709,19 +1003,13 @@ public class PerformanceService {
             throw new ApiException("Only an organizer of the festival can approve this performance", HttpStatus.FORBIDDEN);
         }
 
-        //Ensure festival is in SCHEDULING or DECISION state
-        String festivalState = performance.getFestival().getState().name();
-        if (!festivalState.equals("SCHEDULING") && !festivalState.equals("DECISION")) {
-            throw new ApiException("Performance can only be rejected during SCHEDULING or DECISION state", HttpStatus.BAD_REQUEST);
-        }
-
         //Ensure rejection reason is provided
         if (request.getRejectionReason() == null || request.getRejectionReason().isBlank()) {
             throw new ApiException("Rejection reason must be provided", HttpStatus.BAD_REQUEST);
         }
 
-        //Update performance state to REJECTED and store reason
-        performance.setState(Performance.PerformanceState.REJECTED);
+        //Update performance state to REJECTED (festival must be in SCHEDULING or DECISION) and store reason
+        performanceWorkflow.fire(performance, PerformanceState.REJECTED);
         performance.setReviewerComments(request.getRejectionReason()); // store reason in reviewerComments or a dedicated field
         Performance updated = performanceRepository.save(performance);
 
@@ -735,7 +1023,7 @@ public class PerformanceService {
         return new ApiResponse<>(
                 java.time.LocalDateTime.now(),
                 HttpStatus.OK.value(),
-                "Performance rejected manually",
+                performanceWorkflow.messageOf(PerformanceState.REJECTED),
                 data
         );
     }
@@ -750,6 +1038,7 @@ public class PerformanceService {
      * @throws ApiException if requester not artist or mandatory fields missing
      */
     @Transactional
+    @RetryOnConflict
     public ApiResponse<Map<String, Object>> submitFinalPerformance(PerformanceFinalSubmissionRequest request) {
         // Validate requester 
         User requester = userSecurityService.validateRequester(
@@ -786,12 +1075,13 @@ public class PerformanceService {
         }
 
         //Update performance details
-        performance.setSetlist(request.getSetlist());
+        PerformanceCollectionChanges.replaceSetlist(performance, request.getSetlist());
         performance.setPreferredRehearsalTimes(request.getRehearsalTimes());
         performance.setPreferredPerformanceSlots(request.getPerformanceTimeSlots());
         performance.setFinal_submitted(true);
 
         Performance updated = performanceRepository.save(performance);
+        eventPublisher.publish(new DomainEvent.PerformanceUpdated(updated.getId(), updated.getFestival().getId()));
 
         //Build response
         Map<String, Object> data = new HashMap<>();
@@ -820,6 +1110,7 @@ public class PerformanceService {
      * DECISION
      */
     @Transactional
+    @RetryOnConflict
     public ApiResponse<Map<String, Object>> acceptPerformance(PerformanceAcceptanceRequest request) {
         // Validate requester 
         User requester = userSecurityService.validateRequester(
@@ -838,13 +1129,8 @@ public class PerformanceService {
             throw new ApiException("Only an organizer of the festival can approve this performance", HttpStatus.FORBIDDEN);
         }
 
-        //Ensure festival is in FINAL_SUBMISSION state
-        String festivalState = performance.getFestival().getState().name();
-        if (!festivalState.equals("DECISION")) {
-            throw new ApiException("Performance acceptance is only allowed during DECISION festival state", HttpStatus.BAD_REQUEST);
-        }
-
-        performance.setState(Performance.PerformanceState.SCHEDULED);
+        //Schedule it (festival must be in DECISION, no band member booked elsewhere at the same time)
+        performanceWorkflow.fire(performance, PerformanceState.SCHEDULED);
 
         Performance updated = performanceRepository.save(performance);
 
@@ -857,26 +1143,431 @@ public class PerformanceService {
         return new ApiResponse<>(
                 java.time.LocalDateTime.now(),
                 HttpStatus.OK.value(),
-                "Performance accepted/scheduled successfully",
+                performanceWorkflow.messageOf(PerformanceState.SCHEDULED),
+                data
+        );
+    }
+
+    /**
+     * Approves, rejects or accepts many performances in one transaction,
+     * selected by ID or by a filter on one festival; either way at most
+     * {@value #MAX_BULK_SIZE} performances are loaded. Organizer rights are
+     * resolved for all festivals with a single query, and each performance is
+     * checked against the same transition as the single-item endpoints.
+     * <p>
+     * Approvals and rejections have no per-performance side effects, so the
+     * performances that pass are moved with set-based updates. Acceptance
+     * checks the band members of every performance and goes through the
+     * workflow one performance at a time, writing the rows as a JDBC batch.
+     *
+     * @param request BulkPerformanceDecisionRequest containing the decision
+     * and the IDs or filter
+     * @return ApiResponse with the number of performances moved and the
+     * outcome per performance ID (TRANSITIONED, NOT_FOUND, FORBIDDEN or the
+     * reason it was rejected)
+     * @throws ApiException if the decision is not APPROVED, REJECTED or
+     * SCHEDULED, a rejection has no reason, neither IDs nor a festival are
+     * given, or more than {@value #MAX_BULK_SIZE} performances are selected
+     */
+    @Transactional
+    @RetryOnConflict
+    public ApiResponse<Map<String, Object>> bulkDecidePerformances(BulkPerformanceDecisionRequest request) {
+        // Validate requester
+        User requester = userSecurityService.validateRequester(
+                request.getRequesterUsername(),
+                request.getToken()
+        );
+
+        PerformanceState target = request.getTargetState();
+        if (target != PerformanceState.APPROVED && target != PerformanceState.REJECTED
+                && target != PerformanceState.SCHEDULED) {
+            throw new ApiException("Target state must be APPROVED, REJECTED or SCHEDULED", HttpStatus.BAD_REQUEST);
+        }
+        String reason = null;
+        if (target == PerformanceState.REJECTED) {
+            if (request.getRejectionReason() == null || request.getRejectionReason().isBlank()) {
+                throw new ApiException("Rejection reason must be provided", HttpStatus.BAD_REQUEST);
+            }
+            reason = request.getRejectionReason();
+        }
+
+        //Select performances by ID or by filter, at most MAX_BULK_SIZE either way
+        List<Long> ids;
+        if (request.getPerformanceIds() != null && !request.getPerformanceIds().isEmpty()) {
+            ids = new ArrayList<>(new LinkedHashSet<>(request.getPerformanceIds()));
+            if (ids.size() > MAX_BULK_SIZE) {
+                throw new ApiException("At most " + MAX_BULK_SIZE + " performances can be decided at once", HttpStatus.BAD_REQUEST);
+            }
+        } else if (request.getFestivalId() != null) {
+            Collection<PerformanceState> states = request.getStates() != null && !request.getStates().isEmpty()
+                    ? request.getStates()
+                    : performanceWorkflow.sourcesOf(target);
+            ids = performanceRepository.findIdsForBulkDecision(request.getFestivalId(), states,
+                    request.getMinScore(), PageRequest.of(0, MAX_BULK_SIZE + 1));
+            if (ids.size() > MAX_BULK_SIZE) {
+                throw new ApiException("More than " + MAX_BULK_SIZE + " performances match the filter, "
+                        + "narrow it or pass performance IDs", HttpStatus.BAD_REQUEST);
+            }
+        } else {
+            throw new ApiException("Performance IDs or a festival ID must be provided", HttpStatus.BAD_REQUEST);
+        }
+        Map<Long, Performance> performances = ids.isEmpty() ? Map.of()
+                : performanceRepository.findAllByIdIn(ids).stream()
+                        .collect(Collectors.toMap(Performance::getId, p -> p));
+
+        //Ensure requester is ORGANIZER, once per festival
+        Set<Long> festivalIds = performances.values().stream()
+                .map(p -> p.getFestival().getId())
+                .collect(Collectors.toSet());
+        Set<Long> organized = festivalIds.isEmpty() ? Set.of() : new HashSet<>(
+                festivalUserRoleRepository.findFestivalIdsByUserAndRole(requester, FestivalRoleType.ORGANIZER, festivalIds));
+
+        Map<Long, String> outcomes = new LinkedHashMap<>();
+        List<Performance> eligible = new ArrayList<>();
+        for (Long id : ids) {
+            Performance performance = performances.get(id);
+            if (performance == null) {
+                outcomes.put(id, "NOT_FOUND");
+            } else if (!organized.contains(performance.getFestival().getId())) {
+                outcomes.put(id, "FORBIDDEN");
+            } else {
+                eligible.add(performance);
+            }
+        }
+
+        int transitioned = target == PerformanceState.SCHEDULED
+                ? acceptAll(eligible, outcomes)
+                : moveAll(eligible, target, reason, outcomes);
+
+        //Build response
+        Map<String, Object> data = new HashMap<>();
+        data.put("state", target.name());
+        data.put("transitioned", transitioned);
+        data.put("outcomes", outcomes);
+
+        return new ApiResponse<>(
+                java.time.LocalDateTime.now(),
+                HttpStatus.OK.value(),
+                "Performances transitioned successfully",
+                data
+        );
+    }
+
+    /**
+     * Accepts performances one by one, so that each band member check sees
+     * the performances accepted before it.
+     */
+    private int acceptAll(List<Performance> performances, Map<Long, String> outcomes) {
+        List<Performance> accepted = new ArrayList<>();
+        for (StateMachine.Outcome<Performance> outcome : performanceWorkflow.fireAll(performances, PerformanceState.SCHEDULED)) {
+            if (outcome.transitioned()) {
+                accepted.add(outcome.entity());
+                outcomes.put(outcome.entity().getId(), "TRANSITIONED");
+            } else {
+                outcomes.put(outcome.entity().getId(), outcome.error());
+            }
+        }
+        performanceRepository.saveAll(accepted);
+        return accepted.size();
+    }
+
+    /**
+     * Checks performances against the workflow and moves those that pass with
+     * set-based updates, one statement per chunk of IDs.
+     */
+    private int moveAll(List<Performance> performances, PerformanceState target, String comments,
+            Map<Long, String> outcomes) {
+        List<Performance> movable = new ArrayList<>();
+        for (Performance performance : performances) {
+            try {
+                performanceWorkflow.check(performance, target);
+                movable.add(performance);
+                outcomes.put(performance.getId(), "TRANSITIONED");
+            } catch (ApiException e) {
+                outcomes.put(performance.getId(), e.getMessage());
+            }
+        }
+
+        Set<PerformanceState> sources = performanceWorkflow.sourcesOf(target);
+        for (int i = 0; i < movable.size(); i += MAX_BULK_SIZE) {
+            List<Performance> chunk = movable.subList(i, Math.min(i + MAX_BULK_SIZE, movable.size()));
+            List<Long> chunkIds = chunk.stream().map(Performance::getId).toList();
+            if (performanceRepository.updateStateByIds(chunkIds, sources, target, comments) != chunkIds.size()) {
+                throw new OptimisticLockingFailureException("Performances changed concurrently");
+            }
+        }
+        movable.forEach(p -> eventPublisher.publish(new DomainEvent.PerformanceStateChanged(
+                p.getId(), p.getFestival().getId(), p.getState(), target)));
+        return movable.size();
+    }
+
+    /**
+     * Lists the best-scored performances of a festival that await a decision,
+     * i.e. finally submitted performances in REVIEWED or APPROVED state. Only
+     * an ORGANIZER of the festival can view the queue.
+     * <p>
+     * A single ranking takes the best {@code limit} rows of each state from
+     * the database ({@code ORDER BY ... LIMIT}) and merges them; per-genre
+     * queues keep a bounded heap per genre over a narrow projection.
+     *
+     * @param request DecisionQueueRequest containing festival ID and limit
+     * @return ApiResponse with the ranked performances, grouped by genre when
+     * requested
+     * @throws ApiException if requester not organizer, festival not found, or
+     * limit out of range
+     */
+    @ReadOnlyTransaction
+    public ApiResponse<Map<String, Object>> getDecisionQueue(DecisionQueueRequest request) {
+        // Validate requester
+        User requester = userSecurityService.validateRequester(
+                request.getRequesterUsername(),
+                request.getToken()
+        );
+
+        //Find festival
+        Festival festival = festivalRepository.findById(request.getFestivalId())
+                .orElseThrow(() -> new ApiException("Festival not found", HttpStatus.NOT_FOUND));
+
+        //Ensure requester is ORGANIZER of the festival
+        if (!festivalUserRoleRepository.existsByFestivalAndUserAndRole(festival, requester, FestivalRoleType.ORGANIZER)) {
+            throw new ApiException("Only an organizer of the festival can view the decision queue", HttpStatus.FORBIDDEN);
+        }
+
+        int limit = validateDecisionLimit(request.getLimit());
+        Map<String, List<DecisionCandidate>> ranked = rankDecisionCandidates(
+                festival, request.getGenre(), request.isPerGenre(), limit);
+
+        //Build response
+        Map<String, Object> data = new HashMap<>();
+        data.put("festivalId", festival.getId());
+        if (request.isPerGenre()) {
+            Map<String, Object> queues = new LinkedHashMap<>();
+            ranked.forEach((genre, candidates) -> queues.put(genre, candidates.stream().map(this::mapCandidate).toList()));
+            data.put("queue", queues);
+        } else {
+            data.put("queue", ranked.values().stream().flatMap(List::stream).map(this::mapCandidate).toList());
+        }
+
+        return new ApiResponse<>(
+                java.time.LocalDateTime.now(),
+                HttpStatus.OK.value(),
+                "Decision queue retrieved successfully",
+                data
+        );
+    }
+
+    /**
+     * Accepts the best-scored performances awaiting a decision in one
+     * operation, overall or per genre. Only ORGANIZER can accept, and festival
+     * must be in DECISION state.
+     * <p>
+     * Performances are accepted in ranking order with the same band member
+     * check as {@link #acceptPerformance}; a performance whose band member is
+     * already booked at that time is skipped and reported.
+     *
+     * @param request AcceptTopPerformancesRequest containing festival ID and N
+     * @return ApiResponse with the accepted and skipped performances
+     * @throws ApiException if requester not organizer, festival not in
+     * DECISION, or N out of range
+     */
+    @Transactional
+    @RetryOnConflict
+    public ApiResponse<Map<String, Object>> acceptTopPerformances(AcceptTopPerformancesRequest request) {
+        // Validate requester
+        User requester = userSecurityService.validateRequester(
+                request.getRequesterUsername(),
+                request.getToken()
+        );
+
+        //Find festival
+        Festival festival = festivalRepository.findById(request.getFestivalId())
+                .orElseThrow(() -> new ApiException("Festival not found", HttpStatus.NOT_FOUND));
+
+        //Ensure requester is ORGANIZER of the festival
+        if (!festivalUserRoleRepository.existsByFestivalAndUserAndRole(festival, requester, FestivalRoleType.ORGANIZER)) {
+            throw new ApiException("Only an organizer of the festival can accept performances", HttpStatus.FORBIDDEN);
+        }
+
+        //Ensure festival is in DECISION state
+        if (festival.getState() != Festival.FestivalState.DECISION) {
+            throw new ApiException("Performance acceptance is only allowed during DECISION festival state", HttpStatus.BAD_REQUEST);
+        }
+
+        int topN = validateDecisionLimit(request.getTopN());
+        List<Long> selectedIds = rankDecisionCandidates(festival, request.getGenre(), request.isPerGenre(), topN)
+                .values().stream()
+                .flatMap(List::stream)
+                .sorted(DecisionCandidate.RANKING)
+                .map(DecisionCandidate::id)
+                .toList();
+
+        Map<Long, Performance> byId = performanceRepository.findAllById(selectedIds).stream()
+                .collect(Collectors.toMap(Performance::getId, p -> p));
+
+        // Accept best first, so a band member booked twice keeps the better-scored act
+        List<Long> accepted = new ArrayList<>();
+        List<Map<String, Object>> skipped = new ArrayList<>();
+        List<Performance> ranked = selectedIds.stream().map(byId::get).toList();
+        for (StateMachine.Outcome<Performance> outcome : performanceWorkflow.fireAll(ranked, PerformanceState.SCHEDULED)) {
+            if (outcome.transitioned()) {
+                accepted.add(outcome.entity().getId());
+            } else {
+                Map<String, Object> entry = new HashMap<>();
+                entry.put("performanceId", outcome.entity().getId());
+                entry.put("reason", outcome.error());
+                skipped.add(entry);
+            }
+        }
+
+        //Build response
+        Map<String, Object> data = new HashMap<>();
+        data.put("festivalId", festival.getId());
+        data.put("accepted", accepted);
+        data.put("skipped", skipped);
+
+        return new ApiResponse<>(
+                java.time.LocalDateTime.now(),
+                HttpStatus.OK.value(),
+                "Top performances accepted successfully",
+                data
+        );
+    }
+
+    /**
+     * Ranks the performances awaiting a decision, either as a single list
+     * (keyed by the genre filter, or "all") or per genre.
+     */
+    private Map<String, List<DecisionCandidate>> rankDecisionCandidates(Festival festival, String genre,
+            boolean perGenre, int limit) {
+        // One query per state, so each reads its rows in index order
+        Pageable page = perGenre ? Pageable.unpaged() : PageRequest.of(0, limit);
+        List<DecisionCandidate> candidates = new ArrayList<>();
+        for (PerformanceState state : performanceWorkflow.sourcesOf(PerformanceState.SCHEDULED)) {
+            candidates.addAll(performanceRepository.findDecisionCandidates(festival.getId(), state, genre, page));
+        }
+        if (!perGenre) {
+            List<DecisionCandidate> top = candidates.stream()
+                    .sorted(DecisionCandidate.RANKING)
+                    .limit(limit)
+                    .toList();
+            return Map.of(genre != null ? genre : "all", top);
+        }
+        return TopKSelector.topPerGroup(candidates, DecisionCandidate::genre, DecisionCandidate.RANKING, limit);
+    }
+
+    private int validateDecisionLimit(Integer limit) {
+        if (limit == null || limit < 1 || limit > MAX_DECISION_QUEUE_SIZE) {
+            throw new ApiException("Limit must be between 1 and " + MAX_DECISION_QUEUE_SIZE, HttpStatus.BAD_REQUEST);
+        }
+        return limit;
+    }
+
+    private Map<String, Object> mapCandidate(DecisionCandidate candidate) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("performanceId", candidate.id());
+        entry.put("name", candidate.name());
+        entry.put("genre", candidate.genre());
+        entry.put("score", candidate.score());
+        entry.put("state", candidate.state().name());
+        return entry;
+    }
+
+    /**
+     * Lists the requester's own performances: as STAFF those they manage, as
+     * ARTIST those they created or play in, with the number of performances
+     * per state.
+     * <p>
+     * Every query is restricted to the requester through an index
+     * (stage_manager_id, creator_id or band member user_id) and pages by
+     * performance ID, so the cost depends on the requester's own performances
+     * only, not on the total number in the system.
+     *
+     * @param request WorkQueueRequest containing role, optional states and
+     * cursor
+     * @return ApiResponse with one page of performances, the cursor of the
+     * next page ({@code null} on the last page) and the counts per state
+     * @throws ApiException if the role is not STAFF or ARTIST or the page
+     * size is out of range
+     */
+    @ReadOnlyTransaction
+    public ApiResponse<Map<String, Object>> getWorkQueue(WorkQueueRequest request) {
+        // Validate requester
+        User requester = userSecurityService.validateRequester(
+                request.getRequesterUsername(),
+                request.getToken()
+        );
+
+        if (request.getRole() != FestivalRoleType.STAFF && request.getRole() != FestivalRoleType.ARTIST) {
+            throw new ApiException("Role must be STAFF or ARTIST", HttpStatus.BAD_REQUEST);
+        }
+        int limit = request.getLimit() != null ? request.getLimit() : DEFAULT_QUEUE_PAGE_SIZE;
+        if (limit < 1 || limit > MAX_QUEUE_PAGE_SIZE) {
+            throw new ApiException("Limit must be between 1 and " + MAX_QUEUE_PAGE_SIZE, HttpStatus.BAD_REQUEST);
+        }
+        Collection<PerformanceState> states = request.getStates() != null && !request.getStates().isEmpty()
+                ? EnumSet.copyOf(request.getStates())
+                : EnumSet.allOf(PerformanceState.class);
+        long afterId = request.getAfterId() != null ? request.getAfterId() : 0L;
+
+        // One extra row tells whether another page follows
+        Pageable page = PageRequest.of(0, limit + 1);
+        List<WorkQueueItem> items;
+        List<StateCount> counts;
+        if (request.getRole() == FestivalRoleType.STAFF) {
+            items = performanceRepository.findQueueByStageManager(requester, states, afterId, page);
+            counts = performanceRepository.countStatesByStageManager(requester);
+        } else {
+            // Created and played-in performances are disjoint; merge the two pages by ID
+            items = new ArrayList<>(performanceRepository.findQueueByCreator(requester, states, afterId, page));
+            items.addAll(performanceRepository.findQueueByBandMember(requester, states, afterId, page));
+            items.sort(Comparator.comparing(WorkQueueItem::performanceId));
+            counts = new ArrayList<>(performanceRepository.countStatesByCreator(requester));
+            counts.addAll(performanceRepository.countStatesByBandMember(requester));
+        }
+
+        boolean more = items.size() > limit;
+        List<WorkQueueItem> pageItems = more ? items.subList(0, limit) : items;
+        Map<String, Long> stateCounts = new LinkedHashMap<>();
+        for (PerformanceState state : PerformanceState.values()) {
+            stateCounts.put(state.name(), 0L);
+        }
+        counts.forEach(c -> stateCounts.merge(c.state().name(), c.count(), Long::sum));
+
+        //Build response
+        Map<String, Object> data = new HashMap<>();
+        data.put("role", request.getRole().name());
+        data.put("performances", pageItems);
+        data.put("nextAfterId", more ? pageItems.get(pageItems.size() - 1).performanceId() : null);
+        data.put("counts", stateCounts);
+
+        return new ApiResponse<>(
+                java.time.LocalDateTime.now(),
+                HttpStatus.OK.value(),
+                "Work queue retrieved successfully",
                 data
         );
     }
 
     /**
      * Retrieves performance details. Details vary depending on the role of the
-     * requester (creator, band member, staff, organizer, visitor).
+     * requester (creator, band member, staff, organizer, visitor). Performances
+     * of archived festivals are read from their archive snapshot.
      *
      * @param request PerformanceViewRequest containing performance ID and
      * optional requester info
      * @return ApiResponse with performance details
      * @throws ApiException if performance not found or invalid requester
      */
-    @Transactional
+    @ReadOnlyTransaction
     public ApiResponse<Map<String, Object>> viewPerformance(PerformanceViewRequest request) {
 
-        //Find performance
-        Performance performance = performanceRepository.findById(request.getPerformanceId())
-                .orElseThrow(() -> new ApiException("Performance not found", HttpStatus.NOT_FOUND));
+        //Find performance, falling back to the archive tier
+        Performance performance = performanceRepository.findById(request.getPerformanceId()).orElse(null);
+        ArchivedPerformance archived = null;
+        if (performance == null) {
+            archived = festivalArchiver.findPerformance(request.getPerformanceId())
+                    .orElseThrow(() -> new ApiException("Performance not found", HttpStatus.NOT_FOUND));
+        }
 
         User requester = null;
 
@@ -889,10 +1580,13 @@ public class PerformanceService {
         }
 
         // Map to view based on role
-        PerformanceSearchResponseDTO dto = mapPerformance(performance, requester);
+        PerformanceSearchResponseDTO dto = performance != null
+                ? mapPerformance(performance, requester)
+                : festivalArchiver.viewPerformance(archived, requester);
 
         Map<String, Object> data = new HashMap<>();
         data.put("performance", dto);
+        data.put("archived", performance == null);
 
         return new ApiResponse<>(
                 LocalDateTime.now(),
@@ -911,7 +1605,7 @@ public class PerformanceService {
      * @param request PerformanceSearchRequest containing search criteria
      * @return ApiResponse with a list of matching performances
      */
-    @Transactional
+    @ReadOnlyTransaction
     public ApiResponse<Map<String, Object>> searchPerformances(PerformanceSearchRequest request) {
 
         List<Performance> performances = performanceRepository.findAll();
@@ -995,9 +1689,30 @@ public class PerformanceService {
     }
 
     private PerformanceSearchResponseDTO mapPerformance(Performance performance, User requester) {
+        // Visitors can only see basic info
+        if (requester == null) {
+            return toResponse(performance, false);
+        }
+
+        // --- ROLE-BASED ACCESS CONTROL ---
+        boolean isCreator = performance.getCreator().equals(requester);
+        boolean isBandMember = performance.getBandMembers().contains(requester);
+        boolean isStageManager = performance.getStageManager() != null
+                && performance.getStageManager().equals(requester);
+        boolean isOrganizer = performance.getFestival().getUserRoles().stream()
+                .anyMatch(r -> r.getUser().equals(requester) && r.getRole() == FestivalRoleType.ORGANIZER);
+
+        return toResponse(performance, isCreator || isBandMember || isStageManager || isOrganizer);
+    }
+
+    /**
+     * Maps a performance to its basic view, or to its full view with band,
+     * setlist, merchandise, slots and review details.
+     */
+    static PerformanceSearchResponseDTO toResponse(Performance performance, boolean fullView) {
         PerformanceSearchResponseDTO dto = new PerformanceSearchResponseDTO();
 
-        // --- BASIC FIELDS (always visible to VISITOR and above if performance is SCHEDULED) ---
+        // --- BASIC FIELDS (always visible) ---
         dto.setId(performance.getId());
         dto.setName(performance.getName());
         dto.setGenre(performance.getGenre());
@@ -1005,22 +1720,7 @@ public class PerformanceService {
         dto.setState(performance.getState().name());
         dto.setFestivalId(performance.getFestival().getId());
 
-        // Visitors can only see scheduled performances
-        if (requester == null && performance.getState() != Performance.PerformanceState.SCHEDULED) {
-            return dto; // only basic info returned
-        }
-
-        // --- ROLE-BASED ACCESS CONTROL ---
-        boolean isCreator = requester != null && performance.getCreator().equals(requester);
-        boolean isBandMember = requester != null && performance.getBandMembers().contains(requester);
-        boolean isStageManager = requester != null && performance.getStageManager() != null
-                && performance.getStageManager().equals(requester);
-        boolean isOrganizer = requester != null && performance.getFestival().getUserRoles().stream()
-                .anyMatch(r -> r.getUser().equals(requester) && r.getRole() == FestivalRoleType.ORGANIZER);
-
-        boolean canViewFullDetails = isCreator || isBandMember || isStageManager || isOrganizer;
-
-        if (canViewFullDetails) {
+        if (fullView) {
             dto.setDescription(performance.getDescription());
             dto.setCreator(performance.getCreator().getUsername());
 
@@ -1055,6 +1755,20 @@ public class PerformanceService {
             dto.setPreferredRehearsalTimes(performance.getPreferredRehearsalTimes());
             dto.setPreferredPerformanceSlots(performance.getPreferredPerformanceSlots());
 
+            // Scheduled slot
+            if (performance.getScheduledSlot() != null) {
+                dto.setScheduledStage(performance.getScheduledSlot().getStage());
+                dto.setScheduledDate(performance.getScheduledSlot().getDate());
+                dto.setScheduledStartTime(performance.getScheduledSlot().getStartTime());
+            }
+
+            // Rehearsal slot
+            if (performance.getRehearsalSlot() != null) {
+                dto.setRehearsalStage(performance.getRehearsalSlot().getStage());
+                dto.setRehearsalDate(performance.getRehearsalSlot().getDate());
+                dto.setRehearsalStartTime(performance.getRehearsalSlot().getStartTime());
+            }
+
             // Stage manager
             if (performance.getStageManager() != null) {
                 dto.setStageManager(performance.getStageManager().getUsername());
@@ -2,17 +2,19 @@ package com.festivalmanager.service;
 
 import com.festivalmanager.enums.PermanentRoleType;
 import com.festivalmanager.exception.ApiException;
+import com.festivalmanager.exception.TokenRejectedException;
 import com.festivalmanager.model.Token;
 import com.festivalmanager.model.User;
 import com.festivalmanager.repository.TokenRepository;
 import com.festivalmanager.repository.UserRepository;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 
@@ -67,6 +69,20 @@ public class TokenService {
         tokenRepository.saveAll(tokens);
     }
 
+    /**
+     * Deactivates all tokens of the given users with a single bulk update.
+     *
+     * @param usernames the usernames whose tokens should be deactivated
+     * @return the number of tokens deactivated
+     */
+    @Transactional
+    public int deactivateTokens(Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return 0;
+        }
+        return tokenRepository.deactivateAllByUsernames(usernames);
+    }
+
     // -------------------- TOKEN DELETION --------------------
     /**
      * Deletes all tokens associated with a given user.
@@ -81,14 +97,23 @@ public class TokenService {
     // -------------------- TOKEN VALIDATION --------------------
     /**
      * Validates a token string for a given user.
+     * <p>
+     * Runs in the caller's transaction, so a request needs a single pooled
+     * connection; callers that may read from a replica go through
+     * {@link com.festivalmanager.datasource.PrimaryReads}. An expired token is deactivated, and a token used by
+     * another user deactivates both accounts except admins. The caller's
+     * transaction rolls back on the exception, so these changes travel with
+     * it and are applied by {@link #applyRejection(TokenRejectedException)}.
+     * </p>
      *
      * @param value the token value
      * @param requestingUser the user making the request
      * @return true if the token is valid
-     * @throws ApiException if token is invalid, expired, inactive, or belongs
-     * to another user
+     * @throws ApiException if token is invalid or inactive
+     * @throws TokenRejectedException if token is expired or belongs to
+     * another user
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW, noRollbackFor = ApiException.class)
+    @Transactional
     public boolean validateToken(String value, User requestingUser) {
         Token token = tokenRepository.findByValue(value)
                 .orElseThrow(() -> new ApiException("Invalid token", HttpStatus.UNAUTHORIZED));
@@ -98,29 +123,40 @@ public class TokenService {
         }
 
         if (token.getExpiresAt().isBefore(LocalDateTime.now())) {
-            token.setActive(false);
-            tokenRepository.saveAndFlush(token);
-            throw new ApiException("Token expired", HttpStatus.UNAUTHORIZED);
+            throw new TokenRejectedException("Token expired", HttpStatus.UNAUTHORIZED, token.getId(), List.of());
         }
 
         if (!token.getUser().getUsername().equals(requestingUser.getUsername())) {
             // Protect admins: never deactivate them
+            List<Long> deactivated = new ArrayList<>();
             if (token.getUser().getPermanentRole() != PermanentRoleType.ADMIN) {
-                token.getUser().setActive(false);
-                userRepository.saveAndFlush(token.getUser());
+                deactivated.add(token.getUser().getId());
             }
             if (requestingUser.getPermanentRole() != PermanentRoleType.ADMIN) {
-                requestingUser.setActive(false);
-                userRepository.saveAndFlush(requestingUser);
+                deactivated.add(requestingUser.getId());
             }
 
-            throw new ApiException(
+            throw new TokenRejectedException(
                     "Token belongs to another user. Accounts deactivated (except ADMIN).",
-                    HttpStatus.FORBIDDEN
+                    HttpStatus.FORBIDDEN, null, deactivated
             );
         }
 
         return true;
     }
 
+    /**
+     * Deactivates the token and accounts of a rejection, once the transaction
+     * it was thrown in has ended.
+     *
+     * @param rejection the rejection
+     */
+    @Transactional
+    public void applyRejection(TokenRejectedException rejection) {
+        if (rejection.getTokenId() != null) {
+            tokenRepository.findById(rejection.getTokenId()).ifPresent(t -> t.setActive(false));
+        }
+        userRepository.findAllById(rejection.getUserIds()).forEach(u -> u.setActive(false));
+    }
+
 }
@@ -1,10 +1,18 @@
 package com.festivalmanager.service;
 
+import com.festivalmanager.datasource.RequesterContext;
 import com.festivalmanager.dto.api.ApiResponse;
+import com.festivalmanager.dto.performance.PerformanceRef;
 import com.festivalmanager.dto.user.*;
 import com.festivalmanager.exception.ApiException;
+import com.festivalmanager.enums.FestivalRoleType;
 import com.festivalmanager.enums.PermanentRoleType;
+import com.festivalmanager.events.DomainEvent;
+import com.festivalmanager.events.DomainEventPublisher;
+import com.festivalmanager.model.Performance.PerformanceState;
 import com.festivalmanager.model.User;
+import com.festivalmanager.repository.FestivalUserRoleRepository;
+import com.festivalmanager.repository.PerformanceRepository;
 import com.festivalmanager.repository.UserRepository;
 import com.festivalmanager.security.*;
 import jakarta.transaction.Transactional;
@@ -12,8 +20,16 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -26,9 +42,18 @@ import lombok.RequiredArgsConstructor;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final PerformanceRepository performanceRepository;
+    private final FestivalUserRoleRepository festivalUserRoleRepository;
     private final TokenService tokenService;
     private final UserSecurityService userSecurityService;
     private final PasswordService passwordService;
+    private final DomainEventPublisher eventPublisher;
+
+    /**
+     * Maximum number of usernames bound to a single IN clause in bulk
+     * operations.
+     */
+    private static final int BULK_CHUNK_SIZE = 1000;
 
     // -------------------- USER REGISTRATION --------------------
     /**
@@ -76,6 +101,7 @@ public class UserService {
         if (userRepository.count() == 0) {
             user.setPermanentRole(PermanentRoleType.ADMIN);
             user.setActive(true);
+            user.setActivatedAt(LocalDateTime.now());
         } else {
             user.setPermanentRole(PermanentRoleType.USER);
             user.setActive(false);
@@ -93,13 +119,16 @@ public class UserService {
 
     // -------------------- USER LOGIN --------------------
     /**
-     * Authenticates a user and generates a token.
+     * Authenticates a user and generates a token. The username is bound to
+     * the request, so the new token counts as the user's own write for
+     * replica routing.
      *
      * @param request login request containing username and password
      * @return ApiResponse containing token and expiration
      * @throws ApiException if authentication fails or account is inactive
      */
     public ApiResponse<Map<String, Object>> loginUser(LoginRequest request) {
+        RequesterContext.bind(request.getUsername());
         User user = userRepository.findByUsername(request.getUsername())
                 .orElseThrow(() -> new ApiException("Invalid username", HttpStatus.UNAUTHORIZED));
 
@@ -245,23 +274,136 @@ public class UserService {
                 .orElseThrow(() -> new ApiException("Target user not found", HttpStatus.NOT_FOUND));
 
         targetUser.setActive(request.getNewActive());
+        if (targetUser.isActive() && targetUser.getActivatedAt() == null) {
+            targetUser.setActivatedAt(LocalDateTime.now());
+        }
         userRepository.save(targetUser);
 
         if (!targetUser.isActive()) {
             tokenService.deactivateTokens(targetUser);
         }
+        eventPublisher.publish(new DomainEvent.UserAccountStatusChanged(
+                List.of(targetUser.getUsername()), targetUser.isActive()));
 
         return new ApiResponse<>(LocalDateTime.now(), HttpStatus.OK.value(),
                 "User account status updated successfully", new HashMap<>());
     }
 
+    // -------------------- BULK ACCOUNT STATUS UPDATE --------------------
+    /**
+     * Allows admin to activate/deactivate many user accounts at once.
+     * <p>
+     * Targets are either the given usernames or, with {@code applyToAll}, the
+     * pending registrations: USER accounts that were never activated.
+     * {@code applyToAll} only activates, so accounts locked after failed
+     * attempts, deactivated accounts and admins are only changed by name. The
+     * {@code active} flag is written with bulk updates and, on deactivation,
+     * all tokens of the affected users are deactivated the same way. The
+     * requester is never affected.
+     *
+     * @param request bulk account status request
+     * @return ApiResponse containing counts and the outcome for every user
+     * (UPDATED, UNCHANGED, NOT_FOUND or SKIPPED_SELF)
+     * @throws ApiException if requester is not admin or the request is invalid
+     */
+    @Transactional
+    public ApiResponse<Map<String, Object>> bulkUpdateAccountStatus(BulkUpdateAccountStatusRequest request) {
+        User requester = userSecurityService.validateRequester(
+                request.getRequesterUsername(),
+                request.getToken()
+        );
+
+        requireAdmin(requester);
+
+        if (request.getNewActive() == null) {
+            throw new ApiException("New active status must be provided", HttpStatus.BAD_REQUEST);
+        }
+        boolean newActive = request.getNewActive();
+
+        Map<String, String> outcomes = new LinkedHashMap<>();
+        int updated = 0;
+        int tokensDeactivated = 0;
+
+        if (Boolean.TRUE.equals(request.getApplyToAll())) {
+            if (!newActive) {
+                throw new ApiException("Apply to all only activates pending registrations", HttpStatus.BAD_REQUEST);
+            }
+            // Filter mode: one statement for users; pending accounts hold no tokens
+            userRepository.findPendingUsernames(PermanentRoleType.USER)
+                    .forEach(username -> outcomes.put(username, "UPDATED"));
+
+            updated = userRepository.activatePending(PermanentRoleType.USER, LocalDateTime.now());
+        } else {
+            if (request.getTargetUsernames() == null || request.getTargetUsernames().isEmpty()) {
+                throw new ApiException("Target usernames list cannot be null or empty", HttpStatus.BAD_REQUEST);
+            }
+            if (request.getTargetUsernames().stream().anyMatch(Objects::isNull)) {
+                throw new ApiException("Target usernames cannot contain null", HttpStatus.BAD_REQUEST);
+            }
+
+            List<String> requested = new ArrayList<>(new LinkedHashSet<>(request.getTargetUsernames()));
+            requested.remove(requester.getUsername());
+
+            Set<String> existing = new HashSet<>();
+            Set<String> toUpdate = new LinkedHashSet<>();
+            for (List<String> chunk : chunks(requested)) {
+                existing.addAll(userRepository.findExistingUsernames(chunk));
+                toUpdate.addAll(userRepository.findUsernamesWithActiveNot(chunk, newActive));
+            }
+
+            for (String username : request.getTargetUsernames()) {
+                if (username.equals(requester.getUsername())) {
+                    outcomes.put(username, "SKIPPED_SELF");
+                } else if (!existing.contains(username)) {
+                    outcomes.put(username, "NOT_FOUND");
+                } else if (toUpdate.contains(username)) {
+                    outcomes.put(username, "UPDATED");
+                } else {
+                    outcomes.put(username, "UNCHANGED");
+                }
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            for (List<String> chunk : chunks(new ArrayList<>(toUpdate))) {
+                if (newActive) {
+                    updated += userRepository.activateByUsernames(chunk, now);
+                } else {
+                    updated += userRepository.deactivateByUsernames(chunk);
+                    tokensDeactivated += tokenService.deactivateTokens(chunk);
+                }
+            }
+        }
+
+        List<String> changed = outcomes.entrySet().stream()
+                .filter(e -> e.getValue().equals("UPDATED"))
+                .map(Map.Entry::getKey)
+                .toList();
+        if (!changed.isEmpty()) {
+            eventPublisher.publish(new DomainEvent.UserAccountStatusChanged(changed, newActive));
+        }
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("updated", updated);
+        data.put("tokensDeactivated", tokensDeactivated);
+        data.put("outcomes", outcomes);
+
+        return new ApiResponse<>(LocalDateTime.now(), HttpStatus.OK.value(),
+                "User account statuses updated successfully", data);
+    }
+
     // -------------------- DELETE USER --------------------
     /**
      * Deletes a user account. Admins can delete other users; a user can delete
-     * their own account. Deletes all tokens for the deleted user.
+     * their own account. Tokens, festival roles and band memberships of the
+     * deleted user are removed, performances they created are deleted and
+     * stage manager assignments are cleared, all with set-based statements.
+     * A user whose performances went beyond CREATED, or who is the only
+     * organizer of a festival, cannot be deleted.
      *
      * @param request delete user request
      * @return ApiResponse
+     * @throws ApiException if the user created performances beyond CREATED
+     * or is the only organizer of a festival
      */
     @Transactional
     public ApiResponse<Map<String, Object>> deleteUser(DeleteUserRequest request) {
@@ -289,11 +431,30 @@ public class UserService {
             }
         }
 
-        //Delete tokens
-        tokenService.deleteTokens(targetUser);
+        //Refuse to drop lineups or leave festivals without an organizer
+        if (performanceRepository.existsByCreatorAndStateNot(targetUser, PerformanceState.CREATED)) {
+            throw new ApiException("User has submitted performances and cannot be deleted", HttpStatus.CONFLICT);
+        }
+        List<Long> organized = festivalUserRoleRepository.findFestivalIdsWithSoleRoleHolder(
+                targetUser, FestivalRoleType.ORGANIZER);
+        if (!organized.isEmpty()) {
+            throw new ApiException("User is the only organizer of festivals " + organized
+                    + " and cannot be deleted", HttpStatus.CONFLICT);
+        }
 
-        //Delete user
-        userRepository.delete(targetUser);
+        //Collect what the deletion touches before the rows are gone
+        List<PerformanceRef> created = performanceRepository.findRefsByCreator(targetUser);
+        Set<Long> festivalIds = new TreeSet<>(festivalUserRoleRepository.findFestivalIdsByUser(targetUser));
+        festivalIds.addAll(performanceRepository.findFestivalIdsByStageManagerOrBandMember(targetUser));
+        created.forEach(ref -> festivalIds.add(ref.festivalId()));
+
+        //Delete user together with tokens, roles, band memberships, created
+        //performances and stage manager assignments in one transaction
+        userRepository.bulkDeleteUser(targetUser.getId());
+        for (PerformanceRef ref : created) {
+            eventPublisher.publish(new DomainEvent.PerformanceDeleted(ref.performanceId(), ref.festivalId()));
+        }
+        eventPublisher.publish(new DomainEvent.UserDeleted(targetUser.getId(), targetUser.getUsername(), festivalIds));
 
         //Build response
         return new ApiResponse<>(
@@ -336,6 +497,14 @@ public class UserService {
                 .orElseThrow(() -> new ApiException("Target user not found", HttpStatus.NOT_FOUND));
     }
 
+    private List<List<String>> chunks(List<String> values) {
+        List<List<String>> chunks = new ArrayList<>();
+        for (int i = 0; i < values.size(); i += BULK_CHUNK_SIZE) {
+            chunks.add(values.subList(i, Math.min(i + BULK_CHUNK_SIZE, values.size())));
+        }
+        return chunks;
+    }
+
     private boolean isPasswordValid(String password) {
         return password.length() >= 8
                 && password.matches(".*[A-Z].*")
@@ -0,0 +1,127 @@
+package com.festivalmanager.sql;
+
+/**
+ * Per-thread tallies of the SQL statements run by the application.
+ * <p>
+ * A tally is opened around a unit of work, such as an HTTP request or a
+ * service method, and closed when it ends. Tallies nest: a statement counts
+ * towards every tally open on the thread, so a request tally includes the
+ * statements of the service methods it calls. Statements run while no tally
+ * is open are not counted.
+ * </p>
+ */
+public final class SqlAccounting {
+
+    private static final ThreadLocal<Tally> CURRENT = new ThreadLocal<>();
+
+    private SqlAccounting() {
+    }
+
+    /**
+     * Statements, rows and time counted while a tally was open.
+     */
+    public static final class Tally {
+
+        private final String origin;
+        private final Tally parent;
+        private long statements;
+        private long rows;
+        private long nanos;
+
+        private Tally(String origin, Tally parent) {
+            this.origin = origin;
+            this.parent = parent;
+        }
+
+        /**
+         * @return what the tally was opened for, e.g. an endpoint or a method
+         */
+        public String getOrigin() {
+            return origin;
+        }
+
+        /**
+         * @return the number of statements executed
+         */
+        public long getStatements() {
+            return statements;
+        }
+
+        /**
+         * @return the rows read and written
+         */
+        public long getRows() {
+            return rows;
+        }
+
+        /**
+         * @return the time spent executing statements, in nanoseconds
+         */
+        public long getNanos() {
+            return nanos;
+        }
+    }
+
+    /**
+     * Opens a tally on the current thread, nested in the open one if any.
+     *
+     * @param origin what the tally counts for
+     * @return the tally, to be passed to {@link #stop}
+     */
+    public static Tally start(String origin) {
+        Tally tally = new Tally(origin, CURRENT.get());
+        CURRENT.set(tally);
+        return tally;
+    }
+
+    /**
+     * Closes a tally, reopening the one it was nested in.
+     *
+     * @param tally the tally returned by {@link #start}
+     */
+    public static void stop(Tally tally) {
+        if (tally.parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(tally.parent);
+        }
+    }
+
+    /**
+     * Returns the origin of the outermost open tally, typically the endpoint.
+     *
+     * @return the origin, or {@code null} if no tally is open
+     */
+    public static String rootOrigin() {
+        Tally tally = CURRENT.get();
+        while (tally != null && tally.parent != null) {
+            tally = tally.parent;
+        }
+        return tally == null ? null : tally.origin;
+    }
+
+    /**
+     * Returns the origin of the innermost open tally, typically the service
+     * method.
+     *
+     * @return the origin, or {@code null} if no tally is open
+     */
+    public static String currentOrigin() {
+        Tally tally = CURRENT.get();
+        return tally == null ? null : tally.origin;
+    }
+
+    static void recordStatement(long rows, long nanos) {
+        for (Tally tally = CURRENT.get(); tally != null; tally = tally.parent) {
+            tally.statements++;
+            tally.rows += rows;
+            tally.nanos += nanos;
+        }
+    }
+
+    static void recordRow() {
+        for (Tally tally = CURRENT.get(); tally != null; tally = tally.parent) {
+            tally.rows++;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.festivalmanager.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the SQL statements, rows and statement time of every public service
+ * method.
+ * <p>
+ * The aspect runs outside the retry and transaction interceptors, so the
+ * counts include the statements flushed at commit and every retry. Nested
+ * service calls count towards both methods.
+ * </p>
+ * <p>
+ * Metrics, tagged with the method: {@code festival.sql.method.statements},
+ * {@code festival.sql.method.rows} and {@code festival.sql.method.time}.
+ * </p>
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlAccountingAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Constructs a new {@link SqlAccountingAspect}.
+     *
+     * @param meterRegistry the registry method metrics are recorded in
+     */
+    public SqlAccountingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Invokes a service method inside its own tally.
+     *
+     * @param joinPoint the intercepted method invocation
+     * @return the result of the method
+     * @throws Throwable any exception thrown by the method
+     */
+    @Around("execution(public * com.festivalmanager.service..*(..))")
+    public Object count(ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = joinPoint.getSignature().toShortString();
+        SqlAccounting.Tally tally = SqlAccounting.start(method);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            SqlAccounting.stop(tally);
+            DistributionSummary.builder("festival.sql.method.statements").tag("method", method)
+                    .register(meterRegistry).record(tally.getStatements());
+            DistributionSummary.builder("festival.sql.method.rows").tag("method", method)
+                    .register(meterRegistry).record(tally.getRows());
+            Timer.builder("festival.sql.method.time").tag("method", method)
+                    .register(meterRegistry).record(tally.getNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.festivalmanager.sql;
+
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Puts a {@link StatementAccountingDataSource} in front of the application's
+ * data source, whether auto-configured or replica routing.
+ */
+@Configuration
+public class SqlAccountingConfiguration {
+
+    /** Name of the data source bean used by JPA and Flyway. */
+    static final String DATA_SOURCE_BEAN = "dataSource";
+
+    /**
+     * Wraps the {@code dataSource} bean.
+     *
+     * @param environment provides {@code festival.sql.slow-query-ms}
+     * @return the post-processor
+     */
+    @Bean
+    public static BeanPostProcessor statementAccountingPostProcessor(Environment environment) {
+        Duration slowQueryThreshold = Duration.ofMillis(
+                environment.getProperty("festival.sql.slow-query-ms", Long.class, 200L));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN.equals(beanName)) {
+                    return new StatementAccountingDataSource(dataSource, slowQueryThreshold);
+                }
+                return bean;
+            }
+        };
+    }
+}
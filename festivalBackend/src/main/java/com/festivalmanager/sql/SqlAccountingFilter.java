@@ -0,0 +1,80 @@
+package com.festivalmanager.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Counts the SQL statements, rows and statement time of every HTTP request.
+ * <p>
+ * Metrics, tagged with the endpoint pattern:
+ * {@code festival.sql.request.statements}, {@code festival.sql.request.rows}
+ * and {@code festival.sql.request.time}. With
+ * {@code festival.sql.response-header=true}, meant for non-production
+ * profiles, the response also carries {@code X-SQL-Statements},
+ * {@code X-SQL-Rows} and {@code X-SQL-Time-Ms}; the body is then buffered so
+ * that the headers can be set after the handler ran.
+ * </p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlAccountingFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean responseHeader;
+
+    /**
+     * Constructs a new {@link SqlAccountingFilter}.
+     *
+     * @param meterRegistry the registry request metrics are recorded in
+     * @param responseHeader whether to report the counts in response headers
+     */
+    public SqlAccountingFilter(MeterRegistry meterRegistry,
+            @Value("${festival.sql.response-header:false}") boolean responseHeader) {
+        this.meterRegistry = meterRegistry;
+        this.responseHeader = responseHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper buffered = responseHeader ? new ContentCachingResponseWrapper(response) : null;
+        SqlAccounting.Tally tally = SqlAccounting.start(request.getMethod() + " " + request.getRequestURI());
+        try {
+            chain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            SqlAccounting.stop(tally);
+            record(request, tally);
+            if (buffered != null) {
+                buffered.setHeader("X-SQL-Statements", Long.toString(tally.getStatements()));
+                buffered.setHeader("X-SQL-Rows", Long.toString(tally.getRows()));
+                buffered.setHeader("X-SQL-Time-Ms", Long.toString(TimeUnit.NANOSECONDS.toMillis(tally.getNanos())));
+                buffered.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlAccounting.Tally tally) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + (pattern != null ? pattern : "UNKNOWN");
+        DistributionSummary.builder("festival.sql.request.statements").tag("endpoint", endpoint)
+                .register(meterRegistry).record(tally.getStatements());
+        DistributionSummary.builder("festival.sql.request.rows").tag("endpoint", endpoint)
+                .register(meterRegistry).record(tally.getRows());
+        Timer.builder("festival.sql.request.time").tag("endpoint", endpoint)
+                .register(meterRegistry).record(tally.getNanos(), TimeUnit.NANOSECONDS);
+    }
+}
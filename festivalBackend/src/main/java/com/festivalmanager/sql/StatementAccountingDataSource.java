@@ -0,0 +1,170 @@
+package com.festivalmanager.sql;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Data source counting every statement executed through its connections.
+ * <p>
+ * Each execution is timed and reported to {@link SqlAccounting} together with
+ * the rows it wrote or, for queries, each row read. Executions slower than
+ * the slow-query threshold are logged with the fingerprint of their SQL:
+ * literals become {@code ?} and IN lists collapse, so the same query with
+ * different arguments shares one fingerprint. The log line names the endpoint
+ * and the service method the statement ran for.
+ * </p>
+ */
+public class StatementAccountingDataSource extends DelegatingDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger("com.festivalmanager.sql.slow");
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final long slowNanos;
+
+    /**
+     * Constructs a new {@link StatementAccountingDataSource}.
+     *
+     * @param target the data source to count statements of
+     * @param slowQueryThreshold executions taking at least this long are
+     * logged
+     */
+    public StatementAccountingDataSource(DataSource target, Duration slowQueryThreshold) {
+        super(target);
+        this.slowNanos = slowQueryThreshold.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(Connection.class, obtainTargetDataSource().getConnection(), this::onConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(Connection.class, obtainTargetDataSource().getConnection(username, password), this::onConnection);
+    }
+
+    /**
+     * Returns the fingerprint of a statement: literals replaced by {@code ?},
+     * IN lists collapsed and whitespace normalized.
+     *
+     * @param sql the statement
+     * @return the fingerprint
+     */
+    public static String fingerprint(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("in (...)");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    private Object onConnection(Object connection, Method method, Object[] args) throws Throwable {
+        Object result = invoke(connection, method, args);
+        switch (method.getName()) {
+            case "prepareStatement", "prepareCall": {
+                String sql = (String) args[0];
+                Class<?> type = method.getName().equals("prepareCall")
+                        ? CallableStatement.class
+                        : PreparedStatement.class;
+                return wrap(type, result, (target, m, a) -> onStatement(target, m, a, sql));
+            }
+            case "createStatement":
+                return wrap(Statement.class, result, (target, m, a) -> onStatement(target, m, a, null));
+            default:
+                return result;
+        }
+    }
+
+    private Object onStatement(Object statement, Method method, Object[] args, String preparedSql) throws Throwable {
+        String name = method.getName();
+        if (name.equals("getResultSet")) {
+            return countRows(invoke(statement, method, args));
+        }
+        if (!name.startsWith("execute")) {
+            return invoke(statement, method, args);
+        }
+        String sql = preparedSql != null ? preparedSql : args != null && args.length > 0 ? (String) args[0] : "";
+        long start = System.nanoTime();
+        Object result = invoke(statement, method, args);
+        long nanos = System.nanoTime() - start;
+
+        long rows = 0;
+        if (result instanceof Number count) {
+            rows = Math.max(0, count.longValue());
+        } else if (result instanceof int[] counts) {
+            for (int count : counts) {
+                rows += Math.max(0, count);
+            }
+        } else if (result instanceof long[] counts) {
+            for (long count : counts) {
+                rows += Math.max(0, count);
+            }
+        } else if (Boolean.FALSE.equals(result)) {
+            rows = Math.max(0, ((Statement) statement).getUpdateCount());
+        }
+        SqlAccounting.recordStatement(rows, nanos);
+        if (nanos >= slowNanos) {
+            logSlow(sql, nanos);
+        }
+        return result instanceof ResultSet ? countRows(result) : result;
+    }
+
+    private void logSlow(String sql, long nanos) {
+        String fingerprint = fingerprint(sql);
+        log.warn("Slow SQL {} ms [{}] from {} via {}: {}", Duration.ofNanos(nanos).toMillis(),
+                Integer.toHexString(fingerprint.hashCode()), SqlAccounting.rootOrigin(),
+                SqlAccounting.currentOrigin(), fingerprint);
+    }
+
+    private static Object countRows(Object resultSet) {
+        if (resultSet == null) {
+            return null;
+        }
+        return wrap(ResultSet.class, resultSet, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                SqlAccounting.recordRow();
+            }
+            return result;
+        });
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+
+        Object handle(Object target, Method method, Object[] args) throws Throwable;
+    }
+
+    private static <T> T wrap(Class<T> type, Object target, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> handler.handle(target, method, args);
+                }));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
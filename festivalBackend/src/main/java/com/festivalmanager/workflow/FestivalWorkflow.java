@@ -0,0 +1,152 @@
+package com.festivalmanager.workflow;
+
+import com.festivalmanager.enums.FestivalRoleType;
+import com.festivalmanager.events.DomainEvent.FestivalStateChanged;
+import com.festivalmanager.events.DomainEventPublisher;
+import com.festivalmanager.exception.ApiException;
+import com.festivalmanager.model.Festival;
+import com.festivalmanager.model.Festival.FestivalState;
+import com.festivalmanager.model.Performance;
+import com.festivalmanager.repository.PerformanceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Transition table of the festival lifecycle.
+ * <p>
+ * CREATED → SUBMISSION → ASSIGNMENT → REVIEW → SCHEDULING → FINAL_SUBMISSION
+ * → DECISION → ANNOUNCED. Entering DECISION rejects every performance that was
+ * not finally submitted with one bulk update; ANNOUNCED requires the festival
+ * information to be complete. Authorization is left to the caller.
+ * </p>
+ */
+@Component
+public class FestivalWorkflow {
+
+    private final StateMachine<Festival, FestivalState> machine;
+
+    /**
+     * Constructs a new {@link FestivalWorkflow}.
+     *
+     * @param performanceRepository used by the DECISION bulk rejection
+     * @param eventPublisher publishes a {@link FestivalStateChanged} per
+     * transition
+     * @param meterRegistry the registry transition metrics are recorded in
+     */
+    public FestivalWorkflow(PerformanceRepository performanceRepository, DomainEventPublisher eventPublisher,
+            MeterRegistry meterRegistry) {
+        this.machine = StateMachine.builder("Festival", FestivalState.class, Festival::getState, Festival::setState)
+                .invalidStateStatus(HttpStatus.FORBIDDEN)
+                .onTransition((festival, from, to) -> eventPublisher.publish(
+                        new FestivalStateChanged(festival.getId(), from, to)))
+                .transition(EnumSet.of(FestivalState.CREATED), FestivalState.SUBMISSION,
+                        "Submission started successfully")
+                .transition(EnumSet.of(FestivalState.SUBMISSION), FestivalState.ASSIGNMENT,
+                        "Stage manager assignment started successfully")
+                .transition(EnumSet.of(FestivalState.ASSIGNMENT), FestivalState.REVIEW,
+                        "Review started successfully")
+                .transition(EnumSet.of(FestivalState.REVIEW), FestivalState.SCHEDULING,
+                        "Schedule making started successfully")
+                .transition(EnumSet.of(FestivalState.SCHEDULING), FestivalState.FINAL_SUBMISSION,
+                        "Final submission started successfully")
+                .transition(EnumSet.of(FestivalState.FINAL_SUBMISSION), FestivalState.DECISION,
+                        "Decision making started successfully", List.of(),
+                        // Flushes the state change first, then rejects in a single statement
+                        festival -> Map.of("rejectedPerformances", performanceRepository.updateStateOfNonFinalSubmitted(
+                                festival.getId(),
+                                Performance.PerformanceState.REJECTED,
+                                "AUTOMATICALY REJECTED - NOT FINALLY SUBMITTED")))
+                .transition(EnumSet.of(FestivalState.DECISION), FestivalState.ANNOUNCED,
+                        "Festival announced successfully",
+                        List.of(FestivalWorkflow::validateFestivalCompleteness), null)
+                .build(meterRegistry);
+    }
+
+    /**
+     * Moves a festival into the target state.
+     *
+     * @param festival the festival
+     * @param target the target state
+     * @return additional response data of the transition, possibly empty
+     * @throws ApiException if the festival cannot enter the target state
+     */
+    public Map<String, Object> fire(Festival festival, FestivalState target) {
+        return machine.fire(festival, target);
+    }
+
+    /**
+     * Moves many festivals into the target state, skipping those that cannot.
+     *
+     * @param festivals the festivals
+     * @param target the target state
+     * @return one outcome per festival
+     * @throws ApiException if no transition leads to the target state
+     */
+    public List<StateMachine.Outcome<Festival>> fireAll(Collection<Festival> festivals, FestivalState target) {
+        return machine.fireAll(festivals, target);
+    }
+
+    /**
+     * Returns the success message of the transition into the target state.
+     *
+     * @param target the target state
+     * @return the message
+     */
+    public String messageOf(FestivalState target) {
+        return machine.messageOf(target);
+    }
+
+    private static void validateFestivalCompleteness(Festival festival) {
+        if (festival.getName() == null || festival.getName().isBlank()) {
+            throw new ApiException("Festival name is missing", HttpStatus.BAD_REQUEST);
+        }
+        if (festival.getDescription() == null || festival.getDescription().isBlank()) {
+            throw new ApiException("Festival description is missing", HttpStatus.BAD_REQUEST);
+        }
+        if (festival.getDates() == null || festival.getDates().isEmpty()) {
+            throw new ApiException("Festival dates are missing", HttpStatus.BAD_REQUEST);
+        }
+
+        // Venue layout checks
+        if (festival.getVenueLayout() == null
+                || festival.getVenueLayout().getStages() == null || festival.getVenueLayout().getStages().isEmpty()
+                || festival.getVenueLayout().getVendorAreas() == null || festival.getVenueLayout().getVendorAreas().isEmpty()
+                || festival.getVenueLayout().getFacilities() == null || festival.getVenueLayout().getFacilities().isEmpty()) {
+            throw new ApiException("Venue layout is incomplete", HttpStatus.BAD_REQUEST);
+        }
+
+        // Budget checks
+        if (festival.getBudget() == null
+                || festival.getBudget().getCosts() == null
+                || festival.getBudget().getExpectedRevenue() == null
+                || festival.getBudget().getLogistics() == null
+                || festival.getBudget().getTracking() == null) {
+            throw new ApiException("Budget information is incomplete", HttpStatus.BAD_REQUEST);
+        }
+
+        // Vendor management checks
+        if (festival.getVendorManagement() == null
+                || festival.getVendorManagement().getFoodStalls() == null
+                || festival.getVendorManagement().getMerchandiseBooths() == null) {
+            throw new ApiException("Vendor management information is incomplete", HttpStatus.BAD_REQUEST);
+        }
+
+        // Roles checks
+        boolean hasOrganizer = festival.getUserRoles().stream()
+                .anyMatch(r -> r.getRole() == FestivalRoleType.ORGANIZER);
+        boolean hasStaff = festival.getUserRoles().stream()
+                .anyMatch(r -> r.getRole() == FestivalRoleType.STAFF);
+
+        if (!hasOrganizer) {
+            throw new ApiException("Festival must have at least one organizer", HttpStatus.BAD_REQUEST);
+        }
+        if (!hasStaff) {
+            throw new ApiException("Festival must have at least one staff member", HttpStatus.BAD_REQUEST);
+        }
+    }
+}
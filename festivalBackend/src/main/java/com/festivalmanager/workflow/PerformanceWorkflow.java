@@ -0,0 +1,163 @@
+package com.festivalmanager.workflow;
+
+import com.festivalmanager.events.DomainEvent.PerformanceStateChanged;
+import com.festivalmanager.events.DomainEventPublisher;
+import com.festivalmanager.exception.ApiException;
+import com.festivalmanager.model.Festival.FestivalState;
+import com.festivalmanager.model.Performance;
+import com.festivalmanager.model.Performance.PerformanceState;
+import com.festivalmanager.service.BandMemberConflictService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Transition table of the performance workflow.
+ * <p>
+ * Every transition is tied to the festival phase in which it is allowed:
+ * submission (CREATED → SUBMITTED), review (SUBMITTED/REVIEWED → REVIEWED),
+ * scheduling (SUBMITTED/REVIEWED → APPROVED), scheduling or decision
+ * (→ REJECTED) and decision (REVIEWED/APPROVED → SCHEDULED, with the band
+ * member double-booking check). Authorization and request validation are left
+ * to the caller.
+ * </p>
+ */
+@Component
+public class PerformanceWorkflow {
+
+    private final StateMachine<Performance, PerformanceState> machine;
+
+    /**
+     * Constructs a new {@link PerformanceWorkflow}.
+     *
+     * @param bandMemberConflictService checks band members on acceptance
+     * @param eventPublisher publishes a {@link PerformanceStateChanged} per
+     * transition
+     * @param meterRegistry the registry transition metrics are recorded in
+     */
+    public PerformanceWorkflow(BandMemberConflictService bandMemberConflictService,
+            DomainEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this.machine = StateMachine.builder("Performance", PerformanceState.class,
+                Performance::getState, Performance::setState)
+                .onTransition((performance, from, to) -> eventPublisher.publish(new PerformanceStateChanged(
+                        performance.getId(), performance.getFestival().getId(), from, to)))
+                .transition(EnumSet.of(PerformanceState.CREATED), PerformanceState.SUBMITTED,
+                        "Performance submitted successfully",
+                        List.of(festivalIn(EnumSet.of(FestivalState.SUBMISSION),
+                                "Festival is not accepting submissions currently"),
+                                PerformanceWorkflow::validateCompleteness),
+                        null)
+                .transition(EnumSet.of(PerformanceState.SUBMITTED, PerformanceState.REVIEWED),
+                        PerformanceState.REVIEWED,
+                        "Performance reviewed successfully",
+                        List.of(festivalIn(EnumSet.of(FestivalState.REVIEW),
+                                "Performance can only be reviewed when the festival is in REVIEW state")),
+                        null)
+                .transition(EnumSet.of(PerformanceState.SUBMITTED, PerformanceState.REVIEWED),
+                        PerformanceState.APPROVED,
+                        "Performance approved successfully",
+                        List.of(festivalIn(EnumSet.of(FestivalState.SCHEDULING),
+                                "Performances can only be approved when the festival is in SCHEDULING state")),
+                        null)
+                .transition(EnumSet.of(PerformanceState.SUBMITTED, PerformanceState.REVIEWED, PerformanceState.APPROVED),
+                        PerformanceState.REJECTED,
+                        "Performance rejected manually",
+                        List.of(festivalIn(EnumSet.of(FestivalState.SCHEDULING, FestivalState.DECISION),
+                                "Performance can only be rejected during SCHEDULING or DECISION state")),
+                        null)
+                .transition(EnumSet.of(PerformanceState.REVIEWED, PerformanceState.APPROVED),
+                        PerformanceState.SCHEDULED,
+                        "Performance accepted/scheduled successfully",
+                        List.of(festivalIn(EnumSet.of(FestivalState.DECISION),
+                                "Performance acceptance is only allowed during DECISION festival state"),
+                                bandMemberConflictService::checkBandMembersAvailable),
+                        null)
+                .build(meterRegistry);
+    }
+
+    /**
+     * Moves a performance into the target state.
+     *
+     * @param performance the performance
+     * @param target the target state
+     * @return additional response data of the transition, possibly empty
+     * @throws ApiException if the performance cannot enter the target state
+     */
+    public Map<String, Object> fire(Performance performance, PerformanceState target) {
+        return machine.fire(performance, target);
+    }
+
+    /**
+     * Checks that a performance may enter the target state, without changing
+     * it. For transitions applied with set-based updates.
+     *
+     * @param performance the performance
+     * @param target the target state
+     * @throws ApiException if the performance cannot enter the target state
+     */
+    public void check(Performance performance, PerformanceState target) {
+        machine.check(performance, target);
+    }
+
+    /**
+     * Moves many performances into the target state, skipping those that
+     * cannot.
+     *
+     * @param performances the performances
+     * @param target the target state
+     * @return one outcome per performance
+     * @throws ApiException if no transition leads to the target state
+     */
+    public List<StateMachine.Outcome<Performance>> fireAll(Collection<Performance> performances,
+            PerformanceState target) {
+        return machine.fireAll(performances, target);
+    }
+
+    /**
+     * Returns the states a performance may enter the target state from.
+     *
+     * @param target the target state
+     * @return the source states
+     */
+    public Set<PerformanceState> sourcesOf(PerformanceState target) {
+        return machine.sourcesOf(target);
+    }
+
+    /**
+     * Returns the success message of the transition into the target state.
+     *
+     * @param target the target state
+     * @return the message
+     */
+    public String messageOf(PerformanceState target) {
+        return machine.messageOf(target);
+    }
+
+    private static Consumer<Performance> festivalIn(Set<FestivalState> states, String message) {
+        return performance -> {
+            if (!states.contains(performance.getFestival().getState())) {
+                throw new ApiException(message, HttpStatus.BAD_REQUEST);
+            }
+        };
+    }
+
+    private static void validateCompleteness(Performance performance) {
+        if (performance.getName() == null || performance.getName().isBlank()
+                || performance.getDescription() == null || performance.getDescription().isBlank()
+                || performance.getGenre() == null || performance.getGenre().isBlank()
+                || performance.getDuration() == null
+                || performance.getTechnicalRequirement() == null
+                || performance.getSetlist() == null || performance.getSetlist().isEmpty()
+                || performance.getMerchandiseItems() == null || performance.getMerchandiseItems().isEmpty()
+                || performance.getPreferredRehearsalTimes() == null || performance.getPreferredRehearsalTimes().isEmpty()
+                || performance.getPreferredPerformanceSlots() == null || performance.getPreferredPerformanceSlots().isEmpty()) {
+            throw new ApiException("Performance is incomplete and cannot be submitted", HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package com.festivalmanager.workflow;
+
+import com.festivalmanager.exception.ApiException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Table-driven state machine over an enum of states.
+ * <p>
+ * Transitions are stored in an {@link EnumMap} keyed by target state. Each one
+ * lists the states it may start from, guards that veto it by throwing an
+ * {@link ApiException}, and an optional action run after the state change
+ * (e.g. a bulk update of dependent rows). Services authorize the requester and
+ * then {@link #fire} the transition; {@link #fireAll} advances many entities
+ * in the caller's transaction, reporting failures per entity. An optional
+ * {@link TransitionListener} is told about every applied transition.
+ * </p>
+ * <p>
+ * Metrics: every transition attempt is timed in {@value #TRANSITION_METRIC},
+ * tagged with the machine name, the target state and the outcome
+ * ({@code success} or {@code rejected}), which gives counts and latency per
+ * transition.
+ * </p>
+ *
+ * @param <E> the entity type
+ * @param <S> the state enum
+ */
+public final class StateMachine<E, S extends Enum<S>> {
+
+    /** Timer recording every transition attempt. */
+    public static final String TRANSITION_METRIC = "festival.workflow.transitions";
+
+    private final String name;
+    private final Function<E, S> stateOf;
+    private final BiConsumer<E, S> setState;
+    private final HttpStatus invalidStateStatus;
+    private final EnumMap<S, Transition<E, S>> transitions;
+    private final MeterRegistry meterRegistry;
+    private final TransitionListener<E, S> listener;
+
+    private StateMachine(Builder<E, S> builder, MeterRegistry meterRegistry) {
+        this.name = builder.name;
+        this.stateOf = builder.stateOf;
+        this.setState = builder.setState;
+        this.invalidStateStatus = builder.invalidStateStatus;
+        this.transitions = new EnumMap<>(builder.transitions);
+        this.meterRegistry = meterRegistry;
+        this.listener = builder.listener;
+    }
+
+    /**
+     * Callback for applied transitions.
+     *
+     * @param <E> the entity type
+     * @param <S> the state enum
+     */
+    @FunctionalInterface
+    public interface TransitionListener<E, S> {
+
+        /**
+         * Called after an entity changed state and the action succeeded.
+         *
+         * @param entity the entity
+         * @param from the previous state
+         * @param to the new state
+         */
+        void onTransition(E entity, S from, S to);
+    }
+
+    /**
+     * A transition into one target state.
+     */
+    private record Transition<E, S extends Enum<S>>(S target, Set<S> sources, List<Consumer<E>> guards,
+            Function<E, Map<String, Object>> action, String message) {
+    }
+
+    /**
+     * Result of firing a transition on one entity of a bulk request.
+     *
+     * @param entity the entity
+     * @param transitioned whether the transition was applied
+     * @param error the reason it was not applied, {@code null} on success
+     * @param effects additional data produced by the transition's action
+     * @param <E> the entity type
+     */
+    public record Outcome<E>(E entity, boolean transitioned, String error, Map<String, Object> effects) {
+    }
+
+    /**
+     * Starts building a state machine.
+     *
+     * @param name the machine name, used in error messages and metric tags
+     * @param stateType the state enum
+     * @param stateOf reads the state of an entity
+     * @param setState writes the state of an entity
+     * @param <E> the entity type
+     * @param <S> the state enum
+     * @return a new builder
+     */
+    public static <E, S extends Enum<S>> Builder<E, S> builder(String name, Class<S> stateType,
+            Function<E, S> stateOf, BiConsumer<E, S> setState) {
+        return new Builder<>(name, stateType, stateOf, setState);
+    }
+
+    /**
+     * Returns whether a transition into the target state is defined.
+     *
+     * @param target the target state
+     * @return {@code true} if the machine can move entities into {@code target}
+     */
+    public boolean hasTransition(S target) {
+        return transitions.containsKey(target);
+    }
+
+    /**
+     * Returns the states a transition into the target state may start from.
+     *
+     * @param target the target state
+     * @return the source states
+     */
+    public Set<S> sourcesOf(S target) {
+        return transition(target).sources();
+    }
+
+    /**
+     * Returns the success message of a transition.
+     *
+     * @param target the target state
+     * @return the message
+     */
+    public String messageOf(S target) {
+        return transition(target).message();
+    }
+
+    /**
+     * Moves an entity into the target state: checks the current state, runs
+     * the guards, sets the state and runs the action. If the action fails the
+     * previous state is restored.
+     *
+     * @param entity the entity
+     * @param target the target state
+     * @return the effects reported by the transition's action, possibly empty
+     * @throws ApiException if the transition is undefined, the entity is not
+     * in a source state, or a guard or the action rejects it
+     */
+    public Map<String, Object> fire(E entity, S target) {
+        Transition<E, S> transition = transition(target);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "rejected";
+        try {
+            S current = stateOf.apply(entity);
+            verify(transition, entity, current);
+
+            setState.accept(entity, target);
+            Map<String, Object> effects;
+            try {
+                effects = transition.action() != null ? transition.action().apply(entity) : Map.of();
+            } catch (RuntimeException e) {
+                setState.accept(entity, current);
+                throw e;
+            }
+            if (listener != null) {
+                listener.onTransition(entity, current, target);
+            }
+            outcome = "success";
+            return effects;
+        } finally {
+            sample.stop(Timer.builder(TRANSITION_METRIC)
+                    .tag("machine", name.toLowerCase())
+                    .tag("target", target.name())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Checks that an entity may move into the target state without changing
+     * it: the entity must be in a source state and pass every guard. Lets
+     * callers apply the change themselves, e.g. with a set-based update, for
+     * transitions that have no action.
+     *
+     * @param entity the entity
+     * @param target the target state
+     * @throws ApiException if the transition is undefined, the entity is not
+     * in a source state, or a guard rejects it
+     * @throws IllegalStateException if the transition has an action, which
+     * only {@link #fire} runs
+     */
+    public void check(E entity, S target) {
+        Transition<E, S> transition = transition(target);
+        if (transition.action() != null) {
+            throw new IllegalStateException("Transition to " + target + " has an action and must be fired");
+        }
+        verify(transition, entity, stateOf.apply(entity));
+    }
+
+    /**
+     * Moves many entities into the target state within the caller's
+     * transaction. An entity rejected by the machine is reported and skipped;
+     * the others are still transitioned.
+     *
+     * @param entities the entities
+     * @param target the target state
+     * @return one outcome per entity, in iteration order
+     * @throws ApiException if the transition is undefined
+     */
+    public List<Outcome<E>> fireAll(Collection<E> entities, S target) {
+        transition(target);
+        List<Outcome<E>> outcomes = new ArrayList<>(entities.size());
+        for (E entity : entities) {
+            try {
+                outcomes.add(new Outcome<>(entity, true, null, fire(entity, target)));
+            } catch (ApiException e) {
+                outcomes.add(new Outcome<>(entity, false, e.getMessage(), Map.of()));
+            }
+        }
+        return outcomes;
+    }
+
+    private void verify(Transition<E, S> transition, E entity, S current) {
+        if (!transition.sources().contains(current)) {
+            throw new ApiException(name + " is not in " + describe(transition.sources()) + " state",
+                    invalidStateStatus);
+        }
+        transition.guards().forEach(guard -> guard.accept(entity));
+    }
+
+    private Transition<E, S> transition(S target) {
+        Transition<E, S> transition = transitions.get(target);
+        if (transition == null) {
+            throw new ApiException(name + " cannot be moved to " + target.name() + " state", HttpStatus.BAD_REQUEST);
+        }
+        return transition;
+    }
+
+    private static String describe(Set<? extends Enum<?>> states) {
+        return states.stream().map(Enum::name).collect(Collectors.joining(" or "));
+    }
+
+    /**
+     * Builder collecting the transition table of a {@link StateMachine}.
+     *
+     * @param <E> the entity type
+     * @param <S> the state enum
+     */
+    public static final class Builder<E, S extends Enum<S>> {
+
+        private final String name;
+        private final Class<S> stateType;
+        private final Function<E, S> stateOf;
+        private final BiConsumer<E, S> setState;
+        private final EnumMap<S, Transition<E, S>> transitions;
+        private HttpStatus invalidStateStatus = HttpStatus.BAD_REQUEST;
+        private TransitionListener<E, S> listener;
+
+        private Builder(String name, Class<S> stateType, Function<E, S> stateOf, BiConsumer<E, S> setState) {
+            this.name = name;
+            this.stateType = stateType;
+            this.stateOf = stateOf;
+            this.setState = setState;
+            this.transitions = new EnumMap<>(stateType);
+        }
+
+        /**
+         * Sets the HTTP status used when an entity is not in a source state.
+         *
+         * @param status the status, {@code BAD_REQUEST} by default
+         * @return this builder
+         */
+        public Builder<E, S> invalidStateStatus(HttpStatus status) {
+            this.invalidStateStatus = status;
+            return this;
+        }
+
+        /**
+         * Sets the callback told about every applied transition.
+         *
+         * @param listener the callback
+         * @return this builder
+         */
+        public Builder<E, S> onTransition(TransitionListener<E, S> listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        /**
+         * Adds a transition without guards or action.
+         *
+         * @param sources the states the transition may start from
+         * @param target the target state
+         * @param message the success message
+         * @return this builder
+         */
+        public Builder<E, S> transition(Set<S> sources, S target, String message) {
+            return transition(sources, target, message, List.of(), null);
+        }
+
+        /**
+         * Adds a transition.
+         *
+         * @param sources the states the transition may start from
+         * @param target the target state
+         * @param message the success message
+         * @param guards checks run before the state change, in order
+         * @param action run after the state change, returning additional
+         * response data; may be {@code null}
+         * @return this builder
+         */
+        public Builder<E, S> transition(Set<S> sources, S target, String message, List<Consumer<E>> guards,
+                Function<E, Map<String, Object>> action) {
+            if (transitions.containsKey(target)) {
+                throw new IllegalStateException("Duplicate transition to " + target);
+            }
+            Set<S> from = sources.isEmpty() ? EnumSet.noneOf(stateType) : EnumSet.copyOf(sources);
+            transitions.put(target, new Transition<>(target, Collections.unmodifiableSet(from),
+                    List.copyOf(guards), action, message));
+            return this;
+        }
+
+        /**
+         * Builds the state machine.
+         *
+         * @param meterRegistry the registry transition metrics are recorded in
+         * @return the state machine
+         */
+        public StateMachine<E, S> build(MeterRegistry meterRegistry) {
+            return new StateMachine<>(this, meterRegistry);
+        }
+    }
+}
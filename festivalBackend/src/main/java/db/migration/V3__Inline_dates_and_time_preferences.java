@@ -0,0 +1,158 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Moves festival dates and performance time preferences from their collection
+ * tables into columns of the owning rows.
+ * <p>
+ * Dates become a day-range list, times a minute-of-day bitmap. The encodings
+ * are copied here as they were when this migration was written, so later
+ * changes to the entity converters do not change what it writes. The
+ * collection tables are dropped afterwards, together with the index on
+ * {@code festival_dates.date}.
+ * </p>
+ */
+public class V3__Inline_dates_and_time_preferences extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int DATES_MAX_LENGTH = 2000;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE festivals ADD COLUMN dates VARCHAR(" + DATES_MAX_LENGTH + ")");
+            statement.execute("ALTER TABLE performances"
+                    + " ADD COLUMN rehearsal_minutes VARBINARY(180),"
+                    + " ADD COLUMN performance_slot_minutes VARBINARY(180)");
+        }
+
+        Map<Long, TreeSet<LocalDate>> festivalDates = new LinkedHashMap<>();
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery("SELECT festival_id, date FROM festival_dates")) {
+            while (rows.next()) {
+                festivalDates.computeIfAbsent(rows.getLong(1), id -> new TreeSet<>())
+                        .add(rows.getObject(2, LocalDate.class));
+            }
+        }
+        try (PreparedStatement update = connection.prepareStatement("UPDATE festivals SET dates = ? WHERE id = ?")) {
+            int pending = 0;
+            for (Map.Entry<Long, TreeSet<LocalDate>> entry : festivalDates.entrySet()) {
+                update.setString(1, encodeDates(entry.getValue()));
+                update.setLong(2, entry.getKey());
+                update.addBatch();
+                pending = flush(update, pending + 1);
+            }
+            update.executeBatch();
+        }
+
+        copyTimes(connection, "performance_rehearsal_times", "rehearsal_time", "rehearsal_minutes");
+        copyTimes(connection, "performance_slots", "performance_slot", "performance_slot_minutes");
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE festival_dates");
+            statement.execute("DROP TABLE performance_rehearsal_times");
+            statement.execute("DROP TABLE performance_slots");
+        }
+    }
+
+    private static void copyTimes(Connection connection, String table, String column, String target)
+            throws SQLException {
+        Map<Long, TreeSet<LocalTime>> times = new LinkedHashMap<>();
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery("SELECT performance_id, " + column + " FROM " + table)) {
+            while (rows.next()) {
+                times.computeIfAbsent(rows.getLong(1), id -> new TreeSet<>())
+                        .add(rows.getObject(2, LocalTime.class).withSecond(0).withNano(0));
+            }
+        }
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE performances SET " + target + " = ? WHERE id = ?")) {
+            int pending = 0;
+            for (Map.Entry<Long, TreeSet<LocalTime>> entry : times.entrySet()) {
+                update.setBytes(1, encodeMinutes(entry.getValue()));
+                update.setLong(2, entry.getKey());
+                update.addBatch();
+                pending = flush(update, pending + 1);
+            }
+            update.executeBatch();
+        }
+    }
+
+    /**
+     * Encodes dates as comma-separated day ranges, consecutive dates
+     * collapsed into {@code first..last}, e.g.
+     * {@code 2025-12-31..2026-01-01,2026-01-03}.
+     *
+     * @param dates the dates, not empty
+     * @return the column value
+     */
+    static String encodeDates(TreeSet<LocalDate> dates) {
+        StringBuilder column = new StringBuilder();
+        Iterator<LocalDate> iterator = dates.iterator();
+        LocalDate first = iterator.next();
+        LocalDate last = first;
+        while (iterator.hasNext()) {
+            LocalDate date = iterator.next();
+            if (!date.equals(last.plusDays(1))) {
+                appendRange(column, first, last);
+                first = date;
+            }
+            last = date;
+        }
+        appendRange(column, first, last);
+        return column.toString();
+    }
+
+    private static void appendRange(StringBuilder column, LocalDate first, LocalDate last) {
+        if (column.length() > 0) {
+            column.append(',');
+        }
+        column.append(first);
+        if (!last.equals(first)) {
+            column.append("..").append(last);
+        }
+    }
+
+    /**
+     * Encodes times as a bitmap of the minutes of the day: bit
+     * {@code minute % 8} of byte {@code minute / 8}, trailing zero bytes
+     * dropped, so at most 180 bytes.
+     *
+     * @param times the times truncated to the minute, not empty
+     * @return the column value
+     */
+    static byte[] encodeMinutes(TreeSet<LocalTime> times) {
+        byte[] bitmap = new byte[MINUTES_PER_DAY / 8];
+        for (LocalTime time : times) {
+            int minute = time.getHour() * 60 + time.getMinute();
+            bitmap[minute >>> 3] |= (byte) (1 << (minute & 7));
+        }
+        int highest = (times.last().getHour() * 60 + times.last().getMinute()) >>> 3;
+        return Arrays.copyOf(bitmap, highest + 1);
+    }
+
+    private static int flush(PreparedStatement update, int pending) throws SQLException {
+        if (pending < BATCH_SIZE) {
+            return pending;
+        }
+        update.executeBatch();
+        return 0;
+    }
+}
@@ -0,0 +1,26 @@
+-- Columns and indexes the entities gained before the schema was managed by
+-- Flyway. Databases baselined at version 1 lack them.
+
+-- Optimistic locking of festivals and performances
+ALTER TABLE festivals ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE performances ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- Slot assigned by the lineup scheduler
+ALTER TABLE performances ADD COLUMN scheduled_stage VARCHAR(255);
+ALTER TABLE performances ADD COLUMN scheduled_date DATE;
+ALTER TABLE performances ADD COLUMN scheduled_start_time TIME(6);
+ALTER TABLE performances ADD COLUMN scheduled_end_time TIME(6);
+
+-- Slot assigned by the rehearsal allocator
+ALTER TABLE performances ADD COLUMN rehearsal_stage VARCHAR(255);
+ALTER TABLE performances ADD COLUMN rehearsal_date DATE;
+ALTER TABLE performances ADD COLUMN rehearsal_start_time TIME(6);
+ALTER TABLE performances ADD COLUMN rehearsal_end_time TIME(6);
+
+-- Work queues and counts per stage manager and per creator
+CREATE INDEX idx_performances_stage_manager_state ON performances (stage_manager_id, state);
+CREATE INDEX idx_performances_creator_state ON performances (creator_id, state);
+
+-- Performances of a band member, for double-booking checks and work queues
+CREATE INDEX idx_performance_band_members_user ON performance_band_members (user_id);
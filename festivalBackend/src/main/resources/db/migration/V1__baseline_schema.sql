@@ -0,0 +1,196 @@
+-- Schema as mapped by the JPA entities before the schema was managed by
+-- Flyway. Databases created earlier by ddl-auto=update are baselined at this
+-- version and only receive later migrations (spring.flyway.baseline-on-migrate),
+-- so this script must not change: later columns and indexes go into new
+-- versions.
+
+CREATE TABLE users (
+    id                      BIGINT       NOT NULL AUTO_INCREMENT,
+    username                VARCHAR(255) NOT NULL,
+    password                VARCHAR(255) NOT NULL,
+    full_name               VARCHAR(255) NOT NULL,
+    permanent_role          VARCHAR(32)  NOT NULL,
+    active                  BIT          NOT NULL,
+    failed_login_attempts   INT          NOT NULL,
+    failed_password_updates INT          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username)
+) ENGINE = InnoDB;
+
+CREATE TABLE tokens (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    value      VARCHAR(255) NOT NULL,
+    expires_at DATETIME(6),
+    active     BIT          NOT NULL,
+    user_id    BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_tokens_value UNIQUE (value),
+    CONSTRAINT fk_tokens_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE festivals (
+    id            BIGINT        NOT NULL AUTO_INCREMENT,
+    creation_date DATETIME(6)   NOT NULL,
+    name          VARCHAR(255)  NOT NULL,
+    description   VARCHAR(1000) NOT NULL,
+    venue         VARCHAR(255)  NOT NULL,
+    state         VARCHAR(32)   NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_festivals_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE festival_dates (
+    festival_id BIGINT NOT NULL,
+    date        DATE   NOT NULL,
+    PRIMARY KEY (festival_id, date),
+    CONSTRAINT fk_festival_dates_festival FOREIGN KEY (festival_id) REFERENCES festivals (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE festival_budgets (
+    id               BIGINT NOT NULL AUTO_INCREMENT,
+    festival_id      BIGINT NOT NULL,
+    tracking         DOUBLE NOT NULL,
+    costs            DOUBLE NOT NULL,
+    logistics        DOUBLE NOT NULL,
+    expected_revenue DOUBLE NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_festival_budgets_festival UNIQUE (festival_id),
+    CONSTRAINT fk_festival_budgets_festival FOREIGN KEY (festival_id) REFERENCES festivals (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE festival_venue_layouts (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    festival_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_festival_venue_layouts_festival UNIQUE (festival_id),
+    CONSTRAINT fk_festival_venue_layouts_festival FOREIGN KEY (festival_id) REFERENCES festivals (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE venue_stages (
+    venue_layout_id BIGINT       NOT NULL,
+    stage           VARCHAR(255) NOT NULL,
+    PRIMARY KEY (venue_layout_id, stage),
+    CONSTRAINT fk_venue_stages_layout FOREIGN KEY (venue_layout_id) REFERENCES festival_venue_layouts (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE venue_vendor_areas (
+    venue_layout_id BIGINT       NOT NULL,
+    vendor_area     VARCHAR(255) NOT NULL,
+    PRIMARY KEY (venue_layout_id, vendor_area),
+    CONSTRAINT fk_venue_vendor_areas_layout FOREIGN KEY (venue_layout_id) REFERENCES festival_venue_layouts (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE venue_facilities (
+    venue_layout_id BIGINT       NOT NULL,
+    facility        VARCHAR(255) NOT NULL,
+    PRIMARY KEY (venue_layout_id, facility),
+    CONSTRAINT fk_venue_facilities_layout FOREIGN KEY (venue_layout_id) REFERENCES festival_venue_layouts (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE festival_vendor_managements (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    festival_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_festival_vendor_managements_festival UNIQUE (festival_id),
+    CONSTRAINT fk_festival_vendor_managements_festival FOREIGN KEY (festival_id) REFERENCES festivals (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE vendor_food_stalls (
+    vendor_management_id BIGINT       NOT NULL,
+    food_stall           VARCHAR(255) NOT NULL,
+    PRIMARY KEY (vendor_management_id, food_stall),
+    CONSTRAINT fk_vendor_food_stalls_vendor_management
+        FOREIGN KEY (vendor_management_id) REFERENCES festival_vendor_managements (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE vendor_merch_booths (
+    vendor_management_id BIGINT       NOT NULL,
+    merch_booth          VARCHAR(255) NOT NULL,
+    PRIMARY KEY (vendor_management_id, merch_booth),
+    CONSTRAINT fk_vendor_merch_booths_vendor_management
+        FOREIGN KEY (vendor_management_id) REFERENCES festival_vendor_managements (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE festival_user_roles (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    festival_id BIGINT      NOT NULL,
+    user_id     BIGINT      NOT NULL,
+    role        VARCHAR(32) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_festival_user_roles UNIQUE (festival_id, user_id, role),
+    CONSTRAINT fk_festival_user_roles_festival FOREIGN KEY (festival_id) REFERENCES festivals (id),
+    CONSTRAINT fk_festival_user_roles_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE performances (
+    id                   BIGINT        NOT NULL AUTO_INCREMENT,
+    creation_date        DATETIME(6)   NOT NULL,
+    name                 VARCHAR(255)  NOT NULL,
+    description          VARCHAR(1000) NOT NULL,
+    genre                VARCHAR(255)  NOT NULL,
+    duration             INT           NOT NULL,
+    final_submitted      BIT           NOT NULL,
+    stage_manager_id     BIGINT,
+    creator_id           BIGINT        NOT NULL,
+    reviewer_comments    VARCHAR(1000),
+    score                DOUBLE,
+    state                VARCHAR(32)   NOT NULL,
+    festival_id          BIGINT        NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_performances_name UNIQUE (name),
+    CONSTRAINT fk_performances_stage_manager FOREIGN KEY (stage_manager_id) REFERENCES users (id),
+    CONSTRAINT fk_performances_creator FOREIGN KEY (creator_id) REFERENCES users (id),
+    CONSTRAINT fk_performances_festival FOREIGN KEY (festival_id) REFERENCES festivals (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE performance_band_members (
+    performance_id BIGINT NOT NULL,
+    user_id        BIGINT NOT NULL,
+    PRIMARY KEY (performance_id, user_id),
+    CONSTRAINT fk_performance_band_members_performance FOREIGN KEY (performance_id) REFERENCES performances (id),
+    CONSTRAINT fk_performance_band_members_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE performance_setlist (
+    performance_id BIGINT       NOT NULL,
+    song           VARCHAR(255) NOT NULL,
+    PRIMARY KEY (performance_id, song),
+    CONSTRAINT fk_performance_setlist_performance FOREIGN KEY (performance_id) REFERENCES performances (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE performance_rehearsal_times (
+    performance_id BIGINT  NOT NULL,
+    rehearsal_time TIME(6) NOT NULL,
+    PRIMARY KEY (performance_id, rehearsal_time),
+    CONSTRAINT fk_performance_rehearsal_times_performance
+        FOREIGN KEY (performance_id) REFERENCES performances (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE performance_slots (
+    performance_id   BIGINT  NOT NULL,
+    performance_slot TIME(6) NOT NULL,
+    PRIMARY KEY (performance_id, performance_slot),
+    CONSTRAINT fk_performance_slots_performance FOREIGN KEY (performance_id) REFERENCES performances (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE performance_merchandise_items (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    name           VARCHAR(255) NOT NULL,
+    description    VARCHAR(500),
+    type           VARCHAR(255) NOT NULL,
+    price          DOUBLE       NOT NULL,
+    performance_id BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_performance_merchandise_items_performance
+        FOREIGN KEY (performance_id) REFERENCES performances (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE performance_technical_requirement_files (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    file_path      VARCHAR(255) NOT NULL,
+    performance_id BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_performance_technical_requirement_files_performance UNIQUE (performance_id),
+    CONSTRAINT fk_performance_technical_requirement_files_performance
+        FOREIGN KEY (performance_id) REFERENCES performances (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,15 @@
+-- Indexes for the repository queries on the request path. InnoDB drops the
+-- implicit foreign key indexes these make redundant.
+
+-- Token lookups per user and the bulk deactivation of active tokens
+CREATE INDEX idx_tokens_user_active ON tokens (user_id, active);
+
+-- Festival listings, decisions, dashboards and auto-assignment filter by
+-- festival and state; decisions also range over or order by score
+CREATE INDEX idx_performances_festival_state_score ON performances (festival_id, state, score);
+
+-- "My festivals" and role checks start from the user
+CREATE INDEX idx_festival_user_roles_user_role ON festival_user_roles (user_id, role);
+
+-- Festivals taking place on a given day
+CREATE INDEX idx_festival_dates_date ON festival_dates (date);
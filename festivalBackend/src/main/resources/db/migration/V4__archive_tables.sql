@@ -0,0 +1,25 @@
+-- Archive tier for finished festivals. A festival and each of its
+-- performances become one row holding a JSON snapshot of the full view;
+-- the hot rows are deleted. IDs are kept, so the view endpoints can fall
+-- back to these tables. There are no foreign keys: archived rows outlive
+-- the users and festivals they mention.
+
+CREATE TABLE archived_festivals (
+    id          BIGINT       NOT NULL,
+    name        VARCHAR(255) NOT NULL,
+    last_date   DATE         NOT NULL,
+    archived_at DATETIME(6)  NOT NULL,
+    snapshot    LONGTEXT     NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE archived_performances (
+    id          BIGINT       NOT NULL,
+    festival_id BIGINT       NOT NULL,
+    name        VARCHAR(255) NOT NULL,
+    state       VARCHAR(32)  NOT NULL,
+    archived_at DATETIME(6)  NOT NULL,
+    snapshot    LONGTEXT     NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_archived_performances_festival (festival_id)
+) ENGINE = InnoDB;
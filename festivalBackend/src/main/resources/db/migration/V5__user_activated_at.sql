@@ -0,0 +1,14 @@
+-- Marks accounts that have been activated at least once, so bulk activation
+-- can target pending registrations only. Existing accounts count as
+-- activated when they are active, have failed attempts or ever received a
+-- token: an inactive account cannot log in, so one without tokens is still
+-- pending.
+
+ALTER TABLE users ADD COLUMN activated_at DATETIME(6);
+
+UPDATE users u
+SET u.activated_at = CURRENT_TIMESTAMP(6)
+WHERE u.active = TRUE
+   OR u.failed_login_attempts > 0
+   OR u.failed_password_updates > 0
+   OR EXISTS (SELECT 1 FROM tokens t WHERE t.user_id = u.id);
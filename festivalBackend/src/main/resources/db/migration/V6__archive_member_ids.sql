@@ -0,0 +1,11 @@
+-- Access checks on archived festivals and performances compare user IDs:
+-- usernames in the snapshots can be registered again once the original
+-- accounts are deleted. The IDs are comma-separated lists.
+--
+-- Rows archived before this migration are not backfilled, since their
+-- usernames cannot be matched to accounts safely for the same reason. They
+-- show the public view to everyone.
+
+ALTER TABLE archived_festivals ADD COLUMN organizer_ids VARCHAR(4000);
+
+ALTER TABLE archived_performances ADD COLUMN member_ids VARCHAR(4000);
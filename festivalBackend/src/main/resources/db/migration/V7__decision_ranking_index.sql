@@ -0,0 +1,7 @@
+-- The decision queue reads one state of a festival at a time, best score
+-- first and lowest ID on ties. With the score descending in the index, MySQL
+-- reads the rows in that order and stops at the LIMIT instead of sorting every
+-- candidate. The new index is created first, as the festival foreign key
+-- relies on the old one.
+CREATE INDEX idx_performances_festival_state_ranking ON performances (festival_id, state, score DESC, id);
+DROP INDEX idx_performances_festival_state_score ON performances;
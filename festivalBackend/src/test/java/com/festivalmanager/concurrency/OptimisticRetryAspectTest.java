@@ -0,0 +1,223 @@
+package com.festivalmanager.concurrency;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.festivalmanager.exception.ApiException;
+import com.festivalmanager.model.Festival;
+import com.festivalmanager.sql.EmbeddedPersistence;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import java.lang.annotation.Annotation;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+class OptimisticRetryAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OptimisticRetryAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        aspect = new OptimisticRetryAspect(meterRegistry);
+        System.out.println("=== OptimisticRetryAspectTest setup completed ===\n");
+    }
+
+    @Test
+    void testRetry_succeedsAfterConflict() throws Throwable {
+        ProceedingJoinPoint joinPoint = joinPoint();
+        when(joinPoint.proceed())
+                .thenThrow(new ObjectOptimisticLockingFailureException("Festival", 1L))
+                .thenReturn("ok");
+
+        System.out.println("Running testRetry_succeedsAfterConflict");
+
+        Object result = aspect.retry(joinPoint, policy(3, 0));
+
+        assertEquals("ok", result);
+        verify(joinPoint, times(2)).proceed();
+        assertEquals(1.0, meterRegistry.get("festival.optimistic.conflicts").counter().count());
+
+        System.out.println("testRetry_succeedsAfterConflict completed successfully\n");
+    }
+
+    @Test
+    void testRetry_exhaustedReturnsConflict() throws Throwable {
+        ProceedingJoinPoint joinPoint = joinPoint();
+        when(joinPoint.proceed()).thenThrow(new ObjectOptimisticLockingFailureException("Festival", 1L));
+
+        System.out.println("Running testRetry_exhaustedReturnsConflict");
+
+        ApiException ex = assertThrows(ApiException.class, () -> aspect.retry(joinPoint, policy(3, 0)));
+
+        assertEquals(HttpStatus.CONFLICT, ex.getStatus());
+        verify(joinPoint, times(3)).proceed();
+        assertEquals(1.0, meterRegistry.get("festival.optimistic.retries.exhausted").counter().count());
+
+        System.out.println("testRetry_exhaustedReturnsConflict completed successfully\n");
+    }
+
+    @Test
+    void testRetry_concurrentFestivalUpdatesLoseNothing() throws Exception {
+        int threads = 8;
+        int callsPerThread = 25;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        System.out.println("Running testRetry_concurrentFestivalUpdatesLoseNothing");
+
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
+                PersistenceConfig.class)) {
+            FestivalCounter counter = context.getBean(FestivalCounter.class);
+            long festivalId = counter.create();
+
+            for (int t = 0; t < threads; t++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < callsPerThread; i++) {
+                        try {
+                            counter.increment(festivalId);
+                            succeeded.incrementAndGet();
+                        } catch (ApiException ex) {
+                            failed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+
+            // No lost updates: every successful call is in the row exactly once, with one version each
+            Festival festival = counter.find(festivalId);
+            assertEquals(threads * callsPerThread, succeeded.get() + failed.get());
+            assertEquals(succeeded.get(), Integer.parseInt(festival.getDescription()));
+            assertEquals(succeeded.get(), festival.getVersion());
+            double conflicts = context.getBean(SimpleMeterRegistry.class)
+                    .find("festival.optimistic.conflicts").counters().stream()
+                    .mapToDouble(c -> c.count()).sum();
+            assertTrue(conflicts > 0);
+
+            System.out.printf("succeeded=%d failed=%d conflicts=%.0f%n", succeeded.get(), failed.get(), conflicts);
+        }
+
+        System.out.println("testRetry_concurrentFestivalUpdatesLoseNothing completed successfully\n");
+    }
+
+    /**
+     * The aspect and the transaction interceptor in the application's order,
+     * over Hibernate on an embedded database.
+     */
+    @Configuration
+    @EnableAspectJAutoProxy
+    @EnableTransactionManagement
+    static class PersistenceConfig {
+
+        @Bean
+        EntityManagerFactory entityManagerFactory() {
+            return EmbeddedPersistence.create();
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+
+        @Bean
+        SimpleMeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        OptimisticRetryAspect optimisticRetryAspect(SimpleMeterRegistry meterRegistry) {
+            return new OptimisticRetryAspect(meterRegistry);
+        }
+
+        @Bean
+        FestivalCounter festivalCounter() {
+            return new FestivalCounter();
+        }
+    }
+
+    /**
+     * Read-modify-write of a festival: the description holds a number that
+     * every call increments.
+     */
+    static class FestivalCounter {
+
+        @PersistenceContext
+        private EntityManager entityManager;
+
+        @Transactional
+        public long create() {
+            Festival festival = new Festival();
+            festival.setName("Counter");
+            festival.setDescription("0");
+            festival.setVenue("Park");
+            entityManager.persist(festival);
+            return festival.getId();
+        }
+
+        @Transactional
+        @RetryOnConflict(maxAttempts = 20, backoffMillis = 1)
+        public void increment(long festivalId) {
+            Festival festival = entityManager.find(Festival.class, festivalId);
+            festival.setDescription(String.valueOf(Integer.parseInt(festival.getDescription()) + 1));
+        }
+
+        @Transactional
+        public Festival find(long festivalId) {
+            return entityManager.find(Festival.class, festivalId);
+        }
+    }
+
+    private ProceedingJoinPoint joinPoint() {
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        Signature signature = mock(Signature.class);
+        when(signature.toShortString()).thenReturn("FestivalService.updateFestival(..)");
+        when(joinPoint.getSignature()).thenReturn(signature);
+        return joinPoint;
+    }
+
+    private RetryOnConflict policy(int maxAttempts, long backoffMillis) {
+        return new RetryOnConflict() {
+            @Override
+            public int maxAttempts() {
+                return maxAttempts;
+            }
+
+            @Override
+            public long backoffMillis() {
+                return backoffMillis;
+            }
+
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return RetryOnConflict.class;
+            }
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package com.festivalmanager.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.festivalmanager.FestivalBackendApplication;
+import com.festivalmanager.model.User;
+import com.festivalmanager.repository.UserRepository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs authenticated requests against a pool of a single connection, so a
+ * request that needed a second connection while holding the first would time
+ * out. Uses the {@code embedded} profile.
+ */
+class SingleConnectionRequestTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testAuthenticatedRequestsNeedOneConnection() throws Exception {
+        System.out.println("Running testAuthenticatedRequestsNeedOneConnection");
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(FestivalBackendApplication.class)
+                .profiles("embedded")
+                .run("--server.port=0",
+                        "--festival.embedded.directory=" + directory,
+                        "--festival.embedded.backup-cron=-",
+                        "--festival.archive.cron=-",
+                        "--spring.datasource.hikari.maximum-pool-size=1",
+                        "--spring.datasource.hikari.connection-timeout=2000")) {
+            String base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            HttpClient client = HttpClient.newHttpClient();
+            // The first registered user is an active admin, the second is activated by it
+            send(client, base + "/api/users/register", "POST", register("pooladmin"));
+            send(client, base + "/api/users/register", "POST", register("pooluser"));
+            String token = new ObjectMapper().readTree(send(client, base + "/api/users/login", "POST",
+                    "{\"username\":\"pooladmin\",\"password\":\"Secret#123\"}").body())
+                    .path("data").path("token").asText();
+            assertEquals(200, send(client, base + "/api/users/updateaccountstatus", "POST",
+                    "{\"requesterUsername\":\"pooladmin\",\"token\":\"" + token + "\","
+                            + "\"targetUsername\":\"pooluser\",\"newActive\":true}").statusCode());
+
+            assertEquals(200, send(client, base + "/api/festivals/create", "POST",
+                    "{\"requesterUsername\":\"pooladmin\",\"token\":\"" + token + "\",\"name\":\"Pool Fest\","
+                            + "\"description\":\"One connection\",\"venue\":\"Park\",\"dates\":[\"2030-07-01\"]}")
+                    .statusCode());
+
+            // Using the admin's token deactivates the user, although the request's transaction rolls back
+            assertEquals(403, send(client, base + "/api/festivals/create", "POST",
+                    "{\"requesterUsername\":\"pooluser\",\"token\":\"" + token + "\",\"name\":\"Stolen Fest\","
+                            + "\"description\":\"Stolen\",\"venue\":\"Park\",\"dates\":[\"2030-07-01\"]}")
+                    .statusCode());
+            UserRepository users = context.getBean(UserRepository.class);
+            assertFalse(users.findByUsername("pooluser").map(User::isActive).orElseThrow());
+            assertTrue(users.findByUsername("pooladmin").map(User::isActive).orElseThrow());
+        }
+
+        System.out.println("testAuthenticatedRequestsNeedOneConnection completed successfully\n");
+    }
+
+    private static String register(String username) {
+        return "{\"username\":\"" + username + "\",\"fullname\":\"Pool User\","
+                + "\"password1\":\"Secret#123\",\"password2\":\"Secret#123\"}";
+    }
+
+    private static HttpResponse<String> send(HttpClient client, String url, String method, String json)
+            throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create(url))
+                        .timeout(Duration.ofSeconds(30))
+                        .header("Content-Type", "application/json")
+                        .method(method, HttpRequest.BodyPublishers.ofString(json))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+}
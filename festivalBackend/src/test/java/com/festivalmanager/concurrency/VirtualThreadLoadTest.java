@@ -0,0 +1,135 @@
+package com.festivalmanager.concurrency;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.festivalmanager.FestivalBackendApplication;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares throughput and p99 latency of the platform thread pool and virtual
+ * threads under {@value #CLIENTS} concurrent clients. Each client sends
+ * {@value #REQUESTS_PER_CLIENT} festival searches back to back, with a user
+ * token so that every request also runs the token validation. The
+ * application runs with the {@code embedded} profile so both modes see the
+ * same database; only the two modes' relative numbers mean anything, not
+ * their absolute values. Results are printed. Requires Java 21, so it has
+ * not been run on this project's Java 17 build and there are no numbers for
+ * it yet.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadLoadTest {
+
+    private static final int CLIENTS = 5000;
+    private static final int REQUESTS_PER_CLIENT = 4;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testPlatformAndVirtualThroughput() throws Exception {
+        System.out.println("Running testPlatformAndVirtualThroughput");
+
+        LoadResult platform = measure(false);
+        LoadResult virtual = measure(true);
+        System.out.printf("platform: %.0f requests/s, p99 %d ms, %d failed%n",
+                platform.throughput(), platform.p99Millis(), platform.failed());
+        System.out.printf("virtual:  %.0f requests/s, p99 %d ms, %d failed%n",
+                virtual.throughput(), virtual.p99Millis(), virtual.failed());
+        assertTrue(platform.throughput() > 0);
+        assertTrue(virtual.throughput() > 0);
+
+        System.out.println("testPlatformAndVirtualThroughput completed successfully\n");
+    }
+
+    private record LoadResult(double throughput, long p99Millis, int failed) {
+    }
+
+    private LoadResult measure(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(FestivalBackendApplication.class)
+                .profiles("embedded")
+                .run("--server.port=0",
+                        "--festival.embedded.directory=" + directory.resolve(virtualThreads ? "virtual" : "platform"),
+                        "--festival.embedded.backup-cron=-",
+                        "--festival.archive.cron=-",
+                        "--spring.threads.virtual.enabled=" + virtualThreads)) {
+            String base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build();
+            String token = login(client, base);
+            String search = "{\"requesterUsername\":\"loadadmin\",\"token\":\"" + token + "\"}";
+
+            long[] latencies = new long[CLIENTS * REQUESTS_PER_CLIENT];
+            AtomicInteger completed = new AtomicInteger();
+            AtomicInteger failed = new AtomicInteger();
+            List<CompletableFuture<?>> clients = new ArrayList<>(CLIENTS);
+            long start = System.nanoTime();
+            for (int c = 0; c < CLIENTS; c++) {
+                CompletableFuture<?> chain = CompletableFuture.completedFuture(null);
+                for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                    chain = chain.thenCompose(ignored -> {
+                        long sent = System.nanoTime();
+                        return client.sendAsync(request(base + "/api/festivals/search", "GET", search),
+                                        HttpResponse.BodyHandlers.discarding())
+                                .handle((response, error) -> {
+                                    if (error != null || response.statusCode() != 200) {
+                                        failed.incrementAndGet();
+                                    } else {
+                                        latencies[completed.getAndIncrement()] = System.nanoTime() - sent;
+                                    }
+                                    return null;
+                                });
+                    });
+                }
+                clients.add(chain);
+            }
+            CompletableFuture.allOf(clients.toArray(CompletableFuture[]::new)).join();
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            long[] succeeded = Arrays.copyOf(latencies, completed.get());
+            Arrays.sort(succeeded);
+            long p99 = succeeded.length == 0 ? 0 : succeeded[(int) Math.ceil(succeeded.length * 0.99) - 1];
+            return new LoadResult(succeeded.length / seconds, Duration.ofNanos(p99).toMillis(), failed.get());
+        }
+    }
+
+    private static String login(HttpClient client, String base) throws Exception {
+        // The first registered user is an active admin
+        client.send(request(base + "/api/users/register", "POST", "{\"username\":\"loadadmin\","
+                + "\"fullname\":\"Load Admin\",\"password1\":\"Secret#123\",\"password2\":\"Secret#123\"}"),
+                HttpResponse.BodyHandlers.discarding());
+        HttpResponse<String> response = client.send(request(base + "/api/users/login", "POST",
+                "{\"username\":\"loadadmin\",\"password\":\"Secret#123\"}"), HttpResponse.BodyHandlers.ofString());
+        JsonNode body = new ObjectMapper().readTree(response.body());
+        return body.path("data").path("token").asText();
+    }
+
+    private static HttpRequest request(String url, String method, String json) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+}
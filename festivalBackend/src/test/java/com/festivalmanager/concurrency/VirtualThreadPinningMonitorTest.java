@@ -0,0 +1,28 @@
+package com.festivalmanager.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadPinningMonitorTest {
+
+    @Test
+    void testCulpritIsInnermostFrameOutsideJdk() {
+        System.out.println("Running testCulpritIsInnermostFrameOutsideJdk");
+
+        assertEquals("com.mysql.cj.protocol.a.NativeProtocol.readMessage",
+                VirtualThreadPinningMonitor.culprit(List.of(
+                        "java.lang.VirtualThread.parkOnCarrierThread",
+                        "jdk.internal.misc.Blocker.begin",
+                        "sun.nio.ch.NioSocketImpl.read",
+                        "com.mysql.cj.protocol.a.NativeProtocol.readMessage",
+                        "com.festivalmanager.service.UserService.login")));
+        assertEquals("java.lang.Object.wait",
+                VirtualThreadPinningMonitor.culprit(List.of("java.lang.Object.wait", "java.lang.Thread.run")));
+        assertEquals("unknown", VirtualThreadPinningMonitor.culprit(List.of()));
+
+        System.out.println("testCulpritIsInnermostFrameOutsideJdk completed successfully\n");
+    }
+}
@@ -0,0 +1,85 @@
+package com.festivalmanager.dashboard;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.festivalmanager.events.DomainEvent;
+import com.festivalmanager.model.Performance.PerformanceState;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FestivalDashboardCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private FestivalDashboardCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new FestivalDashboardCache(60, meterRegistry);
+        loads = new AtomicInteger();
+        System.out.println("=== FestivalDashboardCacheTest setup completed ===\n");
+    }
+
+    private Map<String, Object> load() {
+        return Map.of("load", loads.incrementAndGet());
+    }
+
+    private Map<String, Object> get(FestivalDashboardCache cache, Long festivalId) {
+        return cache.get(festivalId, cache.stamp(), this::load);
+    }
+
+    @Test
+    void testGet_servesCachedUntilPerformanceOfFestivalChanges() {
+        System.out.println("Running testGet_servesCachedUntilPerformanceOfFestivalChanges");
+
+        assertEquals(1, get(cache, 1L).get("load"));
+        assertEquals(1, get(cache, 1L).get("load"));
+        assertEquals(2, get(cache, 2L).get("load"));
+
+        // Changes of another festival or unrelated events keep the entry
+        cache.onEvents(List.of(new DomainEvent.PerformanceReviewed(10L, 2L, 7.0),
+                new DomainEvent.LineupChanged(1L)));
+        assertEquals(1, get(cache, 1L).get("load"));
+
+        cache.onEvents(List.of(new DomainEvent.PerformanceStateChanged(11L, 1L,
+                PerformanceState.REVIEWED, PerformanceState.APPROVED)));
+        assertEquals(3, get(cache, 1L).get("load"));
+
+        assertEquals(2.0, meterRegistry.get("festival.dashboard.cache").tag("result", "hit").counter().count());
+        assertEquals(3.0, meterRegistry.get("festival.dashboard.cache").tag("result", "miss").counter().count());
+
+        System.out.println("testGet_servesCachedUntilPerformanceOfFestivalChanges completed successfully\n");
+    }
+
+    @Test
+    void testGet_doesNotStoreDashboardLoadedDuringInvalidation() {
+        System.out.println("Running testGet_doesNotStoreDashboardLoadedDuringInvalidation");
+
+        // The festival changes while its dashboard is being computed
+        Map<String, Object> stale = cache.get(1L, cache.stamp(), () -> {
+            cache.invalidate(1L);
+            return Map.of("load", 0);
+        });
+        assertEquals(0, stale.get("load"));
+        assertEquals(1, get(cache, 1L).get("load"));
+        assertEquals(1, get(cache, 1L).get("load"));
+
+        FestivalDashboardCache expiring = new FestivalDashboardCache(0, meterRegistry);
+        get(expiring, 1L);
+        assertEquals(3, get(expiring, 1L).get("load"));
+
+        // The festival changed after the request started reading, before the cache was consulted
+        long stamp = cache.stamp();
+        cache.invalidate(1L);
+        assertEquals(4, cache.get(1L, stamp, this::load).get("load"));
+        assertEquals(5, get(cache, 1L).get("load"));
+        assertEquals(5, get(cache, 1L).get("load"));
+
+        System.out.println("testGet_doesNotStoreDashboardLoadedDuringInvalidation completed successfully\n");
+    }
+}
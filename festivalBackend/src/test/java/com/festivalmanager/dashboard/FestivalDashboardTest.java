@@ -0,0 +1,54 @@
+package com.festivalmanager.dashboard;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.festivalmanager.model.Performance.PerformanceState;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class FestivalDashboardTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSummarize_countsScoresAndCoverage() {
+        List<DashboardRow> rows = List.of(
+                new DashboardRow(PerformanceState.CREATED, false, false, null, 4L),
+                new DashboardRow(PerformanceState.SUBMITTED, false, false, null, 3L),
+                new DashboardRow(PerformanceState.SUBMITTED, false, true, null, 1L),
+                new DashboardRow(PerformanceState.REVIEWED, true, true, 6.0, 2L),
+                new DashboardRow(PerformanceState.REVIEWED, true, true, 9.0, 1L),
+                new DashboardRow(PerformanceState.APPROVED, true, true, 8.0, 1L));
+
+        System.out.println("Running testSummarize_countsScoresAndCoverage");
+
+        Map<String, Object> dashboard = FestivalDashboard.summarize(rows);
+
+        assertEquals(12L, dashboard.get("total"));
+        Map<String, Long> states = (Map<String, Long>) dashboard.get("states");
+        assertEquals(4L, states.get("CREATED"));
+        assertEquals(4L, states.get("SUBMITTED"));
+        assertEquals(3L, states.get("REVIEWED"));
+        assertEquals(0L, states.get("SCHEDULED"));
+        assertEquals(4L, dashboard.get("finalSubmitted"));
+
+        // Scores 6, 6, 8, 9
+        Map<String, Object> scores = (Map<String, Object>) dashboard.get("scores");
+        assertEquals(4L, scores.get("count"));
+        assertEquals(7.25, scores.get("average"));
+        assertEquals(6.0, scores.get("p50"));
+        assertEquals(8.0, scores.get("p75"));
+        assertEquals(9.0, scores.get("p90"));
+        assertEquals(6.0, scores.get("min"));
+
+        Map<String, Object> coverage = (Map<String, Object>) dashboard.get("staffCoverage");
+        assertEquals(8L, coverage.get("submitted"));
+        assertEquals(5L, coverage.get("assigned"));
+        assertEquals(0.625, coverage.get("ratio"));
+
+        Map<String, Object> empty = FestivalDashboard.summarize(List.of());
+        assertNull(((Map<String, Object>) empty.get("scores")).get("average"));
+
+        System.out.println("testSummarize_countsScoresAndCoverage completed successfully\n");
+    }
+}
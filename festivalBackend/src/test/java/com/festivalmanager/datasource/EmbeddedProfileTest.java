@@ -0,0 +1,209 @@
+package com.festivalmanager.datasource;
+
+import com.festivalmanager.FestivalBackendApplication;
+import com.festivalmanager.dto.festival.FestivalCreateRequest;
+import com.festivalmanager.dto.festival.FestivalDeleteRequest;
+import com.festivalmanager.dto.festival.FestivalSearchRequest;
+import com.festivalmanager.dto.festival.SubmissionStartRequest;
+import com.festivalmanager.dto.performance.PerformanceCreateRequest;
+import com.festivalmanager.dto.performance.PerformanceSearchRequest;
+import com.festivalmanager.dto.user.DeleteUserRequest;
+import com.festivalmanager.dto.user.LoginRequest;
+import com.festivalmanager.dto.user.RegisterRequest;
+import com.festivalmanager.dto.user.UpdateAccountStatusRequest;
+import com.festivalmanager.enums.PermanentRoleType;
+import com.festivalmanager.model.Festival.FestivalState;
+import com.festivalmanager.model.User;
+import com.festivalmanager.repository.FestivalRepository;
+import com.festivalmanager.repository.FestivalUserRoleRepository;
+import com.festivalmanager.repository.PerformanceRepository;
+import com.festivalmanager.repository.TokenRepository;
+import com.festivalmanager.repository.UserRepository;
+import com.festivalmanager.service.FestivalService;
+import com.festivalmanager.service.PerformanceService;
+import com.festivalmanager.service.UserService;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.ZipFile;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Starts the application with the {@code embedded} profile on a database in
+ * a temporary directory, and runs the services on it: the same repositories,
+ * JPQL queries and native bulk statements as on MySQL.
+ */
+class EmbeddedProfileTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testDataSurvivesRestart() {
+        System.out.println("Running testDataSurvivesRestart");
+
+        try (ConfigurableApplicationContext context = start()) {
+            User user = new User();
+            user.setUsername("embedded");
+            user.setPassword("secret");
+            user.setFullName("Embedded User");
+            user.setPermanentRole(PermanentRoleType.USER);
+            user.setActive(true);
+            context.getBean(UserRepository.class).save(user);
+        }
+        try (ConfigurableApplicationContext context = start()) {
+            User user = context.getBean(UserRepository.class).findByUsername("embedded").orElseThrow();
+            assertEquals("Embedded User", user.getFullName());
+        }
+
+        System.out.println("testDataSurvivesRestart completed successfully\n");
+    }
+
+    @Test
+    void testServicesRunOnEmbeddedDatabase() {
+        System.out.println("Running testServicesRunOnEmbeddedDatabase");
+
+        try (ConfigurableApplicationContext context = start()) {
+            UserService userService = context.getBean(UserService.class);
+            FestivalService festivalService = context.getBean(FestivalService.class);
+            PerformanceService performanceService = context.getBean(PerformanceService.class);
+            UserRepository users = context.getBean(UserRepository.class);
+
+            // The first registered user is an active admin, the second waits for activation
+            userService.registerUser(register("embadmin"));
+            userService.registerUser(register("embartist"));
+            String adminToken = login(userService, "embadmin");
+            UpdateAccountStatusRequest activate = new UpdateAccountStatusRequest();
+            activate.setRequesterUsername("embadmin");
+            activate.setToken(adminToken);
+            activate.setTargetUsername("embartist");
+            activate.setNewActive(true);
+            userService.updateAccountStatus(activate);
+            String artistToken = login(userService, "embartist");
+
+            FestivalCreateRequest create = new FestivalCreateRequest();
+            create.setRequesterUsername("embadmin");
+            create.setToken(adminToken);
+            create.setName("Embedded Fest");
+            create.setDescription("On H2");
+            create.setVenue("Park");
+            create.setDates(Set.of(LocalDate.of(2030, 7, 1), LocalDate.of(2030, 7, 2)));
+            Long festivalId = (Long) festivalService.createFestival(create).getData().get("id");
+            SubmissionStartRequest submission = new SubmissionStartRequest();
+            submission.setRequesterUsername("embadmin");
+            submission.setToken(adminToken);
+            submission.setFestivalId(festivalId);
+            festivalService.startSubmission(submission);
+            assertEquals(FestivalState.SUBMISSION,
+                    context.getBean(FestivalRepository.class).findById(festivalId).orElseThrow().getState());
+
+            PerformanceCreateRequest performance = new PerformanceCreateRequest();
+            performance.setRequesterUsername("embartist");
+            performance.setToken(artistToken);
+            performance.setFestivalId(festivalId);
+            performance.setName("Embedded Act");
+            performance.setDescription("Loud");
+            performance.setGenre("Rock");
+            performance.setDuration(45);
+            performance.setBandMemberIds(Set.of(users.findByUsername("embartist").orElseThrow().getId()));
+            performanceService.createPerformance(performance);
+
+            FestivalSearchRequest festivalSearch = new FestivalSearchRequest();
+            festivalSearch.setRequesterUsername("embadmin");
+            festivalSearch.setToken(adminToken);
+            festivalSearch.setName("Embedded");
+            assertEquals(1, ((List<?>) festivalService.searchFestivals(festivalSearch).getData()
+                    .get("festivals")).size());
+            PerformanceSearchRequest performanceSearch = new PerformanceSearchRequest();
+            performanceSearch.setRequesterUsername("embartist");
+            performanceSearch.setToken(artistToken);
+            performanceSearch.setName("Embedded");
+            assertEquals(1, ((List<?>) performanceService.searchPerformances(performanceSearch).getData()
+                    .get("performances")).size());
+
+            // The native bulk deletes of user and festival deletion
+            DeleteUserRequest deleteArtist = new DeleteUserRequest();
+            deleteArtist.setRequesterUsername("embadmin");
+            deleteArtist.setToken(adminToken);
+            deleteArtist.setTargetUsername("embartist");
+            userService.deleteUser(deleteArtist);
+            assertTrue(users.findByUsername("embartist").isEmpty());
+            assertEquals(0, context.getBean(PerformanceRepository.class).count());
+            assertEquals(1, context.getBean(TokenRepository.class).count());
+
+            create.setName("Embedded Fest 2");
+            Long secondId = (Long) festivalService.createFestival(create).getData().get("id");
+            FestivalDeleteRequest delete = new FestivalDeleteRequest();
+            delete.setRequesterUsername("embadmin");
+            delete.setToken(adminToken);
+            delete.setFestivalId(secondId);
+            festivalService.deleteFestival(delete);
+            assertTrue(context.getBean(FestivalRepository.class).findById(secondId).isEmpty());
+            assertEquals(1, context.getBean(FestivalUserRoleRepository.class).count());
+        }
+
+        System.out.println("testServicesRunOnEmbeddedDatabase completed successfully\n");
+    }
+
+    @Test
+    void testBackupKeepsNewestSnapshots() throws IOException {
+        System.out.println("Running testBackupKeepsNewestSnapshots");
+
+        try (ConfigurableApplicationContext context = start()) {
+            EmbeddedDatabaseBackup backup = context.getBean(EmbeddedDatabaseBackup.class);
+            backup.backup();
+            backup.backup();
+            Path newest = backup.backup();
+
+            List<Path> snapshots;
+            try (Stream<Path> files = Files.list(directory.resolve("backups"))) {
+                snapshots = files.sorted().toList();
+            }
+            assertEquals(2, snapshots.size());
+            assertEquals(newest, snapshots.get(1));
+            try (ZipFile zip = new ZipFile(newest.toFile())) {
+                assertNotNull(zip.getEntry("festivaldb.mv.db"));
+            }
+        }
+
+        System.out.println("testBackupKeepsNewestSnapshots completed successfully\n");
+    }
+
+    private static RegisterRequest register(String username) {
+        RegisterRequest request = new RegisterRequest();
+        request.setUsername(username);
+        request.setFullname("Embedded " + username);
+        request.setPassword1("Secret#123");
+        request.setPassword2("Secret#123");
+        return request;
+    }
+
+    private static String login(UserService userService, String username) {
+        LoginRequest request = new LoginRequest();
+        request.setUsername(username);
+        request.setPassword("Secret#123");
+        return (String) userService.loginUser(request).getData().get("token");
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(FestivalBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("embedded")
+                .run("--festival.embedded.directory=" + directory,
+                        "--festival.embedded.backup-cron=-",
+                        "--festival.embedded.backup-retain=2",
+                        "--festival.archive.cron=-");
+    }
+}
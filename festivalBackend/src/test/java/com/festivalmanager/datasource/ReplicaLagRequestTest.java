@@ -0,0 +1,169 @@
+package com.festivalmanager.datasource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.festivalmanager.FestivalBackendApplication;
+import com.festivalmanager.repository.UserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Writes to the primary while the replica lags behind, then reads through
+ * read-only endpoints. The primary starts as a copy of the replica, which is
+ * never updated. Uses the {@code embedded} profile.
+ */
+class ReplicaLagRequestTest {
+
+    @TempDir
+    private static Path replica;
+
+    @TempDir
+    private Path primary;
+
+    private static final HttpClient CLIENT = HttpClient.newHttpClient();
+
+    private static String staleToken;
+    private static long festivalId;
+
+    /**
+     * Prepares the replica: an admin, an active artist and a festival open
+     * for submissions.
+     */
+    @BeforeAll
+    static void setUpReplica() throws Exception {
+        try (ConfigurableApplicationContext context = start(replica)) {
+            String base = base(context);
+            register(base, "lagadmin");
+            register(base, "lagartist");
+            staleToken = login(base, "lagadmin");
+            assertEquals(200, send(base + "/api/users/updateaccountstatus", "POST",
+                    "{\"requesterUsername\":\"lagadmin\",\"token\":\"" + staleToken + "\","
+                            + "\"targetUsername\":\"lagartist\",\"newActive\":true}").statusCode());
+            festivalId = new ObjectMapper().readTree(send(base + "/api/festivals/create", "POST",
+                    "{\"requesterUsername\":\"lagadmin\",\"token\":\"" + staleToken + "\",\"name\":\"Lag Fest\","
+                            + "\"description\":\"Behind\",\"venue\":\"Park\",\"dates\":[\"2030-07-01\"]}")
+                    .body()).path("data").path("id").asLong();
+            assertEquals(200, send(base + "/api/festivals/startsubmission", "POST",
+                    "{\"requesterUsername\":\"lagadmin\",\"token\":\"" + staleToken + "\","
+                            + "\"festivalId\":" + festivalId + "}").statusCode());
+        }
+    }
+
+    @Test
+    void testTokenChecksSeeThePrimary() throws Exception {
+        System.out.println("Running testTokenChecksSeeThePrimary");
+
+        try (ConfigurableApplicationContext context = startBehindReplica()) {
+            String base = base(context);
+            // The new token, and the deactivation of the old one, are on the primary only
+            String token = login(base, "lagadmin");
+
+            HttpResponse<String> search = send(base + "/api/festivals/search", "GET",
+                    "{\"requesterUsername\":\"lagadmin\",\"token\":\"" + token + "\"}");
+            assertEquals(200, search.statusCode(), search.body());
+            assertTrue(search.body().contains("Lag Fest"));
+            assertEquals(401, send(base + "/api/festivals/search", "GET",
+                    "{\"requesterUsername\":\"lagadmin\",\"token\":\"" + staleToken + "\"}").statusCode());
+
+            // The festivals themselves were read from the replica
+            assertTrue(context.getBean(MeterRegistry.class).get("festival.datasource.connections")
+                    .tag("target", "replica-0").counter().count() > 0);
+        }
+
+        System.out.println("testTokenChecksSeeThePrimary completed successfully\n");
+    }
+
+    @Test
+    void testDashboardsAreLoadedFromThePrimary() throws Exception {
+        System.out.println("Running testDashboardsAreLoadedFromThePrimary");
+
+        try (ConfigurableApplicationContext context = startBehindReplica()) {
+            String base = base(context);
+            String adminToken = login(base, "lagadmin");
+            String artistToken = login(base, "lagartist");
+            Long artistId = context.getBean(UserRepository.class).findByUsername("lagartist").orElseThrow().getId();
+            // The performance is on the primary only
+            HttpResponse<String> created = send(base + "/api/performances/create", "POST",
+                    "{\"requesterUsername\":\"lagartist\",\"token\":\"" + artistToken + "\","
+                            + "\"festivalId\":" + festivalId + ",\"name\":\"Lag Act\",\"description\":\"Late\","
+                            + "\"genre\":\"Rock\",\"duration\":45,\"bandMemberIds\":[" + artistId + "]}");
+            assertEquals(200, created.statusCode(), created.body());
+
+            String dashboard = "{\"requesterUsername\":\"lagadmin\",\"token\":\"" + adminToken + "\","
+                    + "\"festivalId\":" + festivalId + "}";
+            ObjectMapper mapper = new ObjectMapper();
+            for (int i = 0; i < 2; i++) {
+                HttpResponse<String> response = send(base + "/api/festivals/dashboard", "GET", dashboard);
+                assertEquals(200, response.statusCode(), response.body());
+                // A miss, then a hit on what the miss stored
+                assertEquals(1, mapper.readTree(response.body()).path("data").path("total").asInt());
+            }
+        }
+
+        System.out.println("testDashboardsAreLoadedFromThePrimary completed successfully\n");
+    }
+
+    /**
+     * Starts on a copy of the replica, with the replica itself never updated.
+     */
+    private ConfigurableApplicationContext startBehindReplica() throws Exception {
+        try (Stream<Path> files = Files.list(replica)) {
+            for (Path file : files.toList()) {
+                Files.copy(file, primary.resolve(file.getFileName()));
+            }
+        }
+        return start(primary,
+                "--festival.datasource.replica-urls=jdbc:h2:file:" + replica
+                        + "/festivaldb;MODE=MySQL;NON_KEYWORDS=VALUE",
+                "--festival.datasource.read-your-writes-ms=0");
+    }
+
+    private static ConfigurableApplicationContext start(Path directory, String... arguments) {
+        String[] common = {"--server.port=0",
+                "--festival.embedded.directory=" + directory,
+                "--festival.embedded.backup-cron=-",
+                "--festival.archive.cron=-"};
+        return new SpringApplicationBuilder(FestivalBackendApplication.class)
+                .profiles("embedded")
+                .run(Stream.concat(Stream.of(common), Stream.of(arguments)).toArray(String[]::new));
+    }
+
+    private static String base(ConfigurableApplicationContext context) {
+        return "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    }
+
+    private static void register(String base, String username) throws Exception {
+        send(base + "/api/users/register", "POST", "{\"username\":\"" + username + "\",\"fullname\":\"Lag User\","
+                + "\"password1\":\"Secret#123\",\"password2\":\"Secret#123\"}");
+    }
+
+    private static String login(String base, String username) throws Exception {
+        return new ObjectMapper().readTree(send(base + "/api/users/login", "POST",
+                "{\"username\":\"" + username + "\",\"password\":\"Secret#123\"}").body())
+                .path("data").path("token").asText();
+    }
+
+    private static HttpResponse<String> send(String url, String method, String json) throws Exception {
+        return CLIENT.send(HttpRequest.newBuilder(URI.create(url))
+                        .timeout(Duration.ofSeconds(30))
+                        .header("Content-Type", "application/json")
+                        .method(method, HttpRequest.BodyPublishers.ofString(json))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,255 @@
+package com.festivalmanager.datasource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.festivalmanager.enums.PermanentRoleType;
+import com.festivalmanager.model.User;
+import com.festivalmanager.repository.UserBulkOperationsImpl;
+import com.festivalmanager.repository.UserRepository;
+import com.festivalmanager.sql.EmbeddedPersistence;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.jpa.EntityManagerFactoryInfo;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        // Two embedded databases, each knowing its own name
+        primary = database("primary");
+        replica = database("replica");
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        RequestContextHolder.resetRequestAttributes();
+        if (routing != null) {
+            routing.close();
+        }
+    }
+
+    @Test
+    void testReadOnlyTransactionsUseReplica() {
+        System.out.println("Running testReadOnlyTransactionsUseReplica");
+
+        Routed db = routed(replica, Duration.ZERO);
+
+        assertEquals("replica", db.read());
+        assertEquals("primary", db.write());
+        assertEquals("primary", db.jdbc.queryForObject("SELECT name FROM node", String.class));
+        assertEquals(1.0, meterRegistry.get("festival.datasource.connections").tag("target", "replica-0")
+                .counter().count());
+
+        System.out.println("testReadOnlyTransactionsUseReplica completed successfully\n");
+    }
+
+    @Test
+    void testFallbackToPrimaryUntilReplicaRecovers() throws SQLException {
+        System.out.println("Running testFallbackToPrimaryUntilReplicaRecovers");
+
+        DataSource flaky = mock(DataSource.class);
+        when(flaky.getConnection())
+                .thenThrow(new SQLException("replica down"))
+                .thenAnswer(invocation -> replica.getConnection());
+        Routed db = routed(flaky, Duration.ZERO);
+
+        assertEquals("primary", db.read());
+        assertEquals("primary", db.read());
+        verify(flaky, times(1)).getConnection();
+        assertEquals(2.0, meterRegistry.get("festival.datasource.fallbacks").counter().count());
+        assertEquals(0.0, meterRegistry.get("festival.datasource.replica.healthy").gauge().value());
+
+        routing.checkReplicas();
+        assertEquals(1.0, meterRegistry.get("festival.datasource.replica.healthy").gauge().value());
+        assertEquals("replica", db.read());
+
+        System.out.println("testFallbackToPrimaryUntilReplicaRecovers completed successfully\n");
+    }
+
+    @Test
+    void testReadYourWritesWindow() throws InterruptedException {
+        System.out.println("Running testReadYourWritesWindow");
+
+        Routed db = routed(replica, Duration.ofMillis(300));
+
+        // A read-write transaction that only runs prepared queries opens no window
+        request("bob");
+        db.write();
+        assertEquals("replica", db.read());
+
+        request("alice");
+        db.readWrite.executeWithoutResult(status -> db.jdbc.update("UPDATE node SET version = version + 1"));
+        assertEquals("primary", db.read());
+
+        request("bob");
+        assertEquals("replica", db.read());
+
+        Thread.sleep(400);
+        request("alice");
+        assertEquals("replica", db.read());
+
+        System.out.println("testReadYourWritesWindow completed successfully\n");
+    }
+
+    @Test
+    void testReplicaReadsDoNotFillTheCaches() {
+        System.out.println("Running testReplicaReadsDoNotFillTheCaches");
+
+        // The replica has not caught up: the user is still inactive there
+        EntityManagerFactory replicaEntities = EmbeddedPersistence.create(entityDatabase("replica"));
+        routing = new ReplicaRoutingDataSource(entityDatabase("primary"), Map.of("replica-0",
+                ((EntityManagerFactoryInfo) replicaEntities).getDataSource()), Duration.ofHours(1), Duration.ZERO,
+                meterRegistry);
+        EntityManagerFactory entities = EmbeddedPersistence.createWithSecondLevelCache(
+                new LazyConnectionDataSourceProxy(routing));
+        try {
+            EmbeddedPersistence.inTransaction(replicaEntities, em -> em.persist(user(false)));
+            JpaTransactionManager transactionManager = new JpaTransactionManager(entities);
+            transactionManager.setJpaDialect(new ReplicaReadJpaDialect());
+            TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            UserRepository users = new JpaRepositoryFactory(SharedEntityManagerCreator.createSharedEntityManager(
+                    entities)).getRepository(UserRepository.class, RepositoryFragments.just(new UserBulkOperationsImpl()));
+            readWrite.executeWithoutResult(status -> users.save(user(true)));
+            SessionFactory sessionFactory = entities.unwrap(SessionFactory.class);
+            sessionFactory.getCache().evictAll();
+            sessionFactory.getStatistics().clear();
+
+            User stale = readOnly.execute(status -> users.findByUsername("lagging").orElseThrow());
+            assertFalse(stale.isActive());
+            assertFalse(sessionFactory.getCache().containsEntity(User.class, stale.getId()));
+            assertEquals(0, sessionFactory.getStatistics().getSecondLevelCachePutCount());
+
+            // No query result was stored, so the next lookup reads the primary and fills the caches
+            assertTrue(readWrite.execute(status -> users.findByUsername("lagging").orElseThrow()).isActive());
+            assertEquals(0, sessionFactory.getStatistics().getQueryCacheHitCount());
+            assertTrue(sessionFactory.getCache().containsEntity(User.class, stale.getId()));
+            assertTrue(readOnly.execute(status -> users.findByUsername("lagging").orElseThrow()).isActive());
+            assertEquals(1, sessionFactory.getStatistics().getQueryCacheHitCount());
+        } finally {
+            entities.close();
+            replicaEntities.close();
+        }
+
+        System.out.println("testReplicaReadsDoNotFillTheCaches completed successfully\n");
+    }
+
+    @Test
+    void testPoolsTakeTheHikariSettings() {
+        System.out.println("Running testPoolsTakeTheHikariSettings");
+
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.datasource.hikari.maximum-pool-size", "4")
+                .withProperty("spring.datasource.hikari.connection-timeout", "2500");
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl("jdbc:h2:mem:primary");
+        try (HikariDataSource pool = DataSourceRoutingConfiguration.pool(properties, Binder.get(environment),
+                "jdbc:h2:mem:replica", "replica-0")) {
+            assertEquals(4, pool.getMaximumPoolSize());
+            assertEquals(2500, pool.getConnectionTimeout());
+            assertEquals("jdbc:h2:mem:replica", pool.getJdbcUrl());
+            assertEquals("replica-0", pool.getPoolName());
+        }
+
+        System.out.println("testPoolsTakeTheHikariSettings completed successfully\n");
+    }
+
+    private Routed routed(DataSource replicaDataSource, Duration readYourWrites) {
+        routing = new ReplicaRoutingDataSource(primary, Map.of("replica-0", replicaDataSource),
+                Duration.ofHours(1), readYourWrites, meterRegistry);
+        return new Routed(new LazyConnectionDataSourceProxy(routing));
+    }
+
+    private static void request(String username) {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        RequesterContext.bind(username);
+    }
+
+    private static DataSource database(String name) throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE node (name VARCHAR(20), version INT)");
+            statement.execute("INSERT INTO node VALUES ('" + name + "', 0)");
+        }
+        return dataSource;
+    }
+
+    private static DataSource entityDatabase(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + System.nanoTime() + ";DB_CLOSE_DELAY=-1;NON_KEYWORDS=VALUE");
+        return dataSource;
+    }
+
+    private static User user(boolean active) {
+        User user = new User();
+        user.setUsername("lagging");
+        user.setPassword("secret");
+        user.setFullName("Lagging Replica");
+        user.setPermanentRole(PermanentRoleType.USER);
+        user.setActive(active);
+        return user;
+    }
+
+    /**
+     * Transaction templates over the routing data source.
+     */
+    private static final class Routed {
+
+        private final JdbcTemplate jdbc;
+        private final TransactionTemplate readOnly;
+        private final TransactionTemplate readWrite;
+
+        private Routed(DataSource dataSource) {
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+            this.jdbc = new JdbcTemplate(dataSource);
+            this.readOnly = new TransactionTemplate(transactionManager);
+            this.readOnly.setReadOnly(true);
+            this.readWrite = new TransactionTemplate(transactionManager);
+        }
+
+        private String read() {
+            return readOnly.execute(status -> jdbc.queryForObject("SELECT name FROM node", String.class));
+        }
+
+        private String write() {
+            // Prepared like every Hibernate statement
+            return readWrite.execute(status -> jdbc.queryForObject("SELECT name FROM node WHERE version >= ?",
+                    String.class, 0));
+        }
+    }
+}
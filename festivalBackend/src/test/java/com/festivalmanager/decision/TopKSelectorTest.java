@@ -0,0 +1,58 @@
+package com.festivalmanager.decision;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.festivalmanager.model.Performance.PerformanceState;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class TopKSelectorTest {
+
+    @Test
+    void testTopPerGroup_matchesFullSort() {
+        Random random = new Random(5);
+        List<DecisionCandidate> candidates = new ArrayList<>();
+        String[] genres = {"Jazz", "Rock", "Pop", "Metal"};
+        for (long id = 1; id <= 10_000; id++) {
+            Double score = random.nextInt(10) == 0 ? null : (double) random.nextInt(100);
+            candidates.add(new DecisionCandidate(id, "Act " + id, genres[random.nextInt(genres.length)],
+                    score, PerformanceState.REVIEWED));
+        }
+
+        System.out.println("Running testTopPerGroup_matchesFullSort");
+
+        Map<String, List<DecisionCandidate>> top = TopKSelector.topPerGroup(
+                candidates, DecisionCandidate::genre, DecisionCandidate.RANKING, 25);
+
+        Map<String, List<DecisionCandidate>> expected = candidates.stream()
+                .sorted(DecisionCandidate.RANKING)
+                .collect(Collectors.groupingBy(DecisionCandidate::genre));
+
+        assertEquals(List.of("Jazz", "Metal", "Pop", "Rock"), List.copyOf(top.keySet()));
+        top.forEach((genre, best) -> assertEquals(expected.get(genre).subList(0, 25), best));
+
+        System.out.println("testTopPerGroup_matchesFullSort completed successfully\n");
+    }
+
+    @Test
+    void testTopPerGroup_smallGroupsAndUnscoredLast() {
+        List<DecisionCandidate> candidates = List.of(
+                new DecisionCandidate(1L, "A", "Jazz", null, PerformanceState.REVIEWED),
+                new DecisionCandidate(2L, "B", "Jazz", 7.5, PerformanceState.APPROVED),
+                new DecisionCandidate(3L, "C", "Rock", 9.0, PerformanceState.REVIEWED));
+
+        System.out.println("Running testTopPerGroup_smallGroupsAndUnscoredLast");
+
+        Map<String, List<DecisionCandidate>> top = TopKSelector.topPerGroup(
+                candidates, DecisionCandidate::genre, DecisionCandidate.RANKING, 5);
+
+        assertEquals(List.of(2L, 1L), top.get("Jazz").stream().map(DecisionCandidate::id).toList());
+        assertEquals(List.of(3L), top.get("Rock").stream().map(DecisionCandidate::id).toList());
+
+        System.out.println("testTopPerGroup_smallGroupsAndUnscoredLast completed successfully\n");
+    }
+}
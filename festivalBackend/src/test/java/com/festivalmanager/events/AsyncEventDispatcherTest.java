@@ -0,0 +1,187 @@
+package com.festivalmanager.events;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+class AsyncEventDispatcherTest {
+
+    /** Records the batches it receives; can be blocked to fill its queue. */
+    static class RecordingListener implements DomainEventListener<DomainEvent.FestivalUpdated> {
+
+        final List<List<DomainEvent.FestivalUpdated>> batches = Collections.synchronizedList(new ArrayList<>());
+        final List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch release = new CountDownLatch(1);
+        volatile boolean block;
+        volatile boolean fail;
+
+        @Override
+        public Class<DomainEvent.FestivalUpdated> eventType() {
+            return DomainEvent.FestivalUpdated.class;
+        }
+
+        @Override
+        public void onEvents(List<DomainEvent.FestivalUpdated> events) {
+            try {
+                if (block) {
+                    release.await(5, TimeUnit.SECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            threads.add(Thread.currentThread().getName());
+            if (fail) {
+                throw new IllegalStateException("listener failure");
+            }
+            batches.add(List.copyOf(events));
+        }
+
+        @Override
+        public int batchSize() {
+            return 10;
+        }
+    }
+
+    private AsyncEventDispatcher dispatcher;
+
+    @SuppressWarnings("unchecked")
+    private AsyncEventDispatcher dispatcher(SimpleMeterRegistry registry, int capacity, DomainEventListener<?> listener) {
+        ObjectProvider<DomainEventListener<?>> provider = mock(ObjectProvider.class);
+        when(provider.orderedStream()).thenReturn(Stream.of(listener));
+        dispatcher = new AsyncEventDispatcher(provider, registry, capacity, 1, false);
+        return dispatcher;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testDispatch_batchesOffRequestThreadAndFiltersByType() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RecordingListener listener = new RecordingListener();
+        AsyncEventDispatcher dispatcher = dispatcher(registry, 100, listener);
+
+        System.out.println("Running testDispatch_batchesOffRequestThreadAndFiltersByType");
+
+        List<DomainEvent> events = new ArrayList<>();
+        for (long id = 1; id <= 25; id++) {
+            events.add(new DomainEvent.FestivalUpdated(id));
+            events.add(new DomainEvent.FestivalDeleted(id));
+        }
+        dispatcher.dispatch(events);
+        dispatcher.start();
+        dispatcher.stop();
+
+        List<Long> delivered = listener.batches.stream().flatMap(List::stream)
+                .map(DomainEvent.FestivalUpdated::festivalId).toList();
+        assertEquals(25, delivered.size());
+        assertEquals(1L, delivered.get(0));
+        assertEquals(25L, delivered.get(24));
+        assertTrue(listener.batches.stream().allMatch(b -> b.size() <= 10));
+        assertTrue(listener.batches.size() <= 5, "Queued events should be delivered in batches");
+        assertTrue(listener.threads.stream().allMatch(t -> t.startsWith("domain-events-")));
+        assertEquals(25.0, registry.get("festival.events.delivered").counter().count());
+        assertEquals(25, registry.get("festival.events.lag").timer().count());
+
+        System.out.println("testDispatch_batchesOffRequestThreadAndFiltersByType completed successfully\n");
+    }
+
+    @Test
+    void testDispatch_dropsWhenQueueFullAndSurvivesListenerFailure() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RecordingListener listener = new RecordingListener();
+        listener.block = true;
+        AsyncEventDispatcher dispatcher = dispatcher(registry, 5, listener);
+        dispatcher.start();
+
+        System.out.println("Running testDispatch_dropsWhenQueueFullAndSurvivesListenerFailure");
+
+        // The first event occupies the blocked worker, five more fill the queue
+        dispatcher.dispatch(List.of(new DomainEvent.FestivalUpdated(0L)));
+        Thread.sleep(200);
+        List<DomainEvent> burst = new ArrayList<>();
+        for (long id = 1; id <= 8; id++) {
+            burst.add(new DomainEvent.FestivalUpdated(id));
+        }
+        long start = System.nanoTime();
+        dispatcher.dispatch(burst);
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(3.0, registry.get("festival.events.dropped").counter().count());
+        assertEquals(5.0, registry.get("festival.events.queue.depth").gauge().value());
+        assertTrue(millis < 1000, "Publishers must not block on a full queue, took " + millis + " ms");
+
+        listener.fail = true;
+        listener.release.countDown();
+        dispatcher.stop();
+        assertEquals(6.0, registry.get("festival.events.failed").counter().count());
+
+        System.out.println("testDispatch_dropsWhenQueueFullAndSurvivesListenerFailure completed successfully\n");
+    }
+
+    @Test
+    void testStart_restartsAfterStop() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RecordingListener listener = new RecordingListener();
+        AsyncEventDispatcher dispatcher = dispatcher(registry, 100, listener);
+
+        System.out.println("Running testStart_restartsAfterStop");
+
+        dispatcher.start();
+        dispatcher.dispatch(List.of(new DomainEvent.FestivalUpdated(1L)));
+        dispatcher.stop();
+        assertFalse(dispatcher.isRunning());
+
+        dispatcher.start();
+        dispatcher.dispatch(List.of(new DomainEvent.FestivalUpdated(2L)));
+        dispatcher.stop();
+
+        List<Long> delivered = listener.batches.stream().flatMap(List::stream)
+                .map(DomainEvent.FestivalUpdated::festivalId).toList();
+        assertEquals(List.of(1L, 2L), delivered);
+
+        System.out.println("testStart_restartsAfterStop completed successfully\n");
+    }
+
+    @Test
+    void testPublish_deliversOnlyAfterCommit() {
+        AsyncEventDispatcher dispatcher = mock(AsyncEventDispatcher.class);
+        DomainEventPublisher publisher = new DomainEventPublisher(dispatcher);
+        DomainEvent event = new DomainEvent.FestivalDeleted(7L);
+
+        System.out.println("Running testPublish_deliversOnlyAfterCommit");
+
+        TransactionSynchronizationManager.initSynchronization();
+        publisher.publish(event);
+        verifyNoInteractions(dispatcher);
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        verify(dispatcher).dispatch(List.of(event));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // Without a transaction the event is handed over immediately
+        publisher.publish(event);
+        verify(dispatcher, times(2)).dispatch(List.of(event));
+
+        System.out.println("testPublish_deliversOnlyAfterCommit completed successfully\n");
+    }
+}
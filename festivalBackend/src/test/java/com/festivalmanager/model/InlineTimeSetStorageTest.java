@@ -0,0 +1,163 @@
+package com.festivalmanager.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.festivalmanager.enums.PermanentRoleType;
+import com.festivalmanager.sql.SqlAccounting;
+import com.festivalmanager.sql.EmbeddedPersistence;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InlineTimeSetStorageTest {
+
+    private static final int ITERATIONS = 200;
+
+    private EntityManagerFactory entityManagerFactory;
+    private Long festivalId;
+    private Long performanceId;
+
+    @BeforeEach
+    void setUp() {
+        entityManagerFactory = EmbeddedPersistence.create();
+
+        inTransaction(em -> {
+            User artist = new User();
+            artist.setUsername("artist");
+            artist.setPassword("secret");
+            artist.setFullName("Artist");
+            artist.setPermanentRole(PermanentRoleType.USER);
+            artist.setActive(true);
+            em.persist(artist);
+
+            Festival festival = new Festival();
+            festival.setName("Summer");
+            festival.setDescription("Open air");
+            festival.setVenue("Park");
+            festival.setDates(Set.of(LocalDate.of(2025, 7, 10), LocalDate.of(2025, 7, 11),
+                    LocalDate.of(2025, 7, 12), LocalDate.of(2025, 7, 20)));
+            em.persist(festival);
+
+            Performance performance = new Performance();
+            performance.setName("Headliner");
+            performance.setDescription("Rock");
+            performance.setGenre("Rock");
+            performance.setDuration(60);
+            performance.setCreator(artist);
+            performance.setFestival(festival);
+            performance.setPreferredRehearsalTimes(Set.of(LocalTime.of(10, 0), LocalTime.of(14, 30)));
+            performance.setPreferredPerformanceSlots(Set.of(LocalTime.of(20, 15)));
+            em.persist(performance);
+
+            festivalId = festival.getId();
+            performanceId = performance.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    @Test
+    void testConvertersRoundTrip() {
+        System.out.println("Running testConvertersRoundTrip");
+
+        LocalDateRangesConverter dates = new LocalDateRangesConverter();
+        SortedSet<LocalDate> festivalDates = LocalDateRangesConverter.normalize(Set.of(
+                LocalDate.of(2025, 12, 31), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 3)));
+        assertEquals("2025-12-31..2026-01-01,2026-01-03", dates.convertToDatabaseColumn(festivalDates));
+        assertEquals(festivalDates, dates.convertToEntityAttribute("2025-12-31..2026-01-01,2026-01-03"));
+        assertNull(dates.convertToDatabaseColumn(LocalDateRangesConverter.normalize(null)));
+        assertTrue(dates.convertToEntityAttribute(null).isEmpty());
+
+        MinuteOfDaySetConverter times = new MinuteOfDaySetConverter();
+        SortedSet<LocalTime> slots = MinuteOfDaySetConverter.normalize(Set.of(
+                LocalTime.MIDNIGHT, LocalTime.of(12, 0, 45), LocalTime.of(23, 59)));
+        assertEquals(Set.of(LocalTime.MIDNIGHT, LocalTime.NOON, LocalTime.of(23, 59)), slots);
+        byte[] column = times.convertToDatabaseColumn(slots);
+        assertEquals(180, column.length);
+        assertEquals(slots, times.convertToEntityAttribute(column));
+        assertEquals(1, times.convertToDatabaseColumn(MinuteOfDaySetConverter.normalize(
+                Set.of(LocalTime.of(0, 7)))).length);
+        assertNull(times.convertToDatabaseColumn(MinuteOfDaySetConverter.normalize(Set.of())));
+        assertThrows(UnsupportedOperationException.class, () -> slots.add(LocalTime.NOON));
+
+        System.out.println("testConvertersRoundTrip completed successfully\n");
+    }
+
+    @Test
+    void testUpdatePerformanceTimesIsOneStatement() {
+        System.out.println("Running testUpdatePerformanceTimesIsOneStatement");
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            int minute = i % 1440;
+            SqlAccounting.Tally tally = SqlAccounting.start("updatePerformance");
+            try {
+                inTransaction(em -> {
+                    Performance performance = em.find(Performance.class, performanceId);
+                    performance.setPreferredRehearsalTimes(Set.of(LocalTime.of(minute / 60, minute % 60)));
+                    performance.setPreferredPerformanceSlots(Set.of(LocalTime.of(20, 0), LocalTime.of(21, minute % 60)));
+                });
+            } finally {
+                SqlAccounting.stop(tally);
+            }
+            // The load and a single UPDATE of the row, no collection table rewrites
+            assertEquals(2, tally.getStatements(), "statements in iteration " + i);
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        inTransaction(em -> {
+            Performance performance = em.find(Performance.class, performanceId);
+            int minute = (ITERATIONS - 1) % 1440;
+            assertEquals(Set.of(LocalTime.of(minute / 60, minute % 60)), performance.getPreferredRehearsalTimes());
+            assertEquals(Set.of(LocalTime.of(20, 0), LocalTime.of(21, minute % 60)),
+                    performance.getPreferredPerformanceSlots());
+        });
+        System.out.printf("%d updates=%d ms%n", ITERATIONS, millis);
+
+        System.out.println("testUpdatePerformanceTimesIsOneStatement completed successfully\n");
+    }
+
+    @Test
+    void testViewFestivalLoadsDatesWithTheRow() {
+        System.out.println("Running testViewFestivalLoadsDatesWithTheRow");
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            inTransaction(em -> {
+                SqlAccounting.Tally load = SqlAccounting.start("viewFestival");
+                Festival festival;
+                try {
+                    festival = em.find(Festival.class, festivalId);
+                } finally {
+                    SqlAccounting.stop(load);
+                }
+                SqlAccounting.Tally dates = SqlAccounting.start("dates");
+                try {
+                    assertEquals(4, festival.getDates().size());
+                    assertEquals(LocalDate.of(2025, 7, 10), festival.getDates().first());
+                } finally {
+                    SqlAccounting.stop(dates);
+                }
+                assertEquals(0, dates.getStatements());
+            });
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("%d festival loads=%d ms%n", ITERATIONS, millis);
+
+        System.out.println("testViewFestivalLoadsDatesWithTheRow completed successfully\n");
+    }
+
+    private void inTransaction(Consumer<EntityManager> work) {
+        EmbeddedPersistence.inTransaction(entityManagerFactory, work);
+    }
+}
@@ -0,0 +1,253 @@
+package com.festivalmanager.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Migrates a MySQL container with the Flyway scripts, loads a few thousand
+ * rows and checks with EXPLAIN that the SQL of each repository query uses the
+ * intended index. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class QueryPlanTest {
+
+    private static final int USERS = 200;
+    private static final int FESTIVALS = 20;
+    private static final int PERFORMANCES = 4000;
+    private static final String[] STATES = {"CREATED", "SUBMITTED", "REVIEWED", "APPROVED", "SCHEDULED", "REJECTED"};
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static Connection connection;
+
+    /**
+     * A repository query written as the SQL Hibernate sends, with literals in
+     * place of parameters.
+     *
+     * @param method the repository method
+     * @param sql the statement to explain
+     * @param alias the table alias whose access path is checked
+     * @param index the index that alias must use
+     */
+    private record PlannedQuery(String method, String sql, String alias, String index) {
+    }
+
+    private static final List<PlannedQuery> QUERIES = List.of(
+            new PlannedQuery("UserRepository.findByUsername",
+                    "SELECT * FROM users u WHERE u.username = 'user7'", "u", "uk_users_username"),
+            new PlannedQuery("UserRepository.findExistingUsernames",
+                    "SELECT u.username FROM users u WHERE u.username IN ('user1', 'user2', 'nobody')",
+                    "u", "uk_users_username"),
+            new PlannedQuery("TokenRepository.findByValue",
+                    "SELECT * FROM tokens t WHERE t.value = 'token-42'", "t", "uk_tokens_value"),
+            new PlannedQuery("TokenRepository.findAllByUser",
+                    "SELECT * FROM tokens t WHERE t.user_id = 3", "t", "idx_tokens_user_active"),
+            new PlannedQuery("TokenRepository.deactivateAllByUsernames",
+                    "UPDATE tokens t SET t.active = 0 WHERE t.active = 1 AND t.user_id IN "
+                    + "(SELECT u.id FROM users u WHERE u.username IN ('user1', 'user2'))",
+                    "t", "idx_tokens_user_active"),
+            new PlannedQuery("FestivalRepository.findByName",
+                    "SELECT * FROM festivals f WHERE f.name = 'festival3'", "f", "uk_festivals_name"),
+            new PlannedQuery("FestivalUserRoleRepository.findByFestival",
+                    "SELECT * FROM festival_user_roles r WHERE r.festival_id = 4", "r", "uk_festival_user_roles"),
+            new PlannedQuery("FestivalUserRoleRepository.findByUser",
+                    "SELECT * FROM festival_user_roles r WHERE r.user_id = 9", "r",
+                    "idx_festival_user_roles_user_role"),
+            new PlannedQuery("FestivalUserRoleRepository.findUsersByFestivalAndRole",
+                    "SELECT u.* FROM festival_user_roles r JOIN users u ON u.id = r.user_id "
+                    + "WHERE r.festival_id = 4 AND r.role = 'STAFF' ORDER BY u.id", "r", "uk_festival_user_roles"),
+            new PlannedQuery("FestivalUserRoleRepository.findFestivalIdsByUserAndRole",
+                    "SELECT r.festival_id FROM festival_user_roles r "
+                    + "WHERE r.user_id = 9 AND r.role = 'ORGANIZER' AND r.festival_id IN (1, 2, 3)", "r",
+                    "idx_festival_user_roles_user_role"),
+            new PlannedQuery("PerformanceRepository.findAllByFestivalAndState",
+                    "SELECT * FROM performances p WHERE p.festival_id = 5 AND p.state = 'SUBMITTED'", "p",
+                    "idx_performances_festival_state_ranking"),
+            new PlannedQuery("PerformanceRepository.findDecisionCandidates",
+                    "SELECT p.id, p.name, p.genre, p.score, p.state FROM performances p "
+                    + "WHERE p.festival_id = 5 AND p.state = 'REVIEWED' AND p.final_submitted = 1 "
+                    + "ORDER BY p.score DESC, p.id LIMIT 10", "p", "idx_performances_festival_state_ranking"),
+            new PlannedQuery("PerformanceRepository.findIdsForBulkDecision",
+                    "SELECT p.id FROM performances p WHERE p.festival_id = 5 AND p.state IN ('REVIEWED') "
+                    + "AND p.score >= 7 ORDER BY p.id LIMIT 1001", "p", "idx_performances_festival_state_ranking"),
+            new PlannedQuery("PerformanceRepository.findAssignmentCandidates",
+                    "SELECT p.id, p.genre FROM performances p WHERE p.festival_id = 5 AND p.state = 'SUBMITTED' "
+                    + "AND p.stage_manager_id IS NULL ORDER BY p.id", "p", "idx_performances_festival_state_ranking"),
+            new PlannedQuery("PerformanceRepository.findDashboardRows",
+                    "SELECT p.state, p.final_submitted, p.stage_manager_id IS NOT NULL, p.score, COUNT(*) "
+                    + "FROM performances p WHERE p.festival_id = 5 "
+                    + "GROUP BY p.state, p.final_submitted, p.stage_manager_id IS NOT NULL, p.score", "p",
+                    "idx_performances_festival_state_ranking"),
+            new PlannedQuery("PerformanceRepository.updateStateOfNonFinalSubmitted",
+                    "UPDATE performances p SET p.state = 'REJECTED', p.version = p.version + 1 "
+                    + "WHERE p.festival_id = 5 AND p.final_submitted = 0", "p",
+                    "idx_performances_festival_state_ranking"),
+            new PlannedQuery("PerformanceRepository.countByStageManagerAndGenre",
+                    "SELECT p.stage_manager_id, p.genre, COUNT(*) FROM performances p "
+                    + "WHERE p.stage_manager_id IN (11, 12) GROUP BY p.stage_manager_id, p.genre", "p",
+                    "idx_performances_stage_manager_state"),
+            new PlannedQuery("PerformanceRepository.findQueueByStageManager",
+                    "SELECT p.id FROM performances p JOIN festivals f ON f.id = p.festival_id "
+                    + "WHERE p.stage_manager_id = 11 AND p.state IN ('SUBMITTED') AND p.id > 0 ORDER BY p.id "
+                    + "LIMIT 50", "p", "idx_performances_stage_manager_state"),
+            new PlannedQuery("PerformanceRepository.findQueueByCreator",
+                    "SELECT p.id FROM performances p JOIN festivals f ON f.id = p.festival_id "
+                    + "WHERE p.creator_id = 21 AND p.state IN ('CREATED') AND p.id > 0 ORDER BY p.id LIMIT 50",
+                    "p", "idx_performances_creator_state"),
+            new PlannedQuery("PerformanceRepository.countStatesByStageManager",
+                    "SELECT p.state, COUNT(*) FROM performances p WHERE p.stage_manager_id = 11 GROUP BY p.state",
+                    "p", "idx_performances_stage_manager_state"),
+            new PlannedQuery("PerformanceRepository.countStatesByCreator",
+                    "SELECT p.state, COUNT(*) FROM performances p WHERE p.creator_id = 21 GROUP BY p.state",
+                    "p", "idx_performances_creator_state"),
+            new PlannedQuery("PerformanceRepository.findQueueByBandMember",
+                    "SELECT p.id FROM performances p JOIN performance_band_members m ON m.performance_id = p.id "
+                    + "WHERE m.user_id = 33 AND p.creator_id <> 33 AND p.state IN ('APPROVED') AND p.id > 0 "
+                    + "ORDER BY p.id LIMIT 50", "m", "idx_performance_band_members_user"),
+            new PlannedQuery("PerformanceRepository.findBandMemberSlotsOfUsers",
+                    "SELECT m.user_id, p.id, p.festival_id, p.scheduled_date FROM performances p "
+                    + "JOIN performance_band_members m ON m.performance_id = p.id "
+                    + "WHERE m.user_id IN (33, 34) AND p.state IN ('APPROVED', 'SCHEDULED') AND p.id <> 1", "m",
+                    "idx_performance_band_members_user"),
+            new PlannedQuery("PerformanceRepository.findBandMemberSlotsOfUsers (creators)",
+                    "SELECT p.creator_id, p.id, p.festival_id, p.scheduled_date FROM performances p "
+                    + "WHERE p.creator_id IN (33, 34) AND p.state IN ('APPROVED', 'SCHEDULED') AND p.id <> 1", "p",
+                    "idx_performances_creator_state")
+    );
+
+    @BeforeAll
+    static void migrateAndLoad() throws SQLException {
+        Flyway.configure()
+                .dataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword())
+                .load()
+                .migrate();
+        connection = DriverManager.getConnection(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        load();
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void testRepositoryQueriesUseIndexes() throws SQLException {
+        System.out.println("Running testRepositoryQueriesUseIndexes");
+
+        List<String> failures = new ArrayList<>();
+        for (PlannedQuery query : QUERIES) {
+            String key = explainKey(query);
+            if (!query.index().equals(key)) {
+                failures.add(query.method() + " uses " + key + " instead of " + query.index());
+            }
+        }
+        assertTrue(failures.isEmpty(), String.join("\n", failures));
+
+        System.out.println("testRepositoryQueriesUseIndexes completed successfully\n");
+    }
+
+    private static String explainKey(PlannedQuery query) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet plan = statement.executeQuery("EXPLAIN " + query.sql())) {
+            while (plan.next()) {
+                if (query.alias().equals(plan.getString("table"))) {
+                    return plan.getString("key");
+                }
+            }
+        }
+        fail(query.method() + ": no plan row for " + query.alias());
+        return null;
+    }
+
+    private static void load() throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement users = connection.prepareStatement(
+                "INSERT INTO users (id, username, password, full_name, permanent_role, active, "
+                + "failed_login_attempts, failed_password_updates) VALUES (?, ?, 'x', 'User', 'USER', 1, 0, 0)");
+                PreparedStatement tokens = connection.prepareStatement(
+                "INSERT INTO tokens (value, active, user_id) VALUES (?, ?, ?)")) {
+            for (int id = 1; id <= USERS; id++) {
+                users.setInt(1, id);
+                users.setString(2, "user" + id);
+                users.addBatch();
+                for (int t = 0; t < 5; t++) {
+                    tokens.setString(1, "token-" + (id * 5 + t));
+                    tokens.setBoolean(2, t == 0);
+                    tokens.setInt(3, id);
+                    tokens.addBatch();
+                }
+            }
+            users.executeBatch();
+            tokens.executeBatch();
+        }
+        try (PreparedStatement festivals = connection.prepareStatement(
+                "INSERT INTO festivals (id, creation_date, name, description, venue, state, version) "
+                + "VALUES (?, NOW(), ?, 'd', 'v', 'REVIEW', 0)");
+                PreparedStatement roles = connection.prepareStatement(
+                "INSERT INTO festival_user_roles (festival_id, user_id, role) VALUES (?, ?, ?)")) {
+            for (int id = 1; id <= FESTIVALS; id++) {
+                festivals.setInt(1, id);
+                festivals.setString(2, "festival" + id);
+                festivals.addBatch();
+                for (int user = 1; user <= USERS; user += 7) {
+                    roles.setInt(1, id);
+                    roles.setInt(2, (user + id) % USERS + 1);
+                    roles.setString(3, user % 2 == 0 ? "STAFF" : "ARTIST");
+                    roles.addBatch();
+                }
+            }
+            festivals.executeBatch();
+            roles.executeBatch();
+        }
+        try (PreparedStatement performances = connection.prepareStatement(
+                "INSERT INTO performances (id, creation_date, name, description, genre, duration, final_submitted, "
+                + "stage_manager_id, creator_id, score, state, version, festival_id) "
+                + "VALUES (?, NOW(), ?, 'd', ?, 60, ?, ?, ?, ?, ?, 0, ?)");
+                PreparedStatement members = connection.prepareStatement(
+                "INSERT INTO performance_band_members (performance_id, user_id) VALUES (?, ?)")) {
+            for (int id = 1; id <= PERFORMANCES; id++) {
+                performances.setInt(1, id);
+                performances.setString(2, "performance" + id);
+                performances.setString(3, "genre" + id % 8);
+                performances.setBoolean(4, id % 3 != 0);
+                performances.setObject(5, id % 4 == 0 ? null : id % USERS + 1);
+                performances.setInt(6, (id * 7) % USERS + 1);
+                performances.setObject(7, id % 5 == 0 ? null : (double) (id % 10));
+                performances.setString(8, STATES[id % STATES.length]);
+                performances.setInt(9, id % FESTIVALS + 1);
+                performances.addBatch();
+                for (int m = 1; m <= 3; m++) {
+                    members.setInt(1, id);
+                    members.setInt(2, (id * 3 + m * 11) % USERS + 1);
+                    members.addBatch();
+                }
+            }
+            performances.executeBatch();
+            members.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE users, tokens, festivals, festival_user_roles, performances, "
+                    + "performance_band_members");
+        }
+    }
+}
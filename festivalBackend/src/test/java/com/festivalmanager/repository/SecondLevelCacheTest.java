@@ -0,0 +1,167 @@
+package com.festivalmanager.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.festivalmanager.enums.FestivalRoleType;
+import com.festivalmanager.enums.PermanentRoleType;
+import com.festivalmanager.model.Festival;
+import com.festivalmanager.model.FestivalUserRole;
+import com.festivalmanager.model.User;
+import com.festivalmanager.sql.EmbeddedPersistence;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Runs the repositories on a session factory with the application's
+ * second-level and query cache settings, built from {@code ehcache.xml};
+ * building it fails if an entity or collection region is missing there.
+ */
+class SecondLevelCacheTest {
+
+    private static final String USER_ROLES = Festival.class.getName() + ".userRoles";
+
+    private EntityManagerFactory entityManagerFactory;
+    private SessionFactory sessionFactory;
+    private Long aliceId;
+    private Long bobId;
+    private Long festivalId;
+    private Long aliceRoleId;
+
+    @BeforeEach
+    void setUp() {
+        entityManagerFactory = EmbeddedPersistence.createWithSecondLevelCache();
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        EmbeddedPersistence.inTransaction(entityManagerFactory, em -> {
+            User alice = user(em, "alice");
+            User bob = user(em, "bobby");
+            Festival festival = new Festival();
+            festival.setName("Summer");
+            festival.setDescription("Open air");
+            festival.setVenue("Park");
+            em.persist(festival);
+            aliceRoleId = role(em, festival, alice).getId();
+            role(em, festival, bob);
+            aliceId = alice.getId();
+            bobId = bob.getId();
+            festivalId = festival.getId();
+        });
+        sessionFactory.getCache().evictAll();
+        sessionFactory.getStatistics().clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    @Test
+    void testRepeatedLookupsHitTheCache() {
+        System.out.println("Running testRepeatedLookupsHitTheCache");
+
+        Statistics statistics = sessionFactory.getStatistics();
+        CacheRegionStatistics users = statistics.getDomainDataRegionStatistics(User.class.getName());
+
+        EmbeddedPersistence.inTransaction(entityManagerFactory, em -> repository(em).findById(aliceId).orElseThrow());
+        assertEquals(0, users.getHitCount());
+        assertEquals(1, users.getMissCount());
+        EmbeddedPersistence.inTransaction(entityManagerFactory, em -> repository(em).findById(aliceId).orElseThrow());
+        assertEquals(1, users.getHitCount());
+
+        // The first lookup by username queries the database, the second is served from the caches
+        long first = EmbeddedPersistence.countStatements(() -> EmbeddedPersistence.inTransaction(
+                entityManagerFactory, em -> repository(em).findByUsername("bobby").orElseThrow()));
+        assertEquals(1, first);
+        assertEquals(0, statistics.getQueryCacheHitCount());
+        assertEquals(1, statistics.getQueryCachePutCount());
+        long statements = EmbeddedPersistence.countStatements(() -> EmbeddedPersistence.inTransaction(
+                entityManagerFactory, em -> assertEquals(bobId, repository(em).findByUsername("bobby")
+                        .orElseThrow().getId())));
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(0, statements);
+
+        System.out.println("testRepeatedLookupsHitTheCache completed successfully\n");
+    }
+
+    @Test
+    void testNativeBulkDeleteEvictsAffectedRegions() {
+        System.out.println("Running testNativeBulkDeleteEvictsAffectedRegions");
+
+        EmbeddedPersistence.inTransaction(entityManagerFactory, em -> {
+            repository(em).findByUsername("alice").orElseThrow();
+            em.find(User.class, bobId);
+            em.find(Festival.class, festivalId).getUserRoles().size();
+        });
+        Cache cache = sessionFactory.getCache();
+        assertTrue(cache.containsEntity(User.class, aliceId));
+        assertTrue(cache.containsEntity(User.class, bobId));
+        assertTrue(cache.containsEntity(FestivalUserRole.class, aliceRoleId));
+        assertTrue(cache.containsCollection(USER_ROLES, festivalId));
+        assertTrue(cache.containsEntity(Festival.class, festivalId));
+
+        EmbeddedPersistence.inTransaction(entityManagerFactory, em -> assertEquals(1,
+                repository(em).bulkDeleteUser(aliceId)));
+
+        // Regions of the tables the statements wrote are dropped, others are kept
+        assertFalse(cache.containsEntity(User.class, aliceId));
+        assertFalse(cache.containsEntity(User.class, bobId));
+        assertFalse(cache.containsEntity(FestivalUserRole.class, aliceRoleId));
+        assertFalse(cache.containsCollection(USER_ROLES, festivalId));
+        assertTrue(cache.containsEntity(Festival.class, festivalId));
+        // The cached query result is outdated by the users table timestamp
+        EmbeddedPersistence.inTransaction(entityManagerFactory,
+                em -> assertTrue(repository(em).findByUsername("alice").isEmpty()));
+        EmbeddedPersistence.inTransaction(entityManagerFactory,
+                em -> assertEquals(1, em.find(Festival.class, festivalId).getUserRoles().size()));
+
+        System.out.println("testNativeBulkDeleteEvictsAffectedRegions completed successfully\n");
+    }
+
+    @Test
+    void testNativeStatementQuerySpace() {
+        System.out.println("Running testNativeStatementQuerySpace");
+
+        assertEquals("festival_user_roles",
+                NativeStatements.targetTable("DELETE FROM festival_user_roles WHERE festival_id = :id"));
+        assertEquals("users", NativeStatements.targetTable("  update users SET active = false WHERE id = :id"));
+        assertThrows(IllegalArgumentException.class,
+                () -> NativeStatements.targetTable("SELECT * FROM users WHERE id = :id"));
+
+        System.out.println("testNativeStatementQuerySpace completed successfully\n");
+    }
+
+    private static UserRepository repository(EntityManager em) {
+        UserBulkOperationsImpl bulkOperations = new UserBulkOperationsImpl();
+        ReflectionTestUtils.setField(bulkOperations, "entityManager", em);
+        return new JpaRepositoryFactory(em).getRepository(UserRepository.class, RepositoryFragments.just(bulkOperations));
+    }
+
+    private static User user(EntityManager em, String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("secret");
+        user.setFullName(username);
+        user.setPermanentRole(PermanentRoleType.USER);
+        user.setActive(true);
+        em.persist(user);
+        return user;
+    }
+
+    private static FestivalUserRole role(EntityManager em, Festival festival, User user) {
+        FestivalUserRole role = new FestivalUserRole();
+        role.setFestival(festival);
+        role.setUser(user);
+        role.setRole(FestivalRoleType.ORGANIZER);
+        em.persist(role);
+        return role;
+    }
+}
@@ -0,0 +1,130 @@
+package com.festivalmanager.repository;
+
+import com.festivalmanager.enums.PermanentRoleType;
+import com.festivalmanager.model.Token;
+import com.festivalmanager.model.User;
+import com.festivalmanager.sql.EmbeddedPersistence;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.nio.file.Path;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures the throughput of the repository hot paths on the embedded H2
+ * file database of the {@code embedded} profile and on MySQL, with the same
+ * workload: user and token inserts, the per-request username and token
+ * lookups, and single-row updates, one transaction per operation except for
+ * inserts. Results are only printed, for comparing the two runs by hand;
+ * the MySQL run is skipped when Docker is not available.
+ */
+class StorageThroughputBenchmarkTest {
+
+    private static final int USERS = 1000;
+    private static final int LOOKUPS = 2000;
+    private static final int UPDATES = 1000;
+    private static final int INSERT_BATCH = 50;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testEmbeddedThroughput() {
+        System.out.println("Running testEmbeddedThroughput");
+
+        run("embedded", "jdbc:h2:file:" + directory.resolve("festivaldb") + ";MODE=MySQL;NON_KEYWORDS=VALUE",
+                "sa", "");
+
+        System.out.println("testEmbeddedThroughput completed successfully\n");
+    }
+
+    @Test
+    @EnabledIf("dockerAvailable")
+    void testMySqlThroughput() {
+        System.out.println("Running testMySqlThroughput");
+
+        try (MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")) {
+            mysql.start();
+            run("mysql", mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
+        }
+
+        System.out.println("testMySqlThroughput completed successfully\n");
+    }
+
+    static boolean dockerAvailable() {
+        return DockerClientFactory.instance().isDockerAvailable();
+    }
+
+    private static void run(String backend, String url, String username, String password) {
+        // Pooled like the application's data source, so connections are not reopened per transaction
+        HikariDataSource database = new HikariDataSource();
+        database.setJdbcUrl(url);
+        database.setUsername(username);
+        database.setPassword(password);
+        EntityManagerFactory factory = EmbeddedPersistence.create(database);
+        try {
+            double inserts = throughput(USERS / INSERT_BATCH, batch -> EmbeddedPersistence.inTransaction(factory,
+                    em -> insertUsers(em, batch * INSERT_BATCH, INSERT_BATCH))) * INSERT_BATCH;
+            double lookups = throughput(LOOKUPS, i -> EmbeddedPersistence.inTransaction(factory, em -> {
+                int id = i * 7 % USERS;
+                User user = em.createQuery("SELECT u FROM User u WHERE u.username = :username", User.class)
+                        .setParameter("username", "user" + id)
+                        .getSingleResult();
+                Token token = em.createQuery("SELECT t FROM Token t WHERE t.value = :value", Token.class)
+                        .setParameter("value", "token" + id)
+                        .getSingleResult();
+                assertEquals(user.getId(), token.getUser().getId());
+            }));
+            double updates = throughput(UPDATES, i -> EmbeddedPersistence.inTransaction(factory, em -> {
+                User user = em.createQuery("SELECT u FROM User u WHERE u.username = :username", User.class)
+                        .setParameter("username", "user" + i % USERS)
+                        .getSingleResult();
+                user.setFailedLoginAttempts(user.getFailedLoginAttempts() + 1);
+            }));
+            System.out.printf("%s: %.0f inserts/s, %.0f lookups/s, %.0f updates/s%n",
+                    backend, inserts, lookups, updates);
+            assertTrue(inserts > 0 && lookups > 0 && updates > 0);
+        } finally {
+            factory.close();
+            database.close();
+        }
+    }
+
+    private static void insertUsers(EntityManager em, int first, int count) {
+        for (int id = first; id < first + count; id++) {
+            User user = new User();
+            user.setUsername("user" + id);
+            user.setPassword("x");
+            user.setFullName("User " + id);
+            user.setPermanentRole(PermanentRoleType.USER);
+            user.setActive(true);
+            em.persist(user);
+            Token token = new Token();
+            token.setValue("token" + id);
+            token.setUser(user);
+            em.persist(token);
+        }
+    }
+
+    /**
+     * Runs an operation a number of times.
+     *
+     * @return the operations per second
+     */
+    private static double throughput(int operations, IntConsumer operation) {
+        long start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            operation.accept(i);
+        }
+        return operations / ((System.nanoTime() - start) / 1e9);
+    }
+}
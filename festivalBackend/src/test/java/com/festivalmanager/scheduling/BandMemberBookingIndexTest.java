@@ -0,0 +1,105 @@
+package com.festivalmanager.scheduling;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.festivalmanager.scheduling.BandMemberBookingIndex.Booking;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class BandMemberBookingIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 7, 1);
+
+    @Test
+    void testFindOverlap_matchesLinearScan() {
+        Random random = new Random(11);
+        List<Booking> bookings = new ArrayList<>();
+        for (long id = 0; id < 2000; id++) {
+            long start = random.nextInt(20_000);
+            bookings.add(new Booking(id % 25, id, id % 3, start, start + 1 + random.nextInt(600), false));
+        }
+        BandMemberBookingIndex index = BandMemberBookingIndex.of(bookings);
+
+        System.out.println("Running testFindOverlap_matchesLinearScan");
+
+        for (int i = 0; i < 5000; i++) {
+            long user = random.nextInt(30);
+            long start = random.nextInt(20_000);
+            long end = start + 1 + random.nextInt(300);
+            boolean expected = bookings.stream()
+                    .anyMatch(b -> b.userId() == user && b.start() < end && b.end() > start);
+
+            var overlap = index.findOverlap(user, start, end);
+            assertEquals(expected, overlap.isPresent());
+            overlap.ifPresent(b -> assertTrue(b.userId() == user && b.start() < end && b.end() > start));
+        }
+
+        System.out.println("testFindOverlap_matchesLinearScan completed successfully\n");
+    }
+
+    @Test
+    void testConflicts_reportsPairsAndIgnoresTentativeWithinFestival() {
+        Booking slotted = BandMemberBookingIndex.slot(1L, 10L, 100L, DAY, LocalTime.of(20, 0), LocalTime.of(21, 0));
+        Booking otherFestival = BandMemberBookingIndex.slot(1L, 20L, 200L, DAY, LocalTime.of(20, 30), LocalTime.of(22, 0));
+        Booking afterMidnight = BandMemberBookingIndex.slot(1L, 30L, 200L, DAY, LocalTime.of(23, 0), LocalTime.of(1, 0));
+        List<Booking> tentative = BandMemberBookingIndex.festivalDays(1L, 40L, 100L,
+                List.of(DAY.plusDays(1), DAY));
+
+        List<Booking> bookings = new ArrayList<>(List.of(slotted, otherFestival, afterMidnight));
+        bookings.addAll(tentative);
+
+        System.out.println("Running testConflicts_reportsPairsAndIgnoresTentativeWithinFestival");
+
+        // Two consecutive festival days collapse into one booking
+        assertEquals(1, tentative.size());
+        assertEquals(2 * 24 * 60, tentative.get(0).end() - tentative.get(0).start());
+        assertEquals(2 * 60, afterMidnight.end() - afterMidnight.start());
+
+        List<BandMemberBookingIndex.Conflict> conflicts = BandMemberBookingIndex.of(bookings)
+                .conflicts(b -> b.festivalId() == 100L);
+
+        // 10 vs 20 (overlap), 40 vs 20 and 40 vs 30 (other festival); 40 vs 10 is the same festival
+        assertEquals(3, conflicts.size());
+        assertTrue(conflicts.stream().noneMatch(c -> c.first().festivalId() == c.second().festivalId()));
+
+        System.out.println("testConflicts_reportsPairsAndIgnoresTentativeWithinFestival completed successfully\n");
+    }
+
+    @Test
+    void testFindOverlap_oneMillionMemberships() {
+        int users = 100_000;
+        int memberships = 1_000_000;
+        Random random = new Random(3);
+        List<Booking> bookings = new ArrayList<>(memberships);
+        for (int i = 0; i < memberships; i++) {
+            long start = BandMemberBookingIndex.minuteOf(DAY.plusDays(random.nextInt(365)), LocalTime.of(12, 0))
+                    + random.nextInt(12) * 60;
+            bookings.add(new Booking(i % users, i, i / 50, start, start + 60, false));
+        }
+
+        System.out.println("Running testFindOverlap_oneMillionMemberships");
+
+        long buildStart = System.nanoTime();
+        BandMemberBookingIndex index = BandMemberBookingIndex.of(bookings);
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+        long checkStart = System.nanoTime();
+        int conflicts = 0;
+        for (int i = 0; i < memberships; i++) {
+            Booking probe = bookings.get(random.nextInt(memberships));
+            if (index.findOverlap(random.nextInt(users), probe.start(), probe.end()).isPresent()) {
+                conflicts++;
+            }
+        }
+        long checkMillis = (System.nanoTime() - checkStart) / 1_000_000;
+
+        assertTrue(checkMillis < 5000, "1M overlap checks should stay well under a few seconds, took " + checkMillis + " ms");
+
+        System.out.printf("build=%d ms, 1M checks=%d ms, conflicts=%d%n", buildMillis, checkMillis, conflicts);
+        System.out.println("testFindOverlap_oneMillionMemberships completed successfully\n");
+    }
+}
@@ -0,0 +1,117 @@
+package com.festivalmanager.scheduling;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LineupSchedulerTest {
+
+    private LineupScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new LineupScheduler(LocalTime.of(12, 0), LocalTime.of(23, 59), 15);
+        System.out.println("=== LineupSchedulerTest setup completed ===\n");
+    }
+
+    @Test
+    void testSchedule_honoursPreferencesWithoutOverlap() {
+        List<LineupScheduler.Act> acts = List.of(
+                new LineupScheduler.Act(1L, 60, List.of(LocalTime.of(20, 0))),
+                new LineupScheduler.Act(2L, 60, List.of(LocalTime.of(20, 0))),
+                new LineupScheduler.Act(3L, 45, List.of(LocalTime.of(20, 30), LocalTime.of(14, 0)))
+        );
+
+        System.out.println("Running testSchedule_honoursPreferencesWithoutOverlap");
+
+        LineupScheduler.Result result = scheduler.schedule(
+                List.of("Main"), List.of(LocalDate.of(2026, 7, 1)), acts);
+
+        assertEquals(3, result.placements().size());
+        assertTrue(result.unscheduled().isEmpty());
+        // Only one of the two acts wanting 20:00 on the single stage can have it
+        assertEquals(2, result.satisfiedPreferences());
+        assertNoOverlap(result.placements(), 15);
+
+        System.out.println("testSchedule_honoursPreferencesWithoutOverlap completed successfully\n");
+    }
+
+    @Test
+    void testSchedule_reportsActsThatDoNotFit() {
+        List<LineupScheduler.Act> acts = List.of(
+                new LineupScheduler.Act(1L, 600, List.of()),
+                new LineupScheduler.Act(2L, 600, List.of())
+        );
+
+        System.out.println("Running testSchedule_reportsActsThatDoNotFit");
+
+        LineupScheduler.Result result = scheduler.schedule(
+                List.of("Main"), List.of(LocalDate.of(2026, 7, 1)), acts);
+
+        assertEquals(1, result.placements().size());
+        assertEquals(List.of(2L), result.unscheduled());
+
+        System.out.println("testSchedule_reportsActsThatDoNotFit completed successfully\n");
+    }
+
+    @Test
+    void testSchedule_syntheticFestivalBenchmark() {
+        // 5,000 acts, 30 stages, 12 days (360 stage-days of 719 minutes)
+        Random random = new Random(42);
+        List<String> stages = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            stages.add("Stage " + i);
+        }
+        List<LocalDate> dates = new ArrayList<>();
+        for (int d = 0; d < 12; d++) {
+            dates.add(LocalDate.of(2026, 7, 1).plusDays(d));
+        }
+
+        List<LineupScheduler.Act> acts = new ArrayList<>();
+        for (long id = 1; id <= 5000; id++) {
+            List<LocalTime> preferred = new ArrayList<>();
+            for (int p = random.nextInt(4); p > 0; p--) {
+                preferred.add(LocalTime.of(12 + random.nextInt(11), random.nextBoolean() ? 0 : 30));
+            }
+            acts.add(new LineupScheduler.Act(id, 20 + random.nextInt(5) * 5, preferred));
+        }
+
+        System.out.println("Running testSchedule_syntheticFestivalBenchmark");
+
+        long start = System.nanoTime();
+        LineupScheduler.Result result = scheduler.schedule(stages, dates, acts);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(5000, result.placements().size() + result.unscheduled().size());
+        assertNoOverlap(result.placements(), 15);
+        assertTrue(millis < 5000, "Scheduling should finish within seconds, took " + millis + " ms");
+
+        System.out.printf("scheduled=%d unscheduled=%d satisfied=%d time=%d ms%n",
+                result.placements().size(), result.unscheduled().size(),
+                result.satisfiedPreferences(), millis);
+        System.out.println("testSchedule_syntheticFestivalBenchmark completed successfully\n");
+    }
+
+    private void assertNoOverlap(List<LineupScheduler.Placement> placements, int changeover) {
+        Map<String, List<LineupScheduler.Placement>> byStageDay = new HashMap<>();
+        for (LineupScheduler.Placement p : placements) {
+            byStageDay.computeIfAbsent(p.stage() + "|" + p.date(), k -> new ArrayList<>()).add(p);
+        }
+        for (List<LineupScheduler.Placement> list : byStageDay.values()) {
+            list.sort((a, b) -> a.start().compareTo(b.start()));
+            for (int i = 1; i < list.size(); i++) {
+                LocalTime previousEnd = list.get(i - 1).end().plusMinutes(changeover);
+                assertFalse(list.get(i).start().isBefore(previousEnd),
+                        "Overlapping placements on " + list.get(i).stage() + " " + list.get(i).date());
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.festivalmanager.scheduling;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.BitSet;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class MinuteBitmapTest {
+
+    @Test
+    void testSetAndFreeAcrossWordBoundaries() {
+        MinuteBitmap bitmap = new MinuteBitmap();
+
+        System.out.println("Running testSetAndFreeAcrossWordBoundaries");
+
+        bitmap.set(60, 130);
+
+        assertFalse(bitmap.isFree(0, 61));
+        assertTrue(bitmap.isFree(0, 60));
+        assertTrue(bitmap.isFree(130, 200));
+        assertEquals(70, bitmap.cardinality());
+        assertEquals(130, bitmap.nextFree(60, 30));
+        assertEquals(0, bitmap.nextFree(0, 60));
+
+        // A copy is independent of the original
+        MinuteBitmap copy = bitmap.copy();
+        copy.set(0, 60);
+        assertEquals(130, copy.nextFree(0, 1));
+        assertEquals(0, bitmap.nextFree(0, 60));
+        assertEquals(130, copy.cardinality());
+
+        System.out.println("testSetAndFreeAcrossWordBoundaries completed successfully\n");
+    }
+
+    @Test
+    void testMatchesBitSetOnRandomRanges() {
+        Random random = new Random(7);
+        MinuteBitmap bitmap = new MinuteBitmap();
+        BitSet reference = new BitSet(MinuteBitmap.MINUTES_PER_DAY);
+
+        System.out.println("Running testMatchesBitSetOnRandomRanges");
+
+        for (int i = 0; i < 2000; i++) {
+            // Start over regularly so the day does not fill up
+            if (i % 50 == 0) {
+                bitmap = new MinuteBitmap();
+                reference.clear();
+            }
+            int from = random.nextInt(MinuteBitmap.MINUTES_PER_DAY);
+            int to = from + random.nextInt(Math.min(120, MinuteBitmap.MINUTES_PER_DAY - from) + 1);
+            bitmap.set(from, to);
+            reference.set(from, to);
+
+            int probe = random.nextInt(MinuteBitmap.MINUTES_PER_DAY);
+            int length = 1 + random.nextInt(90);
+            int end = Math.min(probe + length, MinuteBitmap.MINUTES_PER_DAY);
+            int nextSet = reference.nextSetBit(probe);
+            assertEquals(nextSet < 0 || nextSet >= end, bitmap.isFree(probe, end));
+            assertEquals(nextSet < MinuteBitmap.MINUTES_PER_DAY ? nextSet : -1, bitmap.nextSetBit(probe));
+        }
+        assertEquals(reference.cardinality(), bitmap.cardinality());
+        assertArrayEquals(reference.toByteArray(), bitmap.toBytes());
+        assertEquals(bitmap, MinuteBitmap.fromBytes(bitmap.toBytes()));
+
+        System.out.println("testMatchesBitSetOnRandomRanges completed successfully\n");
+    }
+}
@@ -0,0 +1,124 @@
+package com.festivalmanager.scheduling;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RehearsalAllocatorTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 7, 1);
+
+    private RehearsalAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        allocator = new RehearsalAllocator(30);
+        System.out.println("=== RehearsalAllocatorTest setup completed ===\n");
+    }
+
+    @Test
+    void testAllocate_prefersHomeStageAndAvoidsBookings() {
+        RehearsalAllocator.StageDay main = new RehearsalAllocator.StageDay("Main", DAY);
+        RehearsalAllocator.StageDay tent = new RehearsalAllocator.StageDay("Tent", DAY);
+
+        // The Main stage is taken by another show from 10:00 to 11:00
+        RehearsalAllocator.Booking firstShow = new RehearsalAllocator.Booking(main, LocalTime.of(20, 0), LocalTime.of(21, 0));
+        RehearsalAllocator.Booking secondShow = new RehearsalAllocator.Booking(tent, LocalTime.of(22, 0), LocalTime.of(23, 0));
+        List<RehearsalAllocator.Booking> bookings = List.of(
+                new RehearsalAllocator.Booking(main, LocalTime.of(10, 0), LocalTime.of(11, 0)), firstShow, secondShow);
+
+        List<RehearsalAllocator.Act> acts = List.of(
+                new RehearsalAllocator.Act(1L, firstShow, List.of(LocalTime.of(10, 30), LocalTime.of(9, 0))),
+                new RehearsalAllocator.Act(2L, secondShow, List.of(LocalTime.of(9, 0))));
+
+        System.out.println("Running testAllocate_prefersHomeStageAndAvoidsBookings");
+
+        RehearsalAllocator.Result result = allocator.allocate(List.of(main, tent), bookings, acts);
+
+        assertTrue(result.unallocated().isEmpty());
+        RehearsalAllocator.Allocation first = result.allocations().stream()
+                .filter(a -> a.actId().equals(1L)).findFirst().orElseThrow();
+        // 10:30 collides with the show on the home stage but is free on the Tent
+        assertEquals(LocalTime.of(10, 30), first.start());
+        assertEquals(tent, first.stageDay());
+
+        RehearsalAllocator.Allocation second = result.allocations().stream()
+                .filter(a -> a.actId().equals(2L)).findFirst().orElseThrow();
+        assertEquals(tent, second.stageDay());
+        assertEquals(LocalTime.of(9, 0), second.start());
+
+        System.out.println("testAllocate_prefersHomeStageAndAvoidsBookings completed successfully\n");
+    }
+
+    @Test
+    void testAllocate_neverOverlapsOwnShowOnAnyStage() {
+        RehearsalAllocator.StageDay main = new RehearsalAllocator.StageDay("Main", DAY);
+        RehearsalAllocator.StageDay tent = new RehearsalAllocator.StageDay("Tent", DAY);
+        RehearsalAllocator.StageDay tentNextDay = new RehearsalAllocator.StageDay("Tent", DAY.plusDays(1));
+
+        RehearsalAllocator.Booking show = new RehearsalAllocator.Booking(main, LocalTime.of(10, 0), LocalTime.of(11, 0));
+        List<RehearsalAllocator.Act> acts = List.of(
+                new RehearsalAllocator.Act(1L, show, List.of(LocalTime.of(10, 30))),
+                new RehearsalAllocator.Act(2L, show, List.of()));
+
+        System.out.println("Running testAllocate_neverOverlapsOwnShowOnAnyStage");
+
+        RehearsalAllocator.Result result = allocator.allocate(List.of(main, tent, tentNextDay), List.of(show), acts);
+
+        assertTrue(result.unallocated().isEmpty());
+        // The Tent is free at 10:30 but the act is on the Main stage then; the next day is fine
+        RehearsalAllocator.Allocation preferred = result.allocations().stream()
+                .filter(a -> a.actId().equals(1L)).findFirst().orElseThrow();
+        assertEquals(tentNextDay, preferred.stageDay());
+        assertEquals(LocalTime.of(10, 30), preferred.start());
+        assertTrue(preferred.preferred());
+
+        // The earliest search skips the show window on other stages of the day too
+        RehearsalAllocator allocator = new RehearsalAllocator(60);
+        List<RehearsalAllocator.Booking> bookings = List.of(show,
+                new RehearsalAllocator.Booking(main, LocalTime.MIDNIGHT, LocalTime.of(10, 0)),
+                new RehearsalAllocator.Booking(main, LocalTime.of(11, 0), LocalTime.of(23, 59)),
+                new RehearsalAllocator.Booking(tent, LocalTime.MIDNIGHT, LocalTime.of(9, 30)));
+        RehearsalAllocator.Allocation earliest = allocator.allocate(List.of(main, tent), bookings,
+                List.of(new RehearsalAllocator.Act(1L, show, List.of()))).allocations().get(0);
+        assertEquals(tent, earliest.stageDay());
+        assertEquals(LocalTime.of(11, 0), earliest.start());
+
+        System.out.println("testAllocate_neverOverlapsOwnShowOnAnyStage completed successfully\n");
+    }
+
+    @Test
+    void testAllocate_thousandsOfActsIsInteractive() {
+        List<RehearsalAllocator.StageDay> stageDays = new ArrayList<>();
+        for (int d = 0; d < 5; d++) {
+            for (int s = 0; s < 20; s++) {
+                stageDays.add(new RehearsalAllocator.StageDay("Stage " + s, DAY.plusDays(d)));
+            }
+        }
+        List<RehearsalAllocator.Act> acts = new ArrayList<>();
+        for (long id = 1; id <= 4000; id++) {
+            RehearsalAllocator.StageDay home = stageDays.get((int) (id % stageDays.size()));
+            RehearsalAllocator.Booking show = new RehearsalAllocator.Booking(home, LocalTime.of(20, 0), LocalTime.of(21, 0));
+            acts.add(new RehearsalAllocator.Act(id, show,
+                    List.of(LocalTime.of(8 + (int) (id % 4), 0), LocalTime.of(14, 30))));
+        }
+
+        System.out.println("Running testAllocate_thousandsOfActsIsInteractive");
+
+        long start = System.nanoTime();
+        RehearsalAllocator.Result result = allocator.allocate(stageDays, List.of(), acts);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(4000, result.allocations().size() + result.unallocated().size());
+        assertTrue(millis < 2000, "Allocation should be interactive, took " + millis + " ms");
+
+        System.out.printf("allocated=%d unallocated=%d time=%d ms%n",
+                result.allocations().size(), result.unallocated().size(), millis);
+        System.out.println("testAllocate_thousandsOfActsIsInteractive completed successfully\n");
+    }
+}
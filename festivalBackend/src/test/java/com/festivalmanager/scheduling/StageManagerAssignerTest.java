@@ -0,0 +1,79 @@
+package com.festivalmanager.scheduling;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class StageManagerAssignerTest {
+
+    private static List<AssignmentCandidate> acts(int count, String... genres) {
+        List<AssignmentCandidate> acts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            acts.add(new AssignmentCandidate((long) i + 1, genres[i % genres.length]));
+        }
+        return acts;
+    }
+
+    @Test
+    void testAssign_balancesLoadAndHonoursAffinity() {
+        List<StageManagerAssigner.Staff> staff = List.of(
+                new StageManagerAssigner.Staff(1, 3, Map.of("Rock", 1.0)),
+                new StageManagerAssigner.Staff(2, 0, Map.of("Jazz", 1.0)),
+                new StageManagerAssigner.Staff(3, 0, Map.of()));
+
+        System.out.println("Running testAssign_balancesLoadAndHonoursAffinity");
+
+        // Without affinity the two idle members catch up first, then loads stay level
+        Map<Long, List<Long>> balanced = StageManagerAssigner.assign(acts(9, "Rock", "Jazz"), staff, 0);
+        assertEquals(List.of(7L), balanced.get(1L));
+        assertEquals(List.of(1L, 3L, 5L, 8L), balanced.get(2L));
+        assertEquals(List.of(2L, 4L, 6L, 9L), balanced.get(3L));
+
+        // With a high weight every act goes to its genre specialist
+        Map<Long, List<Long>> specialised = StageManagerAssigner.assign(acts(6, "Rock", "Jazz"), staff, 10);
+        assertEquals(List.of(1L, 3L, 5L), specialised.get(1L));
+        assertEquals(List.of(2L, 4L, 6L), specialised.get(2L));
+        assertFalse(specialised.containsKey(3L));
+
+        assertThrows(IllegalArgumentException.class, () -> StageManagerAssigner.assign(acts(1, "Rock"), List.of(), 0));
+
+        System.out.println("testAssign_balancesLoadAndHonoursAffinity completed successfully\n");
+    }
+
+    @Test
+    void testAssign_tenThousandActsAcrossFiveHundredStaff() {
+        Random random = new Random(42);
+        String[] genres = {"Rock", "Jazz", "Pop", "Metal", "Folk", "Electronic", "Hip-Hop", "Classical"};
+        List<StageManagerAssigner.Staff> staff = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            staff.add(new StageManagerAssigner.Staff(id, random.nextInt(5),
+                    Map.of(genres[random.nextInt(genres.length)], random.nextDouble())));
+        }
+        List<AssignmentCandidate> acts = acts(10_000, genres);
+
+        System.out.println("Running testAssign_tenThousandActsAcrossFiveHundredStaff");
+
+        long start = System.nanoTime();
+        Map<Long, List<Long>> assignments = StageManagerAssigner.assign(acts, staff, 2);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(10_000, assignments.values().stream().mapToInt(List::size).sum());
+        int min = Integer.MAX_VALUE;
+        int max = 0;
+        for (StageManagerAssigner.Staff s : staff) {
+            int load = s.load() + assignments.getOrDefault(s.id(), List.of()).size();
+            min = Math.min(min, load);
+            max = Math.max(max, load);
+        }
+        // Affinity may shift at most about the weight's worth of acts between members
+        assertTrue(max - min <= 4, "Loads should stay balanced, spread was " + (max - min));
+        assertTrue(millis < 1000, "Assignment should take well under a second, took " + millis + " ms");
+
+        System.out.printf("assigned=%d loads=%d..%d time=%d ms%n", acts.size(), min, max, millis);
+        System.out.println("testAssign_tenThousandActsAcrossFiveHundredStaff completed successfully\n");
+    }
+}
@@ -3,6 +3,7 @@ package com.festivalmanager.security;
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.festivalmanager.datasource.PrimaryReads;
 import com.festivalmanager.exception.ApiException;
 import com.festivalmanager.model.User;
 import com.festivalmanager.repository.UserRepository;
@@ -15,6 +16,7 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 class UserSecurityServiceTest {
 
@@ -24,6 +26,9 @@ class UserSecurityServiceTest {
     @Mock
     private TokenService tokenService;
 
+    @Mock
+    private PrimaryReads primaryReads;
+
     private UserSecurityService securityService;
 
     @BeforeEach
@@ -31,7 +36,8 @@ class UserSecurityServiceTest {
         MockitoAnnotations.openMocks(this);
 
         // Manual injection of mocks
-        securityService = new UserSecurityService(userRepository, tokenService);
+        when(primaryReads.read(any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        securityService = new UserSecurityService(userRepository, tokenService, primaryReads);
 
         System.out.println("=== UserSecurityServiceTest setup completed ===\n");
     }
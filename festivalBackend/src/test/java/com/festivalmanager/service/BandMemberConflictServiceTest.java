@@ -0,0 +1,149 @@
+package com.festivalmanager.service;
+
+import com.festivalmanager.enums.PermanentRoleType;
+import com.festivalmanager.exception.ApiException;
+import com.festivalmanager.model.Festival;
+import com.festivalmanager.model.Performance;
+import com.festivalmanager.model.Performance.PerformanceState;
+import com.festivalmanager.model.StageSlot;
+import com.festivalmanager.model.User;
+import com.festivalmanager.repository.*;
+import com.festivalmanager.sql.EmbeddedPersistence;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks double bookings of the creator (main artist) of a performance on an
+ * embedded database. The creator is never one of the band members.
+ */
+class BandMemberConflictServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 7, 1);
+
+    private EntityManagerFactory entityManagerFactory;
+    private Long headlinerFestivalId;
+    private Long guestAppearanceId;
+    private Long soloShowId;
+
+    @BeforeEach
+    void setUp() {
+        entityManagerFactory = EmbeddedPersistence.create();
+        EmbeddedPersistence.inTransaction(entityManagerFactory, em -> {
+            User headliner = user(em, "headliner");
+            User guitarist = user(em, "guitarist");
+            Festival summer = festival(em, "Summer");
+            Festival city = festival(em, "City");
+
+            // The headliner's own show, booked through its creator only
+            performance(em, "Headline Show", summer, headliner, Set.of(),
+                    PerformanceState.SCHEDULED, LocalTime.of(20, 0), LocalTime.of(21, 0));
+            guestAppearanceId = performance(em, "Guest Appearance", city, guitarist, Set.of(headliner),
+                    PerformanceState.APPROVED, LocalTime.of(20, 30), LocalTime.of(22, 0));
+            soloShowId = performance(em, "Solo Show", city, headliner, Set.of(),
+                    PerformanceState.APPROVED, LocalTime.of(20, 45), LocalTime.of(21, 30));
+            headlinerFestivalId = summer.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    @Test
+    void testCreatorBookingsAreChecked() {
+        System.out.println("Running testCreatorBookingsAreChecked");
+
+        EmbeddedPersistence.inTransaction(entityManagerFactory, em -> {
+            BandMemberConflictService service = service(em);
+
+            // Booked as a band member while headlining elsewhere
+            ApiException member = assertThrows(ApiException.class, () ->
+                    service.checkBandMembersAvailable(em.find(Performance.class, guestAppearanceId)));
+            assertEquals(HttpStatus.CONFLICT, member.getStatus());
+            assertTrue(member.getMessage().contains("headliner"));
+
+            // A performance without band members still books its creator
+            ApiException creator = assertThrows(ApiException.class, () ->
+                    service.checkBandMembersAvailable(em.find(Performance.class, soloShowId)));
+            assertTrue(creator.getMessage().contains("headliner"));
+
+            List<Map<String, Object>> conflicts = service.findFestivalConflicts(
+                    em.find(Festival.class, headlinerFestivalId));
+            assertEquals(2, conflicts.size());
+            assertTrue(conflicts.stream().allMatch(c -> "headliner".equals(c.get("member"))));
+            assertEquals(Set.of(guestAppearanceId, soloShowId), Set.of(
+                    conflicts.get(0).get("conflictingPerformanceId"), conflicts.get(1).get("conflictingPerformanceId")));
+        });
+
+        System.out.println("testCreatorBookingsAreChecked completed successfully\n");
+    }
+
+    private static BandMemberConflictService service(EntityManager em) {
+        JpaRepositoryFactory factory = new JpaRepositoryFactory(em);
+        FestivalBulkOperationsImpl festivalOperations = new FestivalBulkOperationsImpl();
+        ReflectionTestUtils.setField(festivalOperations, "entityManager", em);
+        PerformanceBulkOperationsImpl performanceOperations = new PerformanceBulkOperationsImpl();
+        ReflectionTestUtils.setField(performanceOperations, "entityManager", em);
+
+        BandMemberConflictService service = new BandMemberConflictService();
+        ReflectionTestUtils.setField(service, "festivalRepository",
+                factory.getRepository(FestivalRepository.class, RepositoryFragments.just(festivalOperations)));
+        ReflectionTestUtils.setField(service, "performanceRepository",
+                factory.getRepository(PerformanceRepository.class, RepositoryFragments.just(performanceOperations)));
+        return service;
+    }
+
+    private static Long performance(EntityManager em, String name, Festival festival, User creator,
+            Set<User> bandMembers, PerformanceState state, LocalTime start, LocalTime end) {
+        Performance performance = new Performance();
+        performance.setName(name);
+        performance.setDescription(name);
+        performance.setGenre("Rock");
+        performance.setDuration(45);
+        performance.setCreator(creator);
+        performance.setFestival(festival);
+        performance.getBandMembers().addAll(bandMembers);
+        performance.setState(state);
+        performance.setScheduledSlot(new StageSlot("Main", DAY, start, end));
+        em.persist(performance);
+        return performance.getId();
+    }
+
+    private static Festival festival(EntityManager em, String name) {
+        Festival festival = new Festival();
+        festival.setName(name);
+        festival.setDescription(name + " festival");
+        festival.setVenue("Park");
+        festival.setDates(Set.of(DAY));
+        em.persist(festival);
+        return festival;
+    }
+
+    private static User user(EntityManager em, String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("secret");
+        user.setFullName(username);
+        user.setPermanentRole(PermanentRoleType.USER);
+        user.setActive(true);
+        em.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,130 @@
+package com.festivalmanager.service;
+
+import com.festivalmanager.dto.user.BulkUpdateAccountStatusRequest;
+import com.festivalmanager.events.DomainEvent;
+import com.festivalmanager.events.DomainEventPublisher;
+import com.festivalmanager.model.User;
+import com.festivalmanager.repository.FestivalUserRoleRepository;
+import com.festivalmanager.repository.PerformanceRepository;
+import com.festivalmanager.repository.UserBulkOperationsImpl;
+import com.festivalmanager.repository.UserRepository;
+import com.festivalmanager.security.PasswordService;
+import com.festivalmanager.security.UserSecurityService;
+import com.festivalmanager.sql.EmbeddedPersistence;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the bulk account status update on {@value #USERS} users on an
+ * embedded database: pending registrations mixed with locked, banned and
+ * active accounts and admins, some of them inactive.
+ */
+class BulkAccountStatusScaleTest {
+
+    private static final int USERS = 50_000;
+
+    @Mock
+    private PerformanceRepository performanceRepository;
+    @Mock
+    private FestivalUserRoleRepository festivalUserRoleRepository;
+    @Mock
+    private TokenService tokenService;
+    @Mock
+    private UserSecurityService userSecurityService;
+    @Mock
+    private PasswordService passwordService;
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        entityManagerFactory = EmbeddedPersistence.create();
+        // By the last digit of the number: 0-3 pending, 4 locked after failed logins,
+        // 5 deactivated by an admin, 6-8 active, 9 admin (every other one inactive and never activated)
+        EmbeddedPersistence.inTransaction(entityManagerFactory, em -> em.createNativeQuery("""
+                INSERT INTO users (username, password, full_name, permanent_role, active,
+                    failed_login_attempts, failed_password_updates, activated_at)
+                SELECT 'user' || X, 'x', 'User ' || X,
+                    CASE WHEN MOD(X, 10) = 9 THEN 'ADMIN' ELSE 'USER' END,
+                    MOD(X, 10) IN (6, 7, 8) OR MOD(X, 20) = 19,
+                    CASE WHEN MOD(X, 10) = 4 THEN 3 ELSE 0 END, 0,
+                    CASE WHEN MOD(X, 10) < 4 OR MOD(X, 20) = 9 THEN NULL ELSE CURRENT_TIMESTAMP END
+                FROM SYSTEM_RANGE(0, ?)
+                """).setParameter(1, USERS - 1).executeUpdate());
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    @Test
+    void testApplyToAllActivatesOnlyPendingRegistrations() {
+        System.out.println("Running testApplyToAllActivatesOnlyPendingRegistrations");
+
+        EmbeddedPersistence.inTransaction(entityManagerFactory, em -> {
+            UserService userService = new UserService(repository(em), performanceRepository,
+                    festivalUserRoleRepository, tokenService, userSecurityService, passwordService, eventPublisher);
+            User admin = em.createQuery("SELECT u FROM User u WHERE u.username = 'user19'", User.class)
+                    .getSingleResult();
+            when(userSecurityService.validateRequester("user19", "tkn")).thenReturn(admin);
+
+            BulkUpdateAccountStatusRequest req = new BulkUpdateAccountStatusRequest();
+            req.setRequesterUsername("user19");
+            req.setToken("tkn");
+            req.setApplyToAll(true);
+            req.setNewActive(true);
+
+            long start = System.nanoTime();
+            var response = userService.bulkUpdateAccountStatus(req);
+            System.out.printf("%d users, %d activated in %d ms%n", USERS, response.getData().get("updated"),
+                    (System.nanoTime() - start) / 1_000_000);
+
+            assertEquals(USERS * 4 / 10, response.getData().get("updated"));
+            @SuppressWarnings("unchecked")
+            Map<String, String> outcomes = (Map<String, String>) response.getData().get("outcomes");
+            assertEquals(USERS * 4 / 10, outcomes.size());
+            assertTrue(outcomes.containsKey("user3"));
+            assertFalse(outcomes.containsKey("user4"));
+
+            // Locked, banned and inactive admin accounts stay inactive
+            assertEquals(USERS / 10 + USERS / 10 + USERS / 20, count(em, "WHERE active = FALSE"));
+            assertEquals(0, count(em, "WHERE activated_at IS NULL AND permanent_role = 'USER'"));
+            assertEquals(USERS / 20, count(em, "WHERE activated_at IS NULL AND permanent_role = 'ADMIN'"));
+            verifyNoInteractions(tokenService);
+            ArgumentCaptor<DomainEvent> event = ArgumentCaptor.forClass(DomainEvent.class);
+            verify(eventPublisher).publish(event.capture());
+            assertEquals(USERS * 4 / 10, ((DomainEvent.UserAccountStatusChanged) event.getValue()).usernames().size());
+        });
+
+        System.out.println("testApplyToAllActivatesOnlyPendingRegistrations completed successfully\n");
+    }
+
+    private static UserRepository repository(EntityManager em) {
+        UserBulkOperationsImpl bulkOperations = new UserBulkOperationsImpl();
+        ReflectionTestUtils.setField(bulkOperations, "entityManager", em);
+        return new JpaRepositoryFactory(em).getRepository(UserRepository.class, RepositoryFragments.just(bulkOperations));
+    }
+
+    private static long count(EntityManager em, String where) {
+        return ((Number) em.createNativeQuery("SELECT COUNT(*) FROM users " + where).getSingleResult()).longValue();
+    }
+}
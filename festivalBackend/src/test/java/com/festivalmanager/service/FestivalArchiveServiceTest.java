@@ -0,0 +1,101 @@
+package com.festivalmanager.service;
+
+import com.festivalmanager.dto.festival.FestivalArchiveRequest;
+import com.festivalmanager.enums.PermanentRoleType;
+import com.festivalmanager.exception.ApiException;
+import com.festivalmanager.model.User;
+import com.festivalmanager.repository.FestivalRepository;
+import com.festivalmanager.repository.PerformanceRepository;
+import com.festivalmanager.security.UserSecurityService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class FestivalArchiveServiceTest {
+
+    @Mock
+    private FestivalArchiver archiver;
+    @Mock
+    private FestivalRepository festivalRepository;
+    @Mock
+    private PerformanceRepository performanceRepository;
+    @Mock
+    private UserSecurityService userSecurityService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private FestivalArchiveService service;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        service = new FestivalArchiveService(archiver, festivalRepository, performanceRepository,
+                userSecurityService, 30, 2, meterRegistry);
+    }
+
+    @Test
+    void testArchiveRunsBatchesAndReportsSizes() {
+        User admin = new User();
+        admin.setUsername("admin");
+        admin.setPermanentRole(PermanentRoleType.ADMIN);
+        when(userSecurityService.validateRequester("admin", "token")).thenReturn(admin);
+        LocalDate cutoff = LocalDate.now().minusDays(30);
+        when(archiver.findFinishedFestivalIds(cutoff)).thenReturn(List.of(4L, 5L, 6L));
+        when(archiver.archiveBatch(List.of(4L, 5L), cutoff)).thenReturn(new FestivalArchiver.ArchiveBatch(2, 30));
+        when(archiver.archiveBatch(List.of(6L), cutoff)).thenReturn(new FestivalArchiver.ArchiveBatch(1, 12));
+        when(festivalRepository.count()).thenReturn(10L, 7L);
+        when(performanceRepository.count()).thenReturn(100L, 58L);
+
+        System.out.println("Running testArchiveRunsBatchesAndReportsSizes");
+
+        var response = service.archiveFestivals(request("admin"));
+
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertEquals(3, response.getData().get("archivedFestivals"));
+        assertEquals(42, response.getData().get("archivedPerformances"));
+        assertEquals(10L, response.getData().get("hotFestivalsBefore"));
+        assertEquals(7L, response.getData().get("hotFestivalsAfter"));
+        assertEquals(cutoff, response.getData().get("cutoff"));
+        // The finished festivals are listed once, then archived in batches of two
+        verify(archiver).findFinishedFestivalIds(cutoff);
+        verify(archiver, times(2)).archiveBatch(any(), eq(cutoff));
+        assertEquals(3.0, meterRegistry.get("festival.archive.festivals").counter().count());
+        assertEquals(58.0, meterRegistry.get("festival.archive.hot.rows").tag("table", "performances")
+                .gauge().value());
+
+        System.out.println("testArchiveRunsBatchesAndReportsSizes completed successfully\n");
+    }
+
+    @Test
+    void testArchiveRequiresAdmin() {
+        User user = new User();
+        user.setUsername("user");
+        user.setPermanentRole(PermanentRoleType.USER);
+        when(userSecurityService.validateRequester("user", "token")).thenReturn(user);
+
+        System.out.println("Running testArchiveRequiresAdmin");
+
+        ApiException ex = assertThrows(ApiException.class, () -> service.archiveFestivals(request("user")));
+        assertEquals(HttpStatus.FORBIDDEN, ex.getStatus());
+        verifyNoInteractions(archiver);
+
+        System.out.println("testArchiveRequiresAdmin completed successfully\n");
+    }
+
+    private static FestivalArchiveRequest request(String username) {
+        FestivalArchiveRequest request = new FestivalArchiveRequest();
+        request.setRequesterUsername(username);
+        request.setToken("token");
+        return request;
+    }
+}
@@ -0,0 +1,155 @@
+package com.festivalmanager.service;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.festivalmanager.enums.FestivalRoleType;
+import com.festivalmanager.enums.PermanentRoleType;
+import com.festivalmanager.events.DomainEventPublisher;
+import com.festivalmanager.model.*;
+import com.festivalmanager.model.Festival.FestivalState;
+import com.festivalmanager.repository.*;
+import com.festivalmanager.sql.EmbeddedPersistence;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Archives festivals of different sizes on an embedded database and counts
+ * the statements.
+ */
+class FestivalArchiverStatementsTest {
+
+    private static final LocalDate CUTOFF = LocalDate.of(2025, 9, 1);
+
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        entityManagerFactory = EmbeddedPersistence.create();
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    @Test
+    void testSnapshotsDoNotLoadPerPerformance() {
+        System.out.println("Running testSnapshotsDoNotLoadPerPerformance");
+
+        Long small = createFestival("Small", 1);
+        Long large = createFestival("Large", 10);
+        EmbeddedPersistence.inTransaction(entityManagerFactory, em ->
+                assertEquals(List.of(small, large), archiver(em).findFinishedFestivalIds(CUTOFF)));
+
+        long smallStatements = archive(small);
+        long largeStatements = archive(large);
+
+        // Each further performance adds its snapshot INSERT and nothing else
+        assertEquals(smallStatements + 9, largeStatements);
+        EmbeddedPersistence.inTransaction(entityManagerFactory, em -> {
+            ArchivedPerformance archived = em.createQuery(
+                    "SELECT a FROM ArchivedPerformance a WHERE a.festivalId = :id ORDER BY a.id",
+                    ArchivedPerformance.class).setParameter("id", large).setMaxResults(1).getSingleResult();
+            assertTrue(archived.getSnapshot().contains("\"setlist\":[\"Encore\",\"Intro\"]")
+                    || archived.getSnapshot().contains("\"setlist\":[\"Intro\",\"Encore\"]"));
+            assertTrue(archived.getSnapshot().contains("\"Shirt\""));
+            assertEquals(3, archived.getMemberIds().size());
+            assertEquals(0L, em.createQuery("SELECT COUNT(p) FROM Performance p", Long.class).getSingleResult());
+        });
+
+        System.out.println("testSnapshotsDoNotLoadPerPerformance completed successfully\n");
+    }
+
+    private Long createFestival(String name, int performances) {
+        Long[] id = new Long[1];
+        EmbeddedPersistence.inTransaction(entityManagerFactory, em -> {
+            User organizer = user(em, name + "-organizer");
+            Festival festival = new Festival();
+            festival.setName(name);
+            festival.setDescription(name + " festival");
+            festival.setVenue("Park");
+            festival.setState(FestivalState.ANNOUNCED);
+            festival.setDates(Set.of(LocalDate.of(2025, 7, 12)));
+            em.persist(festival);
+            FestivalUserRole role = new FestivalUserRole();
+            role.setFestival(festival);
+            role.setUser(organizer);
+            role.setRole(FestivalRoleType.ORGANIZER);
+            em.persist(role);
+
+            for (int i = 0; i < performances; i++) {
+                Performance performance = new Performance();
+                performance.setName(name + " act " + i);
+                performance.setDescription("Loud");
+                performance.setGenre("Rock");
+                performance.setDuration(45);
+                performance.setCreator(user(em, name + "-creator-" + i));
+                performance.setFestival(festival);
+                performance.getBandMembers().addAll(List.of(user(em, name + "-drums-" + i),
+                        user(em, name + "-bass-" + i)));
+                performance.getSetlist().addAll(Set.of("Intro", "Encore"));
+                MerchandiseItem shirt = new MerchandiseItem();
+                shirt.setName("Shirt");
+                shirt.setType("Apparel");
+                shirt.setPrice(25.0);
+                shirt.setPerformance(performance);
+                performance.getMerchandiseItems().add(shirt);
+                em.persist(performance);
+            }
+            id[0] = festival.getId();
+        });
+        return id[0];
+    }
+
+    private long archive(Long festivalId) {
+        long[] statements = new long[1];
+        EmbeddedPersistence.inTransaction(entityManagerFactory, em -> {
+            FestivalArchiver archiver = archiver(em);
+            statements[0] = EmbeddedPersistence.countStatements(() -> assertEquals(1,
+                    archiver.archiveBatch(List.of(festivalId), CUTOFF).festivals()));
+        });
+        return statements[0];
+    }
+
+    private static FestivalArchiver archiver(EntityManager em) {
+        JpaRepositoryFactory factory = new JpaRepositoryFactory(em);
+        FestivalBulkOperationsImpl festivalOperations = new FestivalBulkOperationsImpl();
+        ReflectionTestUtils.setField(festivalOperations, "entityManager", em);
+        PerformanceBulkOperationsImpl performanceOperations = new PerformanceBulkOperationsImpl();
+        ReflectionTestUtils.setField(performanceOperations, "entityManager", em);
+
+        FestivalArchiver archiver = new FestivalArchiver();
+        ReflectionTestUtils.setField(archiver, "festivalRepository",
+                factory.getRepository(FestivalRepository.class, RepositoryFragments.just(festivalOperations)));
+        ReflectionTestUtils.setField(archiver, "performanceRepository",
+                factory.getRepository(PerformanceRepository.class, RepositoryFragments.just(performanceOperations)));
+        ReflectionTestUtils.setField(archiver, "eventPublisher", mock(DomainEventPublisher.class));
+        ReflectionTestUtils.setField(archiver, "objectMapper", JsonMapper.builder().findAndAddModules().build());
+        ReflectionTestUtils.setField(archiver, "entityManager", em);
+        return archiver;
+    }
+
+    private static User user(EntityManager em, String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("secret");
+        user.setFullName(username);
+        user.setPermanentRole(PermanentRoleType.USER);
+        user.setActive(true);
+        em.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,205 @@
+package com.festivalmanager.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.festivalmanager.dto.festival.FestivalDates;
+import com.festivalmanager.dto.festival.FestivalSearchResponseDTO;
+import com.festivalmanager.dto.performance.PerformanceSearchResponseDTO;
+import com.festivalmanager.enums.FestivalRoleType;
+import com.festivalmanager.events.DomainEvent;
+import com.festivalmanager.events.DomainEventPublisher;
+import com.festivalmanager.model.*;
+import com.festivalmanager.model.Festival.FestivalState;
+import com.festivalmanager.model.Performance.PerformanceState;
+import com.festivalmanager.repository.*;
+import jakarta.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class FestivalArchiverTest {
+
+    private static final LocalDate CUTOFF = LocalDate.of(2025, 9, 1);
+
+    @Mock
+    private FestivalRepository festivalRepository;
+    @Mock
+    private PerformanceRepository performanceRepository;
+    @Mock
+    private ArchivedFestivalRepository archivedFestivalRepository;
+    @Mock
+    private ArchivedPerformanceRepository archivedPerformanceRepository;
+    @Mock
+    private DomainEventPublisher eventPublisher;
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private FestivalArchiver archiver;
+
+    private User organizer;
+    private User artist;
+    private User visitor;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+        ReflectionTestUtils.setField(archiver, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(archiver, "entityManager", entityManager);
+
+        organizer = user(1L, "organizer");
+        artist = user(2L, "artist");
+        visitor = user(3L, "visitor");
+    }
+
+    @Test
+    void testArchiveBatchMovesOnlyFinishedFestivals() {
+        Festival finished = festival(10L, "Summer", FestivalState.ANNOUNCED, LocalDate.of(2025, 7, 12));
+        Festival upcoming = festival(11L, "Winter", FestivalState.ANNOUNCED, LocalDate.of(2025, 12, 20));
+        performance(100L, finished, PerformanceState.SCHEDULED);
+        Performance rejected = performance(101L, finished, PerformanceState.REJECTED);
+        when(festivalRepository.findDatesByState(FestivalState.ANNOUNCED)).thenReturn(List.of(
+                new FestivalDates(11L, upcoming.getDates()), new FestivalDates(10L, finished.getDates())));
+        stubLoads(finished);
+        stubLoads(upcoming);
+
+        System.out.println("Running testArchiveBatchMovesOnlyFinishedFestivals");
+
+        assertEquals(List.of(10L), archiver.findFinishedFestivalIds(CUTOFF));
+        // A festival listed earlier is checked again
+        FestivalArchiver.ArchiveBatch batch = archiver.archiveBatch(List.of(10L, 11L), CUTOFF);
+
+        assertEquals(new FestivalArchiver.ArchiveBatch(1, 2), batch);
+        ArgumentCaptor<Object> persisted = ArgumentCaptor.forClass(Object.class);
+        verify(entityManager, times(3)).persist(persisted.capture());
+        ArchivedFestival archivedFestival = (ArchivedFestival) persisted.getAllValues().get(0);
+        assertEquals(10L, archivedFestival.getId());
+        assertEquals(LocalDate.of(2025, 7, 12), archivedFestival.getLastDate());
+        assertTrue(archivedFestival.getSnapshot().contains("\"organizers\":[\"organizer\"]"));
+        assertEquals(Set.of(1L), archivedFestival.getOrganizerIds());
+        ArchivedPerformance archivedRejected = (ArchivedPerformance) persisted.getAllValues().get(2);
+        assertEquals(rejected.getId(), archivedRejected.getId());
+        assertEquals(PerformanceState.REJECTED, archivedRejected.getState());
+        assertEquals(10L, archivedRejected.getFestivalId());
+        assertEquals(Set.of(2L), archivedRejected.getMemberIds());
+
+        verify(performanceRepository).bulkDeleteFestivalPerformances(10L);
+        verify(festivalRepository).bulkDeleteFestival(10L);
+        verify(festivalRepository, never()).bulkDeleteFestival(11L);
+        verify(eventPublisher).publish(any(DomainEvent.FestivalArchived.class));
+
+        System.out.println("testArchiveBatchMovesOnlyFinishedFestivals completed successfully\n");
+    }
+
+    @Test
+    void testArchivedViewsKeepVisibilityRules() {
+        Festival festival = festival(10L, "Summer", FestivalState.ANNOUNCED, LocalDate.of(2025, 7, 12));
+        Performance performance = performance(100L, festival, PerformanceState.SCHEDULED);
+        stubLoads(festival);
+        archiver.archiveBatch(List.of(10L), CUTOFF);
+        ArgumentCaptor<Object> persisted = ArgumentCaptor.forClass(Object.class);
+        verify(entityManager, times(2)).persist(persisted.capture());
+        ArchivedFestival archivedFestival = (ArchivedFestival) persisted.getAllValues().get(0);
+        ArchivedPerformance archivedPerformance = (ArchivedPerformance) persisted.getAllValues().get(1);
+        when(archivedFestivalRepository.findById(10L)).thenReturn(Optional.of(archivedFestival));
+
+        System.out.println("Running testArchivedViewsKeepVisibilityRules");
+
+        FestivalSearchResponseDTO organizerView = archiver.viewFestival(archivedFestival, organizer);
+        assertEquals(List.of("organizer"), organizerView.getOrganizers());
+        assertEquals(Set.of(LocalDate.of(2025, 7, 11), LocalDate.of(2025, 7, 12)), organizerView.getDates());
+        FestivalSearchResponseDTO publicView = archiver.viewFestival(archivedFestival, null);
+        assertEquals("Summer", publicView.getName());
+        assertNull(publicView.getOrganizers());
+
+        PerformanceSearchResponseDTO artistView = archiver.viewPerformance(archivedPerformance, artist);
+        assertEquals("artist", artistView.getCreator());
+        assertEquals(Set.of("Intro", "Encore"), artistView.getSetlist());
+        assertEquals("artist", archiver.viewPerformance(archivedPerformance, organizer).getCreator());
+        PerformanceSearchResponseDTO visitorView = archiver.viewPerformance(archivedPerformance, visitor);
+        assertEquals(performance.getName(), visitorView.getName());
+        assertNull(visitorView.getCreator());
+        assertNull(visitorView.getSetlist());
+
+        System.out.println("testArchivedViewsKeepVisibilityRules completed successfully\n");
+    }
+
+    @Test
+    void testArchivedViewsIgnoreReusedUsernames() {
+        Festival festival = festival(10L, "Summer", FestivalState.ANNOUNCED, LocalDate.of(2025, 7, 12));
+        performance(100L, festival, PerformanceState.SCHEDULED);
+        stubLoads(festival);
+        archiver.archiveBatch(List.of(10L), CUTOFF);
+        ArgumentCaptor<Object> persisted = ArgumentCaptor.forClass(Object.class);
+        verify(entityManager, times(2)).persist(persisted.capture());
+        ArchivedFestival archivedFestival = (ArchivedFestival) persisted.getAllValues().get(0);
+        ArchivedPerformance archivedPerformance = (ArchivedPerformance) persisted.getAllValues().get(1);
+        when(archivedFestivalRepository.findById(10L)).thenReturn(Optional.of(archivedFestival));
+
+        System.out.println("Running testArchivedViewsIgnoreReusedUsernames");
+
+        // The original accounts were deleted and their usernames registered again
+        User newOrganizer = user(41L, "organizer");
+        User newArtist = user(42L, "artist");
+        assertNull(archiver.viewFestival(archivedFestival, newOrganizer).getOrganizers());
+        assertNull(archiver.viewPerformance(archivedPerformance, newOrganizer).getCreator());
+        assertNull(archiver.viewPerformance(archivedPerformance, newArtist).getSetlist());
+
+        System.out.println("testArchivedViewsIgnoreReusedUsernames completed successfully\n");
+    }
+
+    private void stubLoads(Festival festival) {
+        when(festivalRepository.findById(festival.getId())).thenReturn(Optional.of(festival));
+        when(performanceRepository.findAllByFestivalId(festival.getId()))
+                .thenReturn(List.copyOf(festival.getPerformances()));
+    }
+
+    private Festival festival(Long id, String name, FestivalState state, LocalDate lastDate) {
+        Festival festival = new Festival();
+        festival.setId(id);
+        festival.setName(name);
+        festival.setDescription(name + " festival");
+        festival.setVenue("Park");
+        festival.setState(state);
+        festival.setDates(Set.of(lastDate.minusDays(1), lastDate));
+        FestivalUserRole role = new FestivalUserRole();
+        role.setFestival(festival);
+        role.setUser(organizer);
+        role.setRole(FestivalRoleType.ORGANIZER);
+        festival.getUserRoles().add(role);
+        return festival;
+    }
+
+    private Performance performance(Long id, Festival festival, PerformanceState state) {
+        Performance performance = new Performance();
+        performance.setId(id);
+        performance.setName("Act " + id);
+        performance.setGenre("Rock");
+        performance.setDuration(45);
+        performance.setState(state);
+        performance.setCreator(artist);
+        performance.setFestival(festival);
+        performance.getSetlist().addAll(Set.of("Intro", "Encore"));
+        festival.getPerformances().add(performance);
+        return performance;
+    }
+
+    private static User user(Long id, String username) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        return user;
+    }
+}
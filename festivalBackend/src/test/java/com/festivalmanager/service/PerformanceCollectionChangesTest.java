@@ -0,0 +1,168 @@
+package com.festivalmanager.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.festivalmanager.dto.performance.MerchandiseItemDTO;
+import com.festivalmanager.enums.PermanentRoleType;
+import com.festivalmanager.exception.ApiException;
+import com.festivalmanager.model.Festival;
+import com.festivalmanager.model.MerchandiseItem;
+import com.festivalmanager.model.Performance;
+import com.festivalmanager.model.User;
+import com.festivalmanager.sql.EmbeddedPersistence;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PerformanceCollectionChangesTest {
+
+    private EntityManagerFactory entityManagerFactory;
+    private Long performanceId;
+
+    @BeforeEach
+    void setUp() {
+        entityManagerFactory = EmbeddedPersistence.create();
+        EmbeddedPersistence.inTransaction(entityManagerFactory, em -> {
+            User artist = new User();
+            artist.setUsername("artist");
+            artist.setPassword("secret");
+            artist.setFullName("Artist");
+            artist.setPermanentRole(PermanentRoleType.USER);
+            artist.setActive(true);
+            em.persist(artist);
+
+            Festival festival = new Festival();
+            festival.setName("Summer");
+            festival.setDescription("Open air");
+            festival.setVenue("Park");
+            festival.setDates(Set.of(LocalDate.of(2025, 7, 10)));
+            em.persist(festival);
+
+            Performance performance = new Performance();
+            performance.setName("Headliner");
+            performance.setDescription("Rock");
+            performance.setGenre("Rock");
+            performance.setDuration(60);
+            performance.setCreator(artist);
+            performance.setFestival(festival);
+            performance.getSetlist().addAll(Set.of("Intro", "Anthem", "Encore"));
+            em.persist(performance);
+            PerformanceCollectionChanges.replaceMerchandise(performance, List.of(
+                    merch("Shirt", "Apparel", 25.0), merch("Poster", "Print", 10.0), merch("Vinyl", "Music", 30.0)));
+            performanceId = performance.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    @Test
+    void testSmallEditsWriteSingleRows() {
+        System.out.println("Running testSmallEditsWriteSingleRows");
+
+        // One price change: a single UPDATE, whether patched or sent as the full list
+        assertEquals(1, flushCount(performance -> PerformanceCollectionChanges.patchMerchandise(performance,
+                List.of(merch("Poster", null, 12.0)), Set.of())));
+        assertEquals(1, flushCount(performance -> PerformanceCollectionChanges.replaceMerchandise(performance,
+                List.of(merch("Shirt", "Apparel", 25.0), merch("Poster", "Print", 15.0),
+                        merch("Vinyl", "Music", 30.0)))));
+        // Removing an item deletes its row only
+        assertEquals(1, flushCount(performance -> PerformanceCollectionChanges.patchMerchandise(performance,
+                List.of(), Set.of("Vinyl"))));
+        // Setlist: one DELETE, one INSERT and the performance version bump;
+        // an unchanged list writes nothing
+        assertEquals(3, flushCount(performance -> PerformanceCollectionChanges.patchSetlist(performance,
+                Set.of("Ballad"), Set.of("Intro"))));
+        assertEquals(0, flushCount(performance -> PerformanceCollectionChanges.replaceSetlist(performance,
+                Set.of("Anthem", "Encore", "Ballad"))));
+
+        EmbeddedPersistence.inTransaction(entityManagerFactory, em -> {
+            Performance performance = em.find(Performance.class, performanceId);
+            Map<String, Double> prices = performance.getMerchandiseItems().stream()
+                    .collect(Collectors.toMap(MerchandiseItem::getName, MerchandiseItem::getPrice));
+            assertEquals(Map.of("Shirt", 25.0, "Poster", 15.0), prices);
+            assertEquals(Set.of("Anthem", "Encore", "Ballad"), performance.getSetlist());
+        });
+
+        System.out.println("testSmallEditsWriteSingleRows completed successfully\n");
+    }
+
+    @Test
+    void testReplaceOverwritesEveryField() {
+        System.out.println("Running testReplaceOverwritesEveryField");
+
+        MerchandiseItemDTO described = merch("Shirt", "Apparel", 25.0);
+        described.setDescription("Black, tour dates on the back");
+        assertEquals(1, flushCount(performance -> PerformanceCollectionChanges.patchMerchandise(performance,
+                List.of(described), Set.of())));
+        // A patch leaves null fields alone
+        assertEquals(0, flushCount(performance -> PerformanceCollectionChanges.patchMerchandise(performance,
+                List.of(merch("Shirt", null, null)), Set.of())));
+        // The full list clears the description it no longer carries
+        assertEquals(1, flushCount(performance -> PerformanceCollectionChanges.replaceMerchandise(performance,
+                List.of(merch("Shirt", "Apparel", 25.0), merch("Poster", "Print", 10.0),
+                        merch("Vinyl", "Music", 30.0)))));
+        // and needs a type and a price for every item, not only new ones
+        assertThrows(ApiException.class, () -> flushCount(performance ->
+                PerformanceCollectionChanges.replaceMerchandise(performance, List.of(merch("Shirt", null, 25.0)))));
+
+        EmbeddedPersistence.inTransaction(entityManagerFactory, em -> {
+            Performance performance = em.find(Performance.class, performanceId);
+            assertEquals(3, performance.getMerchandiseItems().size());
+            assertTrue(performance.getMerchandiseItems().stream().allMatch(item -> item.getDescription() == null));
+        });
+
+        System.out.println("testReplaceOverwritesEveryField completed successfully\n");
+    }
+
+    @Test
+    void testInvalidChangesAreRejected() {
+        System.out.println("Running testInvalidChangesAreRejected");
+
+        Performance performance = new Performance();
+        assertThrows(ApiException.class, () -> PerformanceCollectionChanges.patchMerchandise(performance,
+                List.of(merch("Cap", "Apparel", 5.0), merch("Cap", "Apparel", 6.0)), Set.of()));
+        assertThrows(ApiException.class, () -> PerformanceCollectionChanges.patchMerchandise(performance,
+                List.of(merch("Cap", "Apparel", 5.0)), Set.of("Cap")));
+        assertThrows(ApiException.class, () -> PerformanceCollectionChanges.patchMerchandise(performance,
+                List.of(merch("Cap", null, 5.0)), Set.of()));
+        assertThrows(ApiException.class, () -> PerformanceCollectionChanges.patchSetlist(performance,
+                Set.of("Intro"), Set.of("Intro")));
+        assertTrue(performance.getMerchandiseItems().isEmpty());
+
+        System.out.println("testInvalidChangesAreRejected completed successfully\n");
+    }
+
+    /**
+     * Loads the performance with its collections, applies a change and
+     * returns the number of statements written when the transaction commits.
+     */
+    private long flushCount(Consumer<Performance> change) {
+        long[] count = new long[1];
+        EmbeddedPersistence.inTransaction(entityManagerFactory, em -> {
+            Performance performance = em.find(Performance.class, performanceId);
+            performance.getMerchandiseItems().size();
+            performance.getSetlist().size();
+            change.accept(performance);
+            count[0] = EmbeddedPersistence.countStatements(em::flush);
+        });
+        return count[0];
+    }
+
+    private static MerchandiseItemDTO merch(String name, String type, Double price) {
+        MerchandiseItemDTO dto = new MerchandiseItemDTO();
+        dto.setName(name);
+        dto.setType(type);
+        dto.setPrice(price);
+        return dto;
+    }
+}
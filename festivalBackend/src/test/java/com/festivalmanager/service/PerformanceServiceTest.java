@@ -0,0 +1,338 @@
+package com.festivalmanager.service;
+
+import com.festivalmanager.dto.performance.*;
+import com.festivalmanager.events.DomainEvent;
+import com.festivalmanager.events.DomainEventPublisher;
+import com.festivalmanager.exception.ApiException;
+import com.festivalmanager.model.Festival;
+import com.festivalmanager.model.Performance;
+import com.festivalmanager.model.Performance.PerformanceState;
+import com.festivalmanager.model.User;
+import com.festivalmanager.repository.*;
+import com.festivalmanager.security.UserSecurityService;
+import com.festivalmanager.workflow.PerformanceWorkflow;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PerformanceServiceTest {
+
+    @Mock
+    private PerformanceRepository performanceRepository;
+    @Mock
+    private FestivalRepository festivalRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private FestivalUserRoleRepository festivalUserRoleRepository;
+    @Mock
+    private UserSecurityService userSecurityService;
+    @Mock
+    private BandMemberConflictService bandMemberConflictService;
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @InjectMocks
+    private PerformanceService performanceService;
+
+    private User staff;
+    private Festival festival;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(performanceService, "performanceWorkflow",
+                new PerformanceWorkflow(bandMemberConflictService, eventPublisher, new SimpleMeterRegistry()));
+
+        staff = new User();
+        staff.setId(7L);
+        staff.setUsername("stagemanager1");
+        festival = new Festival();
+        festival.setId(1L);
+        festival.setState(Festival.FestivalState.REVIEW);
+        when(userSecurityService.validateRequester("stagemanager1", "token")).thenReturn(staff);
+        System.out.println("=== PerformanceServiceTest setup completed ===\n");
+    }
+
+    private Performance performance(long id, User stageManager) {
+        Performance performance = new Performance();
+        performance.setId(id);
+        performance.setName("Act " + id);
+        performance.setFestival(festival);
+        performance.setStageManager(stageManager);
+        performance.setState(PerformanceState.SUBMITTED);
+        return performance;
+    }
+
+    private BulkPerformanceReviewRequest reviewRequest(boolean allOrNothing, Object[]... reviews) {
+        List<PerformanceReviewItem> items = new ArrayList<>();
+        for (Object[] review : reviews) {
+            PerformanceReviewItem item = new PerformanceReviewItem();
+            item.setPerformanceId((Long) review[0]);
+            item.setScore((Double) review[1]);
+            item.setReviewerComments((String) review[2]);
+            items.add(item);
+        }
+        BulkPerformanceReviewRequest request = new BulkPerformanceReviewRequest();
+        request.setRequesterUsername("stagemanager1");
+        request.setToken("token");
+        request.setReviews(items);
+        request.setAllOrNothing(allOrNothing);
+        return request;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testBulkReviewPerformances_partialFailure() {
+        User otherStaff = new User();
+        otherStaff.setId(8L);
+        Performance first = performance(1L, staff);
+        Performance foreign = performance(2L, otherStaff);
+        Performance badScore = performance(3L, staff);
+        when(performanceRepository.findAllByIdIn(any())).thenReturn(List.of(first, foreign, badScore));
+
+        System.out.println("Running testBulkReviewPerformances_partialFailure");
+
+        var response = performanceService.bulkReviewPerformances(reviewRequest(false,
+                new Object[]{1L, 8.5, "Great energy"},
+                new Object[]{2L, 6.0, "Fine"},
+                new Object[]{3L, 11.0, "Off the scale"},
+                new Object[]{4L, 5.0, "Missing"}));
+
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertEquals(1, response.getData().get("reviewed"));
+        Map<Long, String> outcomes = (Map<Long, String>) response.getData().get("outcomes");
+        assertEquals("REVIEWED", outcomes.get(1L));
+        assertEquals("Only the assigned STAFF member can review this performance", outcomes.get(2L));
+        assertEquals("Score must be between 0 and 10", outcomes.get(3L));
+        assertEquals("NOT_FOUND", outcomes.get(4L));
+
+        assertEquals(PerformanceState.REVIEWED, first.getState());
+        assertEquals(8.5, first.getScore());
+        assertEquals(PerformanceState.SUBMITTED, badScore.getState());
+        verify(performanceRepository).saveAll(List.of(first));
+        verify(eventPublisher).publish(any(DomainEvent.PerformanceReviewed.class));
+
+        System.out.println("testBulkReviewPerformances_partialFailure completed successfully\n");
+    }
+
+    @Test
+    void testBulkReviewPerformances_allOrNothingRejectsRequest() {
+        Performance first = performance(1L, staff);
+        Performance second = performance(2L, staff);
+        when(performanceRepository.findAllByIdIn(any())).thenReturn(List.of(first, second));
+
+        System.out.println("Running testBulkReviewPerformances_allOrNothingRejectsRequest");
+
+        ApiException ex = assertThrows(ApiException.class, () -> performanceService.bulkReviewPerformances(
+                reviewRequest(true,
+                        new Object[]{1L, 9.0, "Headliner material"},
+                        new Object[]{2L, 4.0, " "})));
+
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatus());
+        assertEquals("Review of performance 2 failed: Reviewer comments cannot be empty", ex.getMessage());
+        verify(performanceRepository, never()).saveAll(any());
+        verify(eventPublisher, never()).publish(any(DomainEvent.PerformanceReviewed.class));
+
+        ApiException duplicate = assertThrows(ApiException.class, () -> performanceService.bulkReviewPerformances(
+                reviewRequest(false,
+                        new Object[]{1L, 9.0, "Once"},
+                        new Object[]{1L, 9.0, "Twice"})));
+        assertEquals(HttpStatus.BAD_REQUEST, duplicate.getStatus());
+
+        System.out.println("testBulkReviewPerformances_allOrNothingRejectsRequest completed successfully\n");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testBulkDecidePerformances_filterApprovesWithSetBasedUpdate() {
+        User organizer = staff;
+        festival.setState(Festival.FestivalState.SCHEDULING);
+        Performance reviewed = performance(1L, null);
+        reviewed.setState(PerformanceState.REVIEWED);
+        reviewed.setScore(8.0);
+        Performance alreadyApproved = performance(2L, null);
+        alreadyApproved.setState(PerformanceState.APPROVED);
+        alreadyApproved.setScore(9.0);
+        when(performanceRepository.findIdsForBulkDecision(eq(1L),
+                eq(List.of(PerformanceState.REVIEWED, PerformanceState.APPROVED)), eq(7.0),
+                eq(PageRequest.of(0, PerformanceService.MAX_BULK_SIZE + 1))))
+                .thenReturn(List.of(1L, 2L));
+        when(performanceRepository.findAllByIdIn(List.of(1L, 2L))).thenReturn(List.of(alreadyApproved, reviewed));
+        when(festivalUserRoleRepository.findFestivalIdsByUserAndRole(eq(organizer), any(), eq(Set.of(1L))))
+                .thenReturn(List.of(1L));
+        when(performanceRepository.updateStateByIds(any(), any(), eq(PerformanceState.APPROVED), isNull()))
+                .thenReturn(1);
+
+        BulkPerformanceDecisionRequest request = new BulkPerformanceDecisionRequest();
+        request.setRequesterUsername("stagemanager1");
+        request.setToken("token");
+        request.setTargetState(PerformanceState.APPROVED);
+        request.setFestivalId(1L);
+        request.setStates(List.of(PerformanceState.REVIEWED, PerformanceState.APPROVED));
+        request.setMinScore(7.0);
+
+        System.out.println("Running testBulkDecidePerformances_filterApprovesWithSetBasedUpdate");
+
+        var response = performanceService.bulkDecidePerformances(request);
+
+        assertEquals(1, response.getData().get("transitioned"));
+        Map<Long, String> outcomes = (Map<Long, String>) response.getData().get("outcomes");
+        assertEquals(List.of(1L, 2L), new ArrayList<>(outcomes.keySet()));
+        assertEquals("TRANSITIONED", outcomes.get(1L));
+        assertEquals("Performance is not in SUBMITTED or REVIEWED state", outcomes.get(2L));
+        verify(performanceRepository).updateStateByIds(eq(List.of(1L)),
+                eq(EnumSet.of(PerformanceState.SUBMITTED, PerformanceState.REVIEWED)), eq(PerformanceState.APPROVED), isNull());
+        verify(performanceRepository, never()).save(any());
+        verify(eventPublisher).publish(argThat(event -> event instanceof DomainEvent.PerformanceStateChanged changed
+                && changed.performanceId() == 1L && changed.from() == PerformanceState.REVIEWED
+                && changed.to() == PerformanceState.APPROVED));
+
+        // A filter matching more than the bulk limit is refused before anything is loaded
+        when(performanceRepository.findIdsForBulkDecision(any(), any(), any(), any()))
+                .thenReturn(LongStream.rangeClosed(1, PerformanceService.MAX_BULK_SIZE + 1).boxed().toList());
+        ApiException tooMany = assertThrows(ApiException.class, () -> performanceService.bulkDecidePerformances(request));
+        assertEquals(HttpStatus.BAD_REQUEST, tooMany.getStatus());
+        verify(performanceRepository, times(1)).findAllByIdIn(any());
+
+        System.out.println("testBulkDecidePerformances_filterApprovesWithSetBasedUpdate completed successfully\n");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testBulkDecidePerformances_idsAcceptOnlyOrganizedFestivals() {
+        festival.setState(Festival.FestivalState.DECISION);
+        Festival otherFestival = new Festival();
+        otherFestival.setId(2L);
+        otherFestival.setState(Festival.FestivalState.DECISION);
+        Performance own = performance(1L, null);
+        own.setState(PerformanceState.APPROVED);
+        Performance foreign = performance(2L, null);
+        foreign.setFestival(otherFestival);
+        foreign.setState(PerformanceState.APPROVED);
+        when(performanceRepository.findAllByIdIn(any())).thenReturn(List.of(own, foreign));
+        when(festivalUserRoleRepository.findFestivalIdsByUserAndRole(eq(staff), any(), any())).thenReturn(List.of(1L));
+
+        BulkPerformanceDecisionRequest request = new BulkPerformanceDecisionRequest();
+        request.setRequesterUsername("stagemanager1");
+        request.setToken("token");
+        request.setTargetState(PerformanceState.SCHEDULED);
+        request.setPerformanceIds(List.of(1L, 2L, 3L));
+
+        System.out.println("Running testBulkDecidePerformances_idsAcceptOnlyOrganizedFestivals");
+
+        var response = performanceService.bulkDecidePerformances(request);
+
+        Map<Long, String> outcomes = (Map<Long, String>) response.getData().get("outcomes");
+        assertEquals("TRANSITIONED", outcomes.get(1L));
+        assertEquals("FORBIDDEN", outcomes.get(2L));
+        assertEquals("NOT_FOUND", outcomes.get(3L));
+        assertEquals(PerformanceState.SCHEDULED, own.getState());
+        assertEquals(PerformanceState.APPROVED, foreign.getState());
+        verify(festivalUserRoleRepository, times(1)).findFestivalIdsByUserAndRole(any(), any(), any());
+        verify(bandMemberConflictService).checkBandMembersAvailable(own);
+        verify(performanceRepository).saveAll(List.of(own));
+
+        request.setTargetState(PerformanceState.REJECTED);
+        ApiException ex = assertThrows(ApiException.class, () -> performanceService.bulkDecidePerformances(request));
+        assertEquals("Rejection reason must be provided", ex.getMessage());
+
+        System.out.println("testBulkDecidePerformances_idsAcceptOnlyOrganizedFestivals completed successfully\n");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testGetWorkQueue_artistMergesCreatedAndPlayedInPages() {
+        WorkQueueItem created1 = queueItem(3L, PerformanceState.SUBMITTED);
+        WorkQueueItem created2 = queueItem(9L, PerformanceState.CREATED);
+        WorkQueueItem played = queueItem(5L, PerformanceState.SCHEDULED);
+        when(performanceRepository.findQueueByCreator(eq(staff), any(), eq(0L), any()))
+                .thenReturn(List.of(created1, created2));
+        when(performanceRepository.findQueueByBandMember(eq(staff), any(), eq(0L), any()))
+                .thenReturn(List.of(played));
+        when(performanceRepository.countStatesByCreator(staff)).thenReturn(List.of(
+                new StateCount(PerformanceState.SUBMITTED, 1L), new StateCount(PerformanceState.CREATED, 1L)));
+        when(performanceRepository.countStatesByBandMember(staff)).thenReturn(List.of(
+                new StateCount(PerformanceState.SCHEDULED, 1L), new StateCount(PerformanceState.SUBMITTED, 2L)));
+
+        WorkQueueRequest request = new WorkQueueRequest();
+        request.setRequesterUsername("stagemanager1");
+        request.setToken("token");
+        request.setRole(com.festivalmanager.enums.FestivalRoleType.ARTIST);
+        request.setLimit(2);
+
+        System.out.println("Running testGetWorkQueue_artistMergesCreatedAndPlayedInPages");
+
+        var response = performanceService.getWorkQueue(request);
+
+        assertEquals(List.of(created1, played), response.getData().get("performances"));
+        assertEquals(5L, response.getData().get("nextAfterId"));
+        Map<String, Long> counts = (Map<String, Long>) response.getData().get("counts");
+        assertEquals(3L, counts.get("SUBMITTED"));
+        assertEquals(0L, counts.get("REJECTED"));
+        verify(performanceRepository, never()).findAll();
+
+        System.out.println("testGetWorkQueue_artistMergesCreatedAndPlayedInPages completed successfully\n");
+    }
+
+    @Test
+    void testPatchPerformance_changesOnlyNamedBandMembers() {
+        User drummer = new User();
+        drummer.setId(20L);
+        drummer.setUsername("drummer");
+        User bassist = new User();
+        bassist.setId(21L);
+        bassist.setUsername("bassist");
+        User singer = new User();
+        singer.setId(22L);
+        singer.setUsername("singer");
+
+        Performance performance = performance(1L, null);
+        performance.setState(PerformanceState.CREATED);
+        performance.setCreator(staff);
+        performance.getBandMembers().addAll(List.of(drummer, bassist));
+        when(performanceRepository.findById(1L)).thenReturn(Optional.of(performance));
+        when(performanceRepository.existsByIdAndCreator(1L, staff)).thenReturn(true);
+        when(userRepository.findByUsername("singer")).thenReturn(Optional.of(singer));
+
+        PerformancePatchRequest request = new PerformancePatchRequest();
+        request.setRequesterUsername("stagemanager1");
+        request.setToken("token");
+        request.setPerformanceId(1L);
+        request.setAddBandMembers(Set.of("drummer", "singer", "stagemanager1"));
+        request.setRemoveBandMembers(Set.of("bassist"));
+
+        System.out.println("Running testPatchPerformance_changesOnlyNamedBandMembers");
+
+        var response = performanceService.patchPerformance(request);
+
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertEquals(Set.of(drummer, singer), performance.getBandMembers());
+        // Current members and the creator are neither looked up nor re-checked
+        verify(userRepository).findByUsername("singer");
+        verifyNoMoreInteractions(userRepository);
+        verify(festivalUserRoleRepository).existsByFestivalAndUserAndRole(festival, singer,
+                com.festivalmanager.enums.FestivalRoleType.ARTIST);
+        verify(festivalUserRoleRepository).save(any());
+        verify(performanceRepository, never()).save(any());
+
+        System.out.println("testPatchPerformance_changesOnlyNamedBandMembers completed successfully\n");
+    }
+
+    private WorkQueueItem queueItem(long id, PerformanceState state) {
+        return new WorkQueueItem(id, "Act " + id, "Rock", state, null, false, 1L, "Fest", Festival.FestivalState.REVIEW);
+    }
+}
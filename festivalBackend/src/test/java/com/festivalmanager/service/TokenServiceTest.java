@@ -3,7 +3,8 @@ package com.festivalmanager.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
-import com.festivalmanager.exception.ApiException;
+import com.festivalmanager.enums.PermanentRoleType;
+import com.festivalmanager.exception.TokenRejectedException;
 import com.festivalmanager.model.Token;
 import com.festivalmanager.model.User;
 import com.festivalmanager.repository.TokenRepository;
@@ -17,6 +18,7 @@ import org.springframework.http.HttpStatus;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 class TokenServiceTest {
@@ -124,23 +126,84 @@ class TokenServiceTest {
     void testValidateToken_expired() {
         User user = new User();
         Token token = new Token();
+        token.setId(7L);
         token.setValue("expiredToken");
         token.setUser(user);
         token.setActive(true);
         token.setExpiresAt(LocalDateTime.now().minusMinutes(1));
 
         when(tokenRepository.findByValue("expiredToken")).thenReturn(Optional.of(token));
-        when(tokenRepository.saveAndFlush(token)).thenReturn(token);
 
         System.out.println("Running testValidateToken_expired");
 
-        ApiException ex = assertThrows(ApiException.class, ()
+        TokenRejectedException ex = assertThrows(TokenRejectedException.class, ()
                 -> tokenService.validateToken("expiredToken", user)
         );
 
         assertEquals(HttpStatus.UNAUTHORIZED, ex.getStatus(), "Expired token should throw UNAUTHORIZED");
-        assertFalse(token.isActive(), "Expired token should be deactivated");
+        assertEquals(7L, ex.getTokenId(), "Expired token should be deactivated");
+        assertTrue(ex.getUserIds().isEmpty());
+        verify(tokenRepository, never()).saveAndFlush(any());
 
         System.out.println("testValidateToken_expired completed successfully\n");
     }
+
+    @Test
+    void testValidateToken_otherUsersToken() {
+        User owner = user(1L, "alice", PermanentRoleType.USER);
+        User admin = user(2L, "admin", PermanentRoleType.ADMIN);
+        User thief = user(3L, "mallory", PermanentRoleType.USER);
+        Token token = new Token();
+        token.setValue("aliceToken");
+        token.setUser(owner);
+        token.setActive(true);
+        token.setExpiresAt(LocalDateTime.now().plusHours(1));
+        when(tokenRepository.findByValue("aliceToken")).thenReturn(Optional.of(token));
+
+        System.out.println("Running testValidateToken_otherUsersToken");
+
+        TokenRejectedException ex = assertThrows(TokenRejectedException.class,
+                () -> tokenService.validateToken("aliceToken", thief));
+        assertEquals(HttpStatus.FORBIDDEN, ex.getStatus());
+        assertEquals(List.of(1L, 3L), ex.getUserIds());
+        assertNull(ex.getTokenId());
+        // Admins are never deactivated
+        assertEquals(List.of(1L), assertThrows(TokenRejectedException.class,
+                () -> tokenService.validateToken("aliceToken", admin)).getUserIds());
+        assertTrue(owner.isActive());
+        verifyNoInteractions(userRepository);
+
+        System.out.println("testValidateToken_otherUsersToken completed successfully\n");
+    }
+
+    @Test
+    void testApplyRejection() {
+        Token token = new Token();
+        token.setActive(true);
+        User owner = user(1L, "alice", PermanentRoleType.USER);
+        User thief = user(3L, "mallory", PermanentRoleType.USER);
+        when(tokenRepository.findById(7L)).thenReturn(Optional.of(token));
+        when(userRepository.findAllById(List.of(1L, 3L))).thenReturn(List.of(owner, thief));
+
+        System.out.println("Running testApplyRejection");
+
+        tokenService.applyRejection(new TokenRejectedException("Token expired", HttpStatus.UNAUTHORIZED, 7L,
+                List.of()));
+        assertFalse(token.isActive());
+        tokenService.applyRejection(new TokenRejectedException("Token belongs to another user",
+                HttpStatus.FORBIDDEN, null, List.of(1L, 3L)));
+        assertFalse(owner.isActive());
+        assertFalse(thief.isActive());
+
+        System.out.println("testApplyRejection completed successfully\n");
+    }
+
+    private static User user(Long id, String username, PermanentRoleType role) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        user.setPermanentRole(role);
+        user.setActive(true);
+        return user;
+    }
 }
@@ -1,14 +1,22 @@
 package com.festivalmanager.service;
 
+import com.festivalmanager.dto.performance.PerformanceRef;
 import com.festivalmanager.dto.user.*;
+import com.festivalmanager.enums.FestivalRoleType;
+import com.festivalmanager.events.DomainEvent;
+import com.festivalmanager.events.DomainEventPublisher;
 import com.festivalmanager.exception.ApiException;
+import com.festivalmanager.model.Performance.PerformanceState;
 import com.festivalmanager.model.User;
+import com.festivalmanager.repository.FestivalUserRoleRepository;
+import com.festivalmanager.repository.PerformanceRepository;
 import com.festivalmanager.repository.UserRepository;
 import com.festivalmanager.security.PasswordService;
 import com.festivalmanager.security.UserSecurityService;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
@@ -23,18 +31,25 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
+    private PerformanceRepository performanceRepository;
+    @Mock
+    private FestivalUserRoleRepository festivalUserRoleRepository;
+    @Mock
     private TokenService tokenService;
     @Mock
     private UserSecurityService userSecurityService;
     @Mock
     private PasswordService passwordService;
+    @Mock
+    private DomainEventPublisher eventPublisher;
 
     private UserService userService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        userService = new UserService(userRepository, tokenService, userSecurityService, passwordService);
+        userService = new UserService(userRepository, performanceRepository, festivalUserRoleRepository,
+                tokenService, userSecurityService, passwordService, eventPublisher);
         System.out.println("=== UserServiceTest setup completed ===\n");
     }
 
@@ -158,6 +173,7 @@ class UserServiceTest {
     @Test
     void testDeleteUser_selfDelete() {
         User user = new User();
+        user.setId(6L);
         user.setUsername("frank");
 
         DeleteUserRequest req = new DeleteUserRequest();
@@ -165,17 +181,53 @@ class UserServiceTest {
         req.setToken("tkn");
 
         when(userSecurityService.validateRequester("frank", "tkn")).thenReturn(user);
+        when(performanceRepository.findRefsByCreator(user)).thenReturn(List.of(new PerformanceRef(30L, 3L)));
+        when(festivalUserRoleRepository.findFestivalIdsByUser(user)).thenReturn(List.of(1L));
+        when(performanceRepository.findFestivalIdsByStageManagerOrBandMember(user)).thenReturn(List.of(2L, 3L));
 
         System.out.println("Running testDeleteUser_selfDelete");
 
         userService.deleteUser(req);
 
-        verify(tokenService).deleteTokens(user);
-        verify(userRepository).delete(user);
+        verify(userRepository).bulkDeleteUser(6L);
+        verify(userRepository, never()).delete(any(User.class));
+        verify(eventPublisher).publish(any(DomainEvent.PerformanceDeleted.class));
+        ArgumentCaptor<DomainEvent.UserDeleted> event = ArgumentCaptor.forClass(DomainEvent.UserDeleted.class);
+        verify(eventPublisher).publish(event.capture());
+        assertEquals(List.of(1L, 2L, 3L), event.getValue().festivalIds());
 
         System.out.println("testDeleteUser_selfDelete completed successfully\n");
     }
 
+    @Test
+    void testDeleteUser_refusedForSubmittedPerformancesOrSoleOrganizer() {
+        User user = new User();
+        user.setId(6L);
+        user.setUsername("frank");
+        DeleteUserRequest req = new DeleteUserRequest();
+        req.setRequesterUsername("frank");
+        req.setToken("tkn");
+        when(userSecurityService.validateRequester("frank", "tkn")).thenReturn(user);
+
+        System.out.println("Running testDeleteUser_refusedForSubmittedPerformancesOrSoleOrganizer");
+
+        when(performanceRepository.existsByCreatorAndStateNot(user, PerformanceState.CREATED)).thenReturn(true);
+        ApiException submitted = assertThrows(ApiException.class, () -> userService.deleteUser(req));
+        assertEquals(HttpStatus.CONFLICT, submitted.getStatus());
+
+        when(performanceRepository.existsByCreatorAndStateNot(user, PerformanceState.CREATED)).thenReturn(false);
+        when(festivalUserRoleRepository.findFestivalIdsWithSoleRoleHolder(user, FestivalRoleType.ORGANIZER))
+                .thenReturn(List.of(4L));
+        ApiException organizer = assertThrows(ApiException.class, () -> userService.deleteUser(req));
+        assertEquals(HttpStatus.CONFLICT, organizer.getStatus());
+        assertTrue(organizer.getMessage().contains("[4]"));
+
+        verify(userRepository, never()).bulkDeleteUser(any());
+        verifyNoInteractions(eventPublisher);
+
+        System.out.println("testDeleteUser_refusedForSubmittedPerformancesOrSoleOrganizer completed successfully\n");
+    }
+
     @Test
     void testRegisterUser_invalidUsernamePattern() {
         RegisterRequest req = new RegisterRequest();
@@ -218,4 +270,106 @@ class UserServiceTest {
         System.out.println("testRegisterUser_invalidPasswordPattern completed successfully\n");
     }
 
+    @Test
+    void testBulkUpdateAccountStatus_deactivateList() {
+        User admin = new User();
+        admin.setId(1L);
+        admin.setUsername("admin1");
+        admin.setPermanentRole(com.festivalmanager.enums.PermanentRoleType.ADMIN);
+
+        BulkUpdateAccountStatusRequest req = new BulkUpdateAccountStatusRequest();
+        req.setRequesterUsername("admin1");
+        req.setToken("tkn");
+        req.setTargetUsernames(List.of("gina1", "henry", "ghost", "admin1"));
+        req.setNewActive(false);
+
+        when(userSecurityService.validateRequester("admin1", "tkn")).thenReturn(admin);
+        when(userRepository.findExistingUsernames(anyCollection())).thenReturn(List.of("gina1", "henry"));
+        when(userRepository.findUsernamesWithActiveNot(anyCollection(), eq(false))).thenReturn(List.of("gina1"));
+        when(userRepository.deactivateByUsernames(anyCollection())).thenReturn(1);
+        when(tokenService.deactivateTokens(anyCollection())).thenReturn(2);
+
+        System.out.println("Running testBulkUpdateAccountStatus_deactivateList");
+
+        var response = userService.bulkUpdateAccountStatus(req);
+
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertEquals(1, response.getData().get("updated"));
+        assertEquals(2, response.getData().get("tokensDeactivated"));
+
+        @SuppressWarnings("unchecked")
+        Map<String, String> outcomes = (Map<String, String>) response.getData().get("outcomes");
+        assertEquals("UPDATED", outcomes.get("gina1"));
+        assertEquals("UNCHANGED", outcomes.get("henry"));
+        assertEquals("NOT_FOUND", outcomes.get("ghost"));
+        assertEquals("SKIPPED_SELF", outcomes.get("admin1"));
+
+        verify(userRepository).deactivateByUsernames(List.of("gina1"));
+        verify(tokenService).deactivateTokens(List.of("gina1"));
+        ArgumentCaptor<DomainEvent> event = ArgumentCaptor.forClass(DomainEvent.class);
+        verify(eventPublisher).publish(event.capture());
+        DomainEvent.UserAccountStatusChanged changed = (DomainEvent.UserAccountStatusChanged) event.getValue();
+        assertEquals(List.of("gina1"), changed.usernames());
+        assertFalse(changed.active());
+
+        System.out.println("testBulkUpdateAccountStatus_deactivateList completed successfully\n");
+    }
+
+    @Test
+    void testBulkUpdateAccountStatus_requiresAdmin() {
+        User user = new User();
+        user.setUsername("ivan1");
+        user.setPermanentRole(com.festivalmanager.enums.PermanentRoleType.USER);
+
+        BulkUpdateAccountStatusRequest req = new BulkUpdateAccountStatusRequest();
+        req.setRequesterUsername("ivan1");
+        req.setToken("tkn");
+        req.setApplyToAll(true);
+        req.setNewActive(true);
+
+        when(userSecurityService.validateRequester("ivan1", "tkn")).thenReturn(user);
+
+        System.out.println("Running testBulkUpdateAccountStatus_requiresAdmin");
+
+        ApiException ex = assertThrows(ApiException.class, () -> userService.bulkUpdateAccountStatus(req));
+
+        assertEquals(HttpStatus.FORBIDDEN, ex.getStatus());
+        verify(userRepository, never()).activatePending(any(), any());
+
+        System.out.println("testBulkUpdateAccountStatus_requiresAdmin completed successfully\n");
+    }
+
+    @Test
+    void testBulkUpdateAccountStatus_rejectsInvalidTargets() {
+        User admin = new User();
+        admin.setId(1L);
+        admin.setUsername("admin1");
+        admin.setPermanentRole(com.festivalmanager.enums.PermanentRoleType.ADMIN);
+        when(userSecurityService.validateRequester("admin1", "tkn")).thenReturn(admin);
+
+        BulkUpdateAccountStatusRequest withNull = new BulkUpdateAccountStatusRequest();
+        withNull.setRequesterUsername("admin1");
+        withNull.setToken("tkn");
+        withNull.setTargetUsernames(Arrays.asList("gina1", null));
+        withNull.setNewActive(true);
+
+        BulkUpdateAccountStatusRequest deactivateAll = new BulkUpdateAccountStatusRequest();
+        deactivateAll.setRequesterUsername("admin1");
+        deactivateAll.setToken("tkn");
+        deactivateAll.setApplyToAll(true);
+        deactivateAll.setNewActive(false);
+
+        System.out.println("Running testBulkUpdateAccountStatus_rejectsInvalidTargets");
+
+        ApiException nullTarget = assertThrows(ApiException.class, () -> userService.bulkUpdateAccountStatus(withNull));
+        assertEquals(HttpStatus.BAD_REQUEST, nullTarget.getStatus());
+        ApiException allInactive = assertThrows(ApiException.class,
+                () -> userService.bulkUpdateAccountStatus(deactivateAll));
+        assertEquals(HttpStatus.BAD_REQUEST, allInactive.getStatus());
+        verify(userRepository, never()).activateByUsernames(anyCollection(), any());
+        verify(userRepository, never()).deactivateByUsernames(anyCollection());
+        verifyNoInteractions(tokenService, eventPublisher);
+
+        System.out.println("testBulkUpdateAccountStatus_rejectsInvalidTargets completed successfully\n");
+    }
 }
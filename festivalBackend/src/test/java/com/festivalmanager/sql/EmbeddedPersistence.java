@@ -0,0 +1,131 @@
+package com.festivalmanager.sql;
+
+import com.festivalmanager.datasource.ReadOnlyAwareRegionFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+/**
+ * Hibernate over the application's entities on a fresh database, an
+ * embedded one unless given, with every statement counted through a
+ * {@link StatementAccountingDataSource}. The schema is generated from the
+ * entities with the application's naming strategies. The second-level cache
+ * is off unless created with {@link #createWithSecondLevelCache()}.
+ */
+public final class EmbeddedPersistence {
+
+    private EmbeddedPersistence() {
+    }
+
+    /**
+     * Creates an entity manager factory on a new in-memory database.
+     *
+     * @return the factory, to be closed by the caller
+     */
+    public static EntityManagerFactory create() {
+        return create(memoryDatabase());
+    }
+
+    /**
+     * Creates an entity manager factory on a new in-memory database with the
+     * second-level and query caches configured as in the application, from
+     * {@code ehcache.xml}, and statistics on.
+     *
+     * @return the factory, to be closed by the caller
+     */
+    public static EntityManagerFactory createWithSecondLevelCache() {
+        return createWithSecondLevelCache(memoryDatabase());
+    }
+
+    /**
+     * Creates an entity manager factory on an empty database with the
+     * second-level and query caches configured as in the application.
+     *
+     * @param database the database
+     * @return the factory, to be closed by the caller
+     */
+    public static EntityManagerFactory createWithSecondLevelCache(DataSource database) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("jakarta.persistence.sharedCache.mode", "ENABLE_SELECTIVE");
+        properties.put("hibernate.cache.use_second_level_cache", "true");
+        properties.put("hibernate.cache.use_query_cache", "true");
+        properties.put("hibernate.cache.region.factory_class", ReadOnlyAwareRegionFactory.class.getName());
+        properties.put("hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider");
+        properties.put("hibernate.javax.cache.uri", "ehcache.xml");
+        properties.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+        properties.put("hibernate.generate_statistics", "true");
+        return create(database, properties);
+    }
+
+    /**
+     * Creates an entity manager factory on an empty database.
+     *
+     * @param database the database
+     * @return the factory, to be closed by the caller
+     */
+    public static EntityManagerFactory create(DataSource database) {
+        return create(database, Map.of());
+    }
+
+    private static EntityManagerFactory create(DataSource database, Map<String, Object> properties) {
+        Map<String, Object> jpaProperties = new HashMap<>(properties);
+        jpaProperties.put("hibernate.hbm2ddl.auto", "create-drop");
+        jpaProperties.put("hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName());
+        jpaProperties.put("hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName());
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(new StatementAccountingDataSource(database, Duration.ofHours(1)));
+        factory.setPackagesToScan("com.festivalmanager.model");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(jpaProperties);
+        factory.afterPropertiesSet();
+        return factory.getObject();
+    }
+
+    private static DataSource memoryDatabase() {
+        JdbcDataSource database = new JdbcDataSource();
+        database.setURL("jdbc:h2:mem:entities" + System.nanoTime() + ";DB_CLOSE_DELAY=-1;NON_KEYWORDS=VALUE");
+        return database;
+    }
+
+    /**
+     * Runs work in a transaction of a new entity manager.
+     *
+     * @param factory the entity manager factory
+     * @param work the work
+     */
+    public static void inTransaction(EntityManagerFactory factory, Consumer<EntityManager> work) {
+        EntityManager em = factory.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            work.accept(em);
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    /**
+     * Counts the statements a call executes.
+     *
+     * @param call the call
+     * @return the number of statements
+     */
+    public static long countStatements(Runnable call) {
+        SqlAccounting.Tally tally = SqlAccounting.start("test");
+        try {
+            call.run();
+        } finally {
+            SqlAccounting.stop(tally);
+        }
+        return tally.getStatements();
+    }
+}
@@ -0,0 +1,37 @@
+package com.festivalmanager.sql;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.function.Supplier;
+
+/**
+ * Assertions on the SQL statements a call runs, e.g. a controller method
+ * invoked against a real data source wrapped in a
+ * {@link StatementAccountingDataSource}.
+ */
+public final class SqlAssertions {
+
+    private SqlAssertions() {
+    }
+
+    /**
+     * Runs a call and asserts it executed at most {@code max} statements.
+     *
+     * @param max the maximum number of statements
+     * @param call the call, e.g. {@code () -> controller.viewFestival(request)}
+     * @param <T> the result type
+     * @return the result of the call
+     */
+    public static <T> T assertMaxStatements(int max, Supplier<T> call) {
+        SqlAccounting.Tally tally = SqlAccounting.start("test");
+        T result;
+        try {
+            result = call.get();
+        } finally {
+            SqlAccounting.stop(tally);
+        }
+        assertTrue(tally.getStatements() <= max,
+                "Expected at most " + max + " SQL statements but " + tally.getStatements() + " were executed");
+        return result;
+    }
+}
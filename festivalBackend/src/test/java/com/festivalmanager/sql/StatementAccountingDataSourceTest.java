@@ -0,0 +1,82 @@
+package com.festivalmanager.sql;
+
+import static com.festivalmanager.sql.SqlAssertions.assertMaxStatements;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class StatementAccountingDataSourceTest {
+
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:accounting" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        try (Connection connection = h2.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE item (id INT PRIMARY KEY, name VARCHAR(20))");
+        }
+        // A zero threshold logs every statement, exercising the slow-query path
+        jdbc = new JdbcTemplate(new StatementAccountingDataSource(h2, Duration.ZERO));
+    }
+
+    @Test
+    void testCountsStatementsAndRowsPerTally() {
+        System.out.println("Running testCountsStatementsAndRowsPerTally");
+
+        SqlAccounting.Tally request = SqlAccounting.start("POST /api/items");
+        jdbc.batchUpdate("INSERT INTO item VALUES (?, ?)", List.of(
+                new Object[] {1, "a"}, new Object[] {2, "b"}, new Object[] {3, "c"}));
+
+        SqlAccounting.Tally method = SqlAccounting.start("ItemService.list(..)");
+        assertEquals(3, jdbc.queryForList("SELECT name FROM item WHERE id > ?", String.class, 0).size());
+        jdbc.update("UPDATE item SET name = 'z' WHERE id = 1");
+        SqlAccounting.stop(method);
+        SqlAccounting.stop(request);
+
+        assertEquals(2, method.getStatements());
+        assertEquals(4, method.getRows());
+        assertEquals(3, request.getStatements());
+        assertEquals(7, request.getRows());
+        assertTrue(request.getNanos() >= method.getNanos());
+        assertNull(SqlAccounting.currentOrigin());
+
+        System.out.println("testCountsStatementsAndRowsPerTally completed successfully\n");
+    }
+
+    @Test
+    void testFingerprint() {
+        System.out.println("Running testFingerprint");
+
+        assertEquals("select * from item where id in (...) and name = ? limit ?",
+                StatementAccountingDataSource.fingerprint(
+                        "select *  from item\n where id in (?, ?,?) and name = 'o''brien' limit 50"));
+        assertEquals(StatementAccountingDataSource.fingerprint("SELECT x FROM t WHERE id IN (?)"),
+                StatementAccountingDataSource.fingerprint("SELECT x FROM t WHERE id IN (?, ?, ?, ?)"));
+
+        System.out.println("testFingerprint completed successfully\n");
+    }
+
+    @Test
+    void testAssertMaxStatements() {
+        System.out.println("Running testAssertMaxStatements");
+
+        Integer count = assertMaxStatements(1, () -> jdbc.queryForObject("SELECT COUNT(*) FROM item", Integer.class));
+        assertEquals(0, count);
+        assertThrows(AssertionFailedError.class, () -> assertMaxStatements(1, () -> {
+            jdbc.update("INSERT INTO item VALUES (1, 'a')");
+            return jdbc.queryForObject("SELECT COUNT(*) FROM item", Integer.class);
+        }));
+
+        System.out.println("testAssertMaxStatements completed successfully\n");
+    }
+}
@@ -0,0 +1,140 @@
+package com.festivalmanager.workflow;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.festivalmanager.exception.ApiException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+class StateMachineTest {
+
+    enum Phase {
+        DRAFT, OPEN, CLOSED
+    }
+
+    static class Item {
+
+        Phase phase = Phase.DRAFT;
+        boolean valid = true;
+        boolean failAction;
+
+        Phase getPhase() {
+            return phase;
+        }
+
+        void setPhase(Phase phase) {
+            this.phase = phase;
+        }
+    }
+
+    private SimpleMeterRegistry meterRegistry;
+    private StateMachine<Item, Phase> machine;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        machine = StateMachine.builder("Item", Phase.class, Item::getPhase, Item::setPhase)
+                .invalidStateStatus(HttpStatus.FORBIDDEN)
+                .transition(EnumSet.of(Phase.DRAFT), Phase.OPEN, "Opened",
+                        List.of(item -> {
+                            if (!item.valid) {
+                                throw new ApiException("Item is invalid", HttpStatus.BAD_REQUEST);
+                            }
+                        }), null)
+                .transition(EnumSet.of(Phase.OPEN), Phase.CLOSED, "Closed", List.of(), item -> {
+                    if (item.failAction) {
+                        throw new ApiException("Action failed", HttpStatus.INTERNAL_SERVER_ERROR);
+                    }
+                    return Map.of("closed", true);
+                })
+                .build(meterRegistry);
+        System.out.println("=== StateMachineTest setup completed ===\n");
+    }
+
+    @Test
+    void testFire_appliesTransitionsAndRecordsMetrics() {
+        Item item = new Item();
+
+        System.out.println("Running testFire_appliesTransitionsAndRecordsMetrics");
+
+        assertTrue(machine.fire(item, Phase.OPEN).isEmpty());
+        assertEquals(Map.of("closed", true), machine.fire(item, Phase.CLOSED));
+        assertEquals(Phase.CLOSED, item.phase);
+        assertEquals("Closed", machine.messageOf(Phase.CLOSED));
+
+        ApiException ex = assertThrows(ApiException.class, () -> machine.fire(item, Phase.OPEN));
+        assertEquals("Item is not in DRAFT state", ex.getMessage());
+        assertEquals(HttpStatus.FORBIDDEN, ex.getStatus());
+
+        Timer success = meterRegistry.get(StateMachine.TRANSITION_METRIC)
+                .tags("machine", "item", "target", "OPEN", "outcome", "success").timer();
+        Timer rejected = meterRegistry.get(StateMachine.TRANSITION_METRIC)
+                .tags("machine", "item", "target", "OPEN", "outcome", "rejected").timer();
+        assertEquals(1, success.count());
+        assertEquals(1, rejected.count());
+
+        System.out.println("testFire_appliesTransitionsAndRecordsMetrics completed successfully\n");
+    }
+
+    @Test
+    void testFire_restoresStateWhenActionFails() {
+        Item item = new Item();
+        item.phase = Phase.OPEN;
+        item.failAction = true;
+
+        System.out.println("Running testFire_restoresStateWhenActionFails");
+
+        assertThrows(ApiException.class, () -> machine.fire(item, Phase.CLOSED));
+        assertEquals(Phase.OPEN, item.phase);
+
+        ApiException ex = assertThrows(ApiException.class, () -> machine.fire(item, Phase.DRAFT));
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatus());
+
+        System.out.println("testFire_restoresStateWhenActionFails completed successfully\n");
+    }
+
+    @Test
+    void testFireAll_reportsFailuresPerEntity() {
+        Item ok = new Item();
+        Item invalid = new Item();
+        invalid.valid = false;
+        Item open = new Item();
+        open.phase = Phase.OPEN;
+
+        System.out.println("Running testFireAll_reportsFailuresPerEntity");
+
+        List<StateMachine.Outcome<Item>> outcomes = machine.fireAll(List.of(ok, invalid, open), Phase.OPEN);
+
+        assertTrue(outcomes.get(0).transitioned());
+        assertEquals("Item is invalid", outcomes.get(1).error());
+        assertEquals("Item is not in DRAFT state", outcomes.get(2).error());
+        assertEquals(Phase.OPEN, ok.phase);
+        assertEquals(Phase.DRAFT, invalid.phase);
+
+        System.out.println("testFireAll_reportsFailuresPerEntity completed successfully\n");
+    }
+
+    @Test
+    void testCheck_validatesWithoutChangingState() {
+        Item ok = new Item();
+        Item invalid = new Item();
+        invalid.valid = false;
+
+        System.out.println("Running testCheck_validatesWithoutChangingState");
+
+        machine.check(ok, Phase.OPEN);
+        assertEquals(Phase.DRAFT, ok.phase);
+
+        ApiException ex = assertThrows(ApiException.class, () -> machine.check(invalid, Phase.OPEN));
+        assertEquals("Item is invalid", ex.getMessage());
+        assertThrows(IllegalStateException.class, () -> machine.check(ok, Phase.CLOSED));
+
+        System.out.println("testCheck_validatesWithoutChangingState completed successfully\n");
+    }
+}
@@ -0,0 +1,46 @@
+package db.migration;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pins the column encodings written by the V3 migration.
+ */
+class V3__Inline_dates_and_time_preferencesTest {
+
+    @Test
+    void testEncodeDates() {
+        System.out.println("Running testEncodeDates");
+
+        TreeSet<LocalDate> dates = new TreeSet<>(List.of(LocalDate.of(2025, 12, 31), LocalDate.of(2026, 1, 1),
+                LocalDate.of(2026, 1, 3)));
+        assertEquals("2025-12-31..2026-01-01,2026-01-03", V3__Inline_dates_and_time_preferences.encodeDates(dates));
+        assertEquals("2026-01-03", V3__Inline_dates_and_time_preferences.encodeDates(
+                new TreeSet<>(List.of(LocalDate.of(2026, 1, 3)))));
+
+        System.out.println("testEncodeDates completed successfully\n");
+    }
+
+    @Test
+    void testEncodeMinutes() {
+        System.out.println("Running testEncodeMinutes");
+
+        // Minutes 0, 9 and 10: bit 0 of byte 0, bits 1 and 2 of byte 1
+        TreeSet<LocalTime> times = new TreeSet<>(List.of(LocalTime.MIDNIGHT, LocalTime.of(0, 9),
+                LocalTime.of(0, 10)));
+        assertArrayEquals(new byte[] {0x01, 0x06}, V3__Inline_dates_and_time_preferences.encodeMinutes(times));
+
+        byte[] lastMinute = V3__Inline_dates_and_time_preferences.encodeMinutes(
+                new TreeSet<>(List.of(LocalTime.of(23, 59))));
+        assertEquals(180, lastMinute.length);
+        assertEquals((byte) 0x80, lastMinute[179]);
+
+        System.out.println("testEncodeMinutes completed successfully\n");
+    }
+}